@@ -44,7 +44,9 @@ package org.gephi.io.database.drivers;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.openide.util.lookup.ServiceProvider;
@@ -68,6 +70,16 @@ public class MySQLDriver implements SQLDriver {
         return DriverManager.getConnection(connectionUrl, username, passwd);
     }
 
+    @Override
+    public Statement createStreamingStatement(Connection connection, int fetchSize) throws SQLException {
+        Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize > 0) {
+            //Connector/J buffers the whole result unless asked to stream rows one by one
+            statement.setFetchSize(Integer.MIN_VALUE);
+        }
+        return statement;
+    }
+
     @Override
     public String getPrefix() {
         return "mysql";
@@ -45,6 +45,7 @@ package org.gephi.io.database.drivers;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.openide.util.lookup.ServiceProvider;
@@ -68,6 +69,29 @@ public class PostgreSQLDriver implements SQLDriver {
         return DriverManager.getConnection(connectionUrl, username, passwd);
     }
 
+    @Override
+    public Statement createStreamingStatement(Connection connection, int fetchSize) throws SQLException {
+        //Cursor-based fetching is only used outside auto-commit mode
+        if (fetchSize > 0 && connection.getAutoCommit()) {
+            connection.setAutoCommit(false);
+        }
+        return SQLDriver.super.createStreamingStatement(connection, fetchSize);
+    }
+
+    @Override
+    public void closeStreamingStatement(Statement statement) throws SQLException {
+        Connection connection = statement.getConnection();
+        boolean streaming = statement.getFetchSize() > 0;
+        try {
+            statement.close();
+        } finally {
+            //Ends the read transaction opened for the cursor and puts the connection back in auto-commit mode
+            if (streaming && !connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
     @Override
     public String getPrefix() {
         return "postgresql";
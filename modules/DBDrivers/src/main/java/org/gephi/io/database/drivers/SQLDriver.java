@@ -44,7 +44,9 @@ package org.gephi.io.database.drivers;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * @author Mathieu Bastian
@@ -55,6 +57,37 @@ public interface SQLDriver extends Serializable {
 
     Connection getConnection(String connectionUrl, String username, String passwd) throws SQLException;
 
+    /**
+     * Creates a forward-only, read-only statement whose result sets are fetched from the server in chunks of
+     * <code>fetchSize</code> rows instead of being loaded in memory at once.
+     * <p>
+     * Drivers which need specific settings to stream results (e.g. a transaction for cursors) override this method,
+     * and restore the connection in {@link #closeStreamingStatement(Statement)}.
+     *
+     * @param connection the connection to create the statement on
+     * @param fetchSize  number of rows to fetch at a time, or zero to let the driver decide
+     * @return a new statement
+     * @throws SQLException if the statement can't be created
+     */
+    default Statement createStreamingStatement(Connection connection, int fetchSize) throws SQLException {
+        Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        if (fetchSize > 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return statement;
+    }
+
+    /**
+     * Closes a statement created by {@link #createStreamingStatement(Connection, int)} and restores the connection
+     * settings changed to stream its results.
+     *
+     * @param statement the statement to close
+     * @throws SQLException if the statement can't be closed
+     */
+    default void closeStreamingStatement(Statement statement) throws SQLException {
+        statement.close();
+    }
+
     @Override
     String toString();
 }
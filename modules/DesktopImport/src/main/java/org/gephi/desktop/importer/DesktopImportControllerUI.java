@@ -138,6 +138,11 @@ public class DesktopImportControllerUI implements ImportControllerUI {
 
         //Extract files if they are zipped:
         for (int i = 0; i < fileObjects.length; i++) {
+            if (ImportUtils.getCompressedFileExtension(fileObjects[i]) != null
+                && !(controller.getFileImporter(fileObjects[i]) instanceof FileImporter.FileAware)) {
+                //Gzip and bzip2 files are decompressed while they are read, see ImportUtils.getTextReader
+                continue;
+            }
             fileObjects[i] = ImportUtils.getArchivedFile(fileObjects[i]);
             if (FileUtil.isArchiveArtifact(fileObjects[i])) {
                 try {
@@ -0,0 +1,95 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.api;
+
+import java.io.File;
+import java.util.Locale;
+
+/**
+ * Compression of exported files.
+ *
+ * @see ExportController#exportFile(File, org.gephi.io.exporter.spi.Exporter, Compression)
+ */
+public enum Compression {
+
+    /**
+     * No compression.
+     */
+    NONE(null),
+    /**
+     * Gzip compression. The file is compressed on several threads, as a series of gzip members which any gzip
+     * reader decompresses as a whole.
+     */
+    GZIP(".gz");
+
+    private final String extension;
+
+    Compression(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns the extension of files with this compression, e.g. <code>.gz</code>.
+     *
+     * @return file extension, or <code>null</code> if not compressed
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Returns the compression matching the extension of <code>file</code>, e.g. {@link #GZIP} for
+     * <code>graph.gexf.gz</code>.
+     *
+     * @param file the file
+     * @return the file compression, {@link #NONE} if the extension isn't a compression extension
+     */
+    public static Compression forFile(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        for (Compression compression : values()) {
+            if (compression.extension != null && name.endsWith(compression.extension)) {
+                return compression;
+            }
+        }
+        return NONE;
+    }
+}
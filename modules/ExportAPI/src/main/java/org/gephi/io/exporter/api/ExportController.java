@@ -63,16 +63,58 @@ import org.gephi.project.api.Workspace;
  */
 public interface ExportController {
 
+    /**
+     * Exports the current workspace to <code>file</code>, with the exporter matching the file extension. Files
+     * ending with a compression extension, like <code>graph.gexf.gz</code>, are compressed.
+     *
+     * @param file the file to write
+     * @throws IOException if the file can't be written
+     */
     void exportFile(File file) throws IOException;
 
+    /**
+     * Exports <code>workspace</code> to <code>file</code>, with the exporter matching the file extension. Files
+     * ending with a compression extension, like <code>graph.gexf.gz</code>, are compressed.
+     *
+     * @param file      the file to write
+     * @param workspace the workspace to export
+     * @throws IOException if the file can't be written
+     */
     void exportFile(File file, Workspace workspace) throws IOException;
 
+    /**
+     * Exports to <code>file</code> with <code>fileExporter</code>, compressed if the file ends with a compression
+     * extension.
+     *
+     * @param file         the file to write
+     * @param fileExporter the exporter
+     * @throws IOException if the file can't be written
+     * @see Compression#forFile(File)
+     */
     void exportFile(File file, Exporter fileExporter) throws IOException;
 
+    /**
+     * Exports to <code>file</code> with <code>fileExporter</code>, and compresses the output with
+     * <code>compression</code>. Compression runs on other threads while the exporter writes.
+     *
+     * @param file         the file to write
+     * @param fileExporter the exporter
+     * @param compression  the output compression
+     * @throws IOException if the file can't be written
+     */
+    void exportFile(File file, Exporter fileExporter, Compression compression) throws IOException;
+
     void exportWriter(Writer writer, CharacterExporter characterExporter);
 
     void exportStream(OutputStream stream, ByteExporter byteExporter);
 
+    /**
+     * Returns a new exporter for the extension of <code>file</code>. A compression extension, like in
+     * <code>graph.gexf.gz</code>, is ignored.
+     *
+     * @param file the file
+     * @return a new exporter, or <code>null</code> if none matches
+     */
     Exporter getFileExporter(File file);
 
     Exporter getExporter(String exporterName);
@@ -43,13 +43,17 @@ Portions Copyrighted 2011 Gephi Consortium.
 package org.gephi.io.exporter.impl;
 
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.FilterWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import org.gephi.io.exporter.api.Compression;
 import org.gephi.io.exporter.api.ExportController;
 import org.gephi.io.exporter.api.FileType;
 import org.gephi.io.exporter.spi.ByteExporter;
@@ -71,6 +75,12 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = ExportController.class)
 public class ExportControllerImpl implements ExportController {
 
+    /**
+     * Characters buffered before they are encoded and written to the file, so that exporters writing many small
+     * strings don't hit the encoder and the file for each of them.
+     */
+    private static final int WRITER_BUFFER_SIZE = 1 << 20;
+
     private final FileExporterBuilder[] fileExporterBuilders;
     private final ExporterUI[] uis;
 
@@ -105,14 +115,19 @@ public class ExportControllerImpl implements ExportController {
 
     @Override
     public void exportFile(File file, Exporter fileExporter) throws IOException {
+        exportFile(file, fileExporter, Compression.forFile(file));
+    }
+
+    @Override
+    public void exportFile(File file, Exporter fileExporter, Compression compression) throws IOException {
         if (fileExporter.getWorkspace() == null) {
             ProjectController projectController = Lookup.getDefault().lookup(ProjectController.class);
             Workspace workspace = projectController.getCurrentWorkspace();
             fileExporter.setWorkspace(workspace);
         }
         if (fileExporter instanceof ByteExporter) {
-            OutputStream stream = new BufferedOutputStream(new FileOutputStream(file));
-            ((ByteExporter) fileExporter).setOutputStream(stream);
+            OutputStream stream = new BufferedOutputStream(openFile(file, compression));
+            ((ByteExporter) fileExporter).setOutputStream(new NonClosingOutputStream(stream));
             try {
                 fileExporter.execute();
             } catch (Exception ex) {
@@ -126,14 +141,12 @@ public class ExportControllerImpl implements ExportController {
                 }
                 throw new RuntimeException(ex);
             }
-            try {
-                stream.flush();
-                stream.close();
-            } catch (IOException ex) {
-            }
+            stream.flush();
+            stream.close();
         } else if (fileExporter instanceof CharacterExporter) {
-            Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
-            ((CharacterExporter) fileExporter).setWriter(writer);
+            Writer writer = new BufferedWriter(
+                new OutputStreamWriter(openFile(file, compression), StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+            ((CharacterExporter) fileExporter).setWriter(new NonClosingWriter(writer));
             try {
                 fileExporter.execute();
             } catch (Exception ex) {
@@ -147,12 +160,17 @@ public class ExportControllerImpl implements ExportController {
                 }
                 throw new RuntimeException(ex);
             }
-            try {
-                writer.flush();
-                writer.close();
-            } catch (IOException ex) {
-            }
+            writer.flush();
+            writer.close();
+        }
+    }
+
+    private OutputStream openFile(File file, Compression compression) throws IOException {
+        OutputStream stream = new FileOutputStream(file);
+        if (compression == Compression.GZIP) {
+            return new ParallelGZIPOutputStream(stream);
         }
+        return stream;
     }
 
     @Override
@@ -162,7 +180,7 @@ public class ExportControllerImpl implements ExportController {
             Workspace workspace = projectController.getCurrentWorkspace();
             byteExporter.setWorkspace(workspace);
         }
-        byteExporter.setOutputStream(stream);
+        byteExporter.setOutputStream(new NonClosingOutputStream(stream));
         try {
             byteExporter.execute();
         } catch (Exception ex) {
@@ -180,6 +198,7 @@ public class ExportControllerImpl implements ExportController {
             stream.flush();
             stream.close();
         } catch (IOException ex) {
+            throw new RuntimeException(ex);
         }
     }
 
@@ -190,7 +209,7 @@ public class ExportControllerImpl implements ExportController {
             Workspace workspace = projectController.getCurrentWorkspace();
             characterExporter.setWorkspace(workspace);
         }
-        characterExporter.setWriter(writer);
+        characterExporter.setWriter(new NonClosingWriter(writer));
         try {
             characterExporter.execute();
         } catch (Exception ex) {
@@ -208,15 +227,21 @@ public class ExportControllerImpl implements ExportController {
             writer.flush();
             writer.close();
         } catch (IOException ex) {
+            throw new RuntimeException(ex);
         }
     }
 
     @Override
     public Exporter getFileExporter(File file) {
+        String fileName = file.getName();
+        Compression compression = Compression.forFile(file);
+        if (compression != Compression.NONE) {
+            fileName = fileName.substring(0, fileName.length() - compression.getExtension().length());
+        }
         for (FileExporterBuilder im : fileExporterBuilders) {
             for (FileType ft : im.getFileTypes()) {
                 for (String ex : ft.getExtensions()) {
-                    if (hasExt(file, ex)) {
+                    if (hasExt(fileName, ex)) {
                         return im.buildExporter();
                     }
                 }
@@ -254,18 +279,54 @@ public class ExportControllerImpl implements ExportController {
         return null;
     }
 
-    private boolean hasExt(File file, String ext) {
+    private boolean hasExt(String fileName, String ext) {
         if (ext == null || ext.isEmpty()) {
             return false;
         }
 
         /** period at first position is not considered as extension-separator */
-        if ((file.getName().length() - ext.length()) <= 1) {
+        if ((fileName.length() - ext.length()) <= 1) {
             return false;
         }
 
-        boolean ret = file.getName().endsWith(ext);
+        boolean ret = fileName.endsWith(ext);
 
         return ret;
     }
+
+    /**
+     * Stream given to byte exporters. Some exporters close their stream when they are done, closing it only flushes
+     * so that the controller does the single real close and can report its errors, like a failed gzip trailer.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+
+        public NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+
+    /**
+     * Writer given to character exporters, closing it only flushes. See {@link NonClosingOutputStream}.
+     */
+    private static class NonClosingWriter extends FilterWriter {
+
+        public NonClosingWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
 }
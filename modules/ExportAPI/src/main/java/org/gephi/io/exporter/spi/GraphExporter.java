@@ -65,4 +65,28 @@ public interface GraphExporter extends Exporter {
      * @param exportVisible the export visible parameter value
      */
     void setExportVisible(boolean exportVisible);
+
+    /**
+     * Returns <code>true</code> if the graph is copied before being exported.
+     * The graph lock is then only held while the copy is made and not while
+     * the output is formatted and written.
+     *
+     * @return <code>true</code> if the export is written from a snapshot of
+     * the graph
+     */
+    default boolean isExportSnapshot() {
+        return false;
+    }
+
+    /**
+     * Sets if the graph is copied before being exported. A snapshot costs the
+     * memory of a copy of the graph but lets filters, layouts and imports
+     * modify the graph while the file is written. The output is the same as
+     * a locked export. Exporters that don't support snapshots ignore this
+     * setting.
+     *
+     * @param exportSnapshot the export snapshot parameter value
+     */
+    default void setExportSnapshot(boolean exportSnapshot) {
+    }
 }
@@ -0,0 +1,121 @@
+package org.gephi.io.exporter.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.zip.GZIPInputStream;
+import org.gephi.io.exporter.spi.ByteExporter;
+import org.gephi.io.exporter.spi.CharacterExporter;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.impl.WorkspaceImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ExportControllerImplTest {
+
+    private static final String CONTENT = "Exported content";
+
+    @Test
+    public void testExporterClosingWriter() throws IOException {
+        File file = createFile(".svg");
+        new ExportControllerImpl().exportFile(file, new ClosingCharacterExporter());
+        Assert.assertEquals(CONTENT, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testExporterClosingWriterCompressed() throws IOException {
+        File file = createFile(".csv.gz");
+        new ExportControllerImpl().exportFile(file, new ClosingCharacterExporter());
+        try (InputStream stream = new GZIPInputStream(new FileInputStream(file))) {
+            Assert.assertEquals(CONTENT, new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void testExporterClosingStream() throws IOException {
+        File file = createFile(".bin");
+        new ExportControllerImpl().exportFile(file, new ClosingByteExporter());
+        Assert.assertEquals(CONTENT, new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testExportWriterClosedOnce() {
+        StringWriter writer = new StringWriter();
+        new ExportControllerImpl().exportWriter(writer, new ClosingCharacterExporter());
+        Assert.assertEquals(CONTENT, writer.toString());
+    }
+
+    @Test
+    public void testExportStreamClosedOnce() {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new ExportControllerImpl().exportStream(stream, new ClosingByteExporter());
+        Assert.assertEquals(CONTENT, new String(stream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    private static File createFile(String extension) throws IOException {
+        File file = File.createTempFile("export", extension);
+        file.deleteOnExit();
+        return file;
+    }
+
+    private abstract static class AbstractClosingExporter {
+
+        private Workspace workspace = new WorkspaceImpl(null, 1);
+
+        public Workspace getWorkspace() {
+            return workspace;
+        }
+
+        public void setWorkspace(Workspace workspace) {
+            this.workspace = workspace;
+        }
+    }
+
+    //Closes the writer when done, like the SVG and spreadsheet exporters
+    private static class ClosingCharacterExporter extends AbstractClosingExporter implements CharacterExporter {
+
+        private Writer writer;
+
+        @Override
+        public void setWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public boolean execute() {
+            try (Writer w = writer) {
+                w.write(CONTENT);
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+            return true;
+        }
+    }
+
+    private static class ClosingByteExporter extends AbstractClosingExporter implements ByteExporter {
+
+        private OutputStream stream;
+
+        @Override
+        public void setOutputStream(OutputStream stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public boolean execute() {
+            try (OutputStream s = stream) {
+                s.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+            return true;
+        }
+    }
+}
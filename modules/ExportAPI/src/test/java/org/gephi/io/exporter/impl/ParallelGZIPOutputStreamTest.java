@@ -0,0 +1,121 @@
+package org.gephi.io.exporter.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.gephi.io.importer.api.ImportUtils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.openide.filesystems.FileObject;
+import org.openide.filesystems.FileUtil;
+
+public class ParallelGZIPOutputStreamTest {
+
+    @Test
+    public void testMultipleBlocks() throws IOException {
+        byte[] data = text(3 * ParallelGZIPOutputStream.BLOCK_SIZE + 12345);
+        Assert.assertArrayEquals(data, gunzip(gzip(data, 4)));
+    }
+
+    @Test
+    public void testSingleThread() throws IOException {
+        byte[] data = text(2 * ParallelGZIPOutputStream.BLOCK_SIZE + 1);
+        Assert.assertArrayEquals(data, gunzip(gzip(data, 1)));
+    }
+
+    @Test
+    public void testEmpty() throws IOException {
+        byte[] compressed = gzip(new byte[0], 4);
+        Assert.assertTrue(compressed.length > 0);
+        Assert.assertArrayEquals(new byte[0], gunzip(compressed));
+    }
+
+    @Test
+    public void testSmallWritesAndFlush() throws IOException {
+        byte[] data = text(ParallelGZIPOutputStream.BLOCK_SIZE + 1000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new ParallelGZIPOutputStream(out, 2)) {
+            for (int i = 0; i < data.length; i++) {
+                gzip.write(data[i]);
+                if (i % 100000 == 0) {
+                    gzip.flush();
+                }
+            }
+        }
+        Assert.assertArrayEquals(data, gunzip(out.toByteArray()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testWriteAfterClose() throws IOException {
+        OutputStream gzip = new ParallelGZIPOutputStream(new ByteArrayOutputStream(), 2);
+        gzip.close();
+        gzip.write(1);
+    }
+
+    @Test
+    public void testCloseFailure() throws IOException {
+        //The last blocks are only written on close, so failures must reach the caller
+        OutputStream failing = new FilterOutputStream(new ByteArrayOutputStream()) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Disk full");
+            }
+        };
+        OutputStream gzip = new ParallelGZIPOutputStream(failing, 2);
+        gzip.write(text(1000));
+        try {
+            gzip.close();
+            Assert.fail("Exception expected");
+        } catch (IOException ex) {
+            Assert.assertEquals("Disk full", ex.getMessage());
+        }
+    }
+
+    @Test
+    public void testImportRoundTrip() throws IOException {
+        byte[] data = text(5 * ParallelGZIPOutputStream.BLOCK_SIZE / 2);
+        FileObject file = FileUtil.createMemoryFileSystem().getRoot().createData("graph.gexf.gz");
+        try (OutputStream gzip = new ParallelGZIPOutputStream(file.getOutputStream(), 4)) {
+            gzip.write(data);
+        }
+        Assert.assertArrayEquals(data, read(ImportUtils.getDecompressedInputStream(file)));
+    }
+
+    private static byte[] gzip(byte[] data, int threads) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new ParallelGZIPOutputStream(out, threads)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        return read(new GZIPInputStream(new ByteArrayInputStream(compressed)));
+    }
+
+    private static byte[] read(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = stream) {
+            byte[] buffer = new byte[10000];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] text(int length) {
+        Random random = new Random(42);
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (random.nextInt(10) == 0 ? ' ' : 'a' + random.nextInt(26));
+        }
+        return data;
+    }
+}
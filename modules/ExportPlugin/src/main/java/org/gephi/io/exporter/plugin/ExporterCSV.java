@@ -47,10 +47,11 @@ import java.io.Writer;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.NoSuchElementException;
 import org.gephi.graph.api.Edge;
-import org.gephi.graph.api.EdgeIterable;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.Node;
@@ -81,10 +82,12 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
     private boolean writeZero = true;
     private boolean header = true;
     private boolean list = false;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
     //Architecture
     private Workspace workspace;
     private Writer writer;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private boolean cancel = false;
     private ProgressTicket progressTicket;
 
@@ -92,6 +95,9 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
     public boolean execute() {
         GraphModel graphModel = workspace.getLookup().lookup(GraphModel.class);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         graph.readLock();
         try {
@@ -117,7 +123,7 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
                 int i = 0;
                 NodeIterable itr = graph.getNodes();
                 for (Node node : itr) {
-                    writeMatrixNode(node, i++ < max - 1);
+                    writeMatrixNode(writer, node, i++ < max - 1);
                     if (cancel) {
                         itr.doBreak();
                         return;
@@ -127,89 +133,73 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
             }
         }
 
-        if (list) {
-            NodeIterable itr = graph.getNodes();
-            for (Node n : itr) {
-                List<Node> neighbours = new ArrayList<>();
-                for (Edge e : graph.getEdges(n)) {
-                    if (!e.isDirected() || (e.isDirected() && n == e.getSource())) {
-                        Node m = graph.getOpposite(n, e);
-                        neighbours.add(m);
-                    }
-                }
-
-                writeListNode(n, !neighbours.isEmpty());
-                for (int j = 0; j < neighbours.size(); j++) {
-                    writeListNode(neighbours.get(j), j < neighbours.size() - 1);
-
-                }
-                writer.append(EOL);
-
-                if (cancel) {
-                    itr.doBreak();
-                    return;
-                }
-            }
-        } else {
+        //Edges are looked up by the row iterators, on this thread, as it needs the graph lock
+        try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket, () -> cancel)) {
             Node[] nodes = graph.getNodes().toArray();
-            for (Node n : nodes) {
-                if (cancel) {
-                    return;
-                }
-                writeMatrixNode(n, true);
-                for (int j = 0; j < nodes.length; j++) {
-                    Node m = nodes[j];
-                    EdgeIterable edges = graph.getEdges(n, m);
-                    writeEdge(edges, j < nodes.length - 1);
-                }
-                Progress.progress(progressTicket);
-                writer.append(EOL);
+            if (list) {
+                Iterable<List<Node>> rows = () -> new ListRowIterator(graph, nodes);
+                rowWriter.writeRows(rows, (chunk, builder) -> {
+                    for (List<Node> row : chunk) {
+                        for (int j = 0; j < row.size(); j++) {
+                            writeListNode(builder, row.get(j), j < row.size() - 1);
+                        }
+                        builder.append(EOL);
+                    }
+                });
+            } else {
+                Iterable<MatrixRow> rows = () -> new MatrixRowIterator(graph, nodes);
+                //Each row has a cell per node
+                int chunkSize = Math.max(1, ParallelRowWriter.DEFAULT_CHUNK_SIZE * 64 / Math.max(1, nodes.length));
+                rowWriter.writeRows(rows, chunkSize, (chunk, builder) -> {
+                    DecimalFormat format = (DecimalFormat) FORMAT.clone();
+                    for (MatrixRow row : chunk) {
+                        writeMatrixNode(builder, row.node, true);
+                        for (int j = 0; j < nodes.length; j++) {
+                            writeEdge(builder, format, row, j, j < nodes.length - 1);
+                        }
+                        builder.append(EOL);
+                    }
+                });
             }
         }
 
         Progress.finish(progressTicket);
     }
 
-    private void writeEdge(EdgeIterable edges, boolean writeSeparator) throws IOException {
-        float weight = 0;
-        boolean anyEdge = false;
-        for (Edge edge : edges) {
-            anyEdge = true;
-            weight += edge.getWeight();
-        }
-
-        if (anyEdge) {
+    private void writeEdge(StringBuilder builder, DecimalFormat format, MatrixRow row, int index,
+                           boolean writeSeparator) {
+        if (row.anyEdge[index]) {
             if (edgeWeight) {
-                writer.append(FORMAT.format(weight));
+                builder.append(format.format(row.weights[index]));
             } else {
-                writer.append(FORMAT.format(1.0));
+                builder.append(format.format(1.0));
             }
         } else {
             if (writeZero) {
-                writer.append("0");
+                builder.append("0");
             }
         }
 
         if (writeSeparator) {
-            writer.append(SEPARATOR);
+            builder.append(SEPARATOR);
         }
     }
 
-    private void writeMatrixNode(Node node, boolean writeSeparator) throws IOException {
+    private void writeMatrixNode(Appendable builder, Node node, boolean writeSeparator) throws IOException {
         if (header) {
             Object label = node.getId();
-            writer.append(label.toString());
+            builder.append(label.toString());
             if (writeSeparator) {
-                writer.append(SEPARATOR);
+                builder.append(SEPARATOR);
             }
         }
     }
 
-    private void writeListNode(Node node, boolean writeSeparator) throws IOException {
+    private void writeListNode(StringBuilder builder, Node node, boolean writeSeparator) {
         Object label = node.getId();
-        writer.append(label.toString());
+        builder.append(label.toString());
         if (writeSeparator) {
-            writer.append(SEPARATOR);
+            builder.append(SEPARATOR);
         }
     }
 
@@ -256,6 +246,14 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
         this.list = list;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public boolean isExportVisible() {
         return exportVisible;
@@ -266,6 +264,16 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -280,4 +288,90 @@ public class ExporterCSV implements GraphExporter, CharacterExporter, LongTask {
     public void setWorkspace(Workspace workspace) {
         this.workspace = workspace;
     }
+
+    /**
+     * Node followed by its neighbours.
+     */
+    private static class ListRowIterator implements Iterator<List<Node>> {
+
+        private final Graph graph;
+        private final Node[] nodes;
+        private int index;
+
+        public ListRowIterator(Graph graph, Node[] nodes) {
+            this.graph = graph;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < nodes.length;
+        }
+
+        @Override
+        public List<Node> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node n = nodes[index++];
+            List<Node> row = new ArrayList<>();
+            row.add(n);
+            for (Edge e : graph.getEdges(n)) {
+                if (!e.isDirected() || (e.isDirected() && n == e.getSource())) {
+                    Node m = graph.getOpposite(n, e);
+                    row.add(m);
+                }
+            }
+            return row;
+        }
+    }
+
+    private static class MatrixRow {
+
+        private final Node node;
+        private final float[] weights;
+        private final boolean[] anyEdge;
+
+        public MatrixRow(Node node, int size) {
+            this.node = node;
+            this.weights = new float[size];
+            this.anyEdge = new boolean[size];
+        }
+    }
+
+    /**
+     * Sums the weights of the edges from a node to every other node.
+     */
+    private static class MatrixRowIterator implements Iterator<MatrixRow> {
+
+        private final Graph graph;
+        private final Node[] nodes;
+        private int index;
+
+        public MatrixRowIterator(Graph graph, Node[] nodes) {
+            this.graph = graph;
+            this.nodes = nodes;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < nodes.length;
+        }
+
+        @Override
+        public MatrixRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Node n = nodes[index++];
+            MatrixRow row = new MatrixRow(n, nodes.length);
+            for (int j = 0; j < nodes.length; j++) {
+                for (Edge edge : graph.getEdges(n, nodes[j])) {
+                    row.anyEdge[j] = true;
+                    row.weights[j] += edge.getWeight();
+                }
+            }
+            return row;
+        }
+    }
 }
@@ -67,6 +67,7 @@ public class ExporterDL implements GraphExporter, CharacterExporter, LongTask {
 
     ProgressTicket progressTicket;
     private boolean exportVisible = false;
+    private boolean exportSnapshot = false;
     private Workspace workspace;
     private Writer writer;
     private boolean cancel = false;
@@ -108,11 +109,24 @@ public class ExporterDL implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public boolean execute() {
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         GraphModel graphModel = graphController.getGraphModel(workspace);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         graph.readLock();
 
@@ -0,0 +1,656 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.plugin;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.gephi.graph.api.AttributeUtils;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Configuration;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Table;
+import org.gephi.io.exporter.spi.ByteExporter;
+import org.gephi.io.exporter.spi.GraphExporter;
+import org.gephi.project.api.Workspace;
+import org.gephi.utils.longtask.spi.LongTask;
+import org.gephi.utils.progress.Progress;
+import org.gephi.utils.progress.ProgressTicket;
+
+/**
+ * Exports the graph in GBIN, a columnar binary format meant to be read without parsing.
+ * <p>
+ * All numbers are little-endian and every block starts at an offset which is a multiple of 8, so readers can map
+ * the file and view blocks as primitive arrays. The file is laid out as:
+ * <ol>
+ * <li>Header, ten int32: magic <code>"GBIN"</code>, version, edge default (0 directed, 1 undirected, 2 mixed), node
+ * id type and edge id type (0 string, 1 integer, 2 long), node count, edge count, node column count, edge column
+ * count and 0.</li>
+ * <li>Node ids: a string block for string ids, int64 values otherwise.</li>
+ * <li>Node columns.</li>
+ * <li>Edge ids, then the edge source and target node indices (int32 each), directions (one byte, 1 if directed)
+ * and weights (float64).</li>
+ * <li>Edge columns.</li>
+ * </ol>
+ * A column starts with its kind (0 attribute, 1 property), its type (see the <code>TYPE_</code> constants) and two
+ * int32 giving the byte length of its UTF-8 id and title, followed by these bytes. Then comes a bitmap with one bit
+ * set per element which has a value and the values, 0 for missing values. String values are dictionary-encoded:
+ * an int32 dictionary size, an int32 0, a string block for the dictionary and one int32 code per element, -1 for
+ * missing values. A string block is an int64 offset per string plus the end offset, followed by the UTF-8 bytes.
+ * <p>
+ * Node properties are the <code>label</code>, <code>x</code>, <code>y</code>, <code>z</code>, <code>size</code>
+ * and <code>color</code> (ARGB int32) columns, edge properties the <code>label</code>, <code>kind</code> and
+ * <code>color</code> columns. The <code>kind</code> column has the type of the edge type labels. Dynamic attribute
+ * columns are written with their values in the time interval of the exported view. Values of other types than the
+ * primitive ones, like arrays or big numbers, are written as strings.
+ */
+public class ExporterGBIN implements GraphExporter, ByteExporter, LongTask {
+
+    //Format
+    static final int MAGIC = 0x4E494247;
+    static final int VERSION = 1;
+    static final int EDGE_DEFAULT_DIRECTED = 0;
+    static final int EDGE_DEFAULT_UNDIRECTED = 1;
+    static final int EDGE_DEFAULT_MIXED = 2;
+    static final int ID_STRING = 0;
+    static final int ID_INTEGER = 1;
+    static final int ID_LONG = 2;
+    static final int KIND_ATTRIBUTE = 0;
+    static final int KIND_PROPERTY = 1;
+    static final int TYPE_INT = 0;
+    static final int TYPE_LONG = 1;
+    static final int TYPE_FLOAT = 2;
+    static final int TYPE_DOUBLE = 3;
+    static final int TYPE_BOOLEAN = 4;
+    static final int TYPE_STRING = 5;
+    static final int TYPE_SHORT = 6;
+    static final int TYPE_BYTE = 7;
+    private static final int BUFFER_SIZE = 1 << 20;
+    //Architecture
+    private boolean cancel = false;
+    private ProgressTicket progressTicket;
+    private Workspace workspace;
+    private OutputStream stream;
+    private boolean exportVisible;
+    private boolean exportSnapshot;
+    //Settings
+    private boolean exportColors = true;
+    private boolean exportPosition = true;
+    private boolean exportSize = true;
+    private boolean exportAttributes = true;
+    //Output
+    private ByteBuffer buffer;
+    private long position;
+
+    @Override
+    public boolean execute() {
+        GraphModel graphModel = workspace.getLookup().lookup(GraphModel.class);
+        Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
+
+        graph.readLock();
+        try {
+            exportData(graph);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            graph.readUnlock();
+            buffer = null;
+            Progress.finish(progressTicket);
+        }
+
+        return !cancel;
+    }
+
+    private void exportData(Graph graph) throws IOException {
+        GraphModel graphModel = graph.getModel();
+        Node[] nodes = graph.getNodes().toArray();
+        Edge[] edges = graph.getEdges().toArray();
+        List<Column> nodeColumns = getAttributeColumns(graphModel.getNodeTable());
+        List<Column> edgeColumns = getAttributeColumns(graphModel.getEdgeTable());
+        int nodeProperties = 1 + (exportPosition ? 3 : 0) + (exportSize ? 1 : 0) + (exportColors ? 1 : 0);
+        int edgeProperties = 2 + (exportColors ? 1 : 0);
+
+        //Ids and endpoints blocks count as one unit, like each column
+        Progress.start(progressTicket,
+            nodeColumns.size() + nodeProperties + edgeColumns.size() + edgeProperties + 3);
+
+        buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        position = 0;
+
+        //Header
+        Configuration configuration = graphModel.getConfiguration();
+        putInt(MAGIC);
+        putInt(VERSION);
+        putInt(graph.isMixed() ? EDGE_DEFAULT_MIXED :
+            graph.isDirected() ? EDGE_DEFAULT_DIRECTED : EDGE_DEFAULT_UNDIRECTED);
+        putInt(getIdType(configuration.getNodeIdType()));
+        putInt(getIdType(configuration.getEdgeIdType()));
+        putInt(nodes.length);
+        putInt(edges.length);
+        putInt(nodeColumns.size() + nodeProperties);
+        putInt(edgeColumns.size() + edgeProperties);
+        putInt(0);
+
+        //Nodes
+        writeIds(nodes, getIdType(configuration.getNodeIdType()));
+        Object[] values = new Object[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            values[i] = nodes[i].getLabel();
+        }
+        writeColumn(KIND_PROPERTY, "label", "label", TYPE_STRING, values);
+        if (exportPosition) {
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].x();
+            }
+            writeColumn(KIND_PROPERTY, "x", "x", TYPE_FLOAT, values);
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].y();
+            }
+            writeColumn(KIND_PROPERTY, "y", "y", TYPE_FLOAT, values);
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].z();
+            }
+            writeColumn(KIND_PROPERTY, "z", "z", TYPE_FLOAT, values);
+        }
+        if (exportSize) {
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = nodes[i].size();
+            }
+            writeColumn(KIND_PROPERTY, "size", "size", TYPE_FLOAT, values);
+        }
+        if (exportColors) {
+            for (int i = 0; i < nodes.length; i++) {
+                values[i] = getColor(nodes[i]);
+            }
+            writeColumn(KIND_PROPERTY, "color", "color", TYPE_INT, values);
+        }
+        writeAttributeColumns(graph, nodes, nodeColumns, values);
+        if (cancel) {
+            return;
+        }
+
+        //Edges
+        writeIds(edges, getIdType(configuration.getEdgeIdType()));
+        int[] indices = getNodeIndices(nodes);
+        for (Edge edge : edges) {
+            putInt(indices[edge.getSource().getStoreId()]);
+        }
+        align();
+        for (Edge edge : edges) {
+            putInt(indices[edge.getTarget().getStoreId()]);
+        }
+        align();
+        for (Edge edge : edges) {
+            ensure(1);
+            buffer.put(edge.isDirected() ? (byte) 1 : (byte) 0);
+            position++;
+        }
+        align();
+        for (Edge edge : edges) {
+            putDouble(edge.getWeight(graph.getView()));
+        }
+        Progress.progress(progressTicket);
+
+        values = new Object[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            values[i] = edges[i].getLabel();
+        }
+        writeColumn(KIND_PROPERTY, "label", "label", TYPE_STRING, values);
+        for (int i = 0; i < edges.length; i++) {
+            values[i] = edges[i].getType() != 0 ? edges[i].getTypeLabel() : null;
+        }
+        writeColumn(KIND_PROPERTY, "kind", "kind", getValuesType("kind", values, String.class), values);
+        if (exportColors) {
+            for (int i = 0; i < edges.length; i++) {
+                //Edges without custom color have a zero alpha
+                values[i] = edges[i].alpha() != 0 ? getColor(edges[i]) : null;
+            }
+            writeColumn(KIND_PROPERTY, "color", "color", TYPE_INT, values);
+        }
+        writeAttributeColumns(graph, edges, edgeColumns, values);
+
+        flushBuffer();
+        stream.flush();
+    }
+
+    private List<Column> getAttributeColumns(Table table) {
+        List<Column> columns = new ArrayList<>();
+        if (exportAttributes) {
+            for (Column column : table) {
+                if (!column.isProperty()) {
+                    columns.add(column);
+                }
+            }
+        }
+        return columns;
+    }
+
+    private void writeAttributeColumns(Graph graph, Element[] elements, List<Column> columns, Object[] values)
+        throws IOException {
+        for (Column column : columns) {
+            if (cancel) {
+                return;
+            }
+            Class typeClass = column.getTypeClass();
+            for (int i = 0; i < elements.length; i++) {
+                if (column.isDynamic()) {
+                    values[i] = elements[i].getAttribute(column, graph.getView());
+                } else {
+                    values[i] = elements[i].getAttribute(column);
+                }
+            }
+            if (column.isDynamicAttribute()) {
+                typeClass = AttributeUtils.getStaticType(typeClass);
+            }
+            int type = getValuesType(column.getId(), values, typeClass);
+            writeColumn(KIND_ATTRIBUTE, column.getId(), column.getTitle(), type, values);
+        }
+    }
+
+    private void writeIds(Element[] elements, int idType) throws IOException {
+        if (idType == ID_STRING) {
+            List<String> ids = new ArrayList<>(elements.length);
+            for (Element element : elements) {
+                ids.add(element.getId().toString());
+            }
+            writeStrings(ids);
+        } else {
+            for (Element element : elements) {
+                putLong(((Number) element.getId()).longValue());
+            }
+        }
+        Progress.progress(progressTicket);
+    }
+
+    /**
+     * Returns the type to write <code>values</code> with, the one of their class if they all have the same or of
+     * <code>typeClass</code> if there are none. Values which can't be written natively are converted to strings.
+     */
+    private static int getValuesType(String id, Object[] values, Class typeClass) {
+        Class valueClass = null;
+        boolean mixed = false;
+        for (Object value : values) {
+            if (value != null) {
+                if (valueClass == null) {
+                    valueClass = value.getClass();
+                } else if (!valueClass.equals(value.getClass())) {
+                    mixed = true;
+                    break;
+                }
+            }
+        }
+        int type = getType(valueClass != null ? valueClass : typeClass);
+        if (mixed) {
+            Logger.getLogger(ExporterGBIN.class.getName()).log(Level.WARNING,
+                "Values of column ''{0}'' have different types, they are written as strings", id);
+            type = TYPE_STRING;
+        }
+        if (type == TYPE_STRING) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != null && !(values[i] instanceof String)) {
+                    values[i] = AttributeUtils.print(values[i]);
+                }
+            }
+        }
+        return type;
+    }
+
+    private void writeColumn(int kind, String id, String title, int type, Object[] values) throws IOException {
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        byte[] titleBytes = (title != null ? title : id).getBytes(StandardCharsets.UTF_8);
+        putInt(kind);
+        putInt(type);
+        putInt(idBytes.length);
+        putInt(titleBytes.length);
+        putBytes(idBytes);
+        putBytes(titleBytes);
+        align();
+
+        //Bitmap of present values
+        int count = values.length;
+        for (int i = 0; i < count; i += 8) {
+            int bits = 0;
+            for (int j = i; j < Math.min(i + 8, count); j++) {
+                if (values[j] != null) {
+                    bits |= 1 << (j - i);
+                }
+            }
+            ensure(1);
+            buffer.put((byte) bits);
+            position++;
+        }
+        align();
+
+        switch (type) {
+            case TYPE_INT:
+                for (Object value : values) {
+                    putInt(value != null ? ((Number) value).intValue() : 0);
+                }
+                break;
+            case TYPE_LONG:
+                for (Object value : values) {
+                    putLong(value != null ? ((Number) value).longValue() : 0L);
+                }
+                break;
+            case TYPE_SHORT:
+                for (Object value : values) {
+                    putShort(value != null ? ((Number) value).shortValue() : 0);
+                }
+                break;
+            case TYPE_BYTE:
+                for (Object value : values) {
+                    ensure(1);
+                    buffer.put(value != null ? ((Number) value).byteValue() : 0);
+                    position++;
+                }
+                break;
+            case TYPE_FLOAT:
+                for (Object value : values) {
+                    putFloat(value != null ? ((Number) value).floatValue() : 0f);
+                }
+                break;
+            case TYPE_DOUBLE:
+                for (Object value : values) {
+                    putDouble(value != null ? ((Number) value).doubleValue() : 0.0);
+                }
+                break;
+            case TYPE_BOOLEAN:
+                for (Object value : values) {
+                    ensure(1);
+                    buffer.put(Boolean.TRUE.equals(value) ? (byte) 1 : (byte) 0);
+                    position++;
+                }
+                break;
+            default:
+                writeDictionary(values);
+        }
+        align();
+        Progress.progress(progressTicket);
+    }
+
+    private void writeDictionary(Object[] values) throws IOException {
+        Object2IntOpenHashMap<String> codes = new Object2IntOpenHashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        for (Object value : values) {
+            if (value != null && !codes.containsKey(value)) {
+                codes.put((String) value, dictionary.size());
+                dictionary.add((String) value);
+            }
+        }
+        putInt(dictionary.size());
+        putInt(0);
+        writeStrings(dictionary);
+        for (Object value : values) {
+            putInt(value != null ? codes.getInt(value) : -1);
+        }
+    }
+
+    private void writeStrings(List<String> strings) throws IOException {
+        long offset = 0;
+        putLong(offset);
+        for (String str : strings) {
+            offset += utf8Length(str);
+            putLong(offset);
+        }
+        for (String str : strings) {
+            putBytes(str.getBytes(StandardCharsets.UTF_8));
+        }
+        align();
+    }
+
+    private static int utf8Length(String str) {
+        int length = 0;
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < str.length()
+                && Character.isLowSurrogate(str.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                //Unpaired surrogates are encoded as '?'
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+    private static int[] getNodeIndices(Node[] nodes) {
+        int maxStoreId = -1;
+        for (Node node : nodes) {
+            maxStoreId = Math.max(maxStoreId, node.getStoreId());
+        }
+        int[] indices = new int[maxStoreId + 1];
+        for (int i = 0; i < nodes.length; i++) {
+            indices[nodes[i].getStoreId()] = i;
+        }
+        return indices;
+    }
+
+    private static int getIdType(Class idType) {
+        if (idType.equals(Integer.class)) {
+            return ID_INTEGER;
+        } else if (idType.equals(Long.class)) {
+            return ID_LONG;
+        }
+        return ID_STRING;
+    }
+
+    private static int getType(Class typeClass) {
+        if (typeClass.equals(Integer.class)) {
+            return TYPE_INT;
+        } else if (typeClass.equals(Short.class)) {
+            return TYPE_SHORT;
+        } else if (typeClass.equals(Byte.class)) {
+            return TYPE_BYTE;
+        } else if (typeClass.equals(Long.class)) {
+            return TYPE_LONG;
+        } else if (typeClass.equals(Float.class)) {
+            return TYPE_FLOAT;
+        } else if (typeClass.equals(Double.class)) {
+            return TYPE_DOUBLE;
+        } else if (typeClass.equals(Boolean.class)) {
+            return TYPE_BOOLEAN;
+        }
+        return TYPE_STRING;
+    }
+
+    private static int getColor(Element element) {
+        return Math.round(element.alpha() * 255f) << 24 | Math.round(element.r() * 255f) << 16
+            | Math.round(element.g() * 255f) << 8 | Math.round(element.b() * 255f);
+    }
+
+    private void putInt(int value) throws IOException {
+        ensure(4);
+        buffer.putInt(value);
+        position += 4;
+    }
+
+    private void putShort(short value) throws IOException {
+        ensure(2);
+        buffer.putShort(value);
+        position += 2;
+    }
+
+    private void putLong(long value) throws IOException {
+        ensure(8);
+        buffer.putLong(value);
+        position += 8;
+    }
+
+    private void putFloat(float value) throws IOException {
+        ensure(4);
+        buffer.putFloat(value);
+        position += 4;
+    }
+
+    private void putDouble(double value) throws IOException {
+        ensure(8);
+        buffer.putDouble(value);
+        position += 8;
+    }
+
+    private void putBytes(byte[] bytes) throws IOException {
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensure(1);
+            int length = Math.min(bytes.length - offset, buffer.remaining());
+            buffer.put(bytes, offset, length);
+            offset += length;
+            position += length;
+        }
+    }
+
+    private void align() throws IOException {
+        while ((position & 7) != 0) {
+            ensure(1);
+            buffer.put((byte) 0);
+            position++;
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        stream.write(buffer.array(), 0, buffer.position());
+        buffer.clear();
+    }
+
+    @Override
+    public boolean cancel() {
+        cancel = true;
+        return true;
+    }
+
+    @Override
+    public void setProgressTicket(ProgressTicket progressTicket) {
+        this.progressTicket = progressTicket;
+    }
+
+    public boolean isExportAttributes() {
+        return exportAttributes;
+    }
+
+    public void setExportAttributes(boolean exportAttributes) {
+        this.exportAttributes = exportAttributes;
+    }
+
+    public boolean isExportColors() {
+        return exportColors;
+    }
+
+    public void setExportColors(boolean exportColors) {
+        this.exportColors = exportColors;
+    }
+
+    public boolean isExportPosition() {
+        return exportPosition;
+    }
+
+    public void setExportPosition(boolean exportPosition) {
+        this.exportPosition = exportPosition;
+    }
+
+    public boolean isExportSize() {
+        return exportSize;
+    }
+
+    public void setExportSize(boolean exportSize) {
+        this.exportSize = exportSize;
+    }
+
+    @Override
+    public boolean isExportVisible() {
+        return exportVisible;
+    }
+
+    @Override
+    public void setExportVisible(boolean exportVisible) {
+        this.exportVisible = exportVisible;
+    }
+
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
+    @Override
+    public void setOutputStream(OutputStream stream) {
+        this.stream = stream;
+    }
+
+    @Override
+    public Workspace getWorkspace() {
+        return workspace;
+    }
+
+    @Override
+    public void setWorkspace(Workspace workspace) {
+        this.workspace = workspace;
+    }
+}
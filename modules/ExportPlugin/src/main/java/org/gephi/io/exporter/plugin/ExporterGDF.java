@@ -50,12 +50,12 @@ import java.util.logging.Logger;
 import org.gephi.graph.api.AttributeUtils;
 import org.gephi.graph.api.Column;
 import org.gephi.graph.api.Edge;
-import org.gephi.graph.api.EdgeIterable;
+import org.gephi.graph.api.Element;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphController;
 import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
 import org.gephi.graph.api.Node;
-import org.gephi.graph.api.NodeIterable;
 import org.gephi.graph.api.types.TimestampMap;
 import org.gephi.io.exporter.api.FileType;
 import org.gephi.io.exporter.spi.CharacterExporter;
@@ -74,6 +74,7 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
 
     private Workspace workspace;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private boolean cancel = false;
     private ProgressTicket progressTicket;
     //Settings
@@ -85,6 +86,7 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
     private boolean exportAttributes = true;
     private final boolean exportDynamicWeight = true;
     private boolean exportVisibility = false;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
     private NormalizationHelper normalization;
     private boolean edgeLabels;
     private boolean edgeColors;
@@ -99,6 +101,10 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         GraphModel graphModel = graphController.getGraphModel(workspace);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+            graphModel = graph.getModel();
+        }
 
         graph.readLock();
 
@@ -169,49 +175,18 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
         Progress.switchToDeterminate(progressTicket, max);
 
         //Node lines
-        NodeIterable itr = graph.getNodes();
-        for (Node node : itr) {
-            if (cancel) {
-                itr.doBreak();
-                return;
-            }
-
-            //Id
-            stringBuilder.append(node.getId());
-            stringBuilder.append(",");
-
-            //Default columns
-            for (NodeColumnsGDF c : defaultNodeColumnsGDFs) {
-                if (c.isEnable()) {
-                    c.writeData(stringBuilder, node);
-                    stringBuilder.append(",");
-                }
-            }
-
-            //Attributes columns
-            for (Column c : nodeColumns) {
-                if (!c.isProperty()) {
-                    Object val = node.getAttribute(c, graph.getView());
-                    if (val != null) {
-                        if (c.getTypeClass().equals(String.class) || c.getTypeClass().equals(String[].class)) {
-                            String quote = !useQuotes ? "" : simpleQuotes ? "'" : "\"";
-                            stringBuilder.append(quote);
-                            stringBuilder.append(val);
-                            stringBuilder.append(quote);
-                        } else {
-                            stringBuilder.append(val);
-                        }
-                    }
-                    stringBuilder.append(",");
+        GraphView view = graph.getView();
+        writer.append(stringBuilder);
+        try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket, () -> cancel)) {
+            if (!rowWriter.writeRows(graph.getNodes(), (nodes, builder) -> {
+                for (Node node : nodes) {
+                    writeNode(builder, node, nodeColumns, view);
                 }
+            })) {
+                return;
             }
-
-            //Remove last coma
-            stringBuilder.setLength(stringBuilder.length() - 1);
-            stringBuilder.append("\n");
-
-            Progress.progress(progressTicket);
         }
+        stringBuilder.setLength(0);
 
         //Edge intro
         stringBuilder.append("edgedef> node1,node2,");
@@ -255,57 +230,80 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
         stringBuilder.setLength(stringBuilder.length() - 1);
         stringBuilder.append("\n");
 
+        writer.append(stringBuilder);
+
         //Edge lines
-        EdgeIterable itrEdges = graph.getEdges();
-        for (Edge edge : itrEdges) {
-            if (cancel) {
-                itrEdges.doBreak();
-                return;
-            }
-            //Source & Target
-            stringBuilder.append(edge.getSource().getId());
-            stringBuilder.append(",");
-            stringBuilder.append(edge.getTarget().getId());
-            stringBuilder.append(",");
-
-            //Default columns
-            for (EdgeColumnsGDF c : defaultEdgeColumnsGDFs) {
-                if (c.isEnable()) {
-                    c.writeData(stringBuilder, edge);
-                    stringBuilder.append(",");
+        try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket, () -> cancel)) {
+            rowWriter.writeRows(graph.getEdges(), (edges, builder) -> {
+                for (Edge edge : edges) {
+                    writeEdge(builder, edge, edgeColumns, view);
                 }
-            }
+            });
+        }
+        Progress.finish(progressTicket);
+    }
 
-            //Attributes columns
-            for (Column c : edgeColumns) {
-                if (!c.isProperty()) {
-                    Object val = edge.getAttribute(c, graph.getView());
-                    if (val != null) {
-                        if (c.getTypeClass().equals(String.class) || c.getTypeClass().equals(String[].class)) {
-                            String quote = !useQuotes ? "" : simpleQuotes ? "'" : "\"";
-                            stringBuilder.append(quote);
-                            stringBuilder.append(val);
-                            stringBuilder.append(quote);
-                        } else {
-                            stringBuilder.append(val);
-                        }
-                    }
-                    stringBuilder.append(",");
-                }
+    private void writeNode(StringBuilder stringBuilder, Node node, Column[] nodeColumns, GraphView view) {
+        //Id
+        stringBuilder.append(node.getId());
+        stringBuilder.append(",");
+
+        //Default columns
+        for (NodeColumnsGDF c : defaultNodeColumnsGDFs) {
+            if (c.isEnable()) {
+                c.writeData(stringBuilder, node);
+                stringBuilder.append(",");
             }
+        }
+
+        //Attributes columns
+        writeAttributes(stringBuilder, node, nodeColumns, view);
+
+        //Remove last coma
+        stringBuilder.setLength(stringBuilder.length() - 1);
+        stringBuilder.append("\n");
+    }
 
-            //Remove last coma
-            stringBuilder.setLength(stringBuilder.length() - 1);
-            stringBuilder.append("\n");
+    private void writeEdge(StringBuilder stringBuilder, Edge edge, Column[] edgeColumns, GraphView view) {
+        //Source & Target
+        stringBuilder.append(edge.getSource().getId());
+        stringBuilder.append(",");
+        stringBuilder.append(edge.getTarget().getId());
+        stringBuilder.append(",");
 
-            Progress.progress(progressTicket);
+        //Default columns
+        for (EdgeColumnsGDF c : defaultEdgeColumnsGDFs) {
+            if (c.isEnable()) {
+                c.writeData(stringBuilder, edge);
+                stringBuilder.append(",");
+            }
         }
 
-        //Write StringBuilder
-        if (!cancel) {
-            writer.append(stringBuilder);
+        //Attributes columns
+        writeAttributes(stringBuilder, edge, edgeColumns, view);
+
+        //Remove last coma
+        stringBuilder.setLength(stringBuilder.length() - 1);
+        stringBuilder.append("\n");
+    }
+
+    private void writeAttributes(StringBuilder stringBuilder, Element element, Column[] columns, GraphView view) {
+        for (Column c : columns) {
+            if (!c.isProperty()) {
+                Object val = element.getAttribute(c, view);
+                if (val != null) {
+                    if (c.getTypeClass().equals(String.class) || c.getTypeClass().equals(String[].class)) {
+                        String quote = !useQuotes ? "" : simpleQuotes ? "'" : "\"";
+                        stringBuilder.append(quote);
+                        stringBuilder.append(val);
+                        stringBuilder.append(quote);
+                    } else {
+                        stringBuilder.append(val);
+                    }
+                }
+                stringBuilder.append(",");
+            }
         }
-        Progress.finish(progressTicket);
     }
 
     private Column[] attributesNodeColumns(GraphModel graphModel) {
@@ -691,6 +689,14 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisibility = exportVisibility;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     private DataTypeGDF getDataTypeGDF(Class type) {
         if (AttributeUtils.isDynamicType(type)) {
             type = AttributeUtils.getStaticType((Class<? extends TimestampMap>) type);
@@ -726,6 +732,16 @@ public class ExporterGDF implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -47,11 +47,14 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javanet.staxutils.IndentingXMLStreamWriter;
 import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
 import org.gephi.graph.api.AttributeUtils;
 import org.gephi.graph.api.Column;
@@ -149,6 +152,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
     private ProgressTicket progress;
     private Workspace workspace;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private Writer writer;
     //Settings
     private boolean normalize = false;
@@ -159,13 +163,19 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
     private boolean exportDynamic = true;
     private boolean exportMeta = true;
     private boolean includeNullAttValues = false;
+    private boolean fastWriter = true;
     private NormalizationHelper normalization;
+    private final Map<Column, char[]> attValueFor = new IdentityHashMap<>();
 
     @Override
     public boolean execute() {
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         GraphModel graphModel = graphController.getGraphModel(workspace);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+            graphModel = graph.getModel();
+        }
 
         Progress.start(progress);
         graph.readLock();
@@ -179,11 +189,16 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         Progress.switchToDeterminate(progress, graph.getNodeCount() + graph.getEdgeCount());
 
         try {
-            XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
-            outputFactory.setProperty("javax.xml.stream.isRepairingNamespaces", Boolean.FALSE);
+            XMLStreamWriter xmlWriter;
+            if (fastWriter) {
+                xmlWriter = new FastXMLStreamWriter(writer);
+            } else {
+                XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+                outputFactory.setProperty("javax.xml.stream.isRepairingNamespaces", Boolean.FALSE);
 
-            XMLStreamWriter xmlWriter = outputFactory.createXMLStreamWriter(writer);
-            xmlWriter = new IndentingXMLStreamWriter(xmlWriter);
+                xmlWriter = outputFactory.createXMLStreamWriter(writer);
+                xmlWriter = new IndentingXMLStreamWriter(xmlWriter);
+            }
 
             xmlWriter.writeStartDocument("UTF-8", "1.0");
             xmlWriter.setPrefix("", GEXF_NAMESPACE);
@@ -208,6 +223,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
             Logger.getLogger(ExporterGEXF.class.getName()).log(Level.SEVERE, null, e);
         } finally {
             graph.readUnlock();
+            attValueFor.clear();
             Progress.finish(progress);
         }
 
@@ -344,8 +360,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         for (Node node : nodeIterable) {
             xmlWriter.writeStartElement(NODE);
 
-            String id = node.getId().toString();
-            xmlWriter.writeAttribute(NODE_ID, id);
+            writeAttribute(xmlWriter, NODE_ID, node.getId());
             if (node.getLabel() != null && !node.getLabel().isEmpty()) {
                 xmlWriter.writeAttribute(NODE_LABEL, node.getLabel());
             }
@@ -393,7 +408,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
             Object val = element.getAttribute(column);
             if (val != null || includeNullAttValues) {
                 xmlWriter.writeEmptyElement(ATTVALUE);
-                xmlWriter.writeAttribute(ATTVALUE_FOR, column.getId());
+                writeAttValueFor(xmlWriter, column);
                 xmlWriter.writeAttribute(ATTVALUE_VALUE, getValue(val, column));
             }
         } else if (exportDynamic) {
@@ -410,7 +425,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
                             final Object value = timeMap.get(interval, defaultValue);
                             if (value != null || includeNullAttValues) {
                                 xmlWriter.writeEmptyElement(ATTVALUE);
-                                xmlWriter.writeAttribute(ATTVALUE_FOR, column.getId());
+                                writeAttValueFor(xmlWriter, column);
                                 xmlWriter.writeAttribute(ATTVALUE_VALUE, getValue(value, column));
                                 if (!Double.isInfinite(interval.getLow())) {
                                     String intervalLow =
@@ -435,7 +450,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
                             final Object value = timeMap.get(timestamp, defaultValue);
                             if (value != null || includeNullAttValues) {
                                 xmlWriter.writeEmptyElement(ATTVALUE);
-                                xmlWriter.writeAttribute(ATTVALUE_FOR, column.getId());
+                                writeAttValueFor(xmlWriter, column);
                                 xmlWriter.writeAttribute(ATTVALUE_VALUE, getValue(value, column));
                                 xmlWriter.writeAttribute(TIMESTAMP,
                                     AttributeUtils.printTimestampInFormat(timestamp, timeFormat, timeZone));
@@ -448,7 +463,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
             Object value = element.getAttribute(column, graph.getView());
             if (value != null || includeNullAttValues) {
                 xmlWriter.writeEmptyElement(ATTVALUE);
-                xmlWriter.writeAttribute(ATTVALUE_FOR, column.getId());
+                writeAttValueFor(xmlWriter, column);
                 xmlWriter.writeAttribute(ATTVALUE_VALUE, getValue(value, column));
             }
         }
@@ -478,10 +493,10 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         float z = normalization.normalizeZ(node.z());
         if (!(x == 0 && y == 0 && z == 0)) {
             xmlWriter.writeStartElement(VIZ, NODE_POSITION, VIZ_NAMESPACE);
-            xmlWriter.writeAttribute("x", "" + x);
-            xmlWriter.writeAttribute("y", "" + y);
+            writeAttribute(xmlWriter, "x", x);
+            writeAttribute(xmlWriter, "y", y);
             if (normalization.minZ != 0 || normalization.maxZ != 0) {
-                xmlWriter.writeAttribute("z", "" + z);
+                writeAttribute(xmlWriter, "z", z);
             }
             xmlWriter.writeEndElement();
         }
@@ -491,7 +506,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         float size = normalization.normalizeSize(node.size());
         if(normalize || size != 0) {
             xmlWriter.writeStartElement(VIZ, NODE_SIZE, VIZ_NAMESPACE);
-            xmlWriter.writeAttribute("value", "" + size);
+            writeAttribute(xmlWriter, "value", size);
             xmlWriter.writeEndElement();
         }
     }
@@ -502,11 +517,11 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         int b = Math.round(node.b() * 255f);
         if (r != 0 || g != 0 || b != 0) {
             xmlWriter.writeStartElement(VIZ, NODE_COLOR, VIZ_NAMESPACE);
-            xmlWriter.writeAttribute("r", "" + r);
-            xmlWriter.writeAttribute("g", "" + g);
-            xmlWriter.writeAttribute("b", "" + b);
+            writeAttribute(xmlWriter, "r", r);
+            writeAttribute(xmlWriter, "g", g);
+            writeAttribute(xmlWriter, "b", b);
             if (node.alpha() != 1f) {
-                xmlWriter.writeAttribute("a", "" + node.alpha());
+                writeAttribute(xmlWriter, "a", node.alpha());
             }
             xmlWriter.writeEndElement();
         }
@@ -579,10 +594,10 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         for (Edge edge : edgeIterable) {
             xmlWriter.writeStartElement(EDGE);
 
-            xmlWriter.writeAttribute(EDGE_ID, edge.getId().toString());
+            writeAttribute(xmlWriter, EDGE_ID, edge.getId());
 
-            xmlWriter.writeAttribute(EDGE_SOURCE, edge.getSource().getId().toString());
-            xmlWriter.writeAttribute(EDGE_TARGET, edge.getTarget().getId().toString());
+            writeAttribute(xmlWriter, EDGE_SOURCE, edge.getSource().getId());
+            writeAttribute(xmlWriter, EDGE_TARGET, edge.getTarget().getId());
 
             if (graph.isMixed()) {
                 if (edge.isDirected()) {
@@ -604,7 +619,7 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
             if (!edge.hasDynamicWeight()) {
                 double weight = edge.getWeight();
                 if (weight != 1f) {
-                    xmlWriter.writeAttribute(EDGE_WEIGHT, String.valueOf(weight));
+                    writeAttribute(xmlWriter, EDGE_WEIGHT, weight);
                 }
             }
 
@@ -636,17 +651,63 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
             int b = Math.round(edge.b() * 255f);
             if (r != 0 || g != 0 || b != 0) {
                 xmlWriter.writeStartElement(VIZ, EDGE_COLOR, VIZ_NAMESPACE);
-                xmlWriter.writeAttribute("r", "" + r);
-                xmlWriter.writeAttribute("g", "" + g);
-                xmlWriter.writeAttribute("b", "" + b);
+                writeAttribute(xmlWriter, "r", r);
+                writeAttribute(xmlWriter, "g", g);
+                writeAttribute(xmlWriter, "b", b);
                 if (edge.alpha() != 1f) {
-                    xmlWriter.writeAttribute("a", "" + edge.alpha());
+                    writeAttribute(xmlWriter, "a", edge.alpha());
                 }
                 xmlWriter.writeEndElement();
             }
         }
     }
 
+    private void writeAttValueFor(XMLStreamWriter xmlWriter, Column column) throws XMLStreamException {
+        if (xmlWriter instanceof FastXMLStreamWriter) {
+            char[] attribute = attValueFor
+                .computeIfAbsent(column, c -> FastXMLStreamWriter.prepareAttribute(ATTVALUE_FOR, c.getId()));
+            ((FastXMLStreamWriter) xmlWriter).writeAttribute(attribute);
+        } else {
+            xmlWriter.writeAttribute(ATTVALUE_FOR, column.getId());
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter xmlWriter, String localName, int value)
+        throws XMLStreamException {
+        if (xmlWriter instanceof FastXMLStreamWriter) {
+            ((FastXMLStreamWriter) xmlWriter).writeAttribute(localName, value);
+        } else {
+            xmlWriter.writeAttribute(localName, String.valueOf(value));
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter xmlWriter, String localName, float value)
+        throws XMLStreamException {
+        if (xmlWriter instanceof FastXMLStreamWriter) {
+            ((FastXMLStreamWriter) xmlWriter).writeAttribute(localName, value);
+        } else {
+            xmlWriter.writeAttribute(localName, String.valueOf(value));
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter xmlWriter, String localName, double value)
+        throws XMLStreamException {
+        if (xmlWriter instanceof FastXMLStreamWriter) {
+            ((FastXMLStreamWriter) xmlWriter).writeAttribute(localName, value);
+        } else {
+            xmlWriter.writeAttribute(localName, String.valueOf(value));
+        }
+    }
+
+    private static void writeAttribute(XMLStreamWriter xmlWriter, String localName, Object value)
+        throws XMLStreamException {
+        if (xmlWriter instanceof FastXMLStreamWriter) {
+            ((FastXMLStreamWriter) xmlWriter).writeAttribute(localName, value);
+        } else {
+            xmlWriter.writeAttribute(localName, value.toString());
+        }
+    }
+
     private static String replaceInfinity(String str) {
         return str.replace("-Infinity", "-INF").replace("Infinity", "INF");
     }
@@ -735,6 +796,16 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     public boolean isExportDynamic() {
         return exportDynamic;
     }
@@ -743,6 +814,21 @@ public class ExporterGEXF implements GraphExporter, CharacterExporter, LongTask
         this.exportDynamic = exportDynamic;
     }
 
+    public boolean isFastWriter() {
+        return fastWriter;
+    }
+
+    /**
+     * Sets if the file is written without indentation by a writer which doesn't allocate strings for markup and
+     * numbers. The output is the same GEXF, only the whitespace between elements differs. Enabled by default,
+     * disable it to get an indented file.
+     *
+     * @param fastWriter the fast writer parameter value
+     */
+    public void setFastWriter(boolean fastWriter) {
+        this.fastWriter = fastWriter;
+    }
+
     public boolean isIncludeNullAttValues() {
         return includeNullAttValues;
     }
@@ -70,6 +70,7 @@ public class ExporterGML implements GraphExporter, CharacterExporter, LongTask {
 
     private NormalizationHelper normalization;
     private boolean exportVisible = false;
+    private boolean exportSnapshot = false;
     private Workspace workspace;
     private GraphModel graphModel;
     private Writer writer;
@@ -106,11 +107,25 @@ public class ExporterGML implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public boolean execute() {
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         graphModel = graphController.getGraphModel(workspace);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+            graphModel = graph.getModel();
+        }
 
         Progress.start(progressTicket, graph.getNodeCount() + graph.getEdgeCount());
 
@@ -44,6 +44,8 @@
 package org.gephi.io.exporter.plugin;
 
 import java.io.Writer;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.xml.parsers.DocumentBuilder;
@@ -86,11 +88,24 @@ import org.w3c.dom.Text;
  */
 public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTask {
 
+    private static final String GRAPHML_NAMESPACE = "http://graphml.graphdrawing.org/xmlns";
+    //Fast writer keys
+    private static final char[] KEY_LABEL = FastXMLStreamWriter.prepareAttribute("key", "label");
+    private static final char[] KEY_EDGE_LABEL = FastXMLStreamWriter.prepareAttribute("key", "edgelabel");
+    private static final char[] KEY_WEIGHT = FastXMLStreamWriter.prepareAttribute("key", "weight");
+    private static final char[] KEY_R = FastXMLStreamWriter.prepareAttribute("key", "r");
+    private static final char[] KEY_G = FastXMLStreamWriter.prepareAttribute("key", "g");
+    private static final char[] KEY_B = FastXMLStreamWriter.prepareAttribute("key", "b");
+    private static final char[] KEY_X = FastXMLStreamWriter.prepareAttribute("key", "x");
+    private static final char[] KEY_Y = FastXMLStreamWriter.prepareAttribute("key", "y");
+    private static final char[] KEY_Z = FastXMLStreamWriter.prepareAttribute("key", "z");
+    private static final char[] KEY_SIZE = FastXMLStreamWriter.prepareAttribute("key", "size");
     private boolean cancel = false;
     private ProgressTicket progressTicket;
     private Workspace workspace;
     private Writer writer;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     //Settings
     private boolean normalize = false;
     private boolean exportColors = true;
@@ -98,22 +113,32 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
     private boolean exportSize = true;
     private final boolean exportDynamicWeight = true;
     private boolean exportAttributes = true;
+    private boolean fastWriter = true;
     private NormalizationHelper normalization;
+    private final Map<Column, char[]> columnKeys = new IdentityHashMap<>();
 
     @Override
     public boolean execute() {
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         GraphModel graphModel = graphController.getGraphModel(workspace);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         graph.readLock();
 
         try {
-            exportData(createDocument(), graph);
+            if (fastWriter) {
+                exportData(new FastXMLStreamWriter(writer), graph);
+            } else {
+                exportData(createDocument(), graph);
+            }
         } catch (Exception e) {
             Logger.getLogger(ExporterGraphML.class.getName()).log(Level.SEVERE, null, e);
         } finally {
             graph.readUnlock();
+            columnKeys.clear();
             Progress.finish(progressTicket);
         }
 
@@ -162,7 +187,7 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
 
         Progress.switchToDeterminate(progressTicket, max);
 
-        Element root = document.createElementNS("http://graphml.graphdrawing.org/xmlns", "graphml");
+        Element root = document.createElementNS(GRAPHML_NAMESPACE, "graphml");
         document.appendChild(root);
 
         createKeys(document, root, graph.getModel());
@@ -299,13 +324,7 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
         Element attributeE = document.createElement("key");
         attributeE.setAttribute("id", column.getId());
         attributeE.setAttribute("attr.name", column.getTitle());
-        if (column.getTypeClass().equals(Integer.class)
-            || column.getTypeClass().equals(Short.class)
-            || column.getTypeClass().equals(Byte.class)) {
-            attributeE.setAttribute("attr.type", "int");
-        } else {
-            attributeE.setAttribute("attr.type", AttributeUtils.getTypeName(column.getTypeClass()));
-        }
+        attributeE.setAttribute("attr.type", getAttributeType(column));
         if (column.getDefaultValue() != null) {
             Element defaultE = document.createElement("default");
             Text defaultTextE = document.createTextNode(column.getDefaultValue().toString());
@@ -314,6 +333,15 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
         return attributeE;
     }
 
+    private static String getAttributeType(Column column) {
+        if (column.getTypeClass().equals(Integer.class)
+            || column.getTypeClass().equals(Short.class)
+            || column.getTypeClass().equals(Byte.class)) {
+            return "int";
+        }
+        return AttributeUtils.getTypeName(column.getTypeClass());
+    }
+
     private Element createNodeAttvalue(Document document, Column column, Graph graph, Node n) throws Exception {
         Object val = n.getAttribute(column, graph.getView());
         if (val != null) {
@@ -558,6 +586,234 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
         return labelE;
     }
 
+    private void exportData(FastXMLStreamWriter xmlWriter, Graph graph) throws Exception {
+        Progress.start(progressTicket);
+
+        //Options
+        normalization = NormalizationHelper.build(normalize, graph);
+
+        //Calculate progress units count
+        int max = graph.getNodeCount() + graph.getEdgeCount();
+
+        Progress.switchToDeterminate(progressTicket, max);
+
+        xmlWriter.writeStartDocument("UTF-8", "1.0");
+        xmlWriter.writeStartElement("graphml");
+        xmlWriter.writeDefaultNamespace(GRAPHML_NAMESPACE);
+
+        writeKeys(xmlWriter, graph.getModel());
+
+        xmlWriter.writeStartElement("graph");
+        if (graph.isDirected() || graph.isMixed()) {
+            xmlWriter.writeAttribute("edgedefault", "directed");
+        } else {
+            xmlWriter.writeAttribute("edgedefault", "undirected");
+        }
+        writeNodes(xmlWriter, graph);
+        writeEdges(xmlWriter, graph);
+        xmlWriter.writeEndElement();
+
+        xmlWriter.writeEndElement();
+        xmlWriter.writeEndDocument();
+        xmlWriter.close();
+
+        Progress.finish(progressTicket);
+    }
+
+    private void writeKeys(FastXMLStreamWriter xmlWriter, GraphModel graphModel) throws Exception {
+        writeKey(xmlWriter, "label", "label", "string", "node");
+        writeKey(xmlWriter, "edgelabel", "Edge Label", "string", "edge");
+        writeKey(xmlWriter, "weight", "weight", "double", "edge");
+
+        if (exportColors) {
+            writeKey(xmlWriter, "r", "r", "int", "node");
+            writeKey(xmlWriter, "g", "g", "int", "node");
+            writeKey(xmlWriter, "b", "b", "int", "node");
+        }
+
+        if (exportPosition) {
+            writeKey(xmlWriter, "x", "x", "float", "node");
+            writeKey(xmlWriter, "y", "y", "float", "node");
+            if (normalization.minZ != 0f || normalization.maxZ != 0f) {
+                writeKey(xmlWriter, "z", "z", "float", "node");
+            }
+        }
+
+        if (exportSize) {
+            writeKey(xmlWriter, "size", "size", "float", "node");
+        }
+
+        //Attributes
+        if (graphModel != null && exportAttributes) {
+            for (Column column : graphModel.getNodeTable()) {
+                if (!column.isProperty()) {
+                    writeKey(xmlWriter, column.getId(), column.getTitle(), getAttributeType(column), "node");
+                }
+            }
+
+            for (Column column : graphModel.getEdgeTable()) {
+                if (!column.isProperty()) {
+                    writeKey(xmlWriter, column.getId(), column.getTitle(), getAttributeType(column), "edge");
+                }
+            }
+        }
+    }
+
+    private void writeKey(FastXMLStreamWriter xmlWriter, String id, String name, String type, String keyFor)
+        throws Exception {
+        xmlWriter.writeEmptyElement("key");
+        xmlWriter.writeAttribute("id", id);
+        xmlWriter.writeAttribute("attr.name", name);
+        xmlWriter.writeAttribute("attr.type", type);
+        xmlWriter.writeAttribute("for", keyFor);
+    }
+
+    private void writeNodes(FastXMLStreamWriter xmlWriter, Graph graph) throws Exception {
+        NodeIterable nodeIterable = graph.getNodes();
+        for (Node n : nodeIterable) {
+            if (cancel) {
+                nodeIterable.doBreak();
+                break;
+            }
+            writeNode(xmlWriter, graph, n);
+        }
+    }
+
+    private void writeNode(FastXMLStreamWriter xmlWriter, Graph graph, Node n) throws Exception {
+        xmlWriter.writeStartElement("node");
+        xmlWriter.writeAttribute("id", n.getId());
+
+        //Label
+        if (n.getLabel() != null && !n.getLabel().isEmpty()) {
+            writeData(xmlWriter, KEY_LABEL, n.getLabel());
+        }
+
+        //Attribute values
+        if (exportAttributes) {
+            for (Column column : n.getAttributeColumns()) {
+                if (!column.isProperty()) {
+                    Object val = n.getAttribute(column, graph.getView());
+                    if (val != null) {
+                        writeData(xmlWriter, getColumnKey(column), val.toString());
+                    }
+                }
+            }
+        }
+
+        //Viz
+        if (exportSize) {
+            writeData(xmlWriter, KEY_SIZE, normalization.normalizeSize(n.size()));
+        }
+        if (exportColors) {
+            writeData(xmlWriter, KEY_R, Math.round(n.r() * 255f));
+            writeData(xmlWriter, KEY_G, Math.round(n.g() * 255f));
+            writeData(xmlWriter, KEY_B, Math.round(n.b() * 255f));
+        }
+        if (exportPosition) {
+            writeData(xmlWriter, KEY_X, normalization.normalizeX(n.x()));
+            writeData(xmlWriter, KEY_Y, normalization.normalizeY(n.y()));
+            if (normalization.minZ != 0f || normalization.maxZ != 0f) {
+                writeData(xmlWriter, KEY_Z, normalization.normalizeZ(n.z()));
+            }
+        }
+
+        xmlWriter.writeEndElement();
+
+        Progress.progress(progressTicket);
+    }
+
+    private void writeEdges(FastXMLStreamWriter xmlWriter, Graph graph) throws Exception {
+        EdgeIterable itr = graph.getEdges();
+        for (Edge e : itr) {
+            if (cancel) {
+                itr.doBreak();
+                break;
+            }
+            writeEdge(xmlWriter, e, graph);
+        }
+    }
+
+    private void writeEdge(FastXMLStreamWriter xmlWriter, Edge e, Graph graph) throws Exception {
+        xmlWriter.writeStartElement("edge");
+
+        xmlWriter.writeAttribute("id", e.getId());
+        xmlWriter.writeAttribute("source", e.getSource().getId());
+        xmlWriter.writeAttribute("target", e.getTarget().getId());
+
+        boolean directedEdgeDefault = graph.isDirected() || graph.isMixed();
+        if (e.isDirected() && !directedEdgeDefault) {
+            xmlWriter.writeAttribute("directed", "true");
+        } else if (!e.isDirected() && directedEdgeDefault) {
+            xmlWriter.writeAttribute("directed", "false");
+        }
+
+        if (e.getTypeLabel() != null) {
+            String typeLabel = e.getTypeLabel().toString().trim();
+            if (!typeLabel.isEmpty()) {
+                xmlWriter.writeAttribute("label", typeLabel);
+            }
+        }
+
+        //Label
+        if (e.getLabel() != null && !e.getLabel().isEmpty()) {
+            writeData(xmlWriter, KEY_EDGE_LABEL, e.getLabel());
+        }
+
+        if (exportDynamicWeight) {
+            writeData(xmlWriter, KEY_WEIGHT, e.getWeight(graph.getView()));
+        } else {
+            writeData(xmlWriter, KEY_WEIGHT, e.getWeight());
+        }
+
+        //Attribute values
+        if (exportAttributes) {
+            for (Column column : e.getAttributeColumns()) {
+                if (!column.isProperty()) {
+                    Object val = e.getAttribute(column, graph.getView());
+                    if (val != null) {
+                        writeData(xmlWriter, getColumnKey(column), val.toString());
+                    }
+                }
+            }
+        }
+
+        xmlWriter.writeEndElement();
+
+        Progress.progress(progressTicket);
+    }
+
+    private char[] getColumnKey(Column column) {
+        return columnKeys.computeIfAbsent(column, c -> FastXMLStreamWriter.prepareAttribute("key", c.getId()));
+    }
+
+    private static void writeData(FastXMLStreamWriter xmlWriter, char[] key, String value) throws Exception {
+        xmlWriter.writeStartElement("data");
+        xmlWriter.writeAttribute(key);
+        xmlWriter.writeCharacters(value);
+        xmlWriter.writeEndElement();
+    }
+
+    private static void writeData(FastXMLStreamWriter xmlWriter, char[] key, int value) throws Exception {
+        xmlWriter.writeStartElement("data");
+        xmlWriter.writeAttribute(key);
+        xmlWriter.writeCharacters(value);
+        xmlWriter.writeEndElement();
+    }
+
+    private static void writeData(FastXMLStreamWriter xmlWriter, char[] key, float value) throws Exception {
+        xmlWriter.writeStartElement("data");
+        xmlWriter.writeAttribute(key);
+        xmlWriter.writeCharacters(value);
+        xmlWriter.writeEndElement();
+    }
+
+    private static void writeData(FastXMLStreamWriter xmlWriter, char[] key, double value) throws Exception {
+        xmlWriter.writeStartElement("data");
+        xmlWriter.writeAttribute(key);
+        xmlWriter.writeCharacters(value);
+        xmlWriter.writeEndElement();
+    }
+
     @Override
     public boolean cancel() {
         cancel = true;
@@ -610,6 +866,22 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
         this.exportSize = exportSize;
     }
 
+    public boolean isFastWriter() {
+        return fastWriter;
+    }
+
+    /**
+     * Sets if the file is streamed without indentation by a writer which doesn't allocate strings for markup and
+     * numbers, instead of being built as a DOM document first. The output is the same GraphML, only the
+     * whitespace between elements and the order of attributes differ. Enabled by default, disable it to get an
+     * indented file.
+     *
+     * @param fastWriter the fast writer parameter value
+     */
+    public void setFastWriter(boolean fastWriter) {
+        this.fastWriter = fastWriter;
+    }
+
     public boolean isNormalize() {
         return normalize;
     }
@@ -628,6 +900,16 @@ public class ExporterGraphML implements GraphExporter, CharacterExporter, LongTa
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -21,19 +21,46 @@ import org.openide.util.Lookup;
 import java.awt.*;
 import java.io.IOException;
 import java.io.Writer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ExporterJson implements GraphExporter, CharacterExporter, LongTask {
 
+    // Names
+    private static final char[] NAME_ATTRIBUTES = FastJsonWriter.prepareName("attributes");
+    private static final char[] NAME_CREATOR = FastJsonWriter.prepareName("creator");
+    private static final char[] NAME_TIMEFORMAT = FastJsonWriter.prepareName("timeformat");
+    private static final char[] NAME_TIMEREPRESENTATION = FastJsonWriter.prepareName("timerepresentation");
+    private static final char[] NAME_TIMEZONE = FastJsonWriter.prepareName("timezone");
+    private static final char[] NAME_OPTIONS = FastJsonWriter.prepareName("options");
+    private static final char[] NAME_MULTI = FastJsonWriter.prepareName("multi");
+    private static final char[] NAME_ALLOW_SELF_LOOPS = FastJsonWriter.prepareName("allowSelfLoops");
+    private static final char[] NAME_TYPE = FastJsonWriter.prepareName("type");
+    private static final char[] NAME_NODES = FastJsonWriter.prepareName("nodes");
+    private static final char[] NAME_EDGES = FastJsonWriter.prepareName("edges");
+    private static final char[] NAME_KEY = FastJsonWriter.prepareName("key");
+    private static final char[] NAME_SOURCE = FastJsonWriter.prepareName("source");
+    private static final char[] NAME_TARGET = FastJsonWriter.prepareName("target");
+    private static final char[] NAME_UNDIRECTED = FastJsonWriter.prepareName("undirected");
+    private static final char[] NAME_LABEL = FastJsonWriter.prepareName("label");
+    private static final char[] NAME_X = FastJsonWriter.prepareName("x");
+    private static final char[] NAME_Y = FastJsonWriter.prepareName("y");
+    private static final char[] NAME_Z = FastJsonWriter.prepareName("z");
+    private static final char[] NAME_SIZE = FastJsonWriter.prepareName("size");
+    private static final char[] NAME_COLOR = FastJsonWriter.prepareName("color");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     // Architecture
     private boolean cancel = false;
     private ProgressTicket progress;
     private Workspace workspace;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private Writer writer;
     private Graph graph;
     // Settings
@@ -45,9 +72,11 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
     private boolean exportDynamic = true;
     private boolean exportMeta = true;
     private boolean prettyPrint = true;
+    private boolean fastWriter = true;
 
     // Helper
     private NormalizationHelper normalization;
+    private final char[] colorChars = new char[9];
 
     // Formats
     public enum Format {Graphology}
@@ -59,6 +88,10 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
         GraphController graphController = Lookup.getDefault().lookup(GraphController.class);
         GraphModel graphModel = graphController.getGraphModel(workspace);
         graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+            graphModel = graph.getModel();
+        }
 
         Progress.start(progress);
         graph.readLock();
@@ -83,7 +116,14 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
         return !cancel;
     }
 
-    private void exportData() {
+    private void exportData() throws IOException {
+        if (fastWriter) {
+            FastJsonWriter out = new FastJsonWriter(writer, prettyPrint);
+            writeGraph(out);
+            out.close();
+            return;
+        }
+
         GsonBuilder gsonBuilder = new GsonBuilder()
                 .registerTypeAdapter(Color.class, new ColorAdapter())
                 .registerTypeAdapterFactory(new GraphTypeAdapterFactory());
@@ -97,6 +137,236 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
         gson.toJson(graph, writer);
     }
 
+    private void writeGraph(FastJsonWriter out) throws IOException {
+        GraphModel graphModel = graph.getModel();
+        out.beginObject();
+
+        // Attributes
+        if (exportMeta) {
+            out.name(NAME_ATTRIBUTES);
+            out.beginObject();
+            out.name(NAME_CREATOR);
+            out.value(VersionUtils.getGephiVersion());
+            if (exportDynamic) {
+                out.name(NAME_TIMEFORMAT);
+                out.value(graphModel.getTimeFormat().toString().toLowerCase());
+                out.name(NAME_TIMEREPRESENTATION);
+                out.value(graphModel.getConfiguration().getTimeRepresentation().toString().toLowerCase());
+                out.name(NAME_TIMEZONE);
+                out.value(graphModel.getTimeZone().getID());
+            }
+            out.endObject();
+        }
+
+        // Options
+        out.name(NAME_OPTIONS);
+        out.beginObject();
+        out.name(NAME_MULTI);
+        out.value(graphModel.getEdgeTypeLabels(false).length > 1);
+        out.name(NAME_ALLOW_SELF_LOOPS);
+        out.value(true);
+        out.name(NAME_TYPE);
+        out.value(graphModel.isUndirected() ? "undirected" : graphModel.isMixed() ? "mixed" : "directed");
+        out.endObject();
+
+        // Nodes
+        List<Column> nodeColumns = getAttributeColumns(graphModel.getNodeTable(), false, getNodeReservedKeys());
+        char[][] nodeColumnNames = getColumnNames(nodeColumns);
+        boolean writeZ = normalization.minZ != 0 || normalization.maxZ != 0;
+        out.name(NAME_NODES);
+        out.beginArray();
+        for (Node node : graph.getNodes()) {
+            if (cancel) {
+                break;
+            }
+            out.beginObject();
+            out.name(NAME_KEY);
+            out.value(node.getId().toString());
+            out.name(NAME_ATTRIBUTES);
+            out.beginObject();
+            writeLabel(out, node);
+            if (exportPosition) {
+                float x = normalization.normalizeX(node.x());
+                float y = normalization.normalizeY(node.y());
+                float z = normalization.normalizeZ(node.z());
+                if (normalize || !(x == 0 && y == 0 && z == 0)) {
+                    out.name(NAME_X);
+                    out.value(x);
+                    out.name(NAME_Y);
+                    out.value(y);
+                    if (writeZ) {
+                        out.name(NAME_Z);
+                        out.value(z);
+                    }
+                }
+            }
+            if (exportSize) {
+                float size = normalization.normalizeSize(node.size());
+                if (normalize || size != 0) {
+                    out.name(NAME_SIZE);
+                    out.value(size);
+                }
+            }
+            if (exportColors) {
+                writeColor(out, node.getColor());
+            }
+            writeAttValues(out, node, nodeColumns, nodeColumnNames);
+            out.endObject();
+            out.endObject();
+
+            Progress.progress(progress);
+        }
+        out.endArray();
+
+        // Edges
+        List<Column> edgeColumns = getAttributeColumns(graphModel.getEdgeTable(), true, getEdgeReservedKeys());
+        char[][] edgeColumnNames = getColumnNames(edgeColumns);
+        boolean mixed = graph.isMixed();
+        out.name(NAME_EDGES);
+        out.beginArray();
+        for (Edge edge : graph.getEdges()) {
+            if (cancel) {
+                break;
+            }
+            out.beginObject();
+            out.name(NAME_KEY);
+            out.value(edge.getId().toString());
+            out.name(NAME_SOURCE);
+            out.value(edge.getSource().getId().toString());
+            out.name(NAME_TARGET);
+            out.value(edge.getTarget().getId().toString());
+            if (!edge.isDirected() && mixed) {
+                out.name(NAME_UNDIRECTED);
+                out.value(true);
+            }
+            out.name(NAME_ATTRIBUTES);
+            out.beginObject();
+            if (edge.getType() != 0) {
+                out.name(NAME_TYPE);
+                out.value(edge.getTypeLabel().toString());
+            }
+            writeLabel(out, edge);
+            if (exportColors && edge.alpha() != 0) { //Edge has custom color
+                writeColor(out, edge.getColor());
+            }
+            writeAttValues(out, edge, edgeColumns, edgeColumnNames);
+            out.endObject();
+            out.endObject();
+
+            Progress.progress(progress);
+        }
+        out.endArray();
+        out.endObject();
+    }
+
+    private void writeLabel(FastJsonWriter out, Element element) throws IOException {
+        String label = element.getLabel();
+        if (label != null && !label.isEmpty()) {
+            out.name(NAME_LABEL);
+            out.value(label);
+        }
+    }
+
+    private void writeColor(FastJsonWriter out, Color color) throws IOException {
+        int length;
+        if (color.getAlpha() < 255) {
+            length = toHex((color.getRGB() << 8) | color.getAlpha(), 8);
+        } else {
+            length = toHex(color.getRGB(), 6);
+        }
+        out.name(NAME_COLOR);
+        out.value(colorChars, length);
+    }
+
+    private int toHex(int value, int digits) {
+        colorChars[0] = '#';
+        for (int i = digits; i > 0; i--) {
+            colorChars[i] = HEX_DIGITS[value & 0xF];
+            value >>>= 4;
+        }
+        return digits + 1;
+    }
+
+    private void writeAttValues(FastJsonWriter out, Element element, List<Column> columns, char[][] names)
+            throws IOException {
+        TimeFormat timeFormat = graph.getModel().getTimeFormat();
+        DateTimeZone timeZone = graph.getModel().getTimeZone();
+        for (int i = 0; i < names.length; i++) {
+            Column column = columns.get(i);
+            Object value = exportDynamic ? element.getAttribute(column) :
+                    element.getAttribute(column, graph.getView());
+            out.name(names[i]);
+            if (value instanceof Number) {
+                out.value((Number) value);
+            } else if (value instanceof Boolean) {
+                out.value((Boolean) value);
+            } else if (value instanceof String) {
+                out.value((String) value);
+            } else {
+                out.value(AttributeUtils.print(value, timeFormat, timeZone));
+            }
+        }
+    }
+
+    private List<Column> getAttributeColumns(Table table, boolean edgeTable, Set<String> reservedKeys) {
+        List<Column> columns = new ArrayList<>();
+        if (exportAttributes) {
+            for (Column column : table) {
+                if (!column.isProperty() || (edgeTable && column.getId().equals("weight"))) {
+                    if (!reservedKeys.contains(column.getId().toLowerCase())) {
+                        columns.add(column);
+                    } else {
+                        logReservedKey(column);
+                    }
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static char[][] getColumnNames(List<Column> columns) {
+        char[][] names = new char[columns.size()][];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = FastJsonWriter.prepareName(getColumnHeader(columns.get(i)));
+        }
+        return names;
+    }
+
+    private static String getColumnHeader(Column column) {
+        // Col header, similar to spreadsheet
+        String columnId = column.getId();
+        String columnTitle = column.getTitle();
+        return columnId.equalsIgnoreCase(columnTitle) && !column.isProperty() ? columnTitle : columnId;
+    }
+
+    private static void logReservedKey(Column column) {
+        Logger.getLogger(ExporterJson.class.getName()).log(Level.WARNING,
+                "Attribute value for column '"+column.getId()+"' is ignored as its key overlap with a default key");
+    }
+
+    private Set<String> getNodeReservedKeys() {
+        Set<String> reservedKeys = new HashSet<>();
+        if (exportPosition) {
+            reservedKeys.addAll(Arrays.asList("x", "y", "z"));
+        }
+        if (exportSize) {
+            reservedKeys.add("size");
+        }
+        if (exportColors) {
+            reservedKeys.add("color");
+        }
+        return reservedKeys;
+    }
+
+    private Set<String> getEdgeReservedKeys() {
+        Set<String> reservedKeys = new HashSet<>();
+        reservedKeys.add("type");
+        if (exportColors) {
+            reservedKeys.add("color");
+        }
+        return reservedKeys;
+    }
+
     private class ColorAdapter extends WriteTypeAdapter<Color> {
 
         @Override
@@ -214,11 +484,7 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
                             (element instanceof Edge &&
                                     column.getId().equals("weight"))) {
                         if (!reservedKeys.contains(column.getId().toLowerCase())) {
-                            // Col header, similar to spreadsheet
-                            String columnId = column.getId();
-                            String columnTitle = column.getTitle();
-                            String columnHeader =
-                                    columnId.equalsIgnoreCase(columnTitle) && !column.isProperty() ? columnTitle : columnId;
+                            String columnHeader = getColumnHeader(column);
 
                             Object value = exportDynamic ? element.getAttribute(column) :
                                     element.getAttribute(column, graph.getView());
@@ -231,8 +497,7 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
                                 out.value(AttributeUtils.print(value, timeFormat, timeZone));
                             }
                         } else {
-                            Logger.getLogger(ExporterJson.class.getName()).log(Level.WARNING,
-                                    "Attribute value for column '"+column.getId()+"' is ignored as its key overlap with a default key");
+                            logReservedKey(column);
                         }
                     }
                 }
@@ -255,20 +520,11 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
 
     private class NodeTypeAdapter extends ElementTypeAdapter<Node> {
 
-        private final Set<String> reservedColumns = new HashSet<>();
+        private final Set<String> reservedColumns;
 
         public NodeTypeAdapter(Gson gson) {
             super(gson);
-
-            if (exportPosition) {
-                reservedColumns.addAll(Arrays.asList("x", "y", "z"));
-            }
-            if (exportSize) {
-                reservedColumns.add("size");
-            }
-            if (exportColors) {
-                reservedColumns.add("color");
-            }
+            reservedColumns = getNodeReservedKeys();
         }
 
         @Override
@@ -340,15 +596,11 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
 
     private class EdgeTypeAdapter extends ElementTypeAdapter<Edge> {
 
-        private final Set<String> reservedColumns = new HashSet<>();
+        private final Set<String> reservedColumns;
 
         public EdgeTypeAdapter(Gson gson) {
             super(gson);
-
-            reservedColumns.add("type");
-            if (exportColors) {
-                reservedColumns.add("color");
-            }
+            reservedColumns = getEdgeReservedKeys();
         }
 
         @Override
@@ -437,6 +689,16 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -512,6 +774,20 @@ public class ExporterJson implements GraphExporter, CharacterExporter, LongTask
         this.prettyPrint = prettyPrint;
     }
 
+    public boolean isFastWriter() {
+        return fastWriter;
+    }
+
+    /**
+     * Sets if the file is written directly by a streaming writer which doesn't go through Gson's type adapters and
+     * doesn't allocate strings for names and numbers. The output is the same. Enabled by default.
+     *
+     * @param fastWriter the fast writer parameter value
+     */
+    public void setFastWriter(boolean fastWriter) {
+        this.fastWriter = fastWriter;
+    }
+
     public Format getFormat() {
         return format;
     }
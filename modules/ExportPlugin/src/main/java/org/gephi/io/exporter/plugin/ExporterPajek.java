@@ -47,7 +47,6 @@ import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.gephi.graph.api.Edge;
-import org.gephi.graph.api.EdgeIterable;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.Node;
@@ -69,10 +68,12 @@ public class ExporterPajek implements GraphExporter, CharacterExporter, LongTask
     // Options
     private boolean exportPosition = true;
     private boolean exportEdgeWeight = true;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
     // Architecture
     private Workspace workspace;
     private Writer writer;
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private boolean cancel = false;
     private ProgressTicket progressTicket;
 
@@ -92,6 +93,14 @@ public class ExporterPajek implements GraphExporter, CharacterExporter, LongTask
         this.exportPosition = exportPosition;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     @Override
     public boolean cancel() {
         cancel = true;
@@ -113,6 +122,16 @@ public class ExporterPajek implements GraphExporter, CharacterExporter, LongTask
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -141,6 +160,9 @@ public class ExporterPajek implements GraphExporter, CharacterExporter, LongTask
     public boolean execute() {
         GraphModel graphModel = workspace.getLookup().lookup(GraphModel.class);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         graph.readLock();
 
@@ -186,20 +208,18 @@ public class ExporterPajek implements GraphExporter, CharacterExporter, LongTask
             writer.append("*Arcs\n");
         }
 
-        EdgeIterable edgeIterable = graph.getEdges();
-        for (Edge edge : edgeIterable) {
-            if (cancel) {
-                edgeIterable.doBreak();
-                return;
-            }
-            writer.append(idx.get(edge.getSource().getId().toString()) + " ");
-            writer.append(Integer.toString(idx.get(edge.getTarget().getId().toString())));
-            if (exportEdgeWeight) {
-                writer.append(" " + edge.getWeight());
-            }
-            writer.append("\n");
-
-            Progress.progress(progressTicket);
+        //Ids are only read from now on, so edges can be formatted concurrently
+        try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket, () -> cancel)) {
+            rowWriter.writeRows(graph.getEdges(), (edges, builder) -> {
+                for (Edge edge : edges) {
+                    builder.append(idx.get(edge.getSource().getId().toString())).append(" ");
+                    builder.append(Integer.toString(idx.get(edge.getTarget().getId().toString())));
+                    if (exportEdgeWeight) {
+                        builder.append(" ").append(edge.getWeight());
+                    }
+                    builder.append("\n");
+                }
+            });
         }
 
         Progress.finish(progressTicket);
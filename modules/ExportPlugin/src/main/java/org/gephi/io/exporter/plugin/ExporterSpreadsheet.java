@@ -63,6 +63,7 @@ import org.gephi.graph.api.Element;
 import org.gephi.graph.api.ElementIterable;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
 import org.gephi.graph.api.Node;
 import org.gephi.graph.api.Table;
 import org.gephi.graph.api.TimeFormat;
@@ -81,6 +82,7 @@ public class ExporterSpreadsheet implements GraphExporter, CharacterExporter, Lo
 
     //Settings
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private ExportTable tableToExport = ExportTable.EDGES;
     private char fieldDelimiter = ',';
     private Set<String> excludedColumns = new HashSet<>();
@@ -102,11 +104,15 @@ public class ExporterSpreadsheet implements GraphExporter, CharacterExporter, Lo
     private boolean exportPosition = false;
     private boolean exportSize = false;
     private boolean exportDynamic = true;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
 
     @Override
     public boolean execute() {
         GraphModel graphModel = workspace.getLookup().lookup(GraphModel.class);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         Progress.start(progressTicket);
         graph.readLock();
@@ -193,72 +199,75 @@ public class ExporterSpreadsheet implements GraphExporter, CharacterExporter, Lo
                 Progress.switchToDeterminate(progressTicket, graph.getNodeCount());
             }
 
-            for (Element row : rows) {
-                if (isEdgeTable) {
-                    Edge edge = (Edge) row;
-
-                    csvWriter.print(edge.getSource().getId());
-                    csvWriter.print(edge.getTarget().getId());
-                    csvWriter.print(edge.isDirected() ? "Directed" : "Undirected");
-                    if (includeEdgeKindColumn) {
-                        Object edgeTypeLabel = edge.getTypeLabel();
-                        if (edgeTypeLabel != null) {
-                            csvWriter.print(edgeTypeLabel.toString());
-                        } else {
-                            csvWriter.print("");
+            GraphView view = graph.getView();
+            csvWriter.flush();
+            try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket,
+                () -> cancel)) {
+                rowWriter.writeRows(rows, (chunk, builder) -> {
+                    //Printers and formats are not thread-safe
+                    CSVPrinter rowPrinter = new CSVPrinter(builder, format);
+                    DecimalFormat rowNumberFormat = (DecimalFormat) numberFormat.clone();
+                    for (Element row : chunk) {
+                        if (isEdgeTable) {
+                            Edge edge = (Edge) row;
+
+                            rowPrinter.print(edge.getSource().getId());
+                            rowPrinter.print(edge.getTarget().getId());
+                            rowPrinter.print(edge.isDirected() ? "Directed" : "Undirected");
+                            if (includeEdgeKindColumn) {
+                                Object edgeTypeLabel = edge.getTypeLabel();
+                                if (edgeTypeLabel != null) {
+                                    rowPrinter.print(edgeTypeLabel.toString());
+                                } else {
+                                    rowPrinter.print("");
+                                }
+                            }
                         }
-                    }
-                }
-
-                for (Column column : columns) {
-                    Object value = exportDynamic ? row.getAttribute(column) : row.getAttribute(column, graph.getView());
 
-                    String text;
+                        for (Column column : columns) {
+                            Object value = exportDynamic ? row.getAttribute(column) : row.getAttribute(column, view);
+
+                            String text;
+
+                            if (value != null) {
+                                if (value instanceof Number) {
+                                    text = rowNumberFormat.format(value);
+                                } else {
+                                    text = AttributeUtils.print(value, timeFormat, timeZone);
+                                }
+                            } else {
+                                text = "";
+                            }
+                            rowPrinter.print(text);
+                        }
 
-                    if (value != null) {
-                        if (value instanceof Number) {
-                            text = numberFormat.format(value);
-                        } else {
-                            text = AttributeUtils.print(value, timeFormat, timeZone);
+                        if (!isEdgeTable) {
+                            Node node = (Node) row;
+                            if (exportPosition) {
+                                float x = normalization.normalizeX(node.x());
+                                float y = normalization.normalizeY(node.y());
+                                float z = normalization.normalizeZ(node.z());
+
+                                rowPrinter.print(rowNumberFormat.format(x));
+                                rowPrinter.print(rowNumberFormat.format(y));
+                                if (normalization.minZ != 0 || normalization.maxZ != 0) {
+                                    rowPrinter.print(rowNumberFormat.format(z));
+                                }
+                            }
+
+                            if (exportSize) {
+                                float size = normalization.normalizeSize(node.size());
+                                rowPrinter.print(rowNumberFormat.format(size));
+                            }
                         }
-                    } else {
-                        text = "";
-                    }
-                    csvWriter.print(text);
-                }
 
-                if (!isEdgeTable) {
-                    Node node = (Node) row;
-                    if (exportPosition) {
-                        float x = normalization.normalizeX(node.x());
-                        float y = normalization.normalizeY(node.y());
-                        float z = normalization.normalizeZ(node.z());
-
-                        csvWriter.print(numberFormat.format(x));
-                        csvWriter.print(numberFormat.format(y));
-                        if (normalization.minZ != 0 || normalization.maxZ != 0) {
-                            csvWriter.print(numberFormat.format(z));
+                        if (exportColors) {
+                            rowPrinter.print(String.format("#%06x", row.getColor().getRGB() & 0x00FFFFFF));
                         }
-                    }
 
-                    if (exportSize) {
-                        float size = normalization.normalizeSize(node.size());
-                        csvWriter.print(numberFormat.format(size));
+                        rowPrinter.println();
                     }
-                }
-
-                if (exportColors) {
-                    csvWriter.print(String.format("#%06x", row.getColor().getRGB() & 0x00FFFFFF));
-                }
-
-                csvWriter.println();
-
-                Progress.progress(progressTicket);
-
-                if (cancel) {
-                    rows.doBreak();
-                    break;
-                }
+                });
             }
         }
     }
@@ -295,6 +304,16 @@ public class ExporterSpreadsheet implements GraphExporter, CharacterExporter, Lo
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public void setWriter(Writer writer) {
         this.writer = writer;
@@ -401,6 +420,14 @@ public class ExporterSpreadsheet implements GraphExporter, CharacterExporter, Lo
         return exportAttributes;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
     public enum ExportTable {
         NODES,
         EDGES
@@ -49,11 +49,10 @@ import java.util.logging.Logger;
 import org.gephi.graph.api.Column;
 import org.gephi.graph.api.ColumnIterable;
 import org.gephi.graph.api.Edge;
-import org.gephi.graph.api.EdgeIterable;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
 import org.gephi.graph.api.Node;
-import org.gephi.graph.api.NodeIterable;
 import org.gephi.io.exporter.spi.CharacterExporter;
 import org.gephi.io.exporter.spi.GraphExporter;
 import org.gephi.project.api.Workspace;
@@ -68,6 +67,7 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
 
     static final String valueForEmptyAttributes = "\"\"";
     private boolean exportVisible;
+    private boolean exportSnapshot;
     private Workspace workspace;
     private boolean cancel = false;
     private ProgressTicket progressTicket;
@@ -80,6 +80,7 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
     private final boolean exportDynamicWeight = true;
     private boolean exportAttributes = true;
     private boolean normalize = false;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
     private Writer writer;
     private NormalizationHelper normalization;
 
@@ -93,10 +94,23 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
         this.exportVisible = exportVisible;
     }
 
+    @Override
+    public boolean isExportSnapshot() {
+        return exportSnapshot;
+    }
+
+    @Override
+    public void setExportSnapshot(boolean exportSnapshot) {
+        this.exportSnapshot = exportSnapshot;
+    }
+
     @Override
     public boolean execute() {
         GraphModel graphModel = workspace.getLookup().lookup(GraphModel.class);
         Graph graph = exportVisible ? graphModel.getGraphVisible() : graphModel.getGraph();
+        if (exportSnapshot) {
+            graph = GraphSnapshot.copy(graph);
+        }
 
         graph.readLock();
 
@@ -118,11 +132,13 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
     private void exportData(Graph graph) throws IOException {
         normalization = NormalizationHelper.build(normalize, graph);
 
-        if (exportAttributes && atLeastOneNonStandartAttribute(graph.getModel())) {
-            exportNodeData(graph);
+        try (ParallelRowWriter rowWriter = new ParallelRowWriter(writer, parallelism, progressTicket, () -> cancel)) {
+            if (exportAttributes && atLeastOneNonStandartAttribute(graph.getModel())) {
+                exportNodeData(graph, rowWriter);
+            }
+            exportNodeProperties(graph, rowWriter);
+            exportEdgeData(graph, rowWriter);
         }
-        exportNodeProperties(graph);
-        exportEdgeData(graph);
 
         Progress.finish(progressTicket);
     }
@@ -156,7 +172,7 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
         return false;
     }
 
-    private void exportNodeData(Graph graph) throws IOException {
+    private void exportNodeData(Graph graph, ParallelRowWriter rowWriter) throws IOException {
         //header
         writer.append("*Node data\n");
         writer.append("ID");
@@ -169,33 +185,29 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
         writer.append("\n");
 
         //body
-        NodeIterable nodeIterable = graph.getNodes();
-        for (Node node : nodeIterable) {
-            writer.append(printParameter(node.getId()));
-            for (Column column : node.getAttributeColumns()) {
-                if (!column.isProperty()) {
-                    Object value = node.getAttribute(column, graph.getView());
-                    if (value != null) {
-                        writer.append(" ").append(printParameter(value));
-                    } else {
-                        writer.append(" ").append(valueForEmptyAttributes);
+        GraphView view = graph.getView();
+        rowWriter.writeRows(graph.getNodes(), (nodes, builder) -> {
+            for (Node node : nodes) {
+                builder.append(printParameter(node.getId()));
+                for (Column column : node.getAttributeColumns()) {
+                    if (!column.isProperty()) {
+                        Object value = node.getAttribute(column, view);
+                        if (value != null) {
+                            builder.append(" ").append(printParameter(value));
+                        } else {
+                            builder.append(" ").append(valueForEmptyAttributes);
+                        }
                     }
                 }
+                builder.append("\n");
             }
-            writer.append("\n");
-
-            Progress.progress(progressTicket);
-            if (cancel) {
-                nodeIterable.doBreak();
-                return;
-            }
-        }
+        });
     }
 
     /*
      * prints node properties as "id (x)? (y)? (size)? (color)? (shortlabel)?"
      */
-    private void exportNodeProperties(Graph graph) throws IOException {
+    private void exportNodeProperties(Graph graph, ParallelRowWriter rowWriter) throws IOException {
         //header
         writer.append("*Node properties\n");
         writer.append("ID");
@@ -214,69 +226,65 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
         writer.append("\n");
 
         //body
-        NodeIterable nodeIterable = graph.getNodes();
-        for (Node node : nodeIterable) {
-            Progress.progress(progressTicket);
-            if (cancel) {
-                nodeIterable.doBreak();
-                return;
-            }
-            writer.append(node.getId().toString());
-            if (exportCoords) {
-                float x = normalization.normalizeX(node.x());
-                float y = normalization.normalizeY(node.y());
-                writer.append(" ").append(Float.toString(x)).append(" ").append(Float.toString(y));
-            }
-            if (exportSize) {
-                float size = normalization.normalizeSize(node.size());
-                writer.append(" ").append(Float.toString(size));
-            }
-            if (exportColor) {
-                writer.append(" ").append(Integer.toString((int) (node.r() * 255f)));//[0..1] to [0..255]
-            }
-            if (exportShortLabel) {
-                if (node.getLabel() != null) {
-                    writer.append(" ").append(printParameter(node.getLabel()));
-                } else {
-                    writer.append(" ").append(printParameter(node.getId()));
+        rowWriter.writeRows(graph.getNodes(), (nodes, builder) -> {
+            for (Node node : nodes) {
+                builder.append(node.getId().toString());
+                if (exportCoords) {
+                    float x = normalization.normalizeX(node.x());
+                    float y = normalization.normalizeY(node.y());
+                    builder.append(" ").append(Float.toString(x)).append(" ").append(Float.toString(y));
+                }
+                if (exportSize) {
+                    float size = normalization.normalizeSize(node.size());
+                    builder.append(" ").append(Float.toString(size));
+                }
+                if (exportColor) {
+                    builder.append(" ").append(Integer.toString((int) (node.r() * 255f)));//[0..1] to [0..255]
                 }
+                if (exportShortLabel) {
+                    if (node.getLabel() != null) {
+                        builder.append(" ").append(printParameter(node.getLabel()));
+                    } else {
+                        builder.append(" ").append(printParameter(node.getId()));
+                    }
+                }
+                builder.append("\n");
             }
-            writer.append("\n");
-        }
+        });
     }
 
-    void printEdgeData(Edge edge, Node source, Node target, Graph graph) throws IOException {
-        writer.append(printParameter(source.getId()));//from
-        writer.append(" ").append(printParameter(target.getId()));//to
+    void printEdgeData(StringBuilder builder, Edge edge, Node source, Node target, GraphView view) {
+        builder.append(printParameter(source.getId()));//from
+        builder.append(" ").append(printParameter(target.getId()));//to
         if (exportEdgeWeight) {
             Double weight;
             if (exportDynamicWeight) {
-                weight = edge.getWeight(graph.getView());
+                weight = edge.getWeight(view);
             } else {
                 weight = edge.getWeight();
             }
-            writer.append(" ").append(weight.toString());
+            builder.append(" ").append(weight.toString());
         }
 
         if (exportAttributes) {
             for (Column column : edge.getAttributeColumns()) {
                 if (!column.isProperty()) {
-                    Object value = edge.getAttribute(column, graph.getView());
+                    Object value = edge.getAttribute(column, view);
                     if (value != null) {
-                        writer.append(" ").append(printParameter(value));
+                        builder.append(" ").append(printParameter(value));
                     } else {
-                        writer.append(" " + valueForEmptyAttributes);
+                        builder.append(" " + valueForEmptyAttributes);
                     }
                 }
             }
         }
-        writer.append("\n");
+        builder.append("\n");
     }
     /*
      * prints edge data as "from to (strength)? (attributes)*"
      */
 
-    private void exportEdgeData(Graph graph) throws IOException {
+    private void exportEdgeData(Graph graph, ParallelRowWriter rowWriter) throws IOException {
         writer.append("*Tie data\n");
         writer.append("from to");
         if (exportEdgeWeight) {
@@ -292,19 +300,16 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
         }
         writer.append("\n");
 
-        EdgeIterable edgeIterable = graph.getEdges();
-        for (Edge edge : edgeIterable) {
-            printEdgeData(edge, edge.getSource(), edge.getTarget(),
-                graph);//all edges in vna are directed, so make clone
-            if (!edge.isDirected() && !edge.isSelfLoop()) {
-                printEdgeData(edge, edge.getTarget(), edge.getSource(), graph);
-            }
-            Progress.progress(progressTicket);
-            if (cancel) {
-                edgeIterable.doBreak();
-                return;
+        GraphView view = graph.getView();
+        rowWriter.writeRows(graph.getEdges(), (edges, builder) -> {
+            for (Edge edge : edges) {
+                printEdgeData(builder, edge, edge.getSource(), edge.getTarget(),
+                    view);//all edges in vna are directed, so make clone
+                if (!edge.isDirected() && !edge.isSelfLoop()) {
+                    printEdgeData(builder, edge, edge.getTarget(), edge.getSource(), view);
+                }
             }
-        }
+        });
     }
 
     @Override
@@ -388,4 +393,12 @@ public class ExporterVNA implements GraphExporter, CharacterExporter, LongTask {
     public void setNormalize(boolean normalize) {
         this.normalize = normalize;
     }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
 }
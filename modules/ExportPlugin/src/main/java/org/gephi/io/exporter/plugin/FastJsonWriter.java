@@ -0,0 +1,411 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.plugin;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Streaming JSON writer tuned for large exports, producing the same text as Gson's <code>JsonWriter</code> set up by
+ * a default <code>Gson</code> instance: HTML-safe escaping, nulls skipped in objects and, when pretty printing, two
+ * spaces of indentation.
+ * <p>
+ * Output is copied in a reusable character buffer which is only handed to the underlying writer when full. Numbers
+ * are formatted without allocating strings. Names are escaped once with {@link #prepareName(String)} and written
+ * with {@link #name(char[])}. Closing this writer flushes the buffer but doesn't close the underlying writer.
+ */
+final class FastJsonWriter {
+
+    private static final int BUFFER_SIZE = 1 << 14;
+    //Contexts
+    private static final int EMPTY_ARRAY = 1;
+    private static final int NONEMPTY_ARRAY = 2;
+    private static final int EMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int EMPTY_DOCUMENT = 6;
+    private static final int NONEMPTY_DOCUMENT = 7;
+    //Escaping
+    private static final String[] REPLACEMENT_CHARS = new String[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            REPLACEMENT_CHARS[i] = String.format("\\u%04x", i);
+        }
+        REPLACEMENT_CHARS['"'] = "\\\"";
+        REPLACEMENT_CHARS['\\'] = "\\\\";
+        REPLACEMENT_CHARS['\t'] = "\\t";
+        REPLACEMENT_CHARS['\b'] = "\\b";
+        REPLACEMENT_CHARS['\n'] = "\\n";
+        REPLACEMENT_CHARS['\r'] = "\\r";
+        REPLACEMENT_CHARS['\f'] = "\\f";
+        REPLACEMENT_CHARS['<'] = "\\u003c";
+        REPLACEMENT_CHARS['>'] = "\\u003e";
+        REPLACEMENT_CHARS['&'] = "\\u0026";
+        REPLACEMENT_CHARS['='] = "\\u003d";
+        REPLACEMENT_CHARS['\''] = "\\u0027";
+    }
+
+    private final Writer writer;
+    private final boolean prettyPrint;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder numberBuilder = new StringBuilder(32);
+    private int position;
+    private int[] stack = new int[16];
+    private int depth;
+    private char[] deferredName;
+
+    FastJsonWriter(Writer writer, boolean prettyPrint) {
+        this.writer = writer;
+        this.prettyPrint = prettyPrint;
+        stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Returns the quoted and escaped name, to be written with {@link #name(char[])}.
+     *
+     * @param name name
+     * @return prepared name characters
+     */
+    static char[] prepareName(String name) {
+        StringBuilder builder = new StringBuilder(name.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            String escaped = escape(c);
+            if (escaped != null) {
+                builder.append(escaped);
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+        char[] chars = new char[builder.length()];
+        builder.getChars(0, chars.length, chars, 0);
+        return chars;
+    }
+
+    void beginObject() throws IOException {
+        writeDeferredName();
+        open(EMPTY_OBJECT, '{');
+    }
+
+    void endObject() throws IOException {
+        close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    void beginArray() throws IOException {
+        writeDeferredName();
+        open(EMPTY_ARRAY, '[');
+    }
+
+    void endArray() throws IOException {
+        close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    /**
+     * Sets the name of the next value. The name is only written with the value, so a name followed by a
+     * <code>null</code> value is skipped.
+     *
+     * @param name name prepared with {@link #prepareName(String)}
+     */
+    void name(char[] name) {
+        if (deferredName != null || stack[depth - 1] != EMPTY_OBJECT && stack[depth - 1] != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("Name not expected");
+        }
+        deferredName = name;
+    }
+
+    void nullValue() throws IOException {
+        if (deferredName != null) {
+            deferredName = null;
+            return;
+        }
+        beforeValue();
+        write("null");
+    }
+
+    void value(String value) throws IOException {
+        if (value == null) {
+            nullValue();
+            return;
+        }
+        writeDeferredName();
+        beforeValue();
+        write('"');
+        writeEscaped(value);
+        write('"');
+    }
+
+    /**
+     * Writes a string value from <code>length</code> characters of <code>chars</code>.
+     *
+     * @param chars  characters
+     * @param length number of characters
+     * @throws IOException if an I/O error occurs
+     */
+    void value(char[] chars, int length) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        write('"');
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped = escape(chars[i]);
+            if (escaped != null) {
+                write(chars, start, i - start);
+                write(escaped);
+                start = i + 1;
+            }
+        }
+        write(chars, start, length - start);
+        write('"');
+    }
+
+    void value(boolean value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        write(value ? "true" : "false");
+    }
+
+    void value(long value) throws IOException {
+        numberBuilder.setLength(0);
+        writeNumber(numberBuilder.append(value));
+    }
+
+    void value(float value) throws IOException {
+        numberBuilder.setLength(0);
+        writeNumber(numberBuilder.append(value));
+    }
+
+    void value(double value) throws IOException {
+        numberBuilder.setLength(0);
+        writeNumber(numberBuilder.append(value));
+    }
+
+    /**
+     * Writes the string form of <code>value</code>, without allocating it for the primitive wrapper types.
+     *
+     * @param value number, or <code>null</code>
+     * @throws IOException if an I/O error occurs
+     */
+    void value(Number value) throws IOException {
+        if (value == null) {
+            nullValue();
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+            || value instanceof Byte) {
+            value(value.longValue());
+        } else if (value instanceof Double) {
+            value(value.doubleValue());
+        } else if (value instanceof Float) {
+            value(value.floatValue());
+        } else {
+            numberBuilder.setLength(0);
+            writeNumber(numberBuilder.append(value.toString()));
+        }
+    }
+
+    void value(Boolean value) throws IOException {
+        if (value == null) {
+            nullValue();
+        } else {
+            value(value.booleanValue());
+        }
+    }
+
+    void close() throws IOException {
+        if (depth > 1 || stack[0] != NONEMPTY_DOCUMENT) {
+            throw new IOException("Incomplete document");
+        }
+        flushBuffer();
+    }
+
+    private void open(int empty, char bracket) throws IOException {
+        beforeValue();
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = empty;
+        write(bracket);
+    }
+
+    private void close(int empty, int nonempty, char bracket) throws IOException {
+        int context = stack[depth - 1];
+        if (context != empty && context != nonempty) {
+            throw new IllegalStateException("Nesting problem");
+        }
+        if (deferredName != null) {
+            throw new IllegalStateException("Dangling name");
+        }
+        depth--;
+        if (context == nonempty) {
+            newline();
+        }
+        write(bracket);
+    }
+
+    private void writeDeferredName() throws IOException {
+        if (deferredName != null) {
+            if (stack[depth - 1] == NONEMPTY_OBJECT) {
+                write(',');
+            }
+            newline();
+            stack[depth - 1] = DANGLING_NAME;
+            write(deferredName, 0, deferredName.length);
+            deferredName = null;
+        }
+    }
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+            case NONEMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            case EMPTY_ARRAY:
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                newline();
+                break;
+            case NONEMPTY_ARRAY:
+                write(',');
+                newline();
+                break;
+            case DANGLING_NAME:
+                write(prettyPrint ? ": " : ":");
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                break;
+            default:
+                throw new IllegalStateException("Nesting problem");
+        }
+    }
+
+    private void newline() throws IOException {
+        if (prettyPrint) {
+            write('\n');
+            for (int i = 1; i < depth; i++) {
+                write("  ");
+            }
+        }
+    }
+
+    private void writeNumber(StringBuilder value) throws IOException {
+        writeDeferredName();
+        beforeValue();
+        write(value);
+    }
+
+    private void writeEscaped(String text) throws IOException {
+        int length = text.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped = escape(text.charAt(i));
+            if (escaped != null) {
+                write(text, start, i);
+                write(escaped);
+                start = i + 1;
+            }
+        }
+        write(text, start, length);
+    }
+
+    private static String escape(char c) {
+        if (c < 128) {
+            return REPLACEMENT_CHARS[c];
+        } else if (c == '\u2028') {
+            return "\\u2028";
+        } else if (c == '\u2029') {
+            return "\\u2029";
+        }
+        return null;
+    }
+
+    private void write(char c) throws IOException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void write(String str) throws IOException {
+        write(str, 0, str.length());
+    }
+
+    private void write(String str, int start, int end) throws IOException {
+        while (start < end) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(end - start, buffer.length - position);
+            str.getChars(start, start + count, buffer, position);
+            position += count;
+            start += count;
+        }
+    }
+
+    private void write(StringBuilder builder) throws IOException {
+        int length = builder.length();
+        if (length > buffer.length - position) {
+            flushBuffer();
+        }
+        builder.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    private void write(char[] chars, int start, int length) throws IOException {
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length > buffer.length) {
+                writer.write(chars, start, length);
+                return;
+            }
+        }
+        System.arraycopy(chars, start, buffer, position, length);
+        position += length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            writer.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+}
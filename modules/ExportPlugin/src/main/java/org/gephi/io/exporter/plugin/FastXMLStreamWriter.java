@@ -0,0 +1,577 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.plugin;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Non-indenting, non-repairing <code>XMLStreamWriter</code> tuned for large exports.
+ * <p>
+ * Markup and escaped text are copied in a reusable character buffer which is only handed to the underlying writer
+ * when full, so no intermediate strings are created. Numbers are written with the <code>writeAttribute</code> and
+ * <code>writeCharacters</code> overloads below, which give the same text as <code>String.valueOf()</code> without
+ * allocating it. Attributes which are repeated on many elements, like the column id of attribute values, can be
+ * escaped once with {@link #prepareAttribute(String, String)}.
+ * <p>
+ * Prefix bindings set with {@link #setPrefix(String, String)} are document-wide and take precedence over the
+ * bindings of the context given to {@link #setNamespaceContext(NamespaceContext)}. Empty elements are written as
+ * <code>&lt;name/&gt;</code>. Closing this writer flushes the buffer but doesn't close the underlying writer.
+ */
+final class FastXMLStreamWriter implements XMLStreamWriter {
+
+    private static final int BUFFER_SIZE = 1 << 14;
+
+    private final Writer writer;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder numberBuilder = new StringBuilder(32);
+    private final Map<String, String> prefixes = new HashMap<>();
+    private NamespaceContext namespaceContext;
+    private int position;
+    //Open elements
+    private String[] elementPrefixes = new String[16];
+    private String[] elementNames = new String[16];
+    private int depth;
+    //Start tag state
+    private boolean startTagOpen;
+    private boolean emptyElement;
+
+    FastXMLStreamWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Returns <code>localName="value"</code>, with the value escaped and a leading space, to be written with
+     * {@link #writeAttribute(char[])}.
+     *
+     * @param localName attribute name
+     * @param value     attribute value
+     * @return prepared attribute characters
+     */
+    static char[] prepareAttribute(String localName, String value) {
+        StringBuilder builder = new StringBuilder(localName.length() + value.length() + 4);
+        builder.append(' ').append(localName).append("=\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escaped = escape(c, true);
+            if (escaped != null) {
+                builder.append(escaped);
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+        char[] chars = new char[builder.length()];
+        builder.getChars(0, chars.length, chars, 0);
+        return chars;
+    }
+
+    @Override
+    public void writeStartDocument() throws XMLStreamException {
+        writeStartDocument("UTF-8", "1.0");
+    }
+
+    @Override
+    public void writeStartDocument(String version) throws XMLStreamException {
+        writeStartDocument("UTF-8", version);
+    }
+
+    @Override
+    public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+        write("<?xml version=\"");
+        write(version);
+        write("\" encoding=\"");
+        write(encoding);
+        write("\"?>\n");
+    }
+
+    @Override
+    public void writeEndDocument() throws XMLStreamException {
+        while (depth > 0) {
+            writeEndElement();
+        }
+    }
+
+    @Override
+    public void writeStartElement(String localName) throws XMLStreamException {
+        openStartTag(null, localName, false);
+    }
+
+    @Override
+    public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+        openStartTag(getBoundPrefix(namespaceURI), localName, false);
+    }
+
+    @Override
+    public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        openStartTag(prefix, localName, false);
+    }
+
+    @Override
+    public void writeEmptyElement(String localName) throws XMLStreamException {
+        openStartTag(null, localName, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+        openStartTag(getBoundPrefix(namespaceURI), localName, true);
+    }
+
+    @Override
+    public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+        openStartTag(prefix, localName, true);
+    }
+
+    @Override
+    public void writeEndElement() throws XMLStreamException {
+        if (depth == 0) {
+            throw new XMLStreamException("No element to close");
+        }
+        depth--;
+        if (startTagOpen && !emptyElement) {
+            //No content, close as an empty element
+            startTagOpen = false;
+            write("/>");
+        } else {
+            closeStartTag();
+            write("</");
+            writeName(elementPrefixes[depth], elementNames[depth]);
+            write('>');
+        }
+        elementPrefixes[depth] = null;
+        elementNames[depth] = null;
+    }
+
+    @Override
+    public void writeAttribute(String localName, String value) throws XMLStreamException {
+        checkStartTag();
+        write(' ');
+        write(localName);
+        write("=\"");
+        writeEscaped(value, true);
+        write('"');
+    }
+
+    @Override
+    public void writeAttribute(String prefix, String namespaceURI, String localName, String value)
+        throws XMLStreamException {
+        checkStartTag();
+        write(' ');
+        writeName(prefix, localName);
+        write("=\"");
+        writeEscaped(value, true);
+        write('"');
+    }
+
+    @Override
+    public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+        writeAttribute(getBoundPrefix(namespaceURI), namespaceURI, localName, value);
+    }
+
+    /**
+     * Writes an attribute prepared with {@link #prepareAttribute(String, String)}.
+     *
+     * @param attribute prepared attribute characters
+     * @throws XMLStreamException if no start tag is open or if an I/O error occurs
+     */
+    void writeAttribute(char[] attribute) throws XMLStreamException {
+        checkStartTag();
+        write(attribute, 0, attribute.length);
+    }
+
+    void writeAttribute(String localName, int value) throws XMLStreamException {
+        numberBuilder.setLength(0);
+        writeNumberAttribute(localName, numberBuilder.append(value));
+    }
+
+    void writeAttribute(String localName, long value) throws XMLStreamException {
+        numberBuilder.setLength(0);
+        writeNumberAttribute(localName, numberBuilder.append(value));
+    }
+
+    void writeAttribute(String localName, float value) throws XMLStreamException {
+        numberBuilder.setLength(0);
+        writeNumberAttribute(localName, numberBuilder.append(value));
+    }
+
+    void writeAttribute(String localName, double value) throws XMLStreamException {
+        numberBuilder.setLength(0);
+        writeNumberAttribute(localName, numberBuilder.append(value));
+    }
+
+    /**
+     * Writes the string form of <code>value</code>. Integer and long values, the usual element ids, are formatted
+     * without allocating a string.
+     *
+     * @param localName attribute name
+     * @param value     attribute value, not null
+     * @throws XMLStreamException if no start tag is open or if an I/O error occurs
+     */
+    void writeAttribute(String localName, Object value) throws XMLStreamException {
+        if (value instanceof Integer) {
+            writeAttribute(localName, ((Integer) value).intValue());
+        } else if (value instanceof Long) {
+            writeAttribute(localName, ((Long) value).longValue());
+        } else {
+            writeAttribute(localName, value.toString());
+        }
+    }
+
+    @Override
+    public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+        if (prefix == null || prefix.isEmpty() || "xmlns".equals(prefix)) {
+            writeDefaultNamespace(namespaceURI);
+        } else {
+            writeAttribute("xmlns", null, prefix, namespaceURI);
+        }
+    }
+
+    @Override
+    public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+        writeAttribute("xmlns", namespaceURI);
+    }
+
+    @Override
+    public void writeComment(String data) throws XMLStreamException {
+        closeStartTag();
+        write("<!--");
+        write(data);
+        write("-->");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target) throws XMLStreamException {
+        closeStartTag();
+        write("<?");
+        write(target);
+        write("?>");
+    }
+
+    @Override
+    public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+        closeStartTag();
+        write("<?");
+        write(target);
+        write(' ');
+        write(data);
+        write("?>");
+    }
+
+    @Override
+    public void writeCData(String data) throws XMLStreamException {
+        closeStartTag();
+        write("<![CDATA[");
+        write(data);
+        write("]]>");
+    }
+
+    @Override
+    public void writeDTD(String dtd) throws XMLStreamException {
+        write(dtd);
+    }
+
+    @Override
+    public void writeEntityRef(String name) throws XMLStreamException {
+        closeStartTag();
+        write('&');
+        write(name);
+        write(';');
+    }
+
+    @Override
+    public void writeCharacters(String text) throws XMLStreamException {
+        closeStartTag();
+        if (text != null) {
+            writeEscaped(text, false);
+        }
+    }
+
+    @Override
+    public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+        writeCharacters(new String(text, start, len));
+    }
+
+    void writeCharacters(int value) throws XMLStreamException {
+        closeStartTag();
+        numberBuilder.setLength(0);
+        write(numberBuilder.append(value));
+    }
+
+    void writeCharacters(float value) throws XMLStreamException {
+        closeStartTag();
+        numberBuilder.setLength(0);
+        write(numberBuilder.append(value));
+    }
+
+    void writeCharacters(double value) throws XMLStreamException {
+        closeStartTag();
+        numberBuilder.setLength(0);
+        write(numberBuilder.append(value));
+    }
+
+    @Override
+    public String getPrefix(String uri) {
+        String prefix = prefixes.get(uri);
+        if (prefix == null && namespaceContext != null) {
+            return namespaceContext.getPrefix(uri);
+        }
+        return prefix;
+    }
+
+    @Override
+    public void setPrefix(String prefix, String uri) {
+        prefixes.put(uri, prefix);
+    }
+
+    @Override
+    public void setDefaultNamespace(String uri) {
+        prefixes.put(uri, "");
+    }
+
+    @Override
+    public void setNamespaceContext(NamespaceContext context) {
+        namespaceContext = context;
+    }
+
+    @Override
+    public NamespaceContext getNamespaceContext() {
+        return new NamespaceContext() {
+            @Override
+            public String getNamespaceURI(String prefix) {
+                for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+                    if (entry.getValue().equals(prefix)) {
+                        return entry.getKey();
+                    }
+                }
+                return namespaceContext != null ? namespaceContext.getNamespaceURI(prefix) : null;
+            }
+
+            @Override
+            public String getPrefix(String namespaceURI) {
+                return FastXMLStreamWriter.this.getPrefix(namespaceURI);
+            }
+
+            @Override
+            public Iterator<String> getPrefixes(String namespaceURI) {
+                String prefix = prefixes.get(namespaceURI);
+                if (prefix != null) {
+                    return Arrays.asList(prefix).iterator();
+                }
+                if (namespaceContext != null) {
+                    return namespaceContext.getPrefixes(namespaceURI);
+                }
+                return Arrays.<String>asList().iterator();
+            }
+        };
+    }
+
+    @Override
+    public Object getProperty(String name) {
+        throw new IllegalArgumentException("Unsupported property: " + name);
+    }
+
+    @Override
+    public void flush() throws XMLStreamException {
+        flushBuffer();
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new XMLStreamException(e);
+        }
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        closeStartTag();
+        flushBuffer();
+    }
+
+    private void openStartTag(String prefix, String localName, boolean empty) throws XMLStreamException {
+        closeStartTag();
+        write('<');
+        writeName(prefix, localName);
+        startTagOpen = true;
+        emptyElement = empty;
+        if (!empty) {
+            if (depth == elementNames.length) {
+                elementNames = Arrays.copyOf(elementNames, depth * 2);
+                elementPrefixes = Arrays.copyOf(elementPrefixes, depth * 2);
+            }
+            elementPrefixes[depth] = prefix;
+            elementNames[depth] = localName;
+            depth++;
+        }
+    }
+
+    private void closeStartTag() throws XMLStreamException {
+        if (startTagOpen) {
+            startTagOpen = false;
+            write(emptyElement ? "/>" : ">");
+        }
+    }
+
+    private void checkStartTag() throws XMLStreamException {
+        if (!startTagOpen) {
+            throw new XMLStreamException("Attributes must be written right after a start element");
+        }
+    }
+
+    private String getBoundPrefix(String namespaceURI) throws XMLStreamException {
+        String prefix = getPrefix(namespaceURI);
+        if (prefix == null) {
+            throw new XMLStreamException("No prefix bound to namespace " + namespaceURI);
+        }
+        return prefix;
+    }
+
+    private void writeName(String prefix, String localName) throws XMLStreamException {
+        if (prefix != null && !prefix.isEmpty()) {
+            write(prefix);
+            write(':');
+        }
+        write(localName);
+    }
+
+    private void writeNumberAttribute(String localName, StringBuilder value) throws XMLStreamException {
+        checkStartTag();
+        write(' ');
+        write(localName);
+        write("=\"");
+        write(value);
+        write('"');
+    }
+
+    private void writeEscaped(String text, boolean attribute) throws XMLStreamException {
+        int length = text.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            String escaped = escape(text.charAt(i), attribute);
+            if (escaped != null) {
+                write(text, start, i);
+                write(escaped);
+                start = i + 1;
+            }
+        }
+        write(text, start, length);
+    }
+
+    private static String escape(char c, boolean attribute) {
+        switch (c) {
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            case '"':
+                return attribute ? "&quot;" : null;
+            default:
+                return null;
+        }
+    }
+
+    private void write(char c) throws XMLStreamException {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void write(String str) throws XMLStreamException {
+        write(str, 0, str.length());
+    }
+
+    private void write(String str, int start, int end) throws XMLStreamException {
+        while (start < end) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(end - start, buffer.length - position);
+            str.getChars(start, start + count, buffer, position);
+            position += count;
+            start += count;
+        }
+    }
+
+    private void write(StringBuilder builder) throws XMLStreamException {
+        int length = builder.length();
+        if (length > buffer.length - position) {
+            flushBuffer();
+        }
+        builder.getChars(0, length, buffer, position);
+        position += length;
+    }
+
+    private void write(char[] chars, int start, int length) throws XMLStreamException {
+        if (length > buffer.length - position) {
+            flushBuffer();
+            if (length > buffer.length) {
+                try {
+                    writer.write(chars, start, length);
+                } catch (IOException e) {
+                    throw new XMLStreamException(e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(chars, start, buffer, position, length);
+        position += length;
+    }
+
+    private void flushBuffer() throws XMLStreamException {
+        if (position > 0) {
+            try {
+                writer.write(buffer, 0, position);
+            } catch (IOException e) {
+                throw new XMLStreamException(e);
+            }
+            position = 0;
+        }
+    }
+}
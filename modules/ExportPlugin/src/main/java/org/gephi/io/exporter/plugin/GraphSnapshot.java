@@ -0,0 +1,118 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.plugin;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
+import org.gephi.graph.api.Interval;
+import org.gephi.graph.api.Subgraph;
+
+/**
+ * Consistent copy of a graph that exporters can format and write without holding the workspace graph lock.
+ * <p>
+ * The read lock is only held while the visible nodes and edges, with their attributes, are copied into a detached
+ * graph model. For a view with a time interval, the copy is returned as a view with the same interval so dynamic
+ * values are estimated the same way. Exporting the snapshot gives the same result as exporting the locked graph.
+ */
+class GraphSnapshot {
+
+    private GraphSnapshot() {
+    }
+
+    /**
+     * Returns a snapshot of <code>graph</code>, or <code>graph</code> itself if it can't be copied, for instance
+     * when there isn't enough memory, in which case the caller simply keeps the usual locked export.
+     *
+     * @param graph graph to copy, either the main graph or a view
+     * @return detached copy of the graph
+     */
+    static Graph copy(Graph graph) {
+        GraphModel model = graph.getModel();
+        GraphView view = graph.getView();
+
+        graph.readLock();
+        try {
+            GraphModel copy = GraphModel.Factory.newInstance(model.getConfiguration());
+            copy.setTimeFormat(model.getTimeFormat());
+            copy.setTimeZone(model.getTimeZone());
+            copy.bridge().copyNodes(graph.getNodes().toArray());
+            if (view.isMainView()) {
+                return copy.getGraph();
+            }
+
+            //Edges between visible nodes may be filtered out of the view
+            Graph copyGraph = copy.getGraph();
+            if (copyGraph.getEdgeCount() != graph.getEdgeCount()) {
+                Set<Object> edgeIds = new HashSet<>();
+                for (Edge edge : graph.getEdges()) {
+                    edgeIds.add(edge.getId());
+                }
+                for (Edge edge : copyGraph.getEdges().toArray()) {
+                    if (!edgeIds.contains(edge.getId())) {
+                        copyGraph.removeEdge(edge);
+                    }
+                }
+            }
+
+            Interval interval = view.getTimeInterval();
+            if (interval == null) {
+                return copyGraph;
+            }
+            GraphView viewCopy = copy.createView();
+            Subgraph subgraph = copy.getGraph(viewCopy);
+            subgraph.fill();
+            copy.setTimeInterval(viewCopy, interval);
+            return subgraph;
+        } catch (Exception | OutOfMemoryError e) {
+            Logger.getLogger(GraphSnapshot.class.getName()).log(Level.WARNING, "Can't snapshot graph", e);
+            return graph;
+        } finally {
+            graph.readUnlock();
+        }
+    }
+}
@@ -31,15 +31,20 @@ public class NormalizationHelper {
         float minSize = Float.POSITIVE_INFINITY;
         float maxSize = Float.NEGATIVE_INFINITY;
 
+        // Single pass, each value read once
         for (Node node : graph.getNodes()) {
-            minX = Math.min(minX, node.x());
-            maxX = Math.max(maxX, node.x());
-            minY = Math.min(minY, node.y());
-            maxY = Math.max(maxY, node.y());
-            minZ = Math.min(minZ, node.z());
-            maxZ = Math.max(maxZ, node.z());
-            minSize = Math.min(minSize, node.size());
-            maxSize = Math.max(maxSize, node.size());
+            float x = node.x();
+            float y = node.y();
+            float z = node.z();
+            float size = node.size();
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minY = Math.min(minY, y);
+            maxY = Math.max(maxY, y);
+            minZ = Math.min(minZ, z);
+            maxZ = Math.max(maxZ, z);
+            minSize = Math.min(minSize, size);
+            maxSize = Math.max(maxSize, size);
         }
 
         this.minX = minX;
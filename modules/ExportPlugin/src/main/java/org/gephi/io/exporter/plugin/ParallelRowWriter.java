@@ -0,0 +1,198 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.exporter.plugin;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import org.gephi.graph.api.ElementIterable;
+import org.gephi.utils.progress.Progress;
+import org.gephi.utils.progress.ProgressTicket;
+
+/**
+ * Writes rows of text which are formatted on several threads.
+ * <p>
+ * Rows are read on the calling thread, which holds the graph read lock, and grouped in chunks of
+ * {@link #DEFAULT_CHUNK_SIZE} rows. Chunks are formatted on a pool of threads while the next ones are read and
+ * written to the writer in order, so the output is the same whatever the parallelism. At most two chunks per
+ * thread are in flight.
+ * <p>
+ * Formatters must not call graph methods which acquire the read lock themselves, like
+ * <code>graph.getEdges(node)</code>: a waiting write lock would block them while the calling thread waits for
+ * them. What needs the graph structure has to be collected by the rows iterator, which runs on the calling thread.
+ */
+class ParallelRowWriter implements AutoCloseable {
+
+    static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final Writer writer;
+    private final int parallelism;
+    private final ProgressTicket progressTicket;
+    private final BooleanSupplier cancelled;
+    private ExecutorService executor;
+
+    ParallelRowWriter(Writer writer, int parallelism, ProgressTicket progressTicket, BooleanSupplier cancelled) {
+        this.writer = writer;
+        this.parallelism = Math.max(1, parallelism);
+        this.progressTicket = progressTicket;
+        this.cancelled = cancelled;
+    }
+
+    <T> boolean writeRows(Iterable<? extends T> rows, ChunkFormatter<T> formatter) throws IOException {
+        return writeRows(rows, DEFAULT_CHUNK_SIZE, formatter);
+    }
+
+    /**
+     * Formats and writes all <code>rows</code>, with one progress unit per row.
+     *
+     * @param rows      rows to write
+     * @param chunkSize number of rows formatted together
+     * @param formatter chunk formatter, called on the pool threads
+     * @return <code>false</code> if the export was cancelled before all rows were written
+     * @throws IOException if the writer or a formatter failed
+     */
+    <T> boolean writeRows(Iterable<? extends T> rows, int chunkSize, ChunkFormatter<T> formatter)
+        throws IOException {
+        ArrayDeque<Future<CharSequence>> pending = new ArrayDeque<>();
+        Iterator<? extends T> itr = rows.iterator();
+        boolean completed = false;
+        try {
+            List<T> chunk = new ArrayList<>();
+            while (itr.hasNext()) {
+                if (cancelled.getAsBoolean()) {
+                    return false;
+                }
+                chunk.add(itr.next());
+                Progress.progress(progressTicket);
+                if (chunk.size() >= chunkSize) {
+                    submit(pending, chunk, formatter);
+                    chunk = new ArrayList<>();
+                }
+            }
+            completed = true;
+            if (!chunk.isEmpty()) {
+                submit(pending, chunk, formatter);
+            }
+            while (!pending.isEmpty()) {
+                writer.append(await(pending.poll()));
+            }
+            return true;
+        } finally {
+            if (!completed && rows instanceof ElementIterable) {
+                ((ElementIterable) rows).doBreak();
+            }
+            for (Future<CharSequence> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private <T> void submit(ArrayDeque<Future<CharSequence>> pending, List<T> chunk, ChunkFormatter<T> formatter)
+        throws IOException {
+        if (parallelism == 1) {
+            writer.append(format(chunk, formatter));
+            return;
+        }
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(parallelism, r -> {
+                Thread thread = new Thread(r, "Export Rows");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        pending.add(executor.submit(() -> format(chunk, formatter)));
+        while (pending.size() >= 2 * parallelism) {
+            writer.append(await(pending.poll()));
+        }
+    }
+
+    private static <T> CharSequence format(List<T> chunk, ChunkFormatter<T> formatter) throws IOException {
+        StringBuilder builder = new StringBuilder(chunk.size() * 64);
+        formatter.format(chunk, builder);
+        return builder;
+    }
+
+    private static CharSequence await(Future<CharSequence> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Formats a chunk of rows. Implementations are called concurrently and must use their own instances of
+     * non thread-safe helpers like <code>DecimalFormat</code>.
+     */
+    @FunctionalInterface
+    interface ChunkFormatter<T> {
+
+        void format(List<T> rows, StringBuilder builder) throws IOException;
+    }
+}
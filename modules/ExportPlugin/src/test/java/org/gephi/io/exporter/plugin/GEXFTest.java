@@ -3,6 +3,9 @@ package org.gephi.io.exporter.plugin;
 import java.io.IOException;
 import org.gephi.graph.GraphGenerator;
 import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
+import org.gephi.graph.api.Subgraph;
 import org.gephi.project.api.Workspace;
 import org.junit.Assert;
 import org.junit.Test;
@@ -32,6 +35,35 @@ public class GEXFTest {
         Utils.assertExporterMatch("gexf/includenullattvalues.gexf", exporterGEXF);
     }
 
+    @Test
+    public void testIndentingWriter() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addDoubleNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+
+        graph.getNode(GraphGenerator.FIRST_NODE).setAttribute(GraphGenerator.DOUBLE_COLUMN, Double.POSITIVE_INFINITY);
+        graph.getNode(GraphGenerator.SECOND_NODE).setAttribute(GraphGenerator.DOUBLE_COLUMN, Double.NEGATIVE_INFINITY);
+
+        ExporterGEXF exporterGEXF = createExporter(graphGenerator);
+        exporterGEXF.setFastWriter(false);
+        Utils.assertExporterMatch("gexf/infinity.gexf", exporterGEXF);
+    }
+
+    @Test
+    public void testFastWriterViz() throws IOException {
+        GraphGenerator graphGenerator =
+            GraphGenerator.build().generateSmallRandomGraph().addNodeLabels().addEdgeLabels().addDoubleNodeColumn();
+
+        ExporterGEXF exporterGEXF = createExporter(graphGenerator);
+        exporterGEXF.setExportSize(true);
+        exporterGEXF.setExportColors(true);
+        exporterGEXF.setExportPosition(true);
+        exporterGEXF.setFastWriter(false);
+        String expected = Utils.toString(exporterGEXF);
+
+        exporterGEXF.setFastWriter(true);
+        Utils.assertXmlMatch(expected, Utils.toString(exporterGEXF));
+    }
+
     @Test
     public void testMeta() throws IOException {
         GraphGenerator graphGenerator = GraphGenerator.build();
@@ -47,6 +79,59 @@ public class GEXFTest {
         Assert.assertTrue(str.contains("<description>desc</description>"));
     }
 
+    @Test
+    public void testSnapshot() throws IOException {
+        GraphGenerator graphGenerator =
+            GraphGenerator.build().generateTinyGraph().addNodeLabels().addEdgeLabels().addDoubleNodeColumn()
+                .addStringArrayNodeColumn();
+
+        String locked = Utils.toString(createExporter(graphGenerator));
+
+        ExporterGEXF exporterGEXF = createExporter(graphGenerator);
+        exporterGEXF.setExportSnapshot(true);
+        Assert.assertEquals(locked, Utils.toString(exporterGEXF));
+    }
+
+    @Test
+    public void testSnapshotVisible() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateSmallRandomGraph().addDoubleNodeColumn();
+        GraphModel graphModel = graphGenerator.getGraphModel();
+        GraphView view = graphModel.createView();
+        Subgraph subgraph = graphModel.getGraph(view);
+        subgraph.fill();
+        subgraph.removeNode(graphModel.getGraph().getNodes().toArray()[0]);
+        graphModel.setVisibleView(view);
+
+        ExporterGEXF lockedExporter = createExporter(graphGenerator);
+        lockedExporter.setExportVisible(true);
+        String locked = Utils.toString(lockedExporter);
+
+        ExporterGEXF exporterGEXF = createExporter(graphGenerator);
+        exporterGEXF.setExportVisible(true);
+        exporterGEXF.setExportSnapshot(true);
+        Assert.assertEquals(locked, Utils.toString(exporterGEXF));
+    }
+
+    @Test
+    public void testSnapshotVisibleEdges() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateSmallRandomGraph().addDoubleNodeColumn();
+        GraphModel graphModel = graphGenerator.getGraphModel();
+        GraphView view = graphModel.createView();
+        Subgraph subgraph = graphModel.getGraph(view);
+        subgraph.fill();
+        subgraph.removeEdge(graphModel.getGraph().getEdges().toArray()[0]);
+        graphModel.setVisibleView(view);
+
+        ExporterGEXF lockedExporter = createExporter(graphGenerator);
+        lockedExporter.setExportVisible(true);
+        String locked = Utils.toString(lockedExporter);
+
+        ExporterGEXF exporterGEXF = createExporter(graphGenerator);
+        exporterGEXF.setExportVisible(true);
+        exporterGEXF.setExportSnapshot(true);
+        Assert.assertEquals(locked, Utils.toString(exporterGEXF));
+    }
+
     private static ExporterGEXF createExporter(GraphGenerator graphGenerator) {
         Workspace workspace = graphGenerator.getWorkspace();
         ExporterGEXF exporterGEXF = new ExporterGEXF();
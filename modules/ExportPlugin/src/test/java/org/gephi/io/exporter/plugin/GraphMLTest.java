@@ -0,0 +1,30 @@
+package org.gephi.io.exporter.plugin;
+
+import java.io.IOException;
+import org.gephi.graph.GraphGenerator;
+import org.gephi.project.api.Workspace;
+import org.junit.Test;
+
+public class GraphMLTest {
+
+    @Test
+    public void testFastWriter() throws IOException {
+        GraphGenerator graphGenerator =
+            GraphGenerator.build().generateSmallRandomGraph().addNodeLabels().addEdgeLabels().addDoubleNodeColumn()
+                .addStringArrayNodeColumn();
+
+        ExporterGraphML exporterGraphML = createExporter(graphGenerator);
+        exporterGraphML.setFastWriter(false);
+        String expected = Utils.toString(exporterGraphML);
+
+        exporterGraphML.setFastWriter(true);
+        Utils.assertXmlMatch(expected, Utils.toString(exporterGraphML));
+    }
+
+    private static ExporterGraphML createExporter(GraphGenerator graphGenerator) {
+        Workspace workspace = graphGenerator.getWorkspace();
+        ExporterGraphML exporterGraphML = new ExporterGraphML();
+        exporterGraphML.setWorkspace(workspace);
+        return exporterGraphML;
+    }
+}
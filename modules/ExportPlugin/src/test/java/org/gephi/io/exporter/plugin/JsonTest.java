@@ -4,6 +4,7 @@ import org.gephi.graph.GraphGenerator;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.Node;
 import org.gephi.project.api.Workspace;
+import org.junit.Assert;
 import org.junit.Test;
 
 import java.awt.*;
@@ -119,6 +120,36 @@ public class JsonTest {
         Utils.assertExporterMatch("json/position_normalized.json", exporterJson);
     }
     
+    @Test
+    public void testGsonWriter() throws IOException {
+        GraphGenerator graphGenerator =
+                GraphGenerator.build().generateTinyMixedGraph();
+
+        ExporterJson exporterJson = createExporter(graphGenerator);
+        exporterJson.setFastWriter(false);
+        Utils.assertExporterMatch("json/mixed.json", exporterJson);
+    }
+
+    @Test
+    public void testFastWriterCompact() throws IOException {
+        GraphGenerator graphGenerator =
+                GraphGenerator.build().generateTinyGraphWithPosition().addNodeLabels().addEdgeLabels()
+                        .addDoubleNodeColumn().addStringNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+        graph.getNode(GraphGenerator.FIRST_NODE).setColor(new Color(255, 100, 120, 254));
+
+        ExporterJson exporterJson = createExporter(graphGenerator);
+        exporterJson.setExportColors(true);
+        exporterJson.setExportPosition(true);
+        exporterJson.setNormalize(true);
+        exporterJson.setPrettyPrint(false);
+        exporterJson.setFastWriter(false);
+        String expected = Utils.toString(exporterJson);
+
+        exporterJson.setFastWriter(true);
+        Assert.assertEquals(expected, Utils.toString(exporterJson));
+    }
+
     private static ExporterJson createExporter(GraphGenerator graphGenerator) {
         Workspace workspace = graphGenerator.getWorkspace();
         ExporterJson exporterJson = new ExporterJson();
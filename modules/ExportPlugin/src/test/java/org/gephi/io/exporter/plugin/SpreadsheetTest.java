@@ -1,14 +1,23 @@
 package org.gephi.io.exporter.plugin;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Random;
 import org.gephi.graph.GraphGenerator;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
 import org.gephi.graph.api.TimeFormat;
+import org.gephi.io.exporter.impl.ExportControllerImpl;
 import org.gephi.project.api.Workspace;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class SpreadsheetTest {
@@ -255,6 +264,43 @@ public class SpreadsheetTest {
         Utils.assertExporterMatch("spreadsheet/utf8.csv", exporterSpreadsheet);
     }
 
+    @Test
+    public void testParallelism() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build();
+        GraphModel graphModel = graphGenerator.getGraphModel();
+        Graph graph = graphModel.getGraph();
+        Random random = new Random(42);
+        for (int i = 0; i < 1000; i++) {
+            graph.addNode(graphModel.factory().newNode(String.valueOf(i)));
+        }
+        for (int i = 0; i < 20000; i++) {
+            Node source = graph.getNode(String.valueOf(i % 1000));
+            Node target = graph.getNode(String.valueOf((i % 1000 + 1 + i / 1000) % 1000));
+            graph.addEdge(graphModel.factory().newEdge(source, target, 0, random.nextDouble(), true));
+        }
+
+        ExporterSpreadsheet sequential = createExporter(graphGenerator);
+        sequential.setParallelism(1);
+        ExporterSpreadsheet parallel = createExporter(graphGenerator);
+        parallel.setParallelism(4);
+
+        Assert.assertEquals(Utils.toString(sequential), Utils.toString(parallel));
+    }
+
+    @Test
+    public void testExportFile() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph();
+        graphGenerator.getGraph().getEdge("1").setWeight(1.33);
+        File file = File.createTempFile("export", ".csv");
+        file.deleteOnExit();
+
+        //The exporter closes its writer itself, which must not fail the export
+        new ExportControllerImpl().exportFile(file, createExporter(graphGenerator));
+
+        Assert.assertEquals(Utils.getResourceContent("spreadsheet/single.csv").replace("\r", ""),
+            new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).replace("\r", ""));
+    }
+
     // Utilities
 
     private static ExporterSpreadsheet createNodeExporter(GraphGenerator graphGenerator) {
@@ -32,21 +32,25 @@ public class Utils {
         String actual = toString(exporter);
 
         if (expected.startsWith("<?xml")) {
-            Diff myDiff = DiffBuilder.compare(expected).checkForIdentical().ignoreComments().ignoreWhitespace()
-                .withTest(actual).build();
-
-            Iterator<Difference> iter = myDiff.getDifferences().iterator();
-            int size = 0;
-            while (iter.hasNext()) {
-                System.err.println("Difference: " + iter.next().toString());
-                size++;
-            }
-            Assert.assertEquals("Expected: \n"+cleanString(actual), 0, size);
+            assertXmlMatch(expected, actual);
         } else {
             Assert.assertEquals(cleanString(expected), cleanString(actual));
         }
     }
 
+    public static void assertXmlMatch(String expected, String actual) {
+        Diff myDiff = DiffBuilder.compare(expected).checkForIdentical().ignoreComments().ignoreWhitespace()
+            .withTest(actual).build();
+
+        Iterator<Difference> iter = myDiff.getDifferences().iterator();
+        int size = 0;
+        while (iter.hasNext()) {
+            System.err.println("Difference: " + iter.next().toString());
+            size++;
+        }
+        Assert.assertEquals("Expected: \n"+cleanString(actual), 0, size);
+    }
+
     private static String cleanString(String str) {
         return str.replaceAll("[\\r]", "");
     }
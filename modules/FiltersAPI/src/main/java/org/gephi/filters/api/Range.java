@@ -54,6 +54,7 @@ public final class Range {
     private boolean leftInclusive = true;
     private boolean rightInclusive = true;
     private Number[] values;
+    private RangeSummary summary;
 
     public Range(Number lowerBound, Number upperBound) {
         lowerNumber = lowerBound;
@@ -78,11 +79,25 @@ public final class Range {
         this.max = max;
     }
 
+    /**
+     * @deprecated use {@link #Range(Number, Number, Number, Number, RangeSummary)}
+     */
+    @Deprecated
     public Range(Number lowerBound, Number upperBound, Number min, Number max, Number[] values) {
         this(lowerBound, upperBound, min, max);
         this.values = values;
     }
 
+    public Range(Number lowerBound, Number upperBound, Number min, Number max, RangeSummary summary) {
+        this(lowerBound, upperBound, min, max);
+        this.summary = summary;
+    }
+
+    /**
+     * @deprecated use
+     * {@link #Range(Number, Number, Number, Number, boolean, boolean, RangeSummary)}
+     */
+    @Deprecated
     public Range(Number lowerBound, Number upperBound, Number min, Number max, boolean leftInclusive,
                  boolean rightInclusive, Number[] values) {
         this(lowerBound, upperBound, min, max, values);
@@ -90,6 +105,13 @@ public final class Range {
         this.rightInclusive = rightInclusive;
     }
 
+    public Range(Number lowerBound, Number upperBound, Number min, Number max, boolean leftInclusive,
+                 boolean rightInclusive, RangeSummary summary) {
+        this(lowerBound, upperBound, min, max, summary);
+        this.leftInclusive = leftInclusive;
+        this.rightInclusive = rightInclusive;
+    }
+
     public static Number trimToBounds(Number min, Number max, Number value) {
         if (min != null && max != null && value != null) {
             if (min.getClass().equals(max.getClass()) && max.getClass().equals(value.getClass())) {
@@ -186,10 +208,28 @@ public final class Range {
         return lowerNumber.getClass();
     }
 
+    /**
+     * @return values given at construction, or <code>null</code>
+     * @deprecated use {@link #getSummary()}
+     */
+    @Deprecated
     public Number[] getValues() {
         return values;
     }
 
+    /**
+     * Returns the summary of the values this range is defined on, or
+     * <code>null</code> if unknown.
+     *
+     * @return summary or <code>null</code>
+     */
+    public RangeSummary getSummary() {
+        if (summary == null && values != null) {
+            summary = RangeSummary.of(values);
+        }
+        return summary;
+    }
+
     public boolean isLeftInclusive() {
         return leftInclusive;
     }
@@ -0,0 +1,256 @@
+package org.gephi.filters.api;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Summary of the values a range filter works on: minimum, maximum, number of
+ * values and a histogram with a fixed number of equal-width bins between the
+ * minimum and the maximum.
+ * <p>
+ * The minimum and maximum have the same type as the filtered values, so they
+ * can be used as range bounds. The histogram is only an approximation of the
+ * distribution, enough to draw it and to estimate quantiles.
+ *
+ * @see Range
+ */
+public final class RangeSummary {
+
+    public static final int BIN_COUNT = 100;
+    private static final int CHUNK_SIZE = 1 << 16;
+    private final Number min;
+    private final Number max;
+    private final int count;
+    private final int[] bins;
+
+    public RangeSummary(Number min, Number max, int count, int[] bins) {
+        if (min != null && max != null && !min.getClass().equals(max.getClass())) {
+            throw new IllegalArgumentException("Min and max must be the same class");
+        }
+        this.min = min;
+        this.max = max;
+        this.count = count;
+        this.bins = bins;
+    }
+
+    /**
+     * Summarizes boxed values, possibly of mixed types.
+     *
+     * @param values values, may be <code>null</code>
+     * @return summary
+     */
+    public static RangeSummary of(Number[] values) {
+        if (values == null || values.length == 0) {
+            return new RangeSummary(null, null, 0, new int[BIN_COUNT]);
+        }
+        Number min = null;
+        Number max = null;
+        double[] doubles = new double[values.length];
+        int length = 0;
+        for (Number n : values) {
+            if (n == null) {
+                continue;
+            }
+            min = min == null || compare(n, min) < 0 ? n : min;
+            max = max == null || compare(n, max) > 0 ? n : max;
+            doubles[length++] = n.doubleValue();
+        }
+        if (min == null) {
+            return new RangeSummary(null, null, 0, new int[BIN_COUNT]);
+        }
+        if (!min.getClass().equals(max.getClass())) {
+            max = convert(min.getClass(), max.doubleValue());
+        }
+        int[] bins = computeBins(doubles, length, min.doubleValue(), max.doubleValue(), BIN_COUNT);
+        return new RangeSummary(min, max, length, bins);
+    }
+
+    /**
+     * Summarizes primitive values. Minimum, maximum and histogram are computed
+     * in parallel for large arrays. <code>NaN</code> values are ignored.
+     *
+     * @param type   number class of the original values, e.g.
+     *               <code>Integer.class</code>
+     * @param values values, only the first <code>length</code> ones are used
+     * @param length number of values
+     * @return summary
+     */
+    public static RangeSummary of(Class<? extends Number> type, double[] values, int length) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        if (length > CHUNK_SIZE) {
+            double[][] partials = IntStream.range(0, chunkCount(length)).parallel()
+                .mapToObj(chunk -> minMax(values, chunk * CHUNK_SIZE, Math.min(length, (chunk + 1) * CHUNK_SIZE)))
+                .toArray(double[][]::new);
+            for (double[] partial : partials) {
+                min = Math.min(min, partial[0]);
+                max = Math.max(max, partial[1]);
+                count += (int) partial[2];
+            }
+        } else {
+            double[] partial = minMax(values, 0, length);
+            min = partial[0];
+            max = partial[1];
+            count = (int) partial[2];
+        }
+        if (count == 0) {
+            return new RangeSummary(null, null, 0, new int[BIN_COUNT]);
+        }
+        int[] bins = computeBins(values, length, min, max, BIN_COUNT);
+        return new RangeSummary(convert(type, min), convert(type, max), count, bins);
+    }
+
+    private static double[] minMax(double[] values, int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                min = Math.min(min, v);
+                max = Math.max(max, v);
+                count++;
+            }
+        }
+        return new double[] {min, max, count};
+    }
+
+    private static int[] computeBins(double[] values, int length, double min, double max, int binCount) {
+        if (length <= CHUNK_SIZE) {
+            return fillBins(new int[binCount], values, 0, length, min, max);
+        }
+        return IntStream.range(0, chunkCount(length)).parallel()
+            .mapToObj(chunk -> fillBins(new int[binCount], values, chunk * CHUNK_SIZE,
+                Math.min(length, (chunk + 1) * CHUNK_SIZE), min, max))
+            .reduce(new int[binCount], (a, b) -> {
+                int[] sum = new int[binCount];
+                for (int i = 0; i < binCount; i++) {
+                    sum[i] = a[i] + b[i];
+                }
+                return sum;
+            });
+    }
+
+    private static int[] fillBins(int[] bins, double[] values, int from, int to, double min, double max) {
+        for (int i = from; i < to; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                bins[getBin(v, min, max, bins.length)]++;
+            }
+        }
+        return bins;
+    }
+
+    private static int chunkCount(int length) {
+        return (length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the histogram bin of <code>value</code>.
+     *
+     * @param value    value
+     * @param min      histogram minimum
+     * @param max      histogram maximum
+     * @param binCount number of bins
+     * @return bin index, between 0 and <code>binCount - 1</code>
+     */
+    public static int getBin(double value, double min, double max, int binCount) {
+        if (max <= min) {
+            return 0;
+        }
+        int bin = (int) ((value - min) / (max - min) * binCount);
+        return Math.max(0, Math.min(binCount - 1, bin));
+    }
+
+    /**
+     * Converts <code>value</code> to the given number class. Long and big
+     * number values beyond 2^53 lose precision.
+     *
+     * @param type  number class
+     * @param value value
+     * @return converted value
+     */
+    public static Number convert(Class<? extends Number> type, double value) {
+        if (type.equals(Integer.class)) {
+            return (int) value;
+        } else if (type.equals(Long.class)) {
+            return (long) value;
+        } else if (type.equals(Float.class)) {
+            return (float) value;
+        } else if (type.equals(Short.class)) {
+            return (short) value;
+        } else if (type.equals(Byte.class)) {
+            return (byte) value;
+        } else if (type.equals(BigDecimal.class)) {
+            return BigDecimal.valueOf(value);
+        } else if (type.equals(BigInteger.class)) {
+            return BigDecimal.valueOf(value).toBigInteger();
+        }
+        return value;
+    }
+
+    private static int compare(Number a, Number b) {
+        if (a.getClass().equals(b.getClass()) && a instanceof Comparable) {
+            return ((Comparable) a).compareTo(b);
+        }
+        return Double.compare(a.doubleValue(), b.doubleValue());
+    }
+
+    /**
+     * Returns an estimate of the value at <code>fraction</code> of the sorted
+     * values, interpolated linearly inside histogram bins.
+     *
+     * @param fraction fraction between 0 and 1
+     * @return estimated quantile, or <code>NaN</code> if there are no values
+     */
+    public double getQuantile(double fraction) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double minValue = min.doubleValue();
+        double maxValue = max.doubleValue();
+        double rank = Math.max(0.0, Math.min(1.0, fraction)) * count;
+        double binWidth = (maxValue - minValue) / bins.length;
+        int cumulated = 0;
+        for (int i = 0; i < bins.length; i++) {
+            if (bins[i] > 0 && cumulated + bins[i] >= rank) {
+                double position = (rank - cumulated) / bins[i];
+                return Math.min(maxValue, minValue + binWidth * (i + position));
+            }
+            cumulated += bins[i];
+        }
+        return maxValue;
+    }
+
+    public Number getMinimum() {
+        return min;
+    }
+
+    public Number getMaximum() {
+        return max;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int[] getBins() {
+        return Arrays.copyOf(bins, bins.length);
+    }
+
+    public int getBinCount() {
+        return bins.length;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + min + ", " + max + "] (" + count + ")";
+    }
+}
@@ -0,0 +1,34 @@
+package org.gephi.filters.spi;
+
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.Subgraph;
+
+/**
+ * Helpers shared by filter implementations.
+ */
+public final class FilterUtils {
+
+    private FilterUtils() {
+    }
+
+    /**
+     * Returns <code>true</code> if <code>graph</code> is a view containing all
+     * the elements of the main graph, for instance the copy of the main view a
+     * query starts from. Views only ever contain a subset of the main graph,
+     * so equal counts are enough.
+     * <p>
+     * When it returns <code>true</code>, filters may rebuild the view from an
+     * index on the main graph instead of evaluating every element, and the
+     * graph can be cast to {@link Subgraph}.
+     *
+     * @param graph graph to test
+     * @return <code>true</code> if <code>graph</code> is a complete view
+     */
+    public static boolean isFullGraph(Graph graph) {
+        if (!(graph instanceof Subgraph)) {
+            return false;
+        }
+        Graph mainGraph = graph.getModel().getGraph();
+        return graph.getNodeCount() == mainGraph.getNodeCount() && graph.getEdgeCount() == mainGraph.getEdgeCount();
+    }
+}
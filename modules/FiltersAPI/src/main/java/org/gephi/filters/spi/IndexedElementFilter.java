@@ -0,0 +1,30 @@
+package org.gephi.filters.spi;
+
+import java.util.Collection;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
+
+/**
+ * Element filter which can return the elements it keeps directly, for
+ * instance by looking them up in an attribute index, instead of being
+ * evaluated on every element of the graph.
+ * <p>
+ * The filter processor calls {@link #getKeptElements(Graph)} after
+ * {@link #init(Graph)} when the filter is applied on the complete graph. If it
+ * returns <code>null</code>, elements are evaluated one by one with
+ * {@link #evaluate(Graph, Element)} as usual. Both must keep the same
+ * elements.
+ *
+ * @param <K> element class
+ */
+public interface IndexedElementFilter<K extends Element> extends ElementFilter<K> {
+
+    /**
+     * Returns the elements kept by this filter, or <code>null</code> if they
+     * can't be obtained without evaluating every element.
+     *
+     * @param graph the graph being filtered
+     * @return kept elements or <code>null</code>
+     */
+    Collection<K> getKeptElements(Graph graph);
+}
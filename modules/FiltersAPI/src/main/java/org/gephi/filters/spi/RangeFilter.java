@@ -42,6 +42,7 @@ Portions Copyrighted 2011 Gephi Consortium.
 
 package org.gephi.filters.spi;
 
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.graph.api.Graph;
 
 /**
@@ -51,6 +52,18 @@ public interface RangeFilter extends Filter {
 
     Number[] getValues(Graph graph);
 
+    /**
+     * Returns the minimum, maximum and distribution of the values this filter
+     * works on. The default implementation summarizes {@link #getValues(Graph)};
+     * implementations should override it to avoid boxing every value.
+     *
+     * @param graph the graph
+     * @return summary of the values
+     */
+    default RangeSummary getSummary(Graph graph) {
+        return RangeSummary.of(getValues(graph));
+    }
+
     FilterProperty getRangeProperty();
 
 }
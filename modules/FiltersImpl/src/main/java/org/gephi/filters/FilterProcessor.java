@@ -43,17 +43,22 @@
 package org.gephi.filters;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.spi.ComplexFilter;
 import org.gephi.filters.spi.EdgeFilter;
 import org.gephi.filters.spi.ElementFilter;
 import org.gephi.filters.spi.Filter;
+import org.gephi.filters.spi.FilterUtils;
+import org.gephi.filters.spi.IndexedElementFilter;
 import org.gephi.filters.spi.NodeFilter;
 import org.gephi.filters.spi.Operator;
 import org.gephi.filters.spi.RangeFilter;
 import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Element;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.GraphView;
@@ -150,15 +155,20 @@ public class FilterProcessor {
 
     private void processNodeFilter(NodeFilter nodeFilter, Graph graph) {
         if (init(nodeFilter, graph)) {
-            List<Node> nodesToRemove = new ArrayList<>();
-            for (Node n : graph.getNodes()) {
-                if (!nodeFilter.evaluate(graph, n)) {
-                    nodesToRemove.add(n);
+            Collection<Node> keptNodes = getKeptElements(nodeFilter, graph);
+            if (keptNodes != null) {
+                retainNodes((Subgraph) graph, keptNodes);
+            } else {
+                List<Node> nodesToRemove = new ArrayList<>();
+                for (Node n : graph.getNodes()) {
+                    if (!nodeFilter.evaluate(graph, n)) {
+                        nodesToRemove.add(n);
+                    }
                 }
-            }
 
-            if (!nodesToRemove.isEmpty()) {
-                graph.removeAllNodes(nodesToRemove);
+                if (!nodesToRemove.isEmpty()) {
+                    graph.removeAllNodes(nodesToRemove);
+                }
             }
             nodeFilter.finish();
         }
@@ -166,20 +176,54 @@ public class FilterProcessor {
 
     private void processEdgeFilter(EdgeFilter edgeFilter, Graph graph) {
         if (init(edgeFilter, graph)) {
-            List<Edge> edgesToRemove = new ArrayList<>();
-            for (Edge e : graph.getEdges()) {
-                if (!edgeFilter.evaluate(graph, e)) {
-                    edgesToRemove.add(e);
+            Collection<Edge> keptEdges = getKeptElements(edgeFilter, graph);
+            if (keptEdges != null) {
+                graph.clearEdges();
+                ((Subgraph) graph).addAllEdges(keptEdges);
+            } else {
+                List<Edge> edgesToRemove = new ArrayList<>();
+                for (Edge e : graph.getEdges()) {
+                    if (!edgeFilter.evaluate(graph, e)) {
+                        edgesToRemove.add(e);
+                    }
                 }
-            }
 
-            if (!edgesToRemove.isEmpty()) {
-                graph.removeAllEdges(edgesToRemove);
+                if (!edgesToRemove.isEmpty()) {
+                    graph.removeAllEdges(edgesToRemove);
+                }
             }
             edgeFilter.finish();
         }
     }
 
+    private <K extends Element> Collection<K> getKeptElements(ElementFilter<K> filter, Graph graph) {
+        if (filter instanceof IndexedElementFilter && FilterUtils.isFullGraph(graph)) {
+            return ((IndexedElementFilter<K>) filter).getKeptElements(graph);
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds <code>subgraph</code>, a complete view, from <code>keptNodes</code>
+     * and the edges between them. The cost is proportional to the kept nodes
+     * and their degree rather than to the size of the graph.
+     */
+    private void retainNodes(Subgraph subgraph, Collection<Node> keptNodes) {
+        Graph mainGraph = subgraph.getModel().getGraph();
+        subgraph.clear();
+        subgraph.addAllNodes(keptNodes);
+
+        List<Edge> keptEdges = new ArrayList<>();
+        for (Node n : keptNodes) {
+            for (Edge e : mainGraph.getEdges(n)) {
+                if (e.getSource() == n && subgraph.contains(e.getTarget())) {
+                    keptEdges.add(e);
+                }
+            }
+        }
+        subgraph.addAllEdges(keptEdges);
+    }
+
     private AbstractQueryImpl simplifyQuery(AbstractQueryImpl query) {
         AbstractQueryImpl copy = query.copy();
         for (AbstractQueryImpl q : getTree(copy, false)) {
@@ -228,16 +272,10 @@ public class FilterProcessor {
         //Range
         if (filter instanceof RangeFilter) {
             RangeFilter rangeFilter = (RangeFilter) filter;
-            Number[] values = rangeFilter.getValues(graph);
+            RangeSummary summary = rangeFilter.getSummary(graph);
             NumberComparator comparator = new NumberComparator();
-            Number min = null;
-            Number max = null;
-            if (values != null) {
-                for (Number n : values) {
-                    min = min == null ? n : comparator.min(min, n);
-                    max = max == null ? n : comparator.max(max, n);
-                }
-            }
+            Number min = summary != null ? summary.getMinimum() : null;
+            Number max = summary != null ? summary.getMaximum() : null;
 
             Range previousRange = (Range) rangeFilter.getRangeProperty().getValue();
             Range newRange;
@@ -245,13 +283,13 @@ public class FilterProcessor {
                 newRange = null;
                 rangeFilter.getRangeProperty().setValue(newRange);
             } else if (previousRange == null) {
-                newRange = new Range(min, max, min, max, values);
+                newRange = new Range(min, max, min, max, summary);
                 rangeFilter.getRangeProperty().setValue(newRange);
             } else if (previousRange != null &&
                 (previousRange.getMinimum() == null || previousRange.getMaximum() == null)) {
                 //Opening projects
                 newRange = new Range(previousRange.getLowerBound(), previousRange.getUpperBound(), min, max,
-                    previousRange.isLeftInclusive(), previousRange.isRightInclusive(), values);
+                    previousRange.isLeftInclusive(), previousRange.isRightInclusive(), summary);
                 rangeFilter.getRangeProperty().setValue(newRange);
             } else {
                 //Collect some info
@@ -281,7 +319,7 @@ public class FilterProcessor {
                 }
 
                 newRange = new Range(lowerBound, upperBound, min, max, previousRange.isLeftInclusive(),
-                    previousRange.isRightInclusive(), values);
+                    previousRange.isRightInclusive(), summary);
                 if (!newRange.equals(previousRange)) {
                     rangeFilter.getRangeProperty().setValue(newRange);
                 }
@@ -0,0 +1,99 @@
+package org.gephi.filters.plugin;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.gephi.filters.api.RangeSummary;
+import org.gephi.filters.spi.FilterUtils;
+import org.gephi.graph.api.AttributeUtils;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.Index;
+
+/**
+ * Computes the {@link RangeSummary} of a number attribute column.
+ * <p>
+ * On the complete graph, static indexed columns are summarized from the
+ * column index: minimum and maximum are read directly and the histogram costs
+ * the number of distinct values. Otherwise values are copied once in a
+ * primitive array and summarized without boxing, except for big number
+ * columns whose bounds wouldn't survive the conversion to double.
+ */
+public final class AttributeRangeSummary {
+
+    private AttributeRangeSummary() {
+    }
+
+    public static RangeSummary of(Graph graph, Column column) {
+        if (IndexedSelection.isSupported(column) && isCompleteGraph(graph)) {
+            return ofIndex(graph, column);
+        }
+        Iterable<? extends Element> elements;
+        int size;
+        if (AttributeUtils.isNodeColumn(column)) {
+            elements = graph.getNodes();
+            size = graph.getNodeCount();
+        } else {
+            elements = graph.getEdges();
+            size = graph.getEdgeCount();
+        }
+        if (column.getTypeClass().equals(BigDecimal.class) || column.getTypeClass().equals(BigInteger.class)) {
+            return ofBoxed(graph, column, elements, size);
+        }
+        double[] values = new double[size];
+        Class<? extends Number> type = null;
+        int length = 0;
+        for (Element element : elements) {
+            Object val = element.getAttribute(column, graph.getView());
+            if (val != null) {
+                if (type == null) {
+                    type = ((Number) val).getClass();
+                }
+                values[length++] = ((Number) val).doubleValue();
+            }
+        }
+        if (type == null) {
+            return RangeSummary.of(null);
+        }
+        return RangeSummary.of(type, values, length);
+    }
+
+    private static RangeSummary ofBoxed(Graph graph, Column column, Iterable<? extends Element> elements,
+                                        int size) {
+        Number[] values = new Number[size];
+        int length = 0;
+        for (Element element : elements) {
+            Object val = element.getAttribute(column, graph.getView());
+            if (val != null) {
+                values[length++] = (Number) val;
+            }
+        }
+        return RangeSummary.of(Arrays.copyOf(values, length));
+    }
+
+    private static RangeSummary ofIndex(Graph graph, Column column) {
+        Index<? extends Element> index = AttributeUtils.isNodeColumn(column) ?
+            graph.getModel().getNodeIndex() : graph.getModel().getEdgeIndex();
+        Number min = index.getMinValue(column);
+        Number max = index.getMaxValue(column);
+        if (min == null || max == null) {
+            return RangeSummary.of(null);
+        }
+        int[] bins = new int[RangeSummary.BIN_COUNT];
+        int count = 0;
+        for (Object value : index.values(column)) {
+            if (value != null && !Double.isNaN(((Number) value).doubleValue())) {
+                int valueCount = index.count(column, value);
+                bins[RangeSummary.getBin(((Number) value).doubleValue(), min.doubleValue(), max.doubleValue(),
+                    bins.length)] += valueCount;
+                count += valueCount;
+            }
+        }
+        return new RangeSummary(min, max, count, bins);
+    }
+
+    private static boolean isCompleteGraph(Graph graph) {
+        return graph == graph.getModel().getGraph() || FilterUtils.isFullGraph(graph);
+    }
+}
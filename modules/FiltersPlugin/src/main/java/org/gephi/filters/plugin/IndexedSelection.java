@@ -0,0 +1,119 @@
+package org.gephi.filters.plugin;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import org.gephi.graph.api.AttributeUtils;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Index;
+
+/**
+ * Set of elements selected by attribute value through the main graph's
+ * column index. The postings of every selected value are OR-ed together, so
+ * building a selection costs the number of matching elements (plus the number
+ * of distinct values when a predicate is used) instead of the number of
+ * elements in the graph.
+ * <p>
+ * Only static, indexed attribute columns are supported, see
+ * {@link #isSupported(Column)}.
+ *
+ * @param <K> element class
+ */
+public class IndexedSelection<K extends Element> {
+
+    private final List<K> elements = new ArrayList<>();
+    private final BitSet storeIds = new BitSet();
+
+    private IndexedSelection() {
+    }
+
+    /**
+     * Returns <code>true</code> if values of <code>column</code> can be looked
+     * up in the main graph's index.
+     *
+     * @param column column
+     * @return <code>true</code> if selections on this column are supported
+     */
+    public static boolean isSupported(Column column) {
+        return column != null && column.getIndex() != -1 && column.isIndexed() && !column.isDynamic() &&
+            !column.isProperty();
+    }
+
+    /**
+     * Selects the elements whose value is one of <code>values</code>, which
+     * may contain <code>null</code>.
+     *
+     * @param <K>       element class
+     * @param model     graph model
+     * @param column    indexed column
+     * @param values    values to select
+     * @return selection
+     */
+    public static <K extends Element> IndexedSelection<K> ofValues(GraphModel model, Column column,
+                                                                 Collection<?> values) {
+        Index<K> index = getIndex(model, column);
+        IndexedSelection<K> selection = new IndexedSelection<>();
+        for (Object value : values) {
+            selection.addAll(index.get(column, value));
+        }
+        return selection;
+    }
+
+    /**
+     * Selects the elements whose value matches <code>predicate</code>. The
+     * predicate is tested once per distinct value in the column and is never
+     * called with <code>null</code>.
+     *
+     * @param <K>         element class
+     * @param model       graph model
+     * @param column      indexed column
+     * @param predicate   value predicate
+     * @param includeNull whether elements with a <code>null</code> value are
+     *                    selected
+     * @return selection
+     */
+    public static <K extends Element> IndexedSelection<K> ofMatchingValues(GraphModel model, Column column,
+                                                                         Predicate<Object> predicate,
+                                                                         boolean includeNull) {
+        Index<K> index = getIndex(model, column);
+        IndexedSelection<K> selection = new IndexedSelection<>();
+        for (Object value : index.values(column)) {
+            if (value != null && predicate.test(value)) {
+                selection.addAll(index.get(column, value));
+            }
+        }
+        if (includeNull) {
+            selection.addAll(index.get(column, null));
+        }
+        return selection;
+    }
+
+    private static <K extends Element> Index<K> getIndex(GraphModel model, Column column) {
+        if (AttributeUtils.isNodeColumn(column)) {
+            return (Index<K>) model.getNodeIndex();
+        } else {
+            return (Index<K>) model.getEdgeIndex();
+        }
+    }
+
+    private void addAll(Iterable<K> postings) {
+        for (K element : postings) {
+            if (!storeIds.get(element.getStoreId())) {
+                storeIds.set(element.getStoreId());
+                elements.add(element);
+            }
+        }
+    }
+
+    public boolean contains(Element element) {
+        return storeIds.get(element.getStoreId());
+    }
+
+    public List<K> getElements() {
+        return elements;
+    }
+}
@@ -43,19 +43,25 @@
 package org.gephi.filters.plugin.attribute;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractAttributeFilter;
 import org.gephi.filters.plugin.AbstractAttributeFilterBuilder;
+import org.gephi.filters.plugin.AttributeRangeSummary;
+import org.gephi.filters.plugin.IndexedSelection;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.CategoryBuilder;
 import org.gephi.filters.spi.EdgeFilter;
 import org.gephi.filters.spi.Filter;
 import org.gephi.filters.spi.FilterBuilder;
 import org.gephi.filters.spi.FilterProperty;
+import org.gephi.filters.spi.IndexedElementFilter;
 import org.gephi.filters.spi.NodeFilter;
 import org.gephi.filters.spi.RangeFilter;
 import org.gephi.graph.api.AttributeUtils;
@@ -141,11 +147,13 @@ public class AttributeEqualBuilder implements CategoryBuilder {
         }
     }
 
-    public static abstract class EqualStringFilter<K extends Element> extends AbstractAttributeFilter<K> {
+    public static abstract class EqualStringFilter<K extends Element> extends AbstractAttributeFilter<K>
+        implements IndexedElementFilter<K> {
 
         private String pattern;
         private boolean useRegex;
         private Pattern regex;
+        private IndexedSelection<K> selection;
 
         public EqualStringFilter(Column column) {
             super(NbBundle.getMessage(AttributeEqualBuilder.class, "AttributeEqualBuilder.name"),
@@ -158,6 +166,7 @@ public class AttributeEqualBuilder implements CategoryBuilder {
 
         @Override
         public boolean init(Graph graph) {
+            selection = null;
             return true;
         }
 
@@ -166,20 +175,49 @@ public class AttributeEqualBuilder implements CategoryBuilder {
             if (pattern == null) {
                 return true;
             }
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            if (indexedSelection != null) {
+                return indexedSelection.contains(element);
+            }
             Object val = element.getAttribute(column, graph.getView());
             if (val != null) {
-                String valString = column.isArray() ? AttributeUtils.printArray(val) : val.toString();
-                if (useRegex) {
-                    return regex.matcher(valString).matches();
+                return matches(val);
+            }
+            return false;
+        }
+
+        private boolean matches(Object val) {
+            String valString = column.isArray() ? AttributeUtils.printArray(val) : val.toString();
+            if (useRegex) {
+                return regex.matcher(valString).matches();
+            } else {
+                return pattern.equals(valString);
+            }
+        }
+
+        @Override
+        public Collection<K> getKeptElements(Graph graph) {
+            if (pattern == null) {
+                return null;
+            }
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            return indexedSelection != null ? indexedSelection.getElements() : null;
+        }
+
+        private IndexedSelection<K> getSelection(Graph graph) {
+            if (selection == null && IndexedSelection.isSupported(column)) {
+                if (!useRegex && column.getTypeClass().equals(String.class)) {
+                    selection = IndexedSelection.ofValues(graph.getModel(), column, Collections.singleton(pattern));
                 } else {
-                    return pattern.equals(valString);
+                    selection = IndexedSelection.ofMatchingValues(graph.getModel(), column, this::matches, false);
                 }
             }
-            return false;
+            return selection;
         }
 
         @Override
         public void finish() {
+            selection = null;
         }
 
         public String getPattern() {
@@ -240,10 +278,11 @@ public class AttributeEqualBuilder implements CategoryBuilder {
     }
 
     public static abstract class EqualNumberFilter<K extends Element> extends AbstractAttributeFilter<K>
-        implements RangeFilter {
+        implements RangeFilter, IndexedElementFilter<K> {
 
         private Number match;
         private Range range;
+        private IndexedSelection<K> selection;
 
         public EqualNumberFilter(Column column) {
             super(NbBundle.getMessage(AttributeEqualBuilder.class, "AttributeEqualBuilder.name"), column);
@@ -255,6 +294,7 @@ public class AttributeEqualBuilder implements CategoryBuilder {
 
         @Override
         public boolean init(Graph graph) {
+            selection = null;
             if (AttributeUtils.isNodeColumn(column)) {
                 return graph.getNodeCount() != 0;
             } else if (AttributeUtils.isEdgeColumn(column)) {
@@ -265,6 +305,10 @@ public class AttributeEqualBuilder implements CategoryBuilder {
 
         @Override
         public boolean evaluate(Graph graph, Element element) {
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            if (indexedSelection != null) {
+                return indexedSelection.contains(element);
+            }
             Object val = element.getAttribute(column, graph.getView());
             if (val != null) {
                 return val.equals(match);
@@ -272,8 +316,30 @@ public class AttributeEqualBuilder implements CategoryBuilder {
             return false;
         }
 
+        @Override
+        public Collection<K> getKeptElements(Graph graph) {
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            return indexedSelection != null ? indexedSelection.getElements() : null;
+        }
+
+        /**
+         * Built lazily as <code>match</code> may still be trimmed to the new
+         * range after {@link #init(Graph)}.
+         */
+        private IndexedSelection<K> getSelection(Graph graph) {
+            if (selection == null && match != null && IndexedSelection.isSupported(column)) {
+                if (match.getClass().equals(column.getTypeClass())) {
+                    selection = IndexedSelection.ofValues(graph.getModel(), column, Collections.singleton(match));
+                } else {
+                    selection = IndexedSelection.ofMatchingValues(graph.getModel(), column, match::equals, false);
+                }
+            }
+            return selection;
+        }
+
         @Override
         public void finish() {
+            selection = null;
         }
 
         @Override
@@ -297,6 +363,11 @@ public class AttributeEqualBuilder implements CategoryBuilder {
             return vals.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            return AttributeRangeSummary.of(graph, column);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[2];
@@ -362,9 +433,11 @@ public class AttributeEqualBuilder implements CategoryBuilder {
         }
     }
 
-    public static abstract class EqualBooleanFilter<K extends Element> extends AbstractAttributeFilter<K> {
+    public static abstract class EqualBooleanFilter<K extends Element> extends AbstractAttributeFilter<K>
+        implements IndexedElementFilter<K> {
 
         private boolean match = false;
+        private IndexedSelection<K> selection;
 
         public EqualBooleanFilter(Column column) {
             super(NbBundle.getMessage(AttributeEqualBuilder.class, "AttributeEqualBuilder.name"),
@@ -376,11 +449,16 @@ public class AttributeEqualBuilder implements CategoryBuilder {
 
         @Override
         public boolean init(Graph graph) {
+            selection = null;
             return true;
         }
 
         @Override
         public boolean evaluate(Graph graph, Element element) {
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            if (indexedSelection != null) {
+                return indexedSelection.contains(element);
+            }
             Object val = element.getAttribute(column, graph.getView());
             if (val != null) {
                 return val.equals(match);
@@ -388,8 +466,23 @@ public class AttributeEqualBuilder implements CategoryBuilder {
             return false;
         }
 
+        @Override
+        public Collection<K> getKeptElements(Graph graph) {
+            IndexedSelection<K> indexedSelection = getSelection(graph);
+            return indexedSelection != null ? indexedSelection.getElements() : null;
+        }
+
+        private IndexedSelection<K> getSelection(Graph graph) {
+            if (selection == null && column.getTypeClass().equals(Boolean.class) &&
+                IndexedSelection.isSupported(column)) {
+                selection = IndexedSelection.ofValues(graph.getModel(), column, Collections.singleton(match));
+            }
+            return selection;
+        }
+
         @Override
         public void finish() {
+            selection = null;
         }
 
         public boolean isMatch() {
@@ -47,8 +47,10 @@ import java.util.List;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractAttributeFilter;
 import org.gephi.filters.plugin.AbstractAttributeFilterBuilder;
+import org.gephi.filters.plugin.AttributeRangeSummary;
 import org.gephi.filters.plugin.graph.RangeUI;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.CategoryBuilder;
@@ -186,6 +188,11 @@ public class AttributeRangeBuilder implements CategoryBuilder {
             return vals.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            return AttributeRangeSummary.of(graph, column);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[1];
@@ -53,6 +53,9 @@ import org.gephi.filters.spi.ComplexFilter;
 import org.gephi.filters.spi.Filter;
 import org.gephi.filters.spi.FilterBuilder;
 import org.gephi.filters.spi.FilterProperty;
+import org.gephi.filters.spi.FilterUtils;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.ColumnObserver;
 import org.gephi.graph.api.Edge;
 import org.gephi.graph.api.Element;
 import org.gephi.graph.api.Graph;
@@ -60,9 +63,9 @@ import org.gephi.graph.api.GraphController;
 import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.Interval;
 import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Subgraph;
+import org.gephi.graph.api.Table;
 import org.gephi.graph.api.TimeRepresentation;
-import org.gephi.graph.api.types.IntervalSet;
-import org.gephi.graph.api.types.TimestampSet;
 import org.gephi.project.api.Workspace;
 import org.openide.util.Exceptions;
 import org.openide.util.Lookup;
@@ -140,6 +143,7 @@ public class DynamicRangeBuilder implements CategoryBuilder {
 
         @Override
         public void destroy(Filter filter) {
+            ((DynamicRangeFilter) filter).destroy();
         }
     }
 
@@ -150,6 +154,13 @@ public class DynamicRangeBuilder implements CategoryBuilder {
         private Interval visibleInterval;
         private Range range = new Range(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
         private boolean keepNull = true;
+        //Index
+        private GraphModel indexedModel;
+        private int indexedVersion;
+        private ColumnObserver nodeTimeSetObserver;
+        private ColumnObserver edgeTimeSetObserver;
+        private SlidingTimeIndex<Node> nodeIndex;
+        private SlidingTimeIndex<Edge> edgeIndex;
 
         public DynamicRangeFilter(GraphModel graphModel) {
             this.timeRepresentation = graphModel.getConfiguration().getTimeRepresentation();
@@ -159,48 +170,105 @@ public class DynamicRangeBuilder implements CategoryBuilder {
         public Graph filter(Graph graph) {
             visibleInterval = new Interval(range.getLowerDouble(), range.getUpperDouble());
 
-            List<Node> toRemoveNodes = new ArrayList<>();
-            for (Node n : graph.getNodes()) {
-                if (!evaluateElement(n)) {
-                    toRemoveNodes.add(n);
+            GraphModel graphModel = graph.getModel();
+            Graph mainGraph = graphModel.getGraph();
+            ensureIndex(mainGraph);
+            nodeIndex.setWindow(visibleInterval.getLow(), visibleInterval.getHigh());
+            edgeIndex.setWindow(visibleInterval.getLow(), visibleInterval.getHigh());
+
+            if (FilterUtils.isFullGraph(graph)) {
+                //The processor hands a new copy of the main view on every run, so there is no previous result to
+                //apply the window changes to. Moving the window only costs the intervals entering or leaving it,
+                //but rebuilding the view costs the elements in range.
+                Subgraph subgraph = (Subgraph) graph;
+                subgraph.clear();
+                subgraph.addAllNodes(nodeIndex.getVisible());
+                if (keepNull) {
+                    subgraph.addAllNodes(nodeIndex.getUnindexed());
                 }
-            }
-            graph.removeAllNodes(toRemoveNodes);
 
-            List<Edge> toRemoveEdge = new ArrayList<>();
-            for (Edge e : graph.getEdges()) {
-                if (!evaluateElement(e)) {
-                    toRemoveEdge.add(e);
+                List<Edge> toAddEdges = new ArrayList<>();
+                for (Edge e : edgeIndex.getVisible()) {
+                    if (subgraph.contains(e.getSource()) && subgraph.contains(e.getTarget())) {
+                        toAddEdges.add(e);
+                    }
+                }
+                if (keepNull) {
+                    for (Edge e : edgeIndex.getUnindexed()) {
+                        if (subgraph.contains(e.getSource()) && subgraph.contains(e.getTarget())) {
+                            toAddEdges.add(e);
+                        }
+                    }
+                }
+                subgraph.addAllEdges(toAddEdges);
+            } else {
+                List<Node> toRemoveNodes = new ArrayList<>();
+                for (Node n : graph.getNodes()) {
+                    if (!evaluateElement(nodeIndex, n)) {
+                        toRemoveNodes.add(n);
+                    }
+                }
+                graph.removeAllNodes(toRemoveNodes);
+
+                List<Edge> toRemoveEdge = new ArrayList<>();
+                for (Edge e : graph.getEdges()) {
+                    if (!evaluateElement(edgeIndex, e)) {
+                        toRemoveEdge.add(e);
+                    }
                 }
+                graph.removeAllEdges(toRemoveEdge);
             }
-            graph.removeAllEdges(toRemoveEdge);
 
-            graph.getModel().setTimeInterval(graph.getView(), visibleInterval);
+            graphModel.setTimeInterval(graph.getView(), visibleInterval);
 
             return graph;
         }
 
-        private boolean evaluateElement(Element element) {
-            if (timeRepresentation.equals(TimeRepresentation.INTERVAL)) {
-                IntervalSet timeSet = (IntervalSet) element.getAttribute("timeset");
-                if (timeSet != null) {
-                    for (Interval i : timeSet.toArray()) {
-                        if (visibleInterval.compareTo(i) == 0) {
-                            return true;
-                        }
-                    }
-                } else return keepNull;
-            } else {
-                TimestampSet timeSet = (TimestampSet) element.getAttribute("timeset");
-                if (timeSet != null) {
-                    for (double t : timeSet.toPrimitiveArray()) {
-                        if (visibleInterval.compareTo(t) == 0) {
-                            return true;
-                        }
-                    }
-                } else return keepNull;
+        private <T extends Element> boolean evaluateElement(SlidingTimeIndex<T> index, T element) {
+            if (index.isIndexed(element)) {
+                return index.isVisible(element);
+            }
+            return keepNull;
+        }
+
+        /**
+         * Builds the node and edge interval indexes from the main graph, unless
+         * they are still valid. They are invalidated when the graph structure
+         * or any timeset changes.
+         */
+        private void ensureIndex(Graph mainGraph) {
+            GraphModel graphModel = mainGraph.getModel();
+            int version = mainGraph.getVersion();
+            if (indexedModel != graphModel) {
+                destroyObservers();
+                nodeTimeSetObserver = createObserver(graphModel.getNodeTable());
+                edgeTimeSetObserver = createObserver(graphModel.getEdgeTable());
+                nodeIndex = null;
+            }
+            boolean timeSetChanged = nodeTimeSetObserver != null && nodeTimeSetObserver.hasColumnChanged();
+            timeSetChanged = (edgeTimeSetObserver != null && edgeTimeSetObserver.hasColumnChanged()) || timeSetChanged;
+            if (nodeIndex == null || indexedVersion != version || timeSetChanged) {
+                nodeIndex = new SlidingTimeIndex<>(mainGraph.getNodes(), timeRepresentation);
+                edgeIndex = new SlidingTimeIndex<>(mainGraph.getEdges(), timeRepresentation);
+                indexedModel = graphModel;
+                indexedVersion = version;
+            }
+        }
+
+        private ColumnObserver createObserver(Table table) {
+            Column column = table.getColumn("timeset");
+            return column != null ? column.createColumnObserver(false) : null;
+        }
+
+        private void destroyObservers() {
+            if (nodeTimeSetObserver != null) {
+                nodeTimeSetObserver.destroy();
+                nodeTimeSetObserver = null;
+            }
+            if (edgeTimeSetObserver != null) {
+                edgeTimeSetObserver.destroy();
+                edgeTimeSetObserver = null;
             }
-            return false;
         }
 
         @Override
@@ -244,6 +312,10 @@ public class DynamicRangeBuilder implements CategoryBuilder {
         }
 
         public void destroy() {
+            destroyObservers();
+            indexedModel = null;
+            nodeIndex = null;
+            edgeIndex = null;
         }
     }
 }
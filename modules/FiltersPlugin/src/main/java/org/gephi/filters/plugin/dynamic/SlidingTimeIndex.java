@@ -0,0 +1,258 @@
+package org.gephi.filters.plugin.dynamic;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Interval;
+import org.gephi.graph.api.TimeRepresentation;
+import org.gephi.graph.api.types.IntervalSet;
+import org.gephi.graph.api.types.TimestampSet;
+
+/**
+ * Interval index over the timesets of a set of elements that keeps track of
+ * which elements overlap a moving time window.
+ * <p>
+ * Every interval (or timestamp) is sorted both by its start and by its end.
+ * An interval overlaps the window <code>[low, high]</code> when
+ * <code>start &lt;= high</code> and <code>end &gt;= low</code>, so moving the
+ * window only changes the state of the intervals whose start lies between the
+ * old and new <code>high</code>, or whose end lies between the old and new
+ * <code>low</code>. Those are found by binary search, which makes each
+ * {@link #setWindow(double, double)} call proportional to the number of
+ * intervals entering or leaving the window instead of the number of elements.
+ * <p>
+ * Elements without timeset aren't indexed and are returned by
+ * {@link #getUnindexed()}.
+ */
+class SlidingTimeIndex<T extends Element> {
+
+    private final List<T> elements;
+    private final List<T> unindexed;
+    private final int[] storeIdToIndex;
+    //Intervals
+    private final int[] owners;
+    private final double[] starts;
+    private final double[] ends;
+    private final int[] byStart;
+    private final int[] byEnd;
+    private final double[] sortedStarts;
+    private final double[] sortedEnds;
+    //Window state
+    private final int[] overlapCounts;
+    private final int[] visiblePositions;
+    private final int[] visible;
+    private int visibleCount;
+    private final int[] touched;
+    private int touchStamp;
+    private boolean initialized;
+    private double low;
+    private double high;
+
+    SlidingTimeIndex(Iterable<T> source, TimeRepresentation timeRepresentation) {
+        elements = new ArrayList<>();
+        unindexed = new ArrayList<>();
+        IntArrayList ownerList = new IntArrayList();
+        DoubleArrayList startList = new DoubleArrayList();
+        DoubleArrayList endList = new DoubleArrayList();
+        int maxStoreId = -1;
+        for (T element : source) {
+            maxStoreId = Math.max(maxStoreId, element.getStoreId());
+            Object timeSet = element.getAttribute("timeset");
+            if (timeSet == null) {
+                unindexed.add(element);
+                continue;
+            }
+            int index = elements.size();
+            if (timeRepresentation.equals(TimeRepresentation.INTERVAL)) {
+                for (Interval i : ((IntervalSet) timeSet).toArray()) {
+                    ownerList.add(index);
+                    startList.add(i.getLow());
+                    endList.add(i.getHigh());
+                }
+            } else {
+                for (double t : ((TimestampSet) timeSet).toPrimitiveArray()) {
+                    ownerList.add(index);
+                    startList.add(t);
+                    endList.add(t);
+                }
+            }
+            elements.add(element);
+        }
+
+        storeIdToIndex = new int[maxStoreId + 1];
+        Arrays.fill(storeIdToIndex, -1);
+        for (int i = 0; i < elements.size(); i++) {
+            storeIdToIndex[elements.get(i).getStoreId()] = i;
+        }
+
+        owners = ownerList.toIntArray();
+        starts = startList.toDoubleArray();
+        ends = endList.toDoubleArray();
+        int intervalCount = owners.length;
+
+        byStart = new int[intervalCount];
+        byEnd = new int[intervalCount];
+        for (int i = 0; i < intervalCount; i++) {
+            byStart[i] = i;
+            byEnd[i] = i;
+        }
+        IntArrays.quickSort(byStart, (a, b) -> Double.compare(starts[a], starts[b]));
+        IntArrays.quickSort(byEnd, (a, b) -> Double.compare(ends[a], ends[b]));
+        sortedStarts = new double[intervalCount];
+        sortedEnds = new double[intervalCount];
+        for (int i = 0; i < intervalCount; i++) {
+            sortedStarts[i] = starts[byStart[i]];
+            sortedEnds[i] = ends[byEnd[i]];
+        }
+
+        overlapCounts = new int[elements.size()];
+        visiblePositions = new int[elements.size()];
+        Arrays.fill(visiblePositions, -1);
+        visible = new int[elements.size()];
+        touched = new int[intervalCount];
+    }
+
+    /**
+     * Moves the window to <code>[newLow, newHigh]</code>, updating only the
+     * intervals which entered or left the window.
+     *
+     * @param newLow  window lower bound, inclusive
+     * @param newHigh window upper bound, inclusive
+     */
+    void setWindow(double newLow, double newHigh) {
+        if (!initialized) {
+            for (int i = 0; i < sortedStarts.length && sortedStarts[i] <= newHigh; i++) {
+                int interval = byStart[i];
+                if (ends[interval] >= newLow) {
+                    increment(owners[interval]);
+                }
+            }
+            initialized = true;
+        } else if (newLow != low || newHigh != high) {
+            touchStamp++;
+
+            //Intervals with start in (min(high, newHigh), max(high, newHigh)]
+            int from = firstAbove(sortedStarts, Math.min(high, newHigh));
+            int to = firstAbove(sortedStarts, Math.max(high, newHigh));
+            for (int i = from; i < to; i++) {
+                update(byStart[i], newLow, newHigh);
+            }
+
+            //Intervals with end in [min(low, newLow), max(low, newLow))
+            from = firstAtLeast(sortedEnds, Math.min(low, newLow));
+            to = firstAtLeast(sortedEnds, Math.max(low, newLow));
+            for (int i = from; i < to; i++) {
+                update(byEnd[i], newLow, newHigh);
+            }
+        }
+        low = newLow;
+        high = newHigh;
+    }
+
+    private void update(int interval, double newLow, double newHigh) {
+        if (touched[interval] == touchStamp) {
+            return;
+        }
+        touched[interval] = touchStamp;
+        boolean before = starts[interval] <= high && ends[interval] >= low;
+        boolean after = starts[interval] <= newHigh && ends[interval] >= newLow;
+        if (before && !after) {
+            decrement(owners[interval]);
+        } else if (!before && after) {
+            increment(owners[interval]);
+        }
+    }
+
+    private void increment(int element) {
+        if (overlapCounts[element]++ == 0) {
+            visiblePositions[element] = visibleCount;
+            visible[visibleCount++] = element;
+        }
+    }
+
+    private void decrement(int element) {
+        if (--overlapCounts[element] == 0) {
+            int position = visiblePositions[element];
+            int last = visible[--visibleCount];
+            visible[position] = last;
+            visiblePositions[last] = position;
+            visiblePositions[element] = -1;
+        }
+    }
+
+    private static int firstAbove(double[] sorted, double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int firstAtLeast(double[] sorted, double value) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>element</code> has a timeset and is
+     * part of this index.
+     */
+    boolean isIndexed(T element) {
+        int storeId = element.getStoreId();
+        if (storeId < 0 || storeId >= storeIdToIndex.length) {
+            return false;
+        }
+        int index = storeIdToIndex[storeId];
+        return index != -1 && elements.get(index) == element;
+    }
+
+    /**
+     * Returns <code>true</code> if <code>element</code> is indexed and
+     * overlaps the current window.
+     */
+    boolean isVisible(T element) {
+        return isIndexed(element) && overlapCounts[storeIdToIndex[element.getStoreId()]] > 0;
+    }
+
+    /**
+     * Returns the indexed elements overlapping the current window. The list
+     * is a live view and is only valid until the next window change.
+     */
+    List<T> getVisible() {
+        return new AbstractList<T>() {
+            @Override
+            public T get(int index) {
+                return elements.get(visible[index]);
+            }
+
+            @Override
+            public int size() {
+                return visibleCount;
+            }
+        };
+    }
+
+    List<T> getUnindexed() {
+        return unindexed;
+    }
+}
@@ -48,6 +48,7 @@ import javax.swing.Icon;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractFilter;
 import org.gephi.filters.plugin.graph.RangeUI;
 import org.gephi.filters.spi.Category;
@@ -142,6 +143,16 @@ public class EdgeWeightBuilder implements FilterBuilder {
             return values.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            double[] values = new double[graph.getEdgeCount()];
+            int i = 0;
+            for (Edge e : graph.getEdges()) {
+                values[i++] = e.getWeight(graph.getView());
+            }
+            return RangeSummary.of(Double.class, values, i);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[0];
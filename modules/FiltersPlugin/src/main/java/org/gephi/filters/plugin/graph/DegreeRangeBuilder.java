@@ -48,6 +48,7 @@ import javax.swing.Icon;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractFilter;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.Filter;
@@ -141,6 +142,16 @@ public class DegreeRangeBuilder implements FilterBuilder {
             return values.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            double[] values = new double[graph.getNodeCount()];
+            int i = 0;
+            for (Node n : graph.getNodes()) {
+                values[i++] = graph.getDegree(n);
+            }
+            return RangeSummary.of(Integer.class, values, i);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[0];
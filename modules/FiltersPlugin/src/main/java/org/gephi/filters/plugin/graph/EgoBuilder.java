@@ -43,7 +43,6 @@ Portions Copyrighted 2011 Gephi Consortium.
 package org.gephi.filters.plugin.graph;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import javax.swing.Icon;
@@ -56,6 +55,7 @@ import org.gephi.filters.spi.FilterBuilder;
 import org.gephi.filters.spi.FilterProperty;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Subgraph;
 import org.gephi.project.api.Workspace;
 import org.openide.util.Exceptions;
 import org.openide.util.Lookup;
@@ -111,6 +111,7 @@ public class EgoBuilder implements FilterBuilder {
         private String pattern = "";
         private boolean self = true;
         private int depth = 1;
+        private int direction = NeighborhoodSearch.BOTH;
 
         @Override
         public Graph filter(Graph graph) {
@@ -125,40 +126,12 @@ public class EgoBuilder implements FilterBuilder {
                 }
             }
 
-            Set<Node> result = new HashSet<>();
-
-            Set<Node> neighbours = new HashSet<>(nodes);
-
-            for (int i = 0; i < depth; i++) {
-                boolean newNodes = false;
-                Node[] nei = neighbours.toArray(new Node[0]);
-                neighbours.clear();
-                for (Node n : nei) {
-                    for (Node neighbor : graph.getNeighbors(n)) {
-                        if (!result.contains(neighbor)) {
-                            neighbours.add(neighbor);
-                            newNodes = result.add(neighbor) || newNodes;
-                        }
-                    }
-                }
-                if (!newNodes || neighbours.isEmpty()) {
-                    break;
-                }
-            }
+            Set<Node> result = new NeighborhoodSearch(graph, direction).search(nodes, depth, self);
 
-            if (self) {
-                result.addAll(nodes);
-            } else {
-                result.removeAll(nodes);
-            }
+            Subgraph subgraph = graph.getModel().getGraph(graph.getView());
+            subgraph.retainNodes(result);
 
-            for (Node node : graph.getNodes().toArray()) {
-                if (!result.contains(node)) {
-                    graph.removeNode(node);
-                }
-            }
-
-            return graph;
+            return subgraph;
         }
 
         @Override
@@ -172,7 +145,8 @@ public class EgoBuilder implements FilterBuilder {
                 return new FilterProperty[] {
                     FilterProperty.createProperty(this, String.class, "pattern"),
                     FilterProperty.createProperty(this, Integer.class, "depth"),
-                    FilterProperty.createProperty(this, Boolean.class, "self")};
+                    FilterProperty.createProperty(this, Boolean.class, "self"),
+                    FilterProperty.createProperty(this, Integer.class, "direction")};
             } catch (NoSuchMethodException ex) {
                 Exceptions.printStackTrace(ex);
             }
@@ -202,5 +176,13 @@ public class EgoBuilder implements FilterBuilder {
         public void setSelf(boolean self) {
             this.self = self;
         }
+
+        public Integer getDirection() {
+            return direction;
+        }
+
+        public void setDirection(Integer direction) {
+            this.direction = direction;
+        }
     }
 }
@@ -42,6 +42,7 @@ Portions Copyrighted 2011 Gephi Consortium.
 
 package org.gephi.filters.plugin.graph;
 
+import java.util.List;
 import javax.swing.Icon;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
@@ -50,7 +51,9 @@ import org.gephi.filters.spi.ComplexFilter;
 import org.gephi.filters.spi.Filter;
 import org.gephi.filters.spi.FilterBuilder;
 import org.gephi.filters.spi.FilterProperty;
+import org.gephi.filters.spi.FilterUtils;
 import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.Node;
 import org.gephi.project.api.Workspace;
 import org.openide.util.Exceptions;
@@ -106,22 +109,48 @@ public class KCoreBuilder implements FilterBuilder {
 
         private FilterProperty[] filterProperties;
         private Integer k = 1;
+        private boolean writeColumn = false;
+        //Cache
+        private GraphModel cachedModel;
+        private int cachedVersion;
+        private KCoreDecomposition cachedDecomposition;
 
         @Override
         public Graph filter(Graph graph) {
-            int removed = 0;
-            do {
-                removed = 0;
-                for (Node n : graph.getNodes().toArray()) {
-                    if (graph.getDegree(n) < k) {
-                        graph.removeNode(n);
-                        removed++;
-                    }
-                }
-            } while (removed > 0);
+            KCoreDecomposition decomposition = getDecomposition(graph);
+            if (writeColumn) {
+                decomposition.writeColumn(graph.getModel());
+            }
+
+            List<Node> nodesToRemove = decomposition.getNodesBelow(graph, k);
+            if (!nodesToRemove.isEmpty()) {
+                graph.removeAllNodes(nodesToRemove);
+            }
             return graph;
         }
 
+        /**
+         * Returns the core decomposition of <code>graph</code>. When the graph
+         * is a full copy of the main graph the result is cached against the
+         * main graph version, so changing <code>k</code> doesn't recompute it.
+         *
+         * @param graph graph to decompose
+         * @return core decomposition
+         */
+        public KCoreDecomposition getDecomposition(Graph graph) {
+            if (!FilterUtils.isFullGraph(graph)) {
+                return KCoreDecomposition.compute(graph);
+            }
+            GraphModel model = graph.getModel();
+            int version = model.getGraph().getVersion();
+            if (cachedDecomposition == null || cachedModel != model || cachedVersion != version) {
+                cachedDecomposition = KCoreDecomposition.compute(graph);
+                cachedModel = model;
+                cachedVersion = version;
+            }
+            return cachedDecomposition;
+        }
+
         @Override
         public String getName() {
             return NbBundle.getMessage(KCoreBuilder.class, "KCoreBuilder.name");
@@ -133,7 +162,8 @@ public class KCoreBuilder implements FilterBuilder {
                 filterProperties = new FilterProperty[0];
                 try {
                     filterProperties = new FilterProperty[] {
-                        FilterProperty.createProperty(this, Integer.class, "k"),};
+                        FilterProperty.createProperty(this, Integer.class, "k"),
+                        FilterProperty.createProperty(this, Boolean.class, "writeColumn")};
                 } catch (Exception ex) {
                     Exceptions.printStackTrace(ex);
                 }
@@ -148,5 +178,13 @@ public class KCoreBuilder implements FilterBuilder {
         public void setK(Integer k) {
             this.k = k;
         }
+
+        public boolean isWriteColumn() {
+            return writeColumn;
+        }
+
+        public void setWriteColumn(boolean writeColumn) {
+            this.writeColumn = writeColumn;
+        }
     }
 }
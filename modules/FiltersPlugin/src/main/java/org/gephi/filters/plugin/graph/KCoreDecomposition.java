@@ -0,0 +1,236 @@
+package org.gephi.filters.plugin.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Table;
+import org.openide.util.NbBundle;
+
+/**
+ * Core numbers of every node in a graph, computed with the bucket-based
+ * algorithm from Batagelj and Zaversnik in <code>O(V+E)</code>.
+ * <p>
+ * The adjacency of the graph is copied once into primitive arrays indexed by
+ * node position, so the decomposition doesn't touch the graph structure while
+ * it runs. A node belongs to the k-core if and only if its core number is
+ * greater or equal to <code>k</code>.
+ * <p>
+ * Core numbers are kept by node store id, without references to the nodes, so
+ * the decomposition is only valid as long as the graph doesn't change.
+ */
+public class KCoreDecomposition {
+
+    public static final String CORE_NUMBER = "corenumber";
+
+    private final int[] coreNumbers;
+    private final int nodeCount;
+    private final int maxCore;
+
+    private KCoreDecomposition(int[] coreNumbers, int nodeCount, int maxCore) {
+        this.coreNumbers = coreNumbers;
+        this.nodeCount = nodeCount;
+        this.maxCore = maxCore;
+    }
+
+    /**
+     * Computes the core numbers of all nodes in <code>graph</code>. The degree
+     * used is the same as {@link Graph#getDegree(Node)}, i.e. parallel edges
+     * are counted separately and self-loops count twice.
+     * <p>
+     * The caller is responsible for holding the graph's read lock.
+     *
+     * @param graph graph to decompose
+     * @return the decomposition
+     */
+    public static KCoreDecomposition compute(Graph graph) {
+        Node[] nodes = graph.getNodes().toArray();
+        int nodeCount = nodes.length;
+
+        int maxStoreId = -1;
+        for (Node n : nodes) {
+            maxStoreId = Math.max(maxStoreId, n.getStoreId());
+        }
+        int[] storeIdToIndex = new int[maxStoreId + 1];
+        Arrays.fill(storeIdToIndex, -1);
+        for (int i = 0; i < nodeCount; i++) {
+            storeIdToIndex[nodes[i].getStoreId()] = i;
+        }
+
+        //Degrees and endpoints, as primitive arrays
+        Edge[] edges = graph.getEdges().toArray();
+        int[] sources = new int[edges.length];
+        int[] targets = new int[edges.length];
+        int[] degrees = new int[nodeCount];
+        for (int i = 0; i < edges.length; i++) {
+            int source = storeIdToIndex[edges[i].getSource().getStoreId()];
+            int target = storeIdToIndex[edges[i].getTarget().getStoreId()];
+            sources[i] = source;
+            targets[i] = target;
+            degrees[source]++;
+            degrees[target]++;
+        }
+
+        //Compressed adjacency
+        int[] offsets = new int[nodeCount + 1];
+        for (int i = 0; i < nodeCount; i++) {
+            offsets[i + 1] = offsets[i] + degrees[i];
+        }
+        int[] adjacency = new int[offsets[nodeCount]];
+        int[] cursor = Arrays.copyOf(offsets, nodeCount);
+        for (int i = 0; i < edges.length; i++) {
+            adjacency[cursor[sources[i]]++] = targets[i];
+            adjacency[cursor[targets[i]]++] = sources[i];
+        }
+
+        int maxCore = decompose(degrees, offsets, adjacency);
+
+        //Reuse the store id mapping for the core numbers
+        int[] coreNumbers = storeIdToIndex;
+        for (int i = 0; i < nodeCount; i++) {
+            coreNumbers[nodes[i].getStoreId()] = degrees[i];
+        }
+        return new KCoreDecomposition(coreNumbers, nodeCount, maxCore);
+    }
+
+    /**
+     * Batagelj-Zaversnik: nodes are kept sorted by current degree in
+     * <code>vert</code>, with <code>bin</code> holding where each degree
+     * starts. Processing a node lowers its higher-degree neighbours by one,
+     * moving each to the front of its bin in constant time. On return,
+     * <code>degrees</code> holds the core numbers.
+     */
+    private static int decompose(int[] degrees, int[] offsets, int[] adjacency) {
+        int nodeCount = degrees.length;
+        int maxDegree = 0;
+        for (int d : degrees) {
+            maxDegree = Math.max(maxDegree, d);
+        }
+
+        int[] bin = new int[maxDegree + 1];
+        for (int d : degrees) {
+            bin[d]++;
+        }
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int count = bin[d];
+            bin[d] = start;
+            start += count;
+        }
+
+        int[] pos = new int[nodeCount];
+        int[] vert = new int[nodeCount];
+        for (int v = 0; v < nodeCount; v++) {
+            pos[v] = bin[degrees[v]];
+            vert[pos[v]] = v;
+            bin[degrees[v]]++;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+
+        int maxCore = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            int v = vert[i];
+            int dv = degrees[v];
+            maxCore = Math.max(maxCore, dv);
+            for (int j = offsets[v]; j < offsets[v + 1]; j++) {
+                int u = adjacency[j];
+                int du = degrees[u];
+                if (du > dv) {
+                    int pu = pos[u];
+                    int pw = bin[du];
+                    int w = vert[pw];
+                    if (u != w) {
+                        pos[u] = pw;
+                        vert[pu] = w;
+                        pos[w] = pu;
+                        vert[pw] = u;
+                    }
+                    bin[du]++;
+                    degrees[u] = du - 1;
+                }
+            }
+        }
+        return maxCore;
+    }
+
+    /**
+     * Returns the core number of <code>node</code>, or <code>-1</code> if the
+     * node wasn't part of the decomposed graph.
+     *
+     * @param node node
+     * @return core number or -1
+     */
+    public int getCoreNumber(Node node) {
+        int storeId = node.getStoreId();
+        if (storeId < 0 || storeId >= coreNumbers.length) {
+            return -1;
+        }
+        return coreNumbers[storeId];
+    }
+
+    public int getMaxCore() {
+        return maxCore;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the nodes of <code>graph</code> which aren't part of the
+     * <code>k</code>-core. The graph should be the decomposed graph.
+     *
+     * @param graph decomposed graph
+     * @param k     core threshold
+     * @return nodes with a core number lower than <code>k</code>
+     */
+    public List<Node> getNodesBelow(Graph graph, int k) {
+        List<Node> result = new ArrayList<>();
+        if (k <= 0) {
+            return result;
+        }
+        for (Node n : graph.getNodes()) {
+            if (getCoreNumber(n) < k) {
+                result.add(n);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes the core numbers into the {@link #CORE_NUMBER} column of the node
+     * table, creating it if needed. Nodes which weren't part of the decomposed
+     * graph have their value cleared, so the column never holds core numbers
+     * from a previous decomposition.
+     * <p>
+     * The caller is responsible for holding the graph's write lock.
+     *
+     * @param graphModel graph model of the decomposed graph
+     * @return the column the values were written to
+     */
+    public Column writeColumn(GraphModel graphModel) {
+        Table nodeTable = graphModel.getNodeTable();
+        Column column = nodeTable.getColumn(CORE_NUMBER);
+        if (column == null) {
+            column = nodeTable.addColumn(CORE_NUMBER,
+                NbBundle.getMessage(KCoreDecomposition.class, "KCoreDecomposition.nodecolumn.CoreNumber"),
+                Integer.class, null);
+        }
+        for (Node n : graphModel.getGraph().getNodes()) {
+            int coreNumber = getCoreNumber(n);
+            if (coreNumber != -1) {
+                n.setAttribute(column, coreNumber);
+            } else {
+                n.removeAttribute(column);
+            }
+        }
+        return column;
+    }
+}
@@ -48,6 +48,7 @@ import javax.swing.Icon;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractFilter;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.Filter;
@@ -156,6 +157,23 @@ public class MutualDegreeRangeBuilder implements FilterBuilder {
             return values.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            DirectedGraph dgraph = (DirectedGraph) graph;
+            double[] values = new double[dgraph.getNodeCount()];
+            int i = 0;
+            for (Node n : dgraph.getNodes()) {
+                int degree = 0;
+                for (Edge e : dgraph.getOutEdges(n)) {
+                    if (dgraph.getMutualEdge(e) != null) {
+                        degree++;
+                    }
+                }
+                values[i++] = degree;
+            }
+            return RangeSummary.of(Integer.class, values, i);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[0];
@@ -0,0 +1,221 @@
+package org.gephi.filters.plugin.graph;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.Node;
+
+/**
+ * Level-synchronous breadth-first search from a set of source nodes, as used
+ * by the ego and neighbors filters.
+ * <p>
+ * Visited nodes are tracked in a bitset over store ids, so every node is
+ * expanded at most once whatever the depth. Levels are expanded through the
+ * graph API until a frontier reaches {@link #PARALLEL_FRONTIER} nodes. The
+ * adjacency is then copied once into primitive arrays and the remaining levels
+ * are expanded in parallel on the copy, so worker threads never touch the
+ * graph or its lock.
+ * <p>
+ * The caller is responsible for holding the graph's read lock.
+ */
+public class NeighborhoodSearch {
+
+    public static final int BOTH = 0;
+    public static final int OUT = 1;
+    public static final int IN = 2;
+    static final int PARALLEL_FRONTIER = 1 << 12;
+    private static final int CHUNK_SIZE = 1 << 10;
+
+    private final Graph graph;
+    private final int direction;
+    private final boolean parallel;
+    //Adjacency copy, indexed by store id
+    private Node[] nodes;
+    private int[] offsets;
+    private int[] adjacency;
+
+    public NeighborhoodSearch(Graph graph, int direction) {
+        this(graph, direction, Runtime.getRuntime().availableProcessors() > 1);
+    }
+
+    NeighborhoodSearch(Graph graph, int direction, boolean parallel) {
+        this.graph = graph;
+        this.direction = graph.isUndirected() ? BOTH : direction;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the nodes at distance at most <code>depth</code> from one of
+     * the <code>sources</code>, following edges in the search direction.
+     * Undirected edges are followed both ways.
+     *
+     * @param sources        source nodes
+     * @param depth          maximum distance, <code>Integer.MAX_VALUE</code>
+     *                       for no limit
+     * @param includeSources whether sources are part of the result
+     * @return reached nodes
+     */
+    public Neighborhood search(Collection<? extends Node> sources, int depth, boolean includeSources) {
+        Neighborhood result = new Neighborhood();
+        BitSet visited = new BitSet();
+        List<Node> frontier = new ArrayList<>();
+        for (Node source : sources) {
+            if (!visited.get(source.getStoreId())) {
+                visited.set(source.getStoreId());
+                frontier.add(source);
+                if (includeSources) {
+                    result.add(source);
+                }
+            }
+        }
+
+        int level = 0;
+        while (level < depth && !frontier.isEmpty() && !(parallel && frontier.size() >= PARALLEL_FRONTIER)) {
+            List<Node> next = new ArrayList<>();
+            for (Node node : frontier) {
+                for (Edge edge : graph.getEdges(node)) {
+                    if (isFollowed(edge, node)) {
+                        Node neighbor = graph.getOpposite(node, edge);
+                        if (!visited.get(neighbor.getStoreId())) {
+                            visited.set(neighbor.getStoreId());
+                            next.add(neighbor);
+                            result.add(neighbor);
+                        }
+                    }
+                }
+            }
+            frontier = next;
+            level++;
+        }
+
+        if (level < depth && !frontier.isEmpty()) {
+            copyAdjacency();
+            int[] storeIds = new int[frontier.size()];
+            for (int i = 0; i < storeIds.length; i++) {
+                storeIds[i] = frontier.get(i).getStoreId();
+            }
+            for (; level < depth && storeIds.length > 0; level++) {
+                storeIds = expand(storeIds, visited);
+                for (int storeId : storeIds) {
+                    result.add(nodes[storeId]);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isFollowed(Edge edge, Node from) {
+        if (direction == BOTH || !edge.isDirected()) {
+            return true;
+        }
+        return direction == OUT ? edge.getSource() == from : edge.getTarget() == from;
+    }
+
+    private int[] expand(int[] frontier, BitSet visited) {
+        int chunks = (frontier.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        //Visited is only read while chunks are expanded
+        int[][] candidates = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            IntArrayList local = new IntArrayList();
+            int end = Math.min(frontier.length, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                int storeId = frontier[i];
+                for (int j = offsets[storeId]; j < offsets[storeId + 1]; j++) {
+                    if (!visited.get(adjacency[j])) {
+                        local.add(adjacency[j]);
+                    }
+                }
+            }
+            return local.toIntArray();
+        }).toArray(int[][]::new);
+
+        IntArrayList next = new IntArrayList();
+        for (int[] chunk : candidates) {
+            for (int storeId : chunk) {
+                if (!visited.get(storeId)) {
+                    visited.set(storeId);
+                    next.add(storeId);
+                }
+            }
+        }
+        return next.toIntArray();
+    }
+
+    private void copyAdjacency() {
+        int maxStoreId = -1;
+        for (Node n : graph.getNodes()) {
+            maxStoreId = Math.max(maxStoreId, n.getStoreId());
+        }
+        nodes = new Node[maxStoreId + 1];
+        for (Node n : graph.getNodes()) {
+            nodes[n.getStoreId()] = n;
+        }
+
+        Edge[] edges = graph.getEdges().toArray();
+        offsets = new int[maxStoreId + 2];
+        for (Edge edge : edges) {
+            if (isFollowed(edge, edge.getSource())) {
+                offsets[edge.getSource().getStoreId() + 1]++;
+            }
+            if (isFollowed(edge, edge.getTarget())) {
+                offsets[edge.getTarget().getStoreId() + 1]++;
+            }
+        }
+        for (int i = 0; i <= maxStoreId; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        adjacency = new int[offsets[maxStoreId + 1]];
+        int[] cursor = new int[maxStoreId + 1];
+        System.arraycopy(offsets, 0, cursor, 0, maxStoreId + 1);
+        for (Edge edge : edges) {
+            int source = edge.getSource().getStoreId();
+            int target = edge.getTarget().getStoreId();
+            if (isFollowed(edge, edge.getSource())) {
+                adjacency[cursor[source]++] = target;
+            }
+            if (isFollowed(edge, edge.getTarget())) {
+                adjacency[cursor[target]++] = source;
+            }
+        }
+    }
+
+    /**
+     * Set of nodes reached by a search, with constant-time lookup by store id.
+     */
+    public static class Neighborhood extends AbstractSet<Node> {
+
+        private final List<Node> nodes = new ArrayList<>();
+        private final BitSet storeIds = new BitSet();
+
+        @Override
+        public boolean add(Node node) {
+            if (storeIds.get(node.getStoreId())) {
+                return false;
+            }
+            storeIds.set(node.getStoreId());
+            return nodes.add(node);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Node && storeIds.get(((Node) o).getStoreId());
+        }
+
+        @Override
+        public Iterator<Node> iterator() {
+            return Collections.unmodifiableList(nodes).iterator();
+        }
+
+        @Override
+        public int size() {
+            return nodes.size();
+        }
+    }
+}
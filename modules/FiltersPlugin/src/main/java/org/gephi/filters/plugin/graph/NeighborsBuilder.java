@@ -42,8 +42,9 @@ Portions Copyrighted 2011 Gephi Consortium.
 
 package org.gephi.filters.plugin.graph;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.swing.Icon;
 import javax.swing.JPanel;
@@ -56,6 +57,7 @@ import org.gephi.filters.spi.FilterProperty;
 import org.gephi.graph.api.Edge;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Subgraph;
 import org.gephi.project.api.Workspace;
 import org.openide.util.Exceptions;
 import org.openide.util.Lookup;
@@ -110,56 +112,31 @@ public class NeighborsBuilder implements FilterBuilder {
 
         private boolean self = true;
         private int depth = 1;
+        private int direction = NeighborhoodSearch.BOTH;
 
         @Override
         public Graph filter(Graph graph) {
-            Set<Node> result = new HashSet<>();
-
             Collection<Node> nodes = graph.getNodes().toCollection();
 
-            Set<Node> neighbours = new HashSet<>(nodes);
-
-            //Put all neighbors into result
+            //Expand over the whole graph, as neighbors may have been filtered out
             Graph mainGraph = graph.getModel().getGraph();
-            for (int i = 0; i < depth; i++) {
-                boolean newNodes = false;
-                Node[] nei = neighbours.toArray(new Node[0]);
-                neighbours.clear();
-                for (Node n : nei) {
-                    //Extract all neighbors of n
-                    for (Node neighbor : mainGraph.getNeighbors(n)) {
-                        neighbours.add(neighbor);
-                        newNodes = result.add(neighbor) || newNodes;
+            Set<Node> result = new NeighborhoodSearch(mainGraph, direction).search(nodes, depth, self);
+
+            //Rebuild the view from the result and the edges between its nodes
+            Subgraph subgraph = graph.getModel().getGraph(graph.getView());
+            subgraph.clear();
+            subgraph.addAllNodes(result);
+            List<Edge> edges = new ArrayList<>();
+            for (Node node : result) {
+                for (Edge edge : mainGraph.getEdges(node)) {
+                    if (edge.getSource() == node && result.contains(edge.getTarget())) {
+                        edges.add(edge);
                     }
                 }
-                if (!newNodes || neighbours.isEmpty()) {
-                    break;
-                }
-            }
-
-            if (self) {
-                result.addAll(nodes);
-            } else {
-                result.removeAll(nodes);
-            }
-
-            //Update nodes
-            for (Node node : mainGraph.getNodes()) {
-                if (result.contains(node)) {
-                    graph.addNode(node);
-                } else if (graph.contains(node)) {
-                    graph.removeNode(node);
-                }
             }
+            subgraph.addAllEdges(edges);
 
-            //Update edges
-            for (Edge edge : mainGraph.getEdges()) {
-                if (graph.contains(edge.getSource()) && graph.contains(edge.getTarget())) {
-                    graph.addEdge(edge);
-                }
-            }
-
-            return graph;
+            return subgraph;
         }
 
         @Override
@@ -172,7 +149,8 @@ public class NeighborsBuilder implements FilterBuilder {
             try {
                 return new FilterProperty[] {
                     FilterProperty.createProperty(this, Integer.class, "depth"),
-                    FilterProperty.createProperty(this, Boolean.class, "self")};
+                    FilterProperty.createProperty(this, Boolean.class, "self"),
+                    FilterProperty.createProperty(this, Integer.class, "direction")};
             } catch (NoSuchMethodException ex) {
                 Exceptions.printStackTrace(ex);
             }
@@ -194,5 +172,13 @@ public class NeighborsBuilder implements FilterBuilder {
         public void setSelf(boolean self) {
             this.self = self;
         }
+
+        public Integer getDirection() {
+            return direction;
+        }
+
+        public void setDirection(Integer direction) {
+            this.direction = direction;
+        }
     }
 }
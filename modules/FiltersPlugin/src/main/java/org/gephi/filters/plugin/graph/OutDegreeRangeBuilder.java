@@ -48,6 +48,7 @@ import javax.swing.Icon;
 import javax.swing.JPanel;
 import org.gephi.filters.api.FilterLibrary;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.plugin.AbstractFilter;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.Filter;
@@ -144,6 +145,17 @@ public class OutDegreeRangeBuilder implements FilterBuilder {
             return values.toArray(new Number[0]);
         }
 
+        @Override
+        public RangeSummary getSummary(Graph graph) {
+            DirectedGraph dgraph = (DirectedGraph) graph;
+            double[] values = new double[dgraph.getNodeCount()];
+            int i = 0;
+            for (Node n : dgraph.getNodes()) {
+                values[i++] = dgraph.getOutDegree(n);
+            }
+            return RangeSummary.of(Integer.class, values, i);
+        }
+
         @Override
         public FilterProperty getRangeProperty() {
             return getProperties()[0];
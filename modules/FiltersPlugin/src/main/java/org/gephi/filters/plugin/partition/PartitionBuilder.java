@@ -55,16 +55,19 @@ import org.gephi.appearance.api.AppearanceController;
 import org.gephi.appearance.api.AppearanceModel;
 import org.gephi.appearance.api.Partition;
 import org.gephi.filters.api.FilterLibrary;
+import org.gephi.filters.plugin.IndexedSelection;
 import org.gephi.filters.spi.Category;
 import org.gephi.filters.spi.CategoryBuilder;
 import org.gephi.filters.spi.EdgeFilter;
 import org.gephi.filters.spi.Filter;
 import org.gephi.filters.spi.FilterBuilder;
 import org.gephi.filters.spi.FilterProperty;
+import org.gephi.filters.spi.IndexedElementFilter;
 import org.gephi.filters.spi.NodeFilter;
 import org.gephi.graph.api.AttributeUtils;
 import org.gephi.graph.api.Column;
 import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Element;
 import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphController;
 import org.gephi.graph.api.GraphModel;
@@ -178,7 +181,8 @@ public class PartitionBuilder implements CategoryBuilder {
         }
     }
 
-    public static class NodePartitionFilter extends PartitionFilter implements NodeFilter {
+    public static class NodePartitionFilter extends PartitionFilter
+        implements NodeFilter, IndexedElementFilter<Node> {
 
         public NodePartitionFilter(AppearanceModel appearanceModel, Partition partition) {
             super(appearanceModel, partition);
@@ -187,9 +191,15 @@ public class PartitionBuilder implements CategoryBuilder {
         @Override
         public boolean init(Graph graph) {
             this.graph = graph.getModel().getGraph();
+            initSelection();
             return partition != null && partition.getColumn() != null;
         }
 
+        @Override
+        public Collection<Node> getKeptElements(Graph graph) {
+            return selection != null ? (Collection<Node>) selection.getElements() : null;
+        }
+
         @Override
         public void setColumn(Column column) {
             // Bugfix #2519
@@ -202,7 +212,8 @@ public class PartitionBuilder implements CategoryBuilder {
         }
     }
 
-    public static class EdgePartitionFilter extends PartitionFilter implements EdgeFilter {
+    public static class EdgePartitionFilter extends PartitionFilter
+        implements EdgeFilter, IndexedElementFilter<Edge> {
 
         public EdgePartitionFilter(AppearanceModel appearanceModel, Partition partition) {
             super(appearanceModel, partition);
@@ -210,10 +221,16 @@ public class PartitionBuilder implements CategoryBuilder {
 
         @Override
         public boolean init(Graph graph) {
-            this.graph = graph.getModel().getGraph();;
+            this.graph = graph.getModel().getGraph();
+            initSelection();
             return partition != null && partition.getColumn() != null;
         }
 
+        @Override
+        public Collection<Edge> getKeptElements(Graph graph) {
+            return selection != null ? (Collection<Edge>) selection.getElements() : null;
+        }
+
         @Override
         public void setColumn(Column column) {
             // Bugfix #2519
@@ -235,6 +252,7 @@ public class PartitionBuilder implements CategoryBuilder {
         protected Set<Object> parts;
         protected Graph graph;
         protected boolean flattenList;
+        protected IndexedSelection<? extends Element> selection;
 
         public PartitionFilter(Partition partition) {
             this(null, partition);
@@ -252,7 +270,32 @@ public class PartitionBuilder implements CategoryBuilder {
                 ")";
         }
 
+        /**
+         * Looks up the elements of the selected parts in the column index, when
+         * the column supports it. Evaluation is then a bitset lookup.
+         */
+        protected void initSelection() {
+            selection = null;
+            if (partition == null || !IndexedSelection.isSupported(partition.getColumn())) {
+                return;
+            }
+            Column column = partition.getColumn();
+            if (flattenList && column.isArray()) {
+                selection = IndexedSelection
+                    .ofMatchingValues(graph.getModel(), column, this::listContains, parts.contains(NULL));
+            } else {
+                List<Object> values = new ArrayList<>(parts.size());
+                for (Object part : parts) {
+                    values.add(part == NULL ? null : part);
+                }
+                selection = IndexedSelection.ofValues(graph.getModel(), column, values);
+            }
+        }
+
         public boolean evaluate(Graph graph, Node node) {
+            if (selection != null) {
+                return selection.contains(node);
+            }
             Object value = partition.getValue(node, graph);
             if (value == null) {
                 return parts.contains(NULL);
@@ -275,6 +318,9 @@ public class PartitionBuilder implements CategoryBuilder {
         }
 
         public boolean evaluate(Graph graph, Edge edge) {
+            if (selection != null) {
+                return selection.contains(edge);
+            }
             Object value = partition.getValue(edge, graph);
             if (value == null) {
                 return parts.contains(NULL);
@@ -286,6 +332,7 @@ public class PartitionBuilder implements CategoryBuilder {
         }
 
         public void finish() {
+            selection = null;
         }
 
         public void addPart(Object value) {
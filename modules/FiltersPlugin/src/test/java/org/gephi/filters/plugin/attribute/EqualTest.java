@@ -0,0 +1,62 @@
+package org.gephi.filters.plugin.attribute;
+
+import java.util.Collection;
+import org.gephi.graph.GraphGenerator;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.Node;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class EqualTest {
+
+    @Test
+    public void testStringIndexed() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addStringNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+        Column column = graphGenerator.getGraphModel().getNodeTable().getColumn(GraphGenerator.STRING_COLUMN);
+
+        AttributeEqualBuilder.EqualStringFilter.Node filter = new AttributeEqualBuilder.EqualStringFilter.Node(column);
+        filter.setPattern(GraphGenerator.STRING_COLUMN_VALUES[0]);
+        Assert.assertTrue(filter.init(graph));
+
+        Collection<Node> kept = filter.getKeptElements(graph);
+        Assert.assertNotNull(kept);
+        Assert.assertEquals(1, kept.size());
+        Assert.assertTrue(kept.contains(graph.getNode(GraphGenerator.FIRST_NODE)));
+        Assert.assertTrue(filter.evaluate(graph, graph.getNode(GraphGenerator.FIRST_NODE)));
+        Assert.assertFalse(filter.evaluate(graph, graph.getNode(GraphGenerator.SECOND_NODE)));
+        filter.finish();
+    }
+
+    @Test
+    public void testStringRegexIndexed() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addStringNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+        Column column = graphGenerator.getGraphModel().getNodeTable().getColumn(GraphGenerator.STRING_COLUMN);
+
+        AttributeEqualBuilder.EqualStringFilter.Node filter = new AttributeEqualBuilder.EqualStringFilter.Node(column);
+        filter.setPattern(".*a.*");
+        filter.setUseRegex(true);
+        Assert.assertTrue(filter.init(graph));
+        Assert.assertEquals(2, filter.getKeptElements(graph).size());
+        filter.finish();
+    }
+
+    @Test
+    public void testNumberIndexed() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addIntNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+        Column column = graphGenerator.getGraphModel().getNodeTable().getColumn(GraphGenerator.INT_COLUMN);
+
+        AttributeEqualBuilder.EqualNumberFilter.Node filter = new AttributeEqualBuilder.EqualNumberFilter.Node(column);
+        filter.setMatch(GraphGenerator.INT_COLUMN_MIN_VALUE);
+        Assert.assertTrue(filter.init(graph));
+        Assert.assertEquals(1, filter.getKeptElements(graph).size());
+
+        filter.init(graph);
+        filter.setMatch((double) GraphGenerator.INT_COLUMN_MIN_VALUE);
+        Assert.assertTrue(filter.getKeptElements(graph).isEmpty());
+        filter.finish();
+    }
+}
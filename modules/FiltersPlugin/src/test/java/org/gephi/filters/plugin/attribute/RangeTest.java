@@ -0,0 +1,93 @@
+package org.gephi.filters.plugin.attribute;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import org.gephi.filters.api.RangeSummary;
+import org.gephi.filters.plugin.graph.DegreeRangeBuilder;
+import org.gephi.graph.GraphGenerator;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphView;
+import org.gephi.graph.api.Subgraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RangeTest {
+
+    @Test
+    public void testIndexedSummary() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addIntNodeColumn();
+        Graph graph = graphGenerator.getGraph();
+        Column column = graphGenerator.getGraphModel().getNodeTable().getColumn(GraphGenerator.INT_COLUMN);
+
+        AttributeRangeBuilder.AttributeRangeFilter.Node filter = new AttributeRangeBuilder.AttributeRangeFilter.Node(column);
+        RangeSummary summary = filter.getSummary(graph);
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE, summary.getMinimum());
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE + 1, summary.getMaximum());
+        Assert.assertEquals(2, summary.getCount());
+        Assert.assertEquals(1, summary.getBins()[0]);
+        Assert.assertEquals(1, summary.getBins()[summary.getBinCount() - 1]);
+    }
+
+    @Test
+    public void testSubgraphSummary() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addIntNodeColumn();
+        GraphModel graphModel = graphGenerator.getGraphModel();
+        Column column = graphModel.getNodeTable().getColumn(GraphGenerator.INT_COLUMN);
+        GraphView view = graphModel.createView();
+        Subgraph subgraph = graphModel.getGraph(view);
+        subgraph.addNode(graphModel.getGraph().getNode(GraphGenerator.SECOND_NODE));
+
+        AttributeRangeBuilder.AttributeRangeFilter.Node filter = new AttributeRangeBuilder.AttributeRangeFilter.Node(column);
+        RangeSummary summary = filter.getSummary(subgraph);
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE + 1, summary.getMinimum());
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE + 1, summary.getMaximum());
+        Assert.assertEquals(1, summary.getCount());
+    }
+
+    @Test
+    public void testDegreeSummary() {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph();
+        Graph graph = graphGenerator.getGraph();
+
+        DegreeRangeBuilder.DegreeRangeFilter filter = new DegreeRangeBuilder.DegreeRangeFilter();
+        RangeSummary summary = filter.getSummary(graph);
+        Assert.assertEquals(1, summary.getMinimum());
+        Assert.assertEquals(1, summary.getMaximum());
+        Assert.assertEquals(RangeSummary.of(filter.getValues(graph)).getCount(), summary.getCount());
+    }
+
+    @Test
+    public void testLargeSummary() {
+        double[] values = new double[200000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 1000;
+        }
+        RangeSummary summary = RangeSummary.of(Integer.class, values, values.length);
+        Assert.assertEquals(0, summary.getMinimum());
+        Assert.assertEquals(999, summary.getMaximum());
+        Assert.assertEquals(values.length, summary.getCount());
+        int total = 0;
+        for (int bin : summary.getBins()) {
+            Assert.assertEquals(values.length / RangeSummary.BIN_COUNT, bin);
+            total += bin;
+        }
+        Assert.assertEquals(values.length, total);
+        Assert.assertEquals(500.0, summary.getQuantile(0.5), 10.0);
+    }
+
+    @Test
+    public void testBigNumberSummary() {
+        BigDecimal min = new BigDecimal("0.10000000000000000001");
+        BigDecimal max = new BigDecimal("12345678901234567890.5");
+        RangeSummary summary = RangeSummary.of(new Number[] {max, BigDecimal.ONE, min});
+        Assert.assertEquals(min, summary.getMinimum());
+        Assert.assertEquals(max, summary.getMaximum());
+
+        Assert.assertEquals(new BigDecimal("2.5"), RangeSummary.convert(BigDecimal.class, 2.5));
+        Assert.assertEquals(BigInteger.valueOf(3), RangeSummary.convert(BigInteger.class, 3.0));
+        Assert.assertEquals(BigDecimal.class, RangeSummary.of(BigDecimal.class, new double[] {1, 2}, 2)
+            .getMaximum().getClass());
+    }
+}
@@ -0,0 +1,51 @@
+package org.gephi.filters.plugin.dynamic;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.TimeRepresentation;
+import org.gephi.graph.api.types.TimestampSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SlidingTimeIndexTest {
+
+    @Test
+    public void testSlidingWindow() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        Graph graph = graphModel.getGraph();
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            Node node = graphModel.factory().newNode(String.valueOf(i));
+            graph.addNode(node);
+            if (i % 10 != 0) {
+                for (int j = 0; j < 3; j++) {
+                    node.addTimestamp(random.nextInt(100));
+                }
+            }
+        }
+
+        SlidingTimeIndex<Node> index = new SlidingTimeIndex<>(graph.getNodes(), TimeRepresentation.TIMESTAMP);
+        Assert.assertEquals(20, index.getUnindexed().size());
+
+        double[][] windows = {{0, 10}, {5, 15}, {10, 20}, {30, 31}, {29, 60}, {0, 100}, {50, 50}, {40, 45}};
+        for (double[] window : windows) {
+            index.setWindow(window[0], window[1]);
+            Set<Node> visible = new HashSet<>(index.getVisible());
+            for (Node node : graph.getNodes()) {
+                boolean expected = false;
+                TimestampSet timeSet = (TimestampSet) node.getAttribute("timeset");
+                if (timeSet != null) {
+                    for (double t : timeSet.toPrimitiveArray()) {
+                        expected |= t >= window[0] && t <= window[1];
+                    }
+                }
+                Assert.assertEquals(expected, visible.contains(node));
+                Assert.assertEquals(expected, index.isVisible(node));
+            }
+        }
+    }
+}
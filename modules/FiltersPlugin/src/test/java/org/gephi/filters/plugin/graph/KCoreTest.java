@@ -0,0 +1,113 @@
+package org.gephi.filters.plugin.graph;
+
+import org.gephi.graph.GraphGenerator;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Subgraph;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class KCoreTest {
+
+    @Test
+    public void testCoreNumbers() {
+        GraphModel graphModel = buildTriangleWithTail();
+        Graph graph = graphModel.getGraph();
+
+        KCoreDecomposition decomposition = KCoreDecomposition.compute(graph);
+        Assert.assertEquals(2, decomposition.getMaxCore());
+        Assert.assertEquals(2, decomposition.getCoreNumber(graph.getNode("1")));
+        Assert.assertEquals(2, decomposition.getCoreNumber(graph.getNode("2")));
+        Assert.assertEquals(2, decomposition.getCoreNumber(graph.getNode("3")));
+        Assert.assertEquals(1, decomposition.getCoreNumber(graph.getNode("4")));
+        Assert.assertEquals(0, decomposition.getCoreNumber(graph.getNode("5")));
+    }
+
+    @Test
+    public void testFilter() {
+        GraphModel graphModel = buildTriangleWithTail();
+        Graph graph = graphModel.getGraph(graphModel.copyView(graphModel.getGraph().getView()));
+
+        KCoreBuilder.KCoreFilter filter = new KCoreBuilder.KCoreFilter();
+        filter.setK(2);
+        Graph result = filter.filter(graph);
+        Assert.assertEquals(3, result.getNodeCount());
+        Assert.assertFalse(result.contains(graphModel.getGraph().getNode("4")));
+    }
+
+    @Test
+    public void testSameAsIterativeRemoval() {
+        GraphModel graphModel = GraphGenerator.build().generateSmallRandomGraph().getGraphModel();
+        KCoreDecomposition decomposition = KCoreDecomposition.compute(graphModel.getGraph());
+
+        for (int k = 1; k <= decomposition.getMaxCore() + 1; k++) {
+            Graph graph = graphModel.getGraph(graphModel.copyView(graphModel.getGraph().getView()));
+            int removed;
+            do {
+                removed = 0;
+                for (Node n : graph.getNodes().toArray()) {
+                    if (graph.getDegree(n) < k) {
+                        graph.removeNode(n);
+                        removed++;
+                    }
+                }
+            } while (removed > 0);
+
+            for (Node n : graphModel.getGraph().getNodes()) {
+                Assert.assertEquals(graph.contains(n), decomposition.getCoreNumber(n) >= k);
+            }
+        }
+    }
+
+    @Test
+    public void testWriteColumn() {
+        GraphModel graphModel = buildTriangleWithTail();
+        Graph graph = graphModel.getGraph();
+
+        Column column = KCoreDecomposition.compute(graph).writeColumn(graphModel);
+        Assert.assertEquals(Integer.class, column.getTypeClass());
+        Assert.assertEquals(2, graph.getNode("1").getAttribute(column));
+        Assert.assertEquals(0, graph.getNode("5").getAttribute(column));
+    }
+
+    @Test
+    public void testWriteColumnClearsOtherNodes() {
+        GraphModel graphModel = buildTriangleWithTail();
+        Graph graph = graphModel.getGraph();
+        Column column = KCoreDecomposition.compute(graph).writeColumn(graphModel);
+
+        Subgraph subgraph = graphModel.getGraph(graphModel.createView());
+        subgraph.addNode(graph.getNode("1"));
+        subgraph.addNode(graph.getNode("4"));
+        subgraph.addEdge(graph.getEdge(graph.getNode("1"), graph.getNode("4")));
+
+        KCoreBuilder.KCoreFilter filter = new KCoreBuilder.KCoreFilter();
+        filter.setK(1);
+        filter.setWriteColumn(true);
+        filter.filter(subgraph);
+        Assert.assertEquals(1, graph.getNode("1").getAttribute(column));
+        Assert.assertEquals(1, graph.getNode("4").getAttribute(column));
+        Assert.assertNull(graph.getNode("2").getAttribute(column));
+        Assert.assertNull(graph.getNode("5").getAttribute(column));
+    }
+
+    private GraphModel buildTriangleWithTail() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        Graph graph = graphModel.getGraph();
+        for (int i = 1; i <= 5; i++) {
+            graph.addNode(graphModel.factory().newNode(String.valueOf(i)));
+        }
+        addEdge(graphModel, "1", "2");
+        addEdge(graphModel, "2", "3");
+        addEdge(graphModel, "3", "1");
+        addEdge(graphModel, "1", "4");
+        return graphModel;
+    }
+
+    private void addEdge(GraphModel graphModel, String source, String target) {
+        Graph graph = graphModel.getGraph();
+        graph.addEdge(graphModel.factory().newEdge(graph.getNode(source), graph.getNode(target), 0, true));
+    }
+}
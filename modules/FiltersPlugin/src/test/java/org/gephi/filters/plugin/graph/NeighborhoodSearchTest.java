@@ -0,0 +1,89 @@
+package org.gephi.filters.plugin.graph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.gephi.graph.api.DirectedGraph;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NeighborhoodSearchTest {
+
+    @Test
+    public void testDirection() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectedGraph graph = graphModel.getDirectedGraph();
+        Node[] nodes = addNodes(graphModel, 4);
+        //1 -> 2 -> 3, 4 -> 2
+        graph.addEdge(graphModel.factory().newEdge(nodes[0], nodes[1], true));
+        graph.addEdge(graphModel.factory().newEdge(nodes[1], nodes[2], true));
+        graph.addEdge(graphModel.factory().newEdge(nodes[3], nodes[1], true));
+
+        List<Node> sources = Collections.singletonList(nodes[1]);
+        Assert.assertEquals(4, new NeighborhoodSearch(graph, NeighborhoodSearch.BOTH).search(sources, 1, true).size());
+        Set<Node> out = new NeighborhoodSearch(graph, NeighborhoodSearch.OUT).search(sources, 1, false);
+        Assert.assertEquals(Collections.singleton(nodes[2]), new HashSet<>(out));
+        Set<Node> in = new NeighborhoodSearch(graph, NeighborhoodSearch.IN).search(sources, 2, false);
+        Assert.assertEquals(new HashSet<>(List.of(nodes[0], nodes[3])), new HashSet<>(in));
+    }
+
+    @Test
+    public void testEgoFilter() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        Graph graph = graphModel.getGraph();
+        Node[] nodes = addNodes(graphModel, 4);
+        graph.addEdge(graphModel.factory().newEdge(nodes[0], nodes[1], false));
+        graph.addEdge(graphModel.factory().newEdge(nodes[1], nodes[2], false));
+        graph.addEdge(graphModel.factory().newEdge(nodes[2], nodes[3], false));
+
+        EgoBuilder.EgoFilter filter = new EgoBuilder.EgoFilter();
+        filter.setPattern("0");
+        filter.setDepth(2);
+        Graph result = filter.filter(graphModel.getGraph(graphModel.copyView(graph.getView())));
+        Assert.assertEquals(3, result.getNodeCount());
+        Assert.assertEquals(2, result.getEdgeCount());
+        Assert.assertFalse(result.contains(nodes[3]));
+    }
+
+    @Test
+    public void testParallelSameAsSequential() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        Graph graph = graphModel.getGraph();
+        Node[] nodes = addNodes(graphModel, 3 * NeighborhoodSearch.PARALLEL_FRONTIER);
+        Random random = new Random(42);
+        //A hub linked to many nodes, so that the second level is expanded in parallel
+        for (int i = 1; i < nodes.length; i++) {
+            if (i < 3 * NeighborhoodSearch.PARALLEL_FRONTIER / 2) {
+                graph.addEdge(graphModel.factory().newEdge(nodes[0], nodes[i], true));
+            }
+            graph.addEdge(graphModel.factory().newEdge(nodes[i], nodes[random.nextInt(nodes.length)], true));
+        }
+
+        List<Node> sources = Collections.singletonList(nodes[0]);
+        for (int direction : new int[] {NeighborhoodSearch.BOTH, NeighborhoodSearch.OUT, NeighborhoodSearch.IN}) {
+            for (int depth = 1; depth <= 4; depth++) {
+                Set<Node> sequential =
+                    new HashSet<>(new NeighborhoodSearch(graph, direction, false).search(sources, depth, true));
+                Set<Node> parallel =
+                    new HashSet<>(new NeighborhoodSearch(graph, direction, true).search(sources, depth, true));
+                Assert.assertEquals(sequential, parallel);
+            }
+        }
+    }
+
+    private static Node[] addNodes(GraphModel graphModel, int count) {
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Node node = graphModel.factory().newNode(String.valueOf(i));
+            graphModel.getGraph().addNode(node);
+            nodes.add(node);
+        }
+        return nodes.toArray(new Node[0]);
+    }
+}
@@ -50,12 +50,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import javax.swing.JPanel;
+import org.gephi.filters.api.RangeSummary;
 
 /**
  * @author Mathieu Bastian
  */
 public class JQuickHistogram {
 
+    private static final int SUMMARY_SAMPLES = 512;
     private final boolean inclusive = true;
     private int constraintHeight = 0;
     private int constraintWidth = 0;
@@ -97,6 +99,26 @@ public class JQuickHistogram {
         maxRange = maxValue;
     }
 
+    /**
+     * Adds evenly spaced quantiles estimated from <code>summary</code> instead
+     * of every value, so the histogram size doesn't depend on the number of
+     * values.
+     *
+     * @param summary values summary
+     */
+    public void addSummary(RangeSummary summary) {
+        int samples = Math.min(summary.getCount(), SUMMARY_SAMPLES);
+        for (int i = 0; i < samples; i++) {
+            addData(summary.getQuantile((i + 0.5) / samples));
+        }
+        if (samples > 0) {
+            minValue = Math.min(minValue, summary.getMinimum().doubleValue());
+            maxValue = Math.max(maxValue, summary.getMaximum().doubleValue());
+            minRange = minValue;
+            maxRange = maxValue;
+        }
+    }
+
     public void sortData() {
         Collections.sort(data);
     }
@@ -50,6 +50,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.swing.SwingUtilities;
 import org.gephi.filters.api.Range;
+import org.gephi.filters.api.RangeSummary;
 import org.gephi.filters.spi.RangeFilter;
 import org.gephi.ui.components.JRangeSliderPanel;
 import org.gephi.ui.components.richtooltip.RichTooltip;
@@ -62,7 +63,7 @@ public class RangePanel extends javax.swing.JPanel {
 
     private final JQuickHistogram histogram;
     //Info
-    private Object[] values;
+    private RangeSummary summary;
     private RangeFilter filter;
     // Variables declaration - do not modify//GEN-BEGIN:variables
     private javax.swing.JPanel histogramPanel;
@@ -87,7 +88,7 @@ public class RangePanel extends javax.swing.JPanel {
                 @Override
                 public void run() {
                     final JRangeSliderPanel rangeSlider = (JRangeSliderPanel) rangeSliderPanel;
-                    values = range.getValues();
+                    summary = range.getSummary();
 
                     rangeSlider.addPropertyChangeListener(new PropertyChangeListener() {
 
@@ -98,7 +99,7 @@ public class RangePanel extends javax.swing.JPanel {
                                     Range oldRange = (Range) filter.getRangeProperty().getValue();
                                     final Range newRange = new Range(rangeSlider.getRange().getLowerBound(),
                                         rangeSlider.getRange().getUpperBound(), oldRange.getMinimum(),
-                                        oldRange.getMaximum(), oldRange.getValues());
+                                        oldRange.getMaximum(), oldRange.getSummary());
                                     if (!oldRange.equals(newRange)) {
                                         filter.getRangeProperty().setValue(newRange);
                                         new Thread(new Runnable() {
@@ -113,7 +114,7 @@ public class RangePanel extends javax.swing.JPanel {
                                     final Range oldRange = (Range) filter.getRangeProperty().getValue();
                                     final Range newRange = new Range(rangeSlider.getRange().getLowerBound(),
                                         rangeSlider.getRange().getUpperBound(), oldRange.getMinimum(),
-                                        oldRange.getMaximum(), oldRange.getValues());
+                                        oldRange.getMaximum(), oldRange.getSummary());
                                     if (!oldRange.equals(newRange)) {
                                         filter.getRangeProperty().setValue(newRange);
                                         new Thread(new Runnable() {
@@ -173,8 +174,8 @@ public class RangePanel extends javax.swing.JPanel {
 
     private void setupHistogram(final RangeFilter rangeFilter, final Range range) {
         histogram.clear();
-        for (Object value : values) {
-            histogram.addData(value);
+        if (summary != null) {
+            histogram.addSummary(summary);
         }
         histogram.sortData();
         double rangeLowerBound = 0.0;
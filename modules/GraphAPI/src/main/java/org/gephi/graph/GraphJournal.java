@@ -0,0 +1,700 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.graph;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.gephi.graph.api.AttributeUtils;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.ColumnDiff;
+import org.gephi.graph.api.ColumnObserver;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphDiff;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.GraphObserver;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Origin;
+import org.gephi.graph.api.Table;
+import org.gephi.graph.api.TableDiff;
+import org.gephi.graph.api.TableObserver;
+
+/**
+ * Records the changes made to a graph model for the project journal.
+ * <p>
+ * Elements, columns and attribute values are tracked with graph, table and
+ * column observers, so collecting them only costs what changed. Each delta
+ * holds the added and removed columns, the removed elements, the added
+ * elements, the new values of modified attributes and the new positions,
+ * sizes and colors of modified elements. Values are written as text.
+ * <p>
+ * No observer reports position, size or color changes. These are found by
+ * comparing the elements with a packed copy of their values, indexed by store
+ * id, which costs a pass over all nodes and edges under the graph read lock.
+ * This scan runs at most once per property scan interval, so position, size
+ * and color changes can lag behind the other changes by up to that interval.
+ * Colors are compared with 8 bits per channel.
+ * <p>
+ * Observer diffs can't be read twice, so the deltas written by
+ * {@link #write(DataOutputStream)} are kept and written again by the next
+ * call until {@link #commit()} is called once they are durably stored.
+ */
+class GraphJournal {
+
+    private static final int NODE_PROPERTIES = 5;
+    private final GraphModel graphModel;
+    private final long propertyScanInterval;
+    private final GraphObserver graphObserver;
+    private final TableObserver nodeTableObserver;
+    private final TableObserver edgeTableObserver;
+    private final Map<Column, ColumnObserver> columnObservers = new HashMap<>();
+    //Positions, sizes and colors of the previous delta, by store id
+    private int[] nodeProperties = new int[0];
+    private int[] edgeColors = new int[0];
+    private long lastPropertyScan;
+    //Deltas not committed yet
+    private final ByteArrayOutputStream uncommitted = new ByteArrayOutputStream();
+    private int uncommittedDeltas;
+
+    /**
+     * Starts recording the changes made to <code>graphModel</code>.
+     *
+     * @param graphModel           the graph model to record
+     * @param propertyScanInterval minimum time between two scans of the
+     *                             positions, sizes and colors, in milliseconds
+     */
+    GraphJournal(GraphModel graphModel, long propertyScanInterval) {
+        this.graphModel = graphModel;
+        this.propertyScanInterval = propertyScanInterval;
+
+        Graph graph = graphModel.getGraph();
+        graph.readLock();
+        try {
+            graphObserver = graphModel.createGraphObserver(graph, true);
+            nodeTableObserver = graphModel.getNodeTable().createTableObserver(true);
+            edgeTableObserver = graphModel.getEdgeTable().createTableObserver(true);
+            for (Column column : graphModel.getNodeTable()) {
+                columnObservers.put(column, column.createColumnObserver(true));
+            }
+            for (Column column : graphModel.getEdgeTable()) {
+                columnObservers.put(column, column.createColumnObserver(true));
+            }
+            updateNodeProperties(graph);
+            updateEdgeColors(graph);
+            lastPropertyScan = System.currentTimeMillis();
+        } finally {
+            graph.readUnlock();
+        }
+    }
+
+    void destroy() {
+        graphObserver.destroy();
+        nodeTableObserver.destroy();
+        edgeTableObserver.destroy();
+        for (ColumnObserver observer : columnObservers.values()) {
+            observer.destroy();
+        }
+        columnObservers.clear();
+    }
+
+    /**
+     * Writes the deltas not committed yet, followed by the changes made since
+     * the previous call.
+     *
+     * @param out stream to write to
+     * @return <code>true</code> if something was written
+     * @throws IOException if an I/O error occurs
+     */
+    boolean write(DataOutputStream out) throws IOException {
+        ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        if (writeDelta(new DataOutputStream(delta))) {
+            delta.writeTo(uncommitted);
+            uncommittedDeltas++;
+        }
+        if (uncommittedDeltas == 0) {
+            return false;
+        }
+        out.writeInt(uncommittedDeltas);
+        uncommitted.writeTo(out);
+        return true;
+    }
+
+    /**
+     * Drops the deltas written so far, once they are durably stored.
+     */
+    void commit() {
+        uncommitted.reset();
+        uncommittedDeltas = 0;
+    }
+
+    private boolean writeDelta(DataOutputStream out) throws IOException {
+        Graph graph = graphModel.getGraph();
+        graph.readLock();
+        try {
+            GraphDiff graphDiff = graphObserver.hasGraphChanged() ? graphObserver.getDiff() : null;
+            TableDiff nodeTableDiff = nodeTableObserver.hasTableChanged() ? nodeTableObserver.getDiff() : null;
+            TableDiff edgeTableDiff = edgeTableObserver.hasTableChanged() ? edgeTableObserver.getDiff() : null;
+
+            //New columns are written in full, so their observers only report later changes
+            List<Column> addedNodeColumns = updateColumnObservers(nodeTableDiff);
+            List<Column> addedEdgeColumns = updateColumnObservers(edgeTableDiff);
+
+            Map<Column, ColumnDiff> columnDiffs = new LinkedHashMap<>();
+            for (ColumnObserver observer : columnObservers.values()) {
+                if (observer.hasColumnChanged()) {
+                    columnDiffs.put(observer.getColumn(), observer.getDiff());
+                }
+            }
+
+            List<Edge> removedEdges = new ArrayList<>();
+            List<Node> removedNodes = new ArrayList<>();
+            List<Node> addedNodes = new ArrayList<>();
+            List<Edge> addedEdges = new ArrayList<>();
+            if (graphDiff != null) {
+                graphDiff.getRemovedEdges().forEach(removedEdges::add);
+                graphDiff.getRemovedNodes().forEach(removedNodes::add);
+                graphDiff.getAddedNodes().forEach(addedNodes::add);
+                graphDiff.getAddedEdges().forEach(addedEdges::add);
+            }
+            addedNodes.removeIf(node -> graph.getNode(node.getId()) != node);
+            addedEdges.removeIf(edge -> graph.getEdge(edge.getId()) != edge);
+
+            //Added elements are written in full, the others are only scanned once per interval
+            addedNodes.forEach(this::rememberNodeProperties);
+            addedEdges.forEach(this::rememberEdgeColor);
+            List<Node> modifiedNodes = Collections.emptyList();
+            List<Edge> modifiedEdges = Collections.emptyList();
+            long now = System.currentTimeMillis();
+            if (now - lastPropertyScan >= propertyScanInterval) {
+                modifiedNodes = updateNodeProperties(graph);
+                modifiedEdges = updateEdgeColors(graph);
+                lastPropertyScan = now;
+            }
+
+            if (graphDiff == null && nodeTableDiff == null && edgeTableDiff == null && columnDiffs.isEmpty() &&
+                modifiedNodes.isEmpty() && modifiedEdges.isEmpty()) {
+                return false;
+            }
+
+            //Columns
+            writeColumns(out, nodeTableDiff, addedNodeColumns);
+            writeColumns(out, edgeTableDiff, addedEdgeColumns);
+
+            //Removed elements
+            out.writeInt(removedEdges.size());
+            for (Edge edge : removedEdges) {
+                writeString(out, AttributeUtils.print(edge.getId()));
+            }
+            out.writeInt(removedNodes.size());
+            for (Node node : removedNodes) {
+                writeString(out, AttributeUtils.print(node.getId()));
+            }
+
+            //Added elements
+            out.writeInt(addedNodes.size());
+            for (Node node : addedNodes) {
+                writeString(out, AttributeUtils.print(node.getId()));
+                out.writeFloat(node.x());
+                out.writeFloat(node.y());
+                out.writeFloat(node.z());
+                out.writeFloat(node.size());
+                writeColor(out, node);
+                writeAttributes(out, node, graphModel.getNodeTable());
+            }
+            out.writeInt(addedEdges.size());
+            for (Edge edge : addedEdges) {
+                writeString(out, AttributeUtils.print(edge.getId()));
+                writeString(out, AttributeUtils.print(edge.getSource().getId()));
+                writeString(out, AttributeUtils.print(edge.getTarget().getId()));
+                out.writeBoolean(edge.isDirected());
+                writeString(out, edge.getTypeLabel() != null ? edge.getTypeLabel().toString() : null);
+                out.writeDouble(edge.hasDynamicWeight() ? 1.0 : edge.getWeight());
+                writeColor(out, edge);
+                writeAttributes(out, edge, graphModel.getEdgeTable());
+            }
+
+            //Values of new columns and modified values
+            writeColumnValues(out, graph, addedNodeColumns, addedEdgeColumns);
+            List<Column> nodeColumns = new ArrayList<>();
+            List<Column> edgeColumns = new ArrayList<>();
+            for (Column column : columnDiffs.keySet()) {
+                (column.getTable() == graphModel.getNodeTable() ? nodeColumns : edgeColumns).add(column);
+            }
+            writeModifiedValues(out, graph, nodeColumns, columnDiffs);
+            writeModifiedValues(out, graph, edgeColumns, columnDiffs);
+
+            //Positions, sizes and colors
+            out.writeInt(modifiedNodes.size());
+            for (Node node : modifiedNodes) {
+                writeString(out, AttributeUtils.print(node.getId()));
+                out.writeFloat(node.x());
+                out.writeFloat(node.y());
+                out.writeFloat(node.z());
+                out.writeFloat(node.size());
+                writeColor(out, node);
+            }
+            out.writeInt(modifiedEdges.size());
+            for (Edge edge : modifiedEdges) {
+                writeString(out, AttributeUtils.print(edge.getId()));
+                writeColor(out, edge);
+            }
+        } finally {
+            graph.readUnlock();
+        }
+        return true;
+    }
+
+    /**
+     * Applies changes written by {@link #write(DataOutputStream)}.
+     *
+     * @param in         stream to read from
+     * @param graphModel graph model to modify
+     * @throws IOException if an I/O error occurs
+     */
+    static void read(DataInputStream in, GraphModel graphModel) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            readDelta(in, graphModel);
+        }
+    }
+
+    private static void readDelta(DataInputStream in, GraphModel graphModel) throws IOException {
+        Graph graph = graphModel.getGraph();
+        Table nodeTable = graphModel.getNodeTable();
+        Table edgeTable = graphModel.getEdgeTable();
+        Class nodeIdType = graphModel.getConfiguration().getNodeIdType();
+        Class edgeIdType = graphModel.getConfiguration().getEdgeIdType();
+
+        graph.writeLock();
+        try {
+            readColumns(in, nodeTable);
+            readColumns(in, edgeTable);
+
+            //Removed elements
+            for (int i = in.readInt(); i > 0; i--) {
+                Edge edge = graph.getEdge(AttributeUtils.parse(readString(in), edgeIdType));
+                if (edge != null) {
+                    graph.removeEdge(edge);
+                }
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                Node node = graph.getNode(AttributeUtils.parse(readString(in), nodeIdType));
+                if (node != null) {
+                    graph.removeNode(node);
+                }
+            }
+
+            //Added elements, which may already exist if the journal restarted in between
+            for (int i = in.readInt(); i > 0; i--) {
+                Object id = AttributeUtils.parse(readString(in), nodeIdType);
+                Node node = graph.getNode(id);
+                boolean exists = node != null;
+                if (!exists) {
+                    node = graphModel.factory().newNode(id);
+                }
+                node.setX(in.readFloat());
+                node.setY(in.readFloat());
+                node.setZ(in.readFloat());
+                node.setSize(in.readFloat());
+                readColor(in, node);
+                readAttributes(in, node, nodeTable);
+                if (!exists) {
+                    graph.addNode(node);
+                }
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                Object id = AttributeUtils.parse(readString(in), edgeIdType);
+                Node source = graph.getNode(AttributeUtils.parse(readString(in), nodeIdType));
+                Node target = graph.getNode(AttributeUtils.parse(readString(in), nodeIdType));
+                boolean directed = in.readBoolean();
+                String typeLabel = readString(in);
+                double weight = in.readDouble();
+
+                Edge edge = graph.getEdge(id);
+                boolean exists = edge != null;
+                if (!exists && source != null && target != null) {
+                    int type = typeLabel == null ? graphModel.getEdgeType(null) : graphModel.addEdgeType(typeLabel);
+                    edge = graphModel.factory().newEdge(id, source, target, type, weight, directed);
+                }
+                if (edge != null) {
+                    readColor(in, edge);
+                    readAttributes(in, edge, edgeTable);
+                    if (!exists) {
+                        graph.addEdge(edge);
+                    }
+                } else {
+                    //Skip the values of an edge whose nodes are gone
+                    readColor(in, null);
+                    readAttributes(in, null, edgeTable);
+                }
+            }
+
+            //Values of new columns, then modified values
+            for (int i = 0; i < 2; i++) {
+                readValues(in, graph, nodeTable, nodeIdType, true);
+                readValues(in, graph, edgeTable, edgeIdType, false);
+            }
+
+            //Positions, sizes and colors
+            for (int i = in.readInt(); i > 0; i--) {
+                Node node = graph.getNode(AttributeUtils.parse(readString(in), nodeIdType));
+                float x = in.readFloat();
+                float y = in.readFloat();
+                float z = in.readFloat();
+                float size = in.readFloat();
+                readColor(in, node);
+                if (node != null) {
+                    node.setX(x);
+                    node.setY(y);
+                    node.setZ(z);
+                    node.setSize(size);
+                }
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                Edge edge = graph.getEdge(AttributeUtils.parse(readString(in), edgeIdType));
+                readColor(in, edge);
+            }
+        } finally {
+            graph.writeUnlock();
+        }
+    }
+
+    /**
+     * Returns the nodes whose position, size or color changed since they were
+     * last remembered, and remembers the current values.
+     */
+    private List<Node> updateNodeProperties(Graph graph) {
+        List<Node> modifiedNodes = new ArrayList<>();
+        int knownLength = nodeProperties.length;
+        for (Node node : graph.getNodes()) {
+            if (rememberNodeProperties(node) && node.getStoreId() * NODE_PROPERTIES < knownLength) {
+                modifiedNodes.add(node);
+            }
+        }
+        return modifiedNodes;
+    }
+
+    /**
+     * Remembers the position, size and color of <code>node</code> and returns
+     * <code>true</code> if they changed.
+     */
+    private boolean rememberNodeProperties(Node node) {
+        int index = node.getStoreId() * NODE_PROPERTIES;
+        if (index >= nodeProperties.length) {
+            nodeProperties =
+                Arrays.copyOf(nodeProperties, Math.max(index + NODE_PROPERTIES, nodeProperties.length * 2));
+        }
+        int x = Float.floatToIntBits(node.x());
+        int y = Float.floatToIntBits(node.y());
+        int z = Float.floatToIntBits(node.z());
+        int size = Float.floatToIntBits(node.size());
+        int color = rgba(node.r(), node.g(), node.b(), node.alpha());
+        boolean changed = nodeProperties[index] != x || nodeProperties[index + 1] != y ||
+            nodeProperties[index + 2] != z || nodeProperties[index + 3] != size || nodeProperties[index + 4] != color;
+        nodeProperties[index] = x;
+        nodeProperties[index + 1] = y;
+        nodeProperties[index + 2] = z;
+        nodeProperties[index + 3] = size;
+        nodeProperties[index + 4] = color;
+        return changed;
+    }
+
+    /**
+     * Returns the edges whose color changed since they were last remembered,
+     * and remembers the current colors.
+     */
+    private List<Edge> updateEdgeColors(Graph graph) {
+        List<Edge> modifiedEdges = new ArrayList<>();
+        int knownLength = edgeColors.length;
+        for (Edge edge : graph.getEdges()) {
+            if (rememberEdgeColor(edge) && edge.getStoreId() < knownLength) {
+                modifiedEdges.add(edge);
+            }
+        }
+        return modifiedEdges;
+    }
+
+    /**
+     * Remembers the color of <code>edge</code> and returns <code>true</code>
+     * if it changed.
+     */
+    private boolean rememberEdgeColor(Edge edge) {
+        int index = edge.getStoreId();
+        if (index >= edgeColors.length) {
+            edgeColors = Arrays.copyOf(edgeColors, Math.max(index + 1, edgeColors.length * 2));
+        }
+        int color = rgba(edge.r(), edge.g(), edge.b(), edge.alpha());
+        boolean changed = edgeColors[index] != color;
+        edgeColors[index] = color;
+        return changed;
+    }
+
+    private static int rgba(float r, float g, float b, float alpha) {
+        return Math.round(r * 255) << 24 | Math.round(g * 255) << 16 | Math.round(b * 255) << 8 |
+            Math.round(alpha * 255);
+    }
+
+    private List<Column> updateColumnObservers(TableDiff diff) {
+        List<Column> addedColumns = new ArrayList<>();
+        if (diff != null) {
+            for (Column column : diff.getRemovedColumns()) {
+                ColumnObserver observer = columnObservers.remove(column);
+                if (observer != null) {
+                    observer.destroy();
+                }
+            }
+            for (Column column : diff.getAddedColumns()) {
+                if (!columnObservers.containsKey(column)) {
+                    columnObservers.put(column, column.createColumnObserver(true));
+                    addedColumns.add(column);
+                }
+            }
+        }
+        return addedColumns;
+    }
+
+    private static void writeColumns(DataOutputStream out, TableDiff diff, List<Column> addedColumns)
+        throws IOException {
+        List<Column> removedColumns = new ArrayList<>();
+        if (diff != null) {
+            diff.getRemovedColumns().forEach(removedColumns::add);
+        }
+        out.writeInt(removedColumns.size());
+        for (Column column : removedColumns) {
+            writeString(out, column.getId());
+        }
+        out.writeInt(addedColumns.size());
+        for (Column column : addedColumns) {
+            writeString(out, column.getId());
+            writeString(out, column.getTitle());
+            writeString(out, column.getTypeClass().getName());
+            out.writeBoolean(column.isIndexed());
+            writeString(out, column.getDefaultValue() != null ? AttributeUtils.print(column.getDefaultValue()) : null);
+        }
+    }
+
+    private static void readColumns(DataInputStream in, Table table) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            String id = readString(in);
+            if (table.hasColumn(id)) {
+                table.removeColumn(id);
+            }
+        }
+        for (int i = in.readInt(); i > 0; i--) {
+            String id = readString(in);
+            String title = readString(in);
+            String typeName = readString(in);
+            boolean indexed = in.readBoolean();
+            String defaultValue = readString(in);
+            if (!table.hasColumn(id)) {
+                Class type;
+                try {
+                    type = Class.forName(typeName);
+                } catch (ClassNotFoundException e) {
+                    throw new IOException(e);
+                }
+                table.addColumn(id, title, type, Origin.DATA,
+                    defaultValue != null ? AttributeUtils.parse(defaultValue, type) : null, indexed);
+            }
+        }
+    }
+
+    private static void writeColumnValues(DataOutputStream out, Graph graph, List<Column> nodeColumns,
+                                          List<Column> edgeColumns) throws IOException {
+        out.writeInt(nodeColumns.size());
+        for (Column column : nodeColumns) {
+            List<Element> elements = new ArrayList<>();
+            graph.getNodes().forEach(elements::add);
+            writeValues(out, column, elements);
+        }
+        out.writeInt(edgeColumns.size());
+        for (Column column : edgeColumns) {
+            List<Element> elements = new ArrayList<>();
+            graph.getEdges().forEach(elements::add);
+            writeValues(out, column, elements);
+        }
+    }
+
+    private static void writeModifiedValues(DataOutputStream out, Graph graph, List<Column> columns,
+                                            Map<Column, ColumnDiff> columnDiffs) throws IOException {
+        out.writeInt(columns.size());
+        for (Column column : columns) {
+            List<Element> elements = new ArrayList<>();
+            for (Element element : columnDiffs.get(column).getTouchedElements()) {
+                //Skip elements removed since
+                Element current = element instanceof Node ? graph.getNode(element.getId()) :
+                    graph.getEdge(element.getId());
+                if (current == element) {
+                    elements.add(element);
+                }
+            }
+            writeValues(out, column, elements);
+        }
+    }
+
+    private static void writeValues(DataOutputStream out, Column column, List<Element> elements)
+        throws IOException {
+        writeString(out, column.getId());
+        out.writeInt(elements.size());
+        for (Element element : elements) {
+            writeString(out, AttributeUtils.print(element.getId()));
+            writeValue(out, element.getAttribute(column));
+        }
+    }
+
+    private static void readValues(DataInputStream in, Graph graph, Table table, Class idType, boolean nodes)
+        throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            Column column = table.getColumn(readString(in));
+            for (int j = in.readInt(); j > 0; j--) {
+                Object id = AttributeUtils.parse(readString(in), idType);
+                String value = readString(in);
+                Element element = nodes ? graph.getNode(id) : graph.getEdge(id);
+                if (column != null && element != null) {
+                    setValue(element, column, value);
+                }
+            }
+        }
+    }
+
+    private static void writeAttributes(DataOutputStream out, Element element, Table table) throws IOException {
+        List<Column> columns = new ArrayList<>();
+        for (Column column : table) {
+            if (!column.isReadOnly()) {
+                columns.add(column);
+            }
+        }
+        out.writeInt(columns.size());
+        for (Column column : columns) {
+            writeString(out, column.getId());
+            writeValue(out, element.getAttribute(column));
+        }
+    }
+
+    private static void readAttributes(DataInputStream in, Element element, Table table) throws IOException {
+        for (int i = in.readInt(); i > 0; i--) {
+            Column column = table.getColumn(readString(in));
+            String value = readString(in);
+            if (element != null && column != null && !column.isReadOnly()) {
+                setValue(element, column, value);
+            }
+        }
+    }
+
+    private static void setValue(Element element, Column column, String value) {
+        if (value == null) {
+            element.removeAttribute(column);
+        } else {
+            element.setAttribute(column, AttributeUtils.parse(value, column.getTypeClass()));
+        }
+    }
+
+    private static void writeColor(DataOutputStream out, Element element) throws IOException {
+        if (element instanceof Node) {
+            Node node = (Node) element;
+            out.writeFloat(node.r());
+            out.writeFloat(node.g());
+            out.writeFloat(node.b());
+            out.writeFloat(node.alpha());
+        } else {
+            Edge edge = (Edge) element;
+            out.writeFloat(edge.r());
+            out.writeFloat(edge.g());
+            out.writeFloat(edge.b());
+            out.writeFloat(edge.alpha());
+        }
+    }
+
+    private static void readColor(DataInputStream in, Element element) throws IOException {
+        float r = in.readFloat();
+        float g = in.readFloat();
+        float b = in.readFloat();
+        float alpha = in.readFloat();
+        if (element instanceof Node) {
+            Node node = (Node) element;
+            node.setR(r);
+            node.setG(g);
+            node.setB(b);
+            node.setAlpha(alpha);
+        } else if (element instanceof Edge) {
+            Edge edge = (Edge) element;
+            edge.setR(r);
+            edge.setG(g);
+            edge.setB(b);
+            edge.setAlpha(alpha);
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        writeString(out, value != null ? AttributeUtils.print(value) : null);
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException {
+        if (str == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
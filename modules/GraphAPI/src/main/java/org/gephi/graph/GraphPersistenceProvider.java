@@ -45,18 +45,34 @@ package org.gephi.graph;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Table;
+import org.gephi.graph.api.types.TimeMap;
+import org.gephi.graph.api.types.TimeSet;
 import org.gephi.project.api.Workspace;
 import org.gephi.project.spi.WorkspaceBytesPersistenceProvider;
+import org.gephi.project.spi.WorkspaceJournalPersistenceProvider;
 import org.gephi.project.spi.WorkspacePersistenceProvider;
+import org.openide.util.NbPreferences;
 import org.openide.util.lookup.ServiceProvider;
 
 @ServiceProvider(service = WorkspacePersistenceProvider.class, position = 100)
-public class GraphPersistenceProvider implements WorkspaceBytesPersistenceProvider {
+public class GraphPersistenceProvider implements WorkspaceBytesPersistenceProvider,
+    WorkspaceJournalPersistenceProvider {
 
     private static final int GRAPHSTORE_SERIALIZATION_GRAPHMODEL_CONFIG_ID = 205;
+    //Seconds between two scans of node positions, sizes and colors by the journal
+    private static final String PROPERTY_SCAN_INTERVAL_PREFERENCE = "GraphJournal_PropertyScan_Interval";
+    private static final int DEFAULT_PROPERTY_SCAN_INTERVAL = 60;
 
     @Override
     public void writeBytes(DataOutputStream stream, Workspace workspace) {
@@ -99,6 +115,157 @@ public class GraphPersistenceProvider implements WorkspaceBytesPersistenceProvid
         }
     }
 
+    @Override
+    public boolean duplicate(Workspace workspace, Workspace newWorkspace) {
+        GraphModel model = workspace.getLookup().lookup(GraphModel.class);
+        if (model == null) {
+            return true;
+        }
+        GraphModel newModel = newWorkspace.getLookup().lookup(GraphModel.class);
+        if (newModel != null && (newModel.getGraph().getNodeCount() > 0 || newModel.getGraph().getEdgeCount() > 0)) {
+            return false;
+        }
+
+        Graph graph = model.getGraph();
+        graph.readLock();
+        try {
+            //Dynamic graph attributes are mutable maps, which would end up shared by both models
+            for (String key : graph.getAttributeKeys()) {
+                if (graph.getAttribute(key) instanceof TimeMap) {
+                    return false;
+                }
+            }
+
+            if (newModel == null) {
+                newModel = GraphModel.Factory.newInstance(model.getConfiguration());
+                newWorkspace.add(newModel);
+            } else {
+                newModel.setConfiguration(model.getConfiguration());
+            }
+            newModel.setTimeFormat(model.getTimeFormat());
+            newModel.setTimeZone(model.getTimeZone());
+            newModel.bridge().copyNodes(graph.getNodes().toArray());
+
+            Graph newGraph = newModel.getGraph();
+            copyDynamicValues(newModel.getNodeTable(), newGraph.getNodes(), graph::getNode);
+            copyDynamicValues(newModel.getEdgeTable(), newGraph.getEdges(), graph::getEdge);
+            for (String key : graph.getAttributeKeys()) {
+                newGraph.setAttribute(key, graph.getAttribute(key));
+            }
+        } finally {
+            graph.readUnlock();
+        }
+
+        return true;
+    }
+
+    /**
+     * Makes sure the copied elements don't share timesets and dynamic values
+     * with the original ones, as they are mutable. Values which are the same
+     * instance in both models are replaced by copies.
+     */
+    private static <T extends Element> void copyDynamicValues(Table table, Iterable<T> copies,
+                                                              Function<Object, T> originals) {
+        List<Column> columns = new ArrayList<>();
+        for (Column column : table) {
+            if (column.isDynamic()) {
+                columns.add(column);
+            }
+        }
+        if (columns.isEmpty()) {
+            return;
+        }
+        //Collected first, setting attributes while iterating would need to upgrade the read lock
+        List<T> elements = new ArrayList<>();
+        copies.forEach(elements::add);
+        for (T copy : elements) {
+            T original = originals.apply(copy.getId());
+            for (Column column : columns) {
+                Object value = copy.getAttribute(column);
+                if (value != null && value == original.getAttribute(column.getId())) {
+                    copy.setAttribute(column, copyDynamicValue(value));
+                }
+            }
+        }
+    }
+
+    private static Object copyDynamicValue(Object value) {
+        try {
+            if (value instanceof TimeMap) {
+                TimeMap map = (TimeMap) value;
+                TimeMap copy = map.getClass().getDeclaredConstructor().newInstance();
+                Object[] keys = map.toKeysArray();
+                Object[] values = map.toValuesArray();
+                for (int i = 0; i < keys.length; i++) {
+                    copy.put(keys[i], values[i]);
+                }
+                return copy;
+            } else if (value instanceof TimeSet) {
+                TimeSet set = (TimeSet) value;
+                TimeSet copy = set.getClass().getDeclaredConstructor().newInstance();
+                for (Object key : set.toArray()) {
+                    copy.add(key);
+                }
+                return copy;
+            }
+        } catch (ReflectiveOperationException ex) {
+            throw new RuntimeException(ex);
+        }
+        return value;
+    }
+
+    @Override
+    public void startJournal(Workspace workspace) {
+        GraphModel model = workspace.getLookup().lookup(GraphModel.class);
+        if (model != null && workspace.getLookup().lookup(GraphJournal.class) == null) {
+            int interval = NbPreferences.forModule(GraphPersistenceProvider.class)
+                .getInt(PROPERTY_SCAN_INTERVAL_PREFERENCE, DEFAULT_PROPERTY_SCAN_INTERVAL);
+            workspace.add(new GraphJournal(model, TimeUnit.SECONDS.toMillis(Math.max(0, interval))));
+        }
+    }
+
+    @Override
+    public void stopJournal(Workspace workspace) {
+        GraphJournal journal = workspace.getLookup().lookup(GraphJournal.class);
+        if (journal != null) {
+            journal.destroy();
+            workspace.remove(journal);
+        }
+    }
+
+    @Override
+    public boolean writeJournal(DataOutputStream stream, Workspace workspace) {
+        GraphJournal journal = workspace.getLookup().lookup(GraphJournal.class);
+        if (journal == null) {
+            return false;
+        }
+        try {
+            return journal.write(stream);
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void commitJournal(Workspace workspace) {
+        GraphJournal journal = workspace.getLookup().lookup(GraphJournal.class);
+        if (journal != null) {
+            journal.commit();
+        }
+    }
+
+    @Override
+    public void readJournal(DataInputStream stream, Workspace workspace) {
+        GraphModel model = workspace.getLookup().lookup(GraphModel.class);
+        if (model != null) {
+            try {
+                GraphJournal.read(stream, model);
+            } catch (IOException ex) {
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
     @Override
     public String getIdentifier() {
         return "graphstore";
@@ -0,0 +1,234 @@
+package org.gephi.graph;
+
+import java.awt.Color;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.gephi.graph.api.Configuration;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GraphJournalTest {
+
+    @Test
+    public void testNoChange() throws IOException {
+        GraphModel model = GraphGenerator.build().generateTinyGraph().getGraphModel();
+        GraphJournal journal = new GraphJournal(model, 0);
+        Assert.assertFalse(journal.write(new DataOutputStream(new ByteArrayOutputStream())));
+        journal.destroy();
+    }
+
+    @Test
+    public void testAddNodesAndEdges() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        Graph graph = model.getGraph();
+        Node node = model.factory().newNode("3");
+        node.setLabel("Third");
+        node.setX(5f);
+        node.setY(-2f);
+        node.setSize(12f);
+        node.setColor(Color.RED);
+        node.setAttribute(GraphGenerator.INT_COLUMN, 42);
+        graph.addNode(node);
+        Edge edge =
+            model.factory().newEdge("2", graph.getNode("1"), node, model.addEdgeType("knows"), 2.5, false);
+        graph.addEdge(edge);
+
+        GraphModel target = replay(journal, newTinyGraph());
+        Graph targetGraph = target.getGraph();
+        Assert.assertEquals(3, targetGraph.getNodeCount());
+        Assert.assertEquals(2, targetGraph.getEdgeCount());
+        Node targetNode = targetGraph.getNode("3");
+        Assert.assertNotNull(targetNode);
+        Assert.assertEquals("Third", targetNode.getLabel());
+        Assert.assertEquals(5f, targetNode.x(), 0f);
+        Assert.assertEquals(-2f, targetNode.y(), 0f);
+        Assert.assertEquals(12f, targetNode.size(), 0f);
+        Assert.assertEquals(Color.RED, targetNode.getColor());
+        Assert.assertEquals(42, targetNode.getAttribute(GraphGenerator.INT_COLUMN));
+        Edge targetEdge = targetGraph.getEdge("2");
+        Assert.assertNotNull(targetEdge);
+        Assert.assertEquals("knows", targetEdge.getTypeLabel());
+        Assert.assertEquals(2.5, targetEdge.getWeight(), 0.0);
+        Assert.assertFalse(targetEdge.isDirected());
+        Assert.assertSame(targetGraph.getNode("1"), targetEdge.getSource());
+    }
+
+    @Test
+    public void testRemoveNodesAndEdges() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        Graph graph = model.getGraph();
+        graph.removeEdge(graph.getEdge(GraphGenerator.FIRST_EDGE));
+        graph.removeNode(graph.getNode(GraphGenerator.SECOND_NODE));
+
+        Graph targetGraph = replay(journal, newTinyGraph()).getGraph();
+        Assert.assertEquals(1, targetGraph.getNodeCount());
+        Assert.assertEquals(0, targetGraph.getEdgeCount());
+        Assert.assertNotNull(targetGraph.getNode(GraphGenerator.FIRST_NODE));
+    }
+
+    @Test
+    public void testColumns() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        model.getNodeTable().removeColumn(GraphGenerator.INT_COLUMN);
+        model.getEdgeTable().addColumn("score", "Score", Double.class, 1.0);
+        model.getGraph().getEdge(GraphGenerator.FIRST_EDGE).setAttribute("score", 3.0);
+
+        GraphModel target = replay(journal, newTinyGraph());
+        Assert.assertFalse(target.getNodeTable().hasColumn(GraphGenerator.INT_COLUMN));
+        Assert.assertTrue(target.getEdgeTable().hasColumn("score"));
+        Assert.assertEquals("Score", target.getEdgeTable().getColumn("score").getTitle());
+        Assert.assertEquals(Double.class, target.getEdgeTable().getColumn("score").getTypeClass());
+        Assert.assertEquals(3.0, target.getGraph().getEdge(GraphGenerator.FIRST_EDGE).getAttribute("score"));
+    }
+
+    @Test
+    public void testModifiedValues() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        Graph graph = model.getGraph();
+        graph.getNode(GraphGenerator.FIRST_NODE).setAttribute(GraphGenerator.INT_COLUMN, 99);
+        graph.getNode(GraphGenerator.SECOND_NODE).removeAttribute(GraphGenerator.INT_COLUMN);
+        graph.getNode(GraphGenerator.SECOND_NODE).setLabel("Second");
+
+        Graph targetGraph = replay(journal, newTinyGraph()).getGraph();
+        Assert.assertEquals(99, targetGraph.getNode(GraphGenerator.FIRST_NODE).getAttribute(GraphGenerator.INT_COLUMN));
+        Assert.assertNull(targetGraph.getNode(GraphGenerator.SECOND_NODE).getAttribute(GraphGenerator.INT_COLUMN));
+        Assert.assertEquals("Second", targetGraph.getNode(GraphGenerator.SECOND_NODE).getLabel());
+    }
+
+    @Test
+    public void testVisualProperties() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        Graph graph = model.getGraph();
+        Node node = graph.getNode(GraphGenerator.FIRST_NODE);
+        node.setX(10f);
+        node.setY(20f);
+        node.setSize(3f);
+        node.setColor(Color.BLUE);
+        graph.getEdge(GraphGenerator.FIRST_EDGE).setColor(Color.GREEN);
+
+        Graph targetGraph = replay(journal, newTinyGraph()).getGraph();
+        Node targetNode = targetGraph.getNode(GraphGenerator.FIRST_NODE);
+        Assert.assertEquals(10f, targetNode.x(), 0f);
+        Assert.assertEquals(20f, targetNode.y(), 0f);
+        Assert.assertEquals(3f, targetNode.size(), 0f);
+        Assert.assertEquals(Color.BLUE, targetNode.getColor());
+        Assert.assertEquals(Color.GREEN, targetGraph.getEdge(GraphGenerator.FIRST_EDGE).getColor());
+
+        //Only the changes since the previous delta are written
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Assert.assertFalse(journal.write(new DataOutputStream(bos)));
+    }
+
+    @Test
+    public void testSuccessiveDeltas() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+        GraphModel target = newTinyGraph();
+
+        model.getGraph().getNode(GraphGenerator.FIRST_NODE).setAttribute(GraphGenerator.INT_COLUMN, 1);
+        replay(journal, target);
+        model.getGraph().getNode(GraphGenerator.FIRST_NODE).setAttribute(GraphGenerator.INT_COLUMN, 2);
+        replay(journal, target);
+
+        Assert.assertEquals(2, target.getGraph().getNode(GraphGenerator.FIRST_NODE)
+            .getAttribute(GraphGenerator.INT_COLUMN));
+    }
+
+    @Test
+    public void testUncommittedDeltas() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        //The first delta is lost, for instance because the journal file couldn't be written
+        model.getGraph().getNode(GraphGenerator.FIRST_NODE).setLabel("First");
+        Assert.assertTrue(journal.write(new DataOutputStream(new ByteArrayOutputStream())));
+        model.getGraph().getNode(GraphGenerator.SECOND_NODE).setLabel("Second");
+
+        Graph targetGraph = replay(journal, newTinyGraph()).getGraph();
+        Assert.assertEquals("First", targetGraph.getNode(GraphGenerator.FIRST_NODE).getLabel());
+        Assert.assertEquals("Second", targetGraph.getNode(GraphGenerator.SECOND_NODE).getLabel());
+        Assert.assertFalse(journal.write(new DataOutputStream(new ByteArrayOutputStream())));
+    }
+
+    @Test
+    public void testPropertyScanInterval() throws IOException {
+        GraphModel model = newTinyGraph();
+        GraphJournal journal = new GraphJournal(model, Long.MAX_VALUE);
+
+        Graph graph = model.getGraph();
+        graph.getNode(GraphGenerator.FIRST_NODE).setX(10f);
+        Assert.assertFalse(journal.write(new DataOutputStream(new ByteArrayOutputStream())));
+
+        //Added elements are written in full regardless
+        Node node = model.factory().newNode("3");
+        node.setX(5f);
+        graph.addNode(node);
+        Graph targetGraph = replay(journal, newTinyGraph()).getGraph();
+        Assert.assertEquals(5f, targetGraph.getNode("3").x(), 0f);
+        Assert.assertEquals(0f, targetGraph.getNode(GraphGenerator.FIRST_NODE).x(), 0f);
+    }
+
+    @Test
+    public void testNumericIds() throws IOException {
+        GraphModel model = newNumericGraph();
+        GraphJournal journal = new GraphJournal(model, 0);
+
+        Graph graph = model.getGraph();
+        Node node = model.factory().newNode(3);
+        graph.addNode(node);
+        graph.addEdge(model.factory().newEdge(2L, graph.getNode(1), node, 0, 1.0, true));
+        graph.removeNode(graph.getNode(2));
+        graph.getNode(1).setLabel("One");
+
+        Graph targetGraph = replay(journal, newNumericGraph()).getGraph();
+        Assert.assertEquals(2, targetGraph.getNodeCount());
+        Assert.assertNull(targetGraph.getNode(2));
+        Assert.assertNotNull(targetGraph.getNode(3));
+        Assert.assertNotNull(targetGraph.getEdge(2L));
+        Assert.assertNull(targetGraph.getEdge(1L));
+        Assert.assertEquals("One", targetGraph.getNode(1).getLabel());
+    }
+
+    private static GraphModel newTinyGraph() {
+        return GraphGenerator.build().generateTinyGraph().addIntNodeColumn().getGraphModel();
+    }
+
+    private static GraphModel newNumericGraph() {
+        Configuration configuration = new Configuration();
+        configuration.setNodeIdType(Integer.class);
+        configuration.setEdgeIdType(Long.class);
+        GraphModel model = GraphModel.Factory.newInstance(configuration);
+        Graph graph = model.getGraph();
+        Node n1 = model.factory().newNode(1);
+        Node n2 = model.factory().newNode(2);
+        graph.addNode(n1);
+        graph.addNode(n2);
+        graph.addEdge(model.factory().newEdge(1L, n1, n2, 0, 1.0, true));
+        return model;
+    }
+
+    private static GraphModel replay(GraphJournal journal, GraphModel target) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        Assert.assertTrue(journal.write(new DataOutputStream(bos)));
+        journal.commit();
+        GraphJournal.read(new DataInputStream(new ByteArrayInputStream(bos.toByteArray())), target);
+        return target;
+    }
+}
@@ -0,0 +1,152 @@
+package org.gephi.graph;
+
+import java.awt.Color;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Table;
+import org.gephi.graph.api.types.TimestampDoubleMap;
+import org.gephi.graph.api.types.TimestampSet;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.impl.WorkspaceImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GraphPersistenceProviderTest {
+
+    private static final String EDGE_COLUMN = "since";
+
+    @Test
+    public void testDuplicate() {
+        GraphGenerator generator = GraphGenerator.build().generateTinyGraph().addNodeLabels().addIntNodeColumn()
+            .addStringNodeColumn();
+        GraphModel model = generator.getGraphModel();
+        Graph graph = model.getGraph();
+        graph.getNode(GraphGenerator.FIRST_NODE).setColor(Color.RED);
+        graph.getNode(GraphGenerator.SECOND_NODE).setX(12f);
+        graph.addEdge(model.factory().newEdge(GraphGenerator.SECOND_EDGE, graph.getNode(GraphGenerator.SECOND_NODE),
+            graph.getNode(GraphGenerator.FIRST_NODE), model.addEdgeType("knows"), 2.5, false));
+        model.getEdgeTable().addColumn(EDGE_COLUMN, Integer.class);
+        graph.getEdge(GraphGenerator.FIRST_EDGE).setAttribute(EDGE_COLUMN, 2001);
+        graph.setAttribute("title", "Tiny");
+
+        Workspace copy = duplicate(generator.getWorkspace());
+        assertSameGraph(model, copy.getLookup().lookup(GraphModel.class));
+    }
+
+    @Test
+    public void testDuplicateDynamicValues() {
+        GraphGenerator generator =
+            GraphGenerator.build().generateTinyGraph().addTimestampDoubleColumn().addTimestampSetColumn();
+        GraphModel model = generator.getGraphModel();
+
+        GraphModel newModel = duplicate(generator.getWorkspace()).getLookup().lookup(GraphModel.class);
+        assertSameGraph(model, newModel);
+
+        Node node = model.getGraph().getNode(GraphGenerator.FIRST_NODE);
+        Node newNode = newModel.getGraph().getNode(GraphGenerator.FIRST_NODE);
+        TimestampDoubleMap map = (TimestampDoubleMap) node.getAttribute(GraphGenerator.TIMESTAMP_DOUBLE_COLUMN);
+        TimestampDoubleMap newMap = (TimestampDoubleMap) newNode.getAttribute(GraphGenerator.TIMESTAMP_DOUBLE_COLUMN);
+        Assert.assertNotSame(map, newMap);
+        newMap.put(2042.0, 1.0);
+        Assert.assertEquals(1, map.size());
+
+        TimestampSet set = (TimestampSet) node.getAttribute(GraphGenerator.TIMESTAMP_SET_COLUMN);
+        TimestampSet newSet = (TimestampSet) newNode.getAttribute(GraphGenerator.TIMESTAMP_SET_COLUMN);
+        Assert.assertNotSame(set, newSet);
+        newSet.add(2042.0);
+        Assert.assertEquals(1, set.size());
+    }
+
+    @Test
+    public void testDuplicateIntoNonEmptyModel() throws IOException {
+        GraphGenerator generator = GraphGenerator.build().generateTinyGraph().addIntNodeColumn();
+        GraphModel newModel = GraphModel.Factory.newInstance();
+        newModel.getGraph().addNode(newModel.factory().newNode("existing"));
+        Workspace newWorkspace = new WorkspaceImpl(null, 1, "Copy", newModel);
+
+        GraphPersistenceProvider provider = new GraphPersistenceProvider();
+        Assert.assertFalse(provider.duplicate(generator.getWorkspace(), newWorkspace));
+
+        //Same as the fallback of the duplicate task, without the pipe thread
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        DataOutputStream dos = new DataOutputStream(bos);
+        provider.writeBytes(dos, generator.getWorkspace());
+        dos.flush();
+        provider.readBytes(new DataInputStream(new BufferedInputStream(new ByteArrayInputStream(bos.toByteArray()))),
+            newWorkspace);
+
+        Graph newGraph = newWorkspace.getLookup().lookup(GraphModel.class).getGraph();
+        Assert.assertNotNull(newGraph.getNode(GraphGenerator.FIRST_NODE));
+        Assert.assertNotNull(newGraph.getNode(GraphGenerator.SECOND_NODE));
+        Assert.assertNotNull(newGraph.getEdge(GraphGenerator.FIRST_EDGE));
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE,
+            newGraph.getNode(GraphGenerator.FIRST_NODE).getAttribute(GraphGenerator.INT_COLUMN));
+    }
+
+    private static Workspace duplicate(Workspace workspace) {
+        Workspace newWorkspace = new WorkspaceImpl(null, 1, "Copy");
+        Assert.assertTrue(new GraphPersistenceProvider().duplicate(workspace, newWorkspace));
+        return newWorkspace;
+    }
+
+    private static void assertSameGraph(GraphModel expected, GraphModel actual) {
+        Assert.assertNotNull(actual);
+        Assert.assertNotSame(expected, actual);
+        assertSameColumns(expected.getNodeTable(), actual.getNodeTable());
+        assertSameColumns(expected.getEdgeTable(), actual.getEdgeTable());
+        Assert.assertArrayEquals(expected.getEdgeTypeLabels(), actual.getEdgeTypeLabels());
+
+        Graph graph = expected.getGraph();
+        Graph newGraph = actual.getGraph();
+        Assert.assertEquals(graph.getNodeCount(), newGraph.getNodeCount());
+        Assert.assertEquals(graph.getEdgeCount(), newGraph.getEdgeCount());
+        for (Node node : graph.getNodes()) {
+            Node newNode = newGraph.getNode(node.getId());
+            Assert.assertNotNull(newNode);
+            Assert.assertNotSame(node, newNode);
+            Assert.assertEquals(node.x(), newNode.x(), 0f);
+            Assert.assertEquals(node.y(), newNode.y(), 0f);
+            Assert.assertEquals(node.size(), newNode.size(), 0f);
+            Assert.assertEquals(node.getColor(), newNode.getColor());
+            for (Column column : expected.getNodeTable()) {
+                Assert.assertEquals(node.getAttribute(column), newNode.getAttribute(column.getId()));
+            }
+        }
+        for (Edge edge : graph.getEdges()) {
+            Edge newEdge = newGraph.getEdge(edge.getId());
+            Assert.assertNotNull(newEdge);
+            Assert.assertEquals(edge.getSource().getId(), newEdge.getSource().getId());
+            Assert.assertEquals(edge.getTarget().getId(), newEdge.getTarget().getId());
+            Assert.assertEquals(edge.getTypeLabel(), newEdge.getTypeLabel());
+            Assert.assertEquals(edge.getWeight(), newEdge.getWeight(), 0.0);
+            Assert.assertEquals(edge.isDirected(), newEdge.isDirected());
+            for (Column column : expected.getEdgeTable()) {
+                Assert.assertEquals(edge.getAttribute(column), newEdge.getAttribute(column.getId()));
+            }
+        }
+
+        Assert.assertEquals(graph.getAttributeKeys(), newGraph.getAttributeKeys());
+        for (String key : graph.getAttributeKeys()) {
+            Assert.assertEquals(graph.getAttribute(key), newGraph.getAttribute(key));
+        }
+    }
+
+    private static void assertSameColumns(Table expected, Table actual) {
+        Assert.assertEquals(expected.countColumns(), actual.countColumns());
+        for (Column column : expected) {
+            Column newColumn = actual.getColumn(column.getId());
+            Assert.assertNotNull(newColumn);
+            Assert.assertEquals(column.getTypeClass(), newColumn.getTypeClass());
+            Assert.assertEquals(column.getTitle(), newColumn.getTitle());
+        }
+    }
+}
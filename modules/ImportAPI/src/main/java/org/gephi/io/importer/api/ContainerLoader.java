@@ -97,6 +97,18 @@ public interface ContainerLoader {
      */
     NodeDraft getNode(String id);
 
+    /**
+     * Returns the node with the given numeric <code>id</code>, or create a new
+     * node with this id if not found.
+     * <p>
+     * This is equivalent to <code>getNode(String.valueOf(id))</code> without
+     * creating the string.
+     *
+     * @param id node identifier
+     * @return found node, or a new default node
+     */
+    NodeDraft getNode(long id);
+
     /**
      * Returns <code>true</code> if a node exists with the given
      * <code>id</code>.
@@ -106,6 +118,15 @@ public interface ContainerLoader {
      */
     boolean nodeExists(String id);
 
+    /**
+     * Returns <code>true</code> if a node exists with the given numeric
+     * <code>id</code>.
+     *
+     * @param id node identifier
+     * @return <code>true</code> if node exists, <code>false</code> otherwise
+     */
+    boolean nodeExists(long id);
+
     /**
      * Returns the edge with the given <code>id</code>, or <code>null</code> if
      * not found.
@@ -371,6 +371,17 @@ public interface ElementDraft {
          */
         NodeDraft newNodeDraft(String id);
 
+        /**
+         * Returns an empty node draft instance with a numeric id.
+         * <p>
+         * The id is equivalent to its decimal string representation but it's
+         * only converted to a string when asked for.
+         *
+         * @param id node id
+         * @return an instance of <code>NodeDraft</code>
+         */
+        NodeDraft newNodeDraft(long id);
+
         /**
          * Returns an empty edge draft instance. Note that <b>source</b> and
          * <b>target</b> have to be set.
@@ -386,5 +397,16 @@ public interface ElementDraft {
          * @return an instance of <code>EdgeDraft</code>
          */
         EdgeDraft newEdgeDraft(String id);
+
+        /**
+         * Returns an empty edge draft instance with a numeric id.
+         * <p>
+         * The id is equivalent to its decimal string representation but it's
+         * only converted to a string when asked for.
+         *
+         * @param id edge id
+         * @return an instance of <code>EdgeDraft</code>
+         */
+        EdgeDraft newEdgeDraft(long id);
     }
 }
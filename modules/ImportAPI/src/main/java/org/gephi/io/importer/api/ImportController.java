@@ -74,6 +74,54 @@ public interface ImportController {
 
     Container importFile(InputStream stream, FileImporter importer);
 
+    /**
+     * Imports <code>files</code> into one container each, parsing several
+     * files at the same time.
+     * <p>
+     * Files are parsed on a pool bounded by the number of processors, largest
+     * files first. A file only starts when its estimated memory fits in the
+     * free heap left by the files being parsed. The containers can then be
+     * merged with {@link #process(Container[], Processor, Workspace)}.
+     *
+     * @param files files to import
+     * @return containers in the same order as <code>files</code>, with
+     * <code>null</code> for files that couldn't be imported
+     * @throws FileNotFoundException if a file can't be found
+     */
+    Container[] importFiles(File[] files) throws FileNotFoundException;
+
+    /**
+     * Imports <code>files</code> into one container each with the given
+     * importers, parsing several files at the same time.
+     * <p>
+     * Importers must be different instances. A <code>null</code> importer
+     * uses the importer matching the file.
+     *
+     * @param files     files to import
+     * @param importers importers, one per file
+     * @return containers in the same order as <code>files</code>, with
+     * <code>null</code> for files that couldn't be imported
+     * @throws FileNotFoundException if a file can't be found
+     * @see #importFiles(File[])
+     */
+    Container[] importFiles(File[] files, FileImporter[] importers) throws FileNotFoundException;
+
+    /**
+     * Imports <code>reader</code> directly into the graph of
+     * <code>workspace</code>, without processing step.
+     * <p>
+     * Elements are written in batches while the importer runs, so the complete
+     * container is never held in memory. Drafts must be complete when added to
+     * the loader and the container returned can't be processed, it only
+     * gives access to the report and the import settings.
+     *
+     * @param reader    reader to import
+     * @param importer  importer
+     * @param workspace workspace to import into
+     * @return closed container, or <code>null</code> if the import failed
+     */
+    Container importFileDirect(Reader reader, FileImporter importer, Workspace workspace);
+
     Container importWizard(WizardImporter importer);
 
     FileImporter getFileImporter(FileObject fileObject);
@@ -55,7 +55,6 @@ import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.zip.GZIPInputStream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
@@ -64,7 +63,6 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLReporter;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
-import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.gephi.utils.CharsetToolkit;
 import org.openide.filesystems.FileObject;
 import org.openide.filesystems.FileUtil;
@@ -780,7 +778,7 @@ public final class ImportUtils {
      */
     public static LineNumberReader getTextReader(FileObject fileObject) throws IOException {
         try {
-            return getTextReader(fileObject.getInputStream());
+            return getTextReader(getDecompressedInputStream(fileObject));
         } catch (IOException ex) {
             throw new IOException(NbBundle.getMessage(ImportUtils.class, "ImportUtils.error_file_not_found"));
         }
@@ -904,6 +902,49 @@ public final class ImportUtils {
         }
     }
 
+    /**
+     * Returns the content of <code>fileObject</code>, decompressed if it's a gzip or bzip2 file.
+     * <p>
+     * Decompression runs ahead of the reader on a background thread. Members of multi-member gzip files and
+     * streams of multi-stream bzip2 files, as written by <code>bgzip</code> or <code>pbzip2</code>, are
+     * decompressed in parallel.
+     *
+     * @param fileObject the file to read
+     * @return a stream of the file content
+     * @throws IOException if the file can't be read
+     */
+    public static InputStream getDecompressedInputStream(FileObject fileObject) throws IOException {
+        InputStream stream = fileObject.getInputStream();
+        if (fileObject.getExt().equalsIgnoreCase("gz")) {
+            return ParallelMemberInputStream.open(stream, ParallelMemberInputStream.Format.GZIP);
+        } else if (fileObject.getExt().equalsIgnoreCase("bz2")) {
+            return ParallelMemberInputStream.open(stream, ParallelMemberInputStream.Format.BZIP2);
+        }
+        return stream;
+    }
+
+    /**
+     * Returns the extension of the file compressed in <code>fileObject</code>, if it's a single gzip or bzip2
+     * compressed file (e.g. <code>gexf</code> for <code>graph.gexf.gz</code>). Such files can be read directly with
+     * {@link #getDecompressedInputStream(FileObject)}.
+     *
+     * @param fileObject the file
+     * @return the compressed file extension, or <code>null</code> if not a compressed file or a tar archive
+     */
+    public static String getCompressedFileExtension(FileObject fileObject) {
+        if (fileObject == null
+            || !(fileObject.getExt().equalsIgnoreCase("gz") || fileObject.getExt().equalsIgnoreCase("bz2"))) {
+            return null;
+        }
+        String name = fileObject.getName();
+        int dot = name.lastIndexOf('.');
+        if (dot == -1 || dot == name.length() - 1) {
+            return null;
+        }
+        String extension = name.substring(dot + 1);
+        return extension.equalsIgnoreCase("tar") ? null : extension;
+    }
+
     public static boolean isArchiveFile(FileObject fileObject) {
         if (fileObject == null) {
             return false;
@@ -993,12 +1034,12 @@ public final class ImportUtils {
         final int BUFF_SIZE = 8192;
         final byte[] buffer = new byte[BUFF_SIZE];
 
-        BZip2CompressorInputStream inputStream = null;
+        InputStream inputStream = null;
         FileOutputStream outStream = null;
 
         try {
             FileInputStream is = new FileInputStream(in.getPath());
-            inputStream = new BZip2CompressorInputStream(is);
+            inputStream = ParallelMemberInputStream.open(is, ParallelMemberInputStream.Format.BZIP2);
             outStream = new FileOutputStream(out.getAbsolutePath());
 
             if (isTar) {
@@ -1051,11 +1092,12 @@ public final class ImportUtils {
         final int BUFF_SIZE = 8192;
         final byte[] buffer = new byte[BUFF_SIZE];
 
-        GZIPInputStream inputStream = null;
+        InputStream inputStream = null;
         FileOutputStream outStream = null;
 
         try {
-            inputStream = new GZIPInputStream(new FileInputStream(in.getPath()));
+            inputStream = ParallelMemberInputStream.open(new FileInputStream(in.getPath()),
+                ParallelMemberInputStream.Format.GZIP);
             outStream = new FileOutputStream(out);
 
             if (isTar) {
@@ -0,0 +1,401 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+
+/**
+ * Input stream decompressing a multi-member gzip or multi-stream bzip2 source on several threads.
+ * <p>
+ * A splitter thread cuts the compressed source in slices at member boundaries and each slice is decompressed
+ * independently, while slices are returned in order. Boundaries are found by looking for member headers, so a slice
+ * may be cut inside a member when compressed data looks like a header. Its decompression then fails and the rest of
+ * the source is decompressed serially. Sources without boundaries, like single member files, are also decompressed
+ * serially once a slice grows over {@link #MAX_SLICE_SIZE}.
+ */
+final class ParallelMemberInputStream extends InputStream {
+
+    static final int SLICE_SIZE = 1 << 20;
+    static final int MAX_SLICE_SIZE = 16 * SLICE_SIZE;
+    static final int MAX_THREADS = 8;
+    private static final int READ_SIZE = 1 << 16;
+
+    private final InputStream source;
+    private final Format format;
+    private final ExecutorService executor;
+    private final BlockingQueue<Segment> segments;
+    private final Thread splitter;
+    //Output
+    private ByteBuffer current;
+    private InputStream serial;
+    private boolean eof;
+    private volatile boolean closed;
+
+    private ParallelMemberInputStream(InputStream source, Format format, int threads) {
+        this.source = source;
+        this.format = format;
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Import Decompression");
+            t.setDaemon(true);
+            return t;
+        });
+        this.segments = new ArrayBlockingQueue<>(threads);
+        this.splitter = new Thread(this::split, "Import Decompression Splitter");
+        splitter.setDaemon(true);
+        splitter.start();
+    }
+
+    /**
+     * Returns a stream decompressing <code>source</code> ahead of the reader, on several threads when there are
+     * enough processors.
+     *
+     * @param source compressed stream
+     * @param format compression format
+     * @return decompressed stream
+     * @throws IOException if the stream header can't be read
+     */
+    static InputStream open(InputStream source, Format format) throws IOException {
+        return open(source, format, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    static InputStream open(InputStream source, Format format, int threads) throws IOException {
+        if (threads < 2) {
+            return new ReadAheadInputStream(format.open(source));
+        }
+        return new ParallelMemberInputStream(source, format, threads);
+    }
+
+    private void split() {
+        byte[] pending = new byte[2 * SLICE_SIZE];
+        int length = 0;
+        int searched = SLICE_SIZE;
+        try {
+            while (!closed) {
+                if (length == pending.length) {
+                    if (length >= MAX_SLICE_SIZE) {
+                        //No member boundary found, the rest is decompressed serially
+                        segments.put(new Segment(
+                            new SequenceInputStream(new ByteArrayInputStream(pending, 0, length), source)));
+                        return;
+                    }
+                    pending = Arrays.copyOf(pending, pending.length * 2);
+                }
+                int read = source.read(pending, length, Math.min(READ_SIZE, pending.length - length));
+                if (read == -1) {
+                    if (length > 0) {
+                        submit(Arrays.copyOf(pending, length));
+                    }
+                    segments.put(Segment.END);
+                    return;
+                }
+                length += read;
+
+                //Cut at the first member header after the slice size
+                for (; searched + Format.HEADER_LENGTH <= length; searched++) {
+                    if (format.isMemberStart(pending, searched)) {
+                        submit(Arrays.copyOf(pending, searched));
+                        length -= searched;
+                        System.arraycopy(pending, searched, pending, 0, length);
+                        searched = SLICE_SIZE;
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            //Closed
+        } catch (IOException e) {
+            segments.offer(new Segment(e));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void submit(byte[] compressed) throws InterruptedException {
+        segments.put(new Segment(compressed, executor.submit(() -> decompress(compressed))));
+    }
+
+    private ByteBuffer decompress(byte[] compressed) throws IOException {
+        try (InputStream in = format.open(new ByteArrayInputStream(compressed))) {
+            byte[] out = new byte[Math.max(READ_SIZE, 4 * compressed.length)];
+            int length = 0;
+            int read;
+            while ((read = in.read(out, length, out.length - length)) != -1) {
+                length += read;
+                if (length == out.length) {
+                    out = Arrays.copyOf(out, out.length * 2);
+                }
+            }
+            return ByteBuffer.wrap(out, 0, length);
+        }
+    }
+
+    private Segment take() throws IOException {
+        try {
+            return segments.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+    }
+
+    private boolean nextSegment() throws IOException {
+        current = null;
+        if (eof) {
+            return false;
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        Segment segment = take();
+        if (segment == Segment.END) {
+            eof = true;
+            return false;
+        } else if (segment.error != null) {
+            eof = true;
+            throw segment.error;
+        } else if (segment.tail != null) {
+            serial = new ReadAheadInputStream(format.open(segment.tail));
+            return true;
+        }
+        try {
+            current = segment.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        } catch (ExecutionException e) {
+            //The slice wasn't cut on a member boundary, or the source is corrupted
+            serial = new ReadAheadInputStream(format.open(new SequenceInputStream(new RemainingSegments(segment))));
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            if (serial != null) {
+                return serial.read(b, off, len);
+            } else if (current != null && current.hasRemaining()) {
+                int n = Math.min(len, current.remaining());
+                current.get(b, off, n);
+                return n;
+            } else if (!nextSegment()) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (serial != null) {
+            return serial.available();
+        }
+        return current != null ? current.remaining() : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            splitter.interrupt();
+            try {
+                splitter.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            executor.shutdownNow();
+            try {
+                if (serial != null) {
+                    serial.close();
+                }
+            } finally {
+                source.close();
+            }
+        }
+    }
+
+    enum Format {
+        GZIP {
+            @Override
+            InputStream open(InputStream in) throws IOException {
+                //GZIPInputStream stops after a member when no more bytes are available, which happens at the
+                //boundaries of concatenated streams. Reading a header at the real end is harmless.
+                return new GZIPInputStream(new FilterInputStream(in) {
+                    @Override
+                    public int available() throws IOException {
+                        return Math.max(1, super.available());
+                    }
+                }, READ_SIZE);
+            }
+
+            @Override
+            boolean isMemberStart(byte[] b, int i) {
+                //Magic, deflate method, no reserved flags and known extra flags
+                return b[i] == (byte) 0x1f && b[i + 1] == (byte) 0x8b && b[i + 2] == 8 && (b[i + 3] & 0xE0) == 0
+                    && (b[i + 8] == 0 || b[i + 8] == 2 || b[i + 8] == 4);
+            }
+        },
+        BZIP2 {
+            @Override
+            InputStream open(InputStream in) throws IOException {
+                return new BZip2CompressorInputStream(in, true);
+            }
+
+            @Override
+            boolean isMemberStart(byte[] b, int i) {
+                //Stream magic and block size, followed by the first block magic
+                return b[i] == 'B' && b[i + 1] == 'Z' && b[i + 2] == 'h' && b[i + 3] >= '1' && b[i + 3] <= '9'
+                    && b[i + 4] == 0x31 && b[i + 5] == 0x41 && b[i + 6] == 0x59 && b[i + 7] == 0x26
+                    && b[i + 8] == 0x53 && b[i + 9] == 0x59;
+            }
+        };
+
+        static final int HEADER_LENGTH = 10;
+
+        abstract InputStream open(InputStream in) throws IOException;
+
+        abstract boolean isMemberStart(byte[] b, int i);
+    }
+
+    private static final class Segment {
+
+        private static final Segment END = new Segment((IOException) null);
+
+        private final byte[] compressed;
+        private final Future<ByteBuffer> result;
+        private final InputStream tail;
+        private final IOException error;
+
+        private Segment(byte[] compressed, Future<ByteBuffer> result) {
+            this.compressed = compressed;
+            this.result = result;
+            this.tail = null;
+            this.error = null;
+        }
+
+        private Segment(InputStream tail) {
+            this.compressed = null;
+            this.result = null;
+            this.tail = tail;
+            this.error = null;
+        }
+
+        private Segment(IOException error) {
+            this.compressed = null;
+            this.result = null;
+            this.tail = null;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Compressed bytes of a failed slice followed by all the segments not read yet.
+     */
+    private final class RemainingSegments implements Enumeration<InputStream> {
+
+        private Segment next;
+
+        private RemainingSegments(Segment failed) {
+            this.next = failed;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            if (next == null) {
+                try {
+                    next = take();
+                } catch (IOException e) {
+                    next = new Segment(e);
+                }
+            }
+            return next != Segment.END;
+        }
+
+        @Override
+        public InputStream nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+            Segment segment = next;
+            next = null;
+            if (segment.error != null) {
+                next = Segment.END;
+                return new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw segment.error;
+                    }
+                };
+            } else if (segment.tail != null) {
+                next = Segment.END;
+                return segment.tail;
+            }
+            segment.result.cancel(true);
+            return new ByteArrayInputStream(segment.compressed);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.api;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Input stream reading its source ahead on a background thread.
+ * <p>
+ * The source is read into a fixed ring of buffers, so a slow source such as a decompressor runs concurrently with
+ * the consumer of this stream while never being more than the ring size ahead.
+ */
+final class ReadAheadInputStream extends InputStream {
+
+    static final int BUFFER_SIZE = 1 << 16;
+    static final int BUFFER_COUNT = 16;
+
+    private final InputStream source;
+    private final BlockingQueue<byte[]> free;
+    private final BlockingQueue<Chunk> filled;
+    private final Thread thread;
+    //Current chunk
+    private Chunk chunk;
+    private int position;
+    private boolean eof;
+    private volatile boolean closed;
+
+    ReadAheadInputStream(InputStream source) {
+        this(source, BUFFER_SIZE, BUFFER_COUNT);
+    }
+
+    ReadAheadInputStream(InputStream source, int bufferSize, int bufferCount) {
+        this.source = source;
+        this.free = new ArrayBlockingQueue<>(bufferCount);
+        this.filled = new ArrayBlockingQueue<>(bufferCount + 1);
+        for (int i = 0; i < bufferCount; i++) {
+            free.add(new byte[bufferSize]);
+        }
+        this.thread = new Thread(this::readSource, "Import Read Ahead");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void readSource() {
+        try {
+            while (!closed) {
+                byte[] buffer = free.take();
+                int length = 0;
+                int read = 0;
+                while (length < buffer.length && (read = source.read(buffer, length, buffer.length - length)) != -1) {
+                    length += read;
+                }
+                if (length > 0) {
+                    filled.put(new Chunk(buffer, length, null));
+                }
+                if (read == -1) {
+                    filled.put(Chunk.END);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            //Closed
+        } catch (IOException e) {
+            filled.offer(new Chunk(null, 0, e));
+        } catch (RuntimeException e) {
+            filled.offer(new Chunk(null, 0, new IOException(e)));
+        } finally {
+            try {
+                source.close();
+            } catch (IOException e) {
+                //Ignore
+            }
+        }
+    }
+
+    private boolean nextChunk() throws IOException {
+        if (chunk != null && chunk.buffer != null) {
+            free.offer(chunk.buffer);
+        }
+        chunk = null;
+        if (eof) {
+            return false;
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        try {
+            chunk = filled.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        position = 0;
+        if (chunk.error != null) {
+            eof = true;
+            throw chunk.error;
+        }
+        if (chunk == Chunk.END) {
+            eof = true;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        while (chunk == null || position == chunk.length) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        return chunk.buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (chunk == null || position == chunk.length) {
+            if (!nextChunk()) {
+                return -1;
+            }
+        }
+        int n = Math.min(len, chunk.length - position);
+        System.arraycopy(chunk.buffer, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return chunk != null ? chunk.length - position : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            thread.interrupt();
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Chunk {
+
+        private static final Chunk END = new Chunk(null, 0, null);
+
+        private final byte[] buffer;
+        private final int length;
+        private final IOException error;
+
+        private Chunk(byte[] buffer, int length, IOException error) {
+            this.buffer = buffer;
+            this.length = length;
+            this.error = error;
+        }
+    }
+}
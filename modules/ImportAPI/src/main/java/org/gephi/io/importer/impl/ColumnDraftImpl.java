@@ -42,6 +42,8 @@
 
 package org.gephi.io.importer.impl;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Arrays;
 import org.gephi.graph.api.AttributeUtils;
 import org.gephi.graph.api.TimeRepresentation;
 import org.gephi.graph.api.types.TimeMap;
@@ -51,18 +53,36 @@ import org.gephi.io.importer.api.ContainerUnloader;
 
 public class ColumnDraftImpl implements ColumnDraft {
 
+    /**
+     * Placeholder kept in element drafts for values held by the column's
+     * primitive store.
+     */
+    static final Object STORED_VALUE = new Object();
+    /**
+     * Maximum number of distinct values shared through the dictionary.
+     */
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
     protected final int index;
     protected final String id;
     protected final Class typeClass;
     protected final boolean dynamic;
+    protected final boolean primitiveStore;
     protected String title;
     protected Object defaultValue;
+    //Values
+    private Object2ObjectOpenHashMap<Object, Object> dictionary;
+    private long[] storedValues;
 
     public ColumnDraftImpl(String id, int index, boolean dynamic, Class typeClass) {
+        this(id, index, dynamic, typeClass, true);
+    }
+
+    public ColumnDraftImpl(String id, int index, boolean dynamic, Class typeClass, boolean primitiveStore) {
         this.id = id;
         this.index = index;
         this.typeClass = typeClass;
         this.dynamic = dynamic;
+        this.primitiveStore = primitiveStore && !dynamic && isPrimitiveType(typeClass);
     }
 
     @Override
@@ -142,6 +162,105 @@ public class ColumnDraftImpl implements ColumnDraft {
         return dynamic;
     }
 
+    /**
+     * Returns what the element draft at <code>row</code> keeps for
+     * <code>value</code>.
+     * <p>
+     * Strings, string list items and boxed primitives are deduplicated
+     * through a dictionary, so repeated values are shared across elements.
+     * Once the dictionary is full, number values are written to a primitive
+     * store and {@link #STORED_VALUE} is returned instead.
+     *
+     * @param row   element's sequential id
+     * @param value standardized value
+     * @return value or placeholder to keep in the element draft
+     */
+    Object store(int row, Object value) {
+        if (dynamic) {
+            return value;
+        }
+        if (value instanceof String[]) {
+            String[] array = (String[]) value;
+            for (int i = 0; i < array.length; i++) {
+                String interned = array[i] != null ? (String) intern(array[i]) : null;
+                if (interned != null) {
+                    array[i] = interned;
+                }
+            }
+            return array;
+        }
+        if (!(value instanceof String) && !isPrimitiveType(value.getClass())) {
+            return value;
+        }
+        Object interned = intern(value);
+        if (interned != null) {
+            return interned;
+        } else if (!primitiveStore) {
+            return value;
+        }
+        if (storedValues == null) {
+            storedValues = new long[Math.max(16, row + 1)];
+        } else if (row >= storedValues.length) {
+            storedValues = Arrays.copyOf(storedValues, Math.max(row + 1, storedValues.length * 2));
+        }
+        storedValues[row] = toBits((Number) value);
+        return STORED_VALUE;
+    }
+
+    /**
+     * Returns the value written to the primitive store for <code>row</code>.
+     *
+     * @param row element's sequential id
+     * @return boxed value
+     */
+    Object getStoredValue(int row) {
+        long bits = storedValues[row];
+        if (typeClass.equals(Double.class)) {
+            return Double.longBitsToDouble(bits);
+        } else if (typeClass.equals(Float.class)) {
+            return Float.intBitsToFloat((int) bits);
+        } else if (typeClass.equals(Integer.class)) {
+            return (int) bits;
+        } else if (typeClass.equals(Short.class)) {
+            return (short) bits;
+        } else if (typeClass.equals(Byte.class)) {
+            return (byte) bits;
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the dictionary's instance equal to <code>value</code>, or
+     * <code>null</code> if it's not found and the dictionary is full.
+     */
+    private Object intern(Object value) {
+        if (dictionary == null) {
+            dictionary = new Object2ObjectOpenHashMap<>();
+        }
+        Object existing = dictionary.get(value);
+        if (existing != null) {
+            return existing;
+        } else if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, value);
+            return value;
+        }
+        return null;
+    }
+
+    private long toBits(Number value) {
+        if (value instanceof Double) {
+            return Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof Float) {
+            return Float.floatToRawIntBits((Float) value);
+        }
+        return value.longValue();
+    }
+
+    private static boolean isPrimitiveType(Class type) {
+        return type.equals(Integer.class) || type.equals(Long.class) || type.equals(Double.class) ||
+            type.equals(Float.class) || type.equals(Short.class) || type.equals(Byte.class);
+    }
+
     @Override
     public String toString() {
         return title + " (" + typeClass.toString() + ")";
@@ -0,0 +1,619 @@
+package org.gephi.io.importer.impl;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.gephi.graph.api.Column;
+import org.gephi.graph.api.Configuration;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Element;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphFactory;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.graph.api.Origin;
+import org.gephi.graph.api.Table;
+import org.gephi.graph.api.TimeRepresentation;
+import org.gephi.graph.api.types.IntervalDoubleMap;
+import org.gephi.graph.api.types.TimestampDoubleMap;
+import org.gephi.io.importer.api.ColumnDraft;
+import org.gephi.io.importer.api.EdgeDirection;
+import org.gephi.io.importer.api.EdgeDirectionDefault;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.EdgeMergeStrategy;
+import org.gephi.io.importer.api.ElementDraft;
+import org.gephi.io.importer.api.ElementIdType;
+import org.gephi.io.importer.api.Issue;
+import org.gephi.io.importer.api.Issue.Level;
+import org.gephi.io.importer.api.NodeDraft;
+import org.gephi.utils.Attributes;
+import org.openide.util.NbBundle;
+
+/**
+ * Container which writes nodes and edges directly into a graph model instead
+ * of keeping every draft until a processor copies them.
+ * <p>
+ * Drafts are buffered and written in batches of {@link #getBatchSize()}
+ * nodes or edges, then released. Only pending drafts are kept, the graph
+ * itself is used to look up node and edge ids. Peak memory is therefore
+ * roughly the size of the imported graph instead of twice that.
+ * <p>
+ * This is meant for trusted sources: a draft must be complete when it is
+ * added, as changes made to it after its batch is written are lost. Checks
+ * which need the whole container, such as merging mutual edges in undirected
+ * graphs, removing auto-created nodes or sorting nodes by size, are not done.
+ * Nodes without position get a random one.
+ */
+public class DirectImportContainer extends ImportContainerImpl {
+
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+    private final GraphModel graphModel;
+    private final int batchSize;
+    //Pending drafts
+    private final Object2ObjectLinkedOpenHashMap<String, NodeDraftImpl> pendingNodes;
+    private final Object2ObjectLinkedOpenHashMap<String, EdgeDraftImpl> pendingEdges;
+    //Pending edge counts by source and target ids
+    private final Object2IntOpenHashMap<EdgeKey> pendingEdgeEnds = new Object2IntOpenHashMap<>();
+    //Merged edges, for average weights
+    private final Object2IntOpenHashMap<Edge> mergedEdgeCounts = new Object2IntOpenHashMap<>();
+    private final Set<Column> typeMismatchWarned = new HashSet<>();
+    private boolean configured;
+    private Class edgeTypeLabelClass;
+    //Counting
+    private int nodeCount;
+    private int edgeCount;
+    private int selfLoopCount;
+    private boolean reportedAutoNode;
+
+    public DirectImportContainer(GraphModel graphModel) {
+        this(graphModel, DEFAULT_BATCH_SIZE);
+    }
+
+    public DirectImportContainer(GraphModel graphModel, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        this.graphModel = graphModel;
+        this.batchSize = batchSize;
+        this.pendingNodes = new Object2ObjectLinkedOpenHashMap<>();
+        this.pendingEdges = new Object2ObjectLinkedOpenHashMap<>();
+    }
+
+    @Override
+    public void addNode(NodeDraft nodeDraft) {
+        NodeDraftImpl nodeDraftImpl = checkDraft(nodeDraft, NodeDraftImpl.class);
+        if (nodeExists(nodeDraftImpl.getId())) {
+            String message = NbBundle
+                .getMessage(ImportContainerImpl.class, "ImportContainerException_nodeExist", nodeDraftImpl.getId());
+            getReport().logIssue(new Issue(message, Level.WARNING));
+            return;
+        }
+        pendingNodes.put(nodeDraftImpl.getId(), nodeDraftImpl);
+        if (pendingNodes.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public NodeDraftImpl getNode(String id) {
+        NodeDraftImpl node = pendingNodes.get(id);
+        if (node != null) {
+            return node;
+        }
+        if (getGraphNode(id) != null) {
+            //Handle for an already written node, only its id is used
+            return factory().newNodeDraft(id);
+        }
+        if (allowAutoNode()) {
+            node = factory().newNodeDraft(id);
+            node.setCreatedAuto(true);
+            addNode(node);
+            if (!reportedAutoNode) {
+                String message =
+                    NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_AutoNodeCreated");
+                getReport().logIssue(new Issue(message, Level.INFO));
+                reportedAutoNode = true;
+            }
+            return node;
+        }
+        String message = NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_UnknowNodeId", id);
+        getReport().logIssue(new Issue(message, Level.SEVERE));
+        return null;
+    }
+
+    @Override
+    public NodeDraftImpl getNode(long id) {
+        return getNode(String.valueOf(id));
+    }
+
+    @Override
+    public boolean nodeExists(String id) {
+        return pendingNodes.containsKey(id) || getGraphNode(id) != null;
+    }
+
+    @Override
+    public boolean nodeExists(long id) {
+        return nodeExists(String.valueOf(id));
+    }
+
+    @Override
+    public void addEdge(EdgeDraft edgeDraft) {
+        EdgeDraftImpl edgeDraftImpl = checkDraft(edgeDraft, EdgeDraftImpl.class);
+        if (edgeDraftImpl.getSource() == null || edgeDraftImpl.getTarget() == null) {
+            String message = NbBundle.getMessage(ImportContainerImpl.class,
+                edgeDraftImpl.getSource() == null ? "ImportContainerException_MissingNodeSource" :
+                    "ImportContainerException_MissingNodeTarget");
+            getReport().logIssue(new Issue(message, Level.SEVERE));
+            return;
+        }
+        if (edgeExists(edgeDraftImpl.getId())) {
+            String message = NbBundle
+                .getMessage(ImportContainerImpl.class, "ImportContainerException_edgeExist", edgeDraftImpl.getId());
+            getReport().logIssue(new Issue(message, Level.WARNING));
+            return;
+        }
+        if (edgeDraftImpl.isSelfLoop() && !allowSelfLoop()) {
+            String message = NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_SelfLoop");
+            getReport().logIssue(new Issue(message, Level.SEVERE));
+            return;
+        }
+        EdgeDirection direction = edgeDraftImpl.getDirection();
+        EdgeDirectionDefault edgeDefault = getEdgeDefault();
+        if ((edgeDefault == EdgeDirectionDefault.DIRECTED && direction == EdgeDirection.UNDIRECTED) ||
+            (edgeDefault == EdgeDirectionDefault.UNDIRECTED && direction == EdgeDirection.DIRECTED)) {
+            getReport().logIssue(new Issue(NbBundle
+                .getMessage(ImportContainerImpl.class, "ImportContainerException_Bad_Edge_Type", edgeDefault,
+                    edgeDraftImpl.getId()), Level.SEVERE));
+            return;
+        }
+        if (edgeDraftImpl.getType() != null) {
+            edgeTypeLabelClass = edgeDraftImpl.getType().getClass();
+        }
+        pendingEdges.put(edgeDraftImpl.getId(), edgeDraftImpl);
+        pendingEdgeEnds.addTo(getEdgeEnds(edgeDraftImpl), 1);
+        if (pendingEdges.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void removeEdge(EdgeDraft edgeDraft) {
+        EdgeDraftImpl pendingEdge = pendingEdges.remove(edgeDraft.getId());
+        if (pendingEdge != null) {
+            EdgeKey ends = getEdgeEnds(pendingEdge);
+            if (pendingEdgeEnds.addTo(ends, -1) <= 1) {
+                pendingEdgeEnds.removeInt(ends);
+            }
+        } else {
+            Edge edge = getGraphEdge(edgeDraft.getId());
+            if (edge != null) {
+                graphModel.getGraph().removeEdge(edge);
+                edgeCount--;
+            }
+        }
+    }
+
+    @Override
+    public boolean edgeExists(String id) {
+        return pendingEdges.containsKey(id) || getGraphEdge(id) != null;
+    }
+
+    @Override
+    public boolean edgeExists(String source, String target) {
+        if (pendingEdgeEnds.getInt(new EdgeKey(source, target, null)) > 0) {
+            return true;
+        }
+        Node sourceNode = getGraphNode(source);
+        Node targetNode = getGraphNode(target);
+        return sourceNode != null && targetNode != null &&
+            graphModel.getGraph().getEdge(sourceNode, targetNode) != null;
+    }
+
+    /**
+     * Returns the edge draft with this id if it is not written yet,
+     * <code>null</code> otherwise.
+     *
+     * @param id edge id
+     * @return pending edge draft or <code>null</code>
+     */
+    @Override
+    public EdgeDraft getEdge(String id) {
+        return pendingEdges.get(id);
+    }
+
+    @Override
+    public Iterable<NodeDraft> getNodes() {
+        return Collections.unmodifiableCollection(pendingNodes.values());
+    }
+
+    @Override
+    public Iterable<EdgeDraft> getEdges() {
+        return Collections.unmodifiableCollection(pendingEdges.values());
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodeCount + pendingNodes.size();
+    }
+
+    @Override
+    public int getEdgeCount() {
+        return edgeCount + pendingEdges.size();
+    }
+
+    @Override
+    protected boolean isPrimitiveColumnStore() {
+        return false;
+    }
+
+    @Override
+    public boolean hasSelfLoops() {
+        return selfLoopCount > 0;
+    }
+
+    @Override
+    public Class getEdgeTypeLabelClass() {
+        return edgeTypeLabelClass;
+    }
+
+    @Override
+    public boolean containsAutoNodes() {
+        return reportedAutoNode;
+    }
+
+    @Override
+    public boolean verify() {
+        return true;
+    }
+
+    /**
+     * Writes the remaining drafts into the graph.
+     */
+    @Override
+    public void closeLoader() {
+        flush();
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public GraphModel getGraphModel() {
+        return graphModel;
+    }
+
+    /**
+     * Writes pending nodes, then pending edges, into the graph and releases
+     * their drafts.
+     */
+    public void flush() {
+        if (pendingNodes.isEmpty() && pendingEdges.isEmpty()) {
+            return;
+        }
+        if (!configured) {
+            configure();
+            configured = true;
+        }
+        addColumns(graphModel.getNodeTable(), getNodeColumns());
+        addColumns(graphModel.getEdgeTable(), getEdgeColumns());
+
+        Graph graph = graphModel.getGraph();
+        GraphFactory factory = graphModel.factory();
+
+        List<Node> nodes = new ArrayList<>(pendingNodes.size());
+        for (NodeDraftImpl draft : pendingNodes.values()) {
+            Object id = toElementId(draft.getId());
+            if (id != null) {
+                Node node = factory.newNode(id);
+                writeNode(draft, node);
+                nodes.add(node);
+            }
+        }
+        graph.addAllNodes(nodes);
+        nodeCount += nodes.size();
+        pendingNodes.clear();
+
+        //Edges of this batch aren't in the graph yet, so they are also looked up by their ends
+        Map<EdgeKey, Edge> batchEdges = new HashMap<>();
+        List<Edge> edges = new ArrayList<>(pendingEdges.size());
+        for (EdgeDraftImpl draft : pendingEdges.values()) {
+            Edge edge = createEdge(graph, draft, batchEdges);
+            if (edge != null) {
+                edges.add(edge);
+            }
+        }
+        graph.addAllEdges(edges);
+        edgeCount += edges.size();
+        pendingEdges.clear();
+        pendingEdgeEnds.clear();
+    }
+
+    private void configure() {
+        Configuration configuration = graphModel.getConfiguration().copy();
+        configuration.setTimeRepresentation(getTimeRepresentation());
+        configuration.setNodeIdType(getElementIdType().getTypeClass());
+        configuration.setEdgeIdType(getElementIdType().getTypeClass());
+        if (edgeTypeLabelClass != null) {
+            configuration.setEdgeLabelType(edgeTypeLabelClass);
+        }
+        ColumnDraft weightColumn = getEdgeColumn("weight");
+        if (weightColumn != null && weightColumn.isDynamic()) {
+            configuration.setEdgeWeightType(getTimeRepresentation().equals(TimeRepresentation.INTERVAL) ?
+                IntervalDoubleMap.class : TimestampDoubleMap.class);
+        }
+        if (!configuration.equals(graphModel.getConfiguration())) {
+            try {
+                graphModel.setConfiguration(configuration);
+            } catch (Exception e) {
+                String message = NbBundle.getMessage(DirectImportContainer.class,
+                    "DirectImportContainer_Configuration_Error", e.getMessage());
+                getReport().logIssue(new Issue(message, Level.SEVERE));
+            }
+        }
+        graphModel.setTimeFormat(getTimeFormat());
+        graphModel.setTimeZone(getTimeZone());
+    }
+
+    private void addColumns(Table table, Iterable<ColumnDraft> columns) {
+        for (ColumnDraft col : columns) {
+            if (!table.hasColumn(col.getId())) {
+                Class typeClass = col.getResolvedTypeClass(this);
+                if (Attributes.isTypeAvailable(typeClass, getTimeRepresentation())) {
+                    Object defaultValue = col.getResolvedDefaultValue(this);
+                    if (defaultValue != null && !typeClass.isAssignableFrom(defaultValue.getClass())) {
+                        defaultValue = null;
+                    }
+                    table.addColumn(col.getId(), col.getTitle(), typeClass, Origin.DATA, defaultValue, true);
+                }
+            }
+        }
+    }
+
+    private void writeNode(NodeDraftImpl draft, Node node) {
+        writeElement(draft, node);
+        if (draft.getLabel() == null && isFillLabelWithId()) {
+            node.setLabel(draft.getId());
+        }
+        float x = Float.isNaN(draft.getX()) ? 0f : draft.getX();
+        float y = Float.isNaN(draft.getY()) ? 0f : draft.getY();
+        float z = Float.isNaN(draft.getZ()) ? 0f : draft.getZ();
+        if (x == 0f && y == 0f) {
+            x = (float) ((0.01 + Math.random()) * 1000) - 500;
+            y = (float) ((0.01 + Math.random()) * 1000) - 500;
+        }
+        node.setX(x);
+        node.setY(y);
+        node.setZ(z);
+        node.setSize(draft.getSize() != 0 && !Float.isNaN(draft.getSize()) ? draft.getSize() : 10f);
+    }
+
+    private Edge createEdge(Graph graph, EdgeDraftImpl draft, Map<EdgeKey, Edge> batchEdges) {
+        Node source = getGraphNode(draft.getSource().getId());
+        Node target = getGraphNode(draft.getTarget().getId());
+        if (source == null || target == null) {
+            String message = NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_UnknowNodeId",
+                source == null ? draft.getSource().getId() : draft.getTarget().getId());
+            getReport().logIssue(new Issue(message, Level.SEVERE));
+            return null;
+        }
+        if (draft.getWeight() == 0) {
+            getReport().logIssue(new Issue(NbBundle
+                .getMessage(ImportContainerImpl.class, "ImportContainerException_Weight_Zero_Ignored",
+                    draft.getId()), Level.SEVERE));
+            return null;
+        } else if (draft.getWeight() < 0) {
+            getReport().logIssue(new Issue(NbBundle
+                .getMessage(ImportContainerImpl.class, "ImportContainerException_Negative_Weight", draft.getId()),
+                Level.WARNING));
+        }
+
+        int edgeType = graphModel.addEdgeType(draft.getType());
+        boolean directed = getEdgeDefault() == EdgeDirectionDefault.DIRECTED ||
+            (getEdgeDefault() == EdgeDirectionDefault.MIXED && draft.getDirection() != EdgeDirection.UNDIRECTED);
+
+        Edge existing = graph.getEdge(source, target, edgeType);
+        if (existing == null && !directed) {
+            existing = graph.getEdge(target, source, edgeType);
+        }
+        if (existing == null) {
+            existing = batchEdges.get(new EdgeKey(source, target, edgeType));
+        }
+        if (existing == null && !directed) {
+            existing = batchEdges.get(new EdgeKey(target, source, edgeType));
+        }
+        if (existing != null) {
+            if (!allowParallelEdges()) {
+                getReport().logIssue(new Issue(NbBundle
+                    .getMessage(ImportContainerImpl.class, "ImportContainerException_Parallel_Edge_Forbidden",
+                        draft.getId()), Level.SEVERE));
+                return null;
+            } else if (getEdgesMergeStrategy() != EdgeMergeStrategy.NO_MERGE) {
+                mergeWeight(existing, draft.getWeight());
+                return null;
+            }
+        }
+
+        Object id = toElementId(draft.getId());
+        if (id == null) {
+            return null;
+        }
+        Edge edge = getGraphEdge(draft.getId()) == null ?
+            graphModel.factory().newEdge(id, source, target, edgeType, draft.getWeight(), directed) :
+            graphModel.factory().newEdge(source, target, edgeType, draft.getWeight(), directed);
+        writeElement(draft, edge);
+        if (draft.isSelfLoop()) {
+            selfLoopCount++;
+        }
+        batchEdges.putIfAbsent(new EdgeKey(source, target, edgeType), edge);
+        return edge;
+    }
+
+    private void mergeWeight(Edge edge, double weight) {
+        int count = mergedEdgeCounts.addTo(edge, 1) + 1;
+        double result;
+        switch (getEdgesMergeStrategy()) {
+            case AVG:
+                result = (edge.getWeight() * count + weight) / (count + 1);
+                break;
+            case MAX:
+                result = Math.max(weight, edge.getWeight());
+                break;
+            case MIN:
+                result = Math.min(weight, edge.getWeight());
+                break;
+            case SUM:
+                result = weight + edge.getWeight();
+                break;
+            case LAST:
+                result = weight;
+                break;
+            default:
+                result = edge.getWeight();
+                break;
+        }
+        edge.setWeight(result);
+    }
+
+    private void writeElement(ElementDraftImpl draft, Element element) {
+        if (draft.getLabel() != null) {
+            element.setLabel(draft.getLabel());
+        }
+        if (draft.getColor() != null) {
+            element.setColor(draft.getColor());
+        } else if (element instanceof Edge) {
+            element.setR(0f);
+            element.setG(0f);
+            element.setB(0f);
+            element.setAlpha(0f);
+        }
+        if (element.getTextProperties() != null) {
+            element.getTextProperties().setVisible(draft.isLabelVisible());
+            if (draft.getLabelSize() != -1f) {
+                element.getTextProperties().setSize(draft.getLabelSize());
+            }
+            if (draft.getLabelColor() != null) {
+                element.getTextProperties().setColor(draft.getLabelColor());
+            }
+        }
+
+        if (draft.getTimeSet() != null) {
+            element.setAttribute("timeset", draft.getTimeSet());
+        }
+        if (draft.getGraphTimestamp() != null) {
+            element.addTimestamp(draft.getGraphTimestamp());
+        } else if (draft.getGraphInterval() != null) {
+            element.addInterval(draft.getGraphInterval());
+        }
+
+        for (ColumnDraft columnDraft : draft.getColumns()) {
+            if (draft instanceof EdgeDraft && columnDraft.getId().equalsIgnoreCase("weight")) {
+                continue;
+            }
+            Object value = draft.getValue(columnDraft.getId());
+            if (value == null) {
+                continue;
+            }
+            Column column = element.getTable().getColumn(columnDraft.getId());
+            if (column == null || column.isReadOnly()) {
+                continue;
+            }
+            if (!column.getTypeClass().equals(columnDraft.getResolvedTypeClass(this))) {
+                if (typeMismatchWarned.add(column)) {
+                    String message = NbBundle.getMessage(DirectImportContainer.class,
+                        "DirectImportContainer_Column_Type_Mismatch", column.getId(),
+                        column.getTypeClass().getSimpleName());
+                    getReport().logIssue(new Issue(message, Level.SEVERE));
+                }
+                continue;
+            }
+            element.setAttribute(column, value);
+        }
+    }
+
+    private Node getGraphNode(String id) {
+        Object elementId = toElementId(id, false);
+        return elementId != null ? graphModel.getGraph().getNode(elementId) : null;
+    }
+
+    private Edge getGraphEdge(String id) {
+        Object elementId = toElementId(id, false);
+        return elementId != null ? graphModel.getGraph().getEdge(elementId) : null;
+    }
+
+    private Object toElementId(String id) {
+        return toElementId(id, true);
+    }
+
+    private Object toElementId(String id, boolean report) {
+        ElementIdType elementIdType = getElementIdType();
+        try {
+            switch (elementIdType) {
+                case INTEGER:
+                    return Integer.parseInt(id);
+                case LONG:
+                    return Long.parseLong(id);
+                default:
+                    return id;
+            }
+        } catch (NumberFormatException e) {
+            if (report) {
+                String message = NbBundle.getMessage(DirectImportContainer.class,
+                    "DirectImportContainer_Bad_Element_Id", id, elementIdType);
+                getReport().logIssue(new Issue(message, Level.SEVERE));
+            }
+            return null;
+        }
+    }
+
+    private static EdgeKey getEdgeEnds(EdgeDraftImpl draft) {
+        return new EdgeKey(draft.getSource().getId(), draft.getTarget().getId(), null);
+    }
+
+    private static <T extends ElementDraftImpl> T checkDraft(ElementDraft draft, Class<T> draftClass) {
+        if (draft == null) {
+            throw new NullPointerException();
+        }
+        if (!draftClass.isInstance(draft)) {
+            throw new ClassCastException();
+        }
+        return draftClass.cast(draft);
+    }
+
+    private static final class EdgeKey {
+
+        private final Object source;
+        private final Object target;
+        private final Object type;
+
+        private EdgeKey(Object source, Object target, Object type) {
+            this.source = source;
+            this.target = target;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EdgeKey)) {
+                return false;
+            }
+            EdgeKey edgeKey = (EdgeKey) o;
+            return source.equals(edgeKey.source) && target.equals(edgeKey.target) &&
+                Objects.equals(type, edgeKey.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(source, target, type);
+        }
+    }
+}
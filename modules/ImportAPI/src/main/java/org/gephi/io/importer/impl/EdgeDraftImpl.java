@@ -52,6 +52,7 @@ import org.gephi.io.importer.api.NodeDraft;
  */
 public class EdgeDraftImpl extends ElementDraftImpl implements EdgeDraft {
 
+    protected final int sequentialId;
     //Topology
     private NodeDraftImpl source;
     private NodeDraftImpl target;
@@ -60,10 +61,25 @@ public class EdgeDraftImpl extends ElementDraftImpl implements EdgeDraft {
     private EdgeDirection direction;
 
     public EdgeDraftImpl(ImportContainerImpl container, String id) {
+        this(container, id, container.factory().nextSequentialEdgeId.getAndIncrement());
+    }
+
+    public EdgeDraftImpl(ImportContainerImpl container, String id, int sequentialId) {
+        super(container, id);
+        this.sequentialId = sequentialId;
+    }
+
+    public EdgeDraftImpl(ImportContainerImpl container, long id, int sequentialId) {
         super(container, id);
+        this.sequentialId = sequentialId;
     }
 
     //GETTERS
+    @Override
+    public int getSequentialId() {
+        return sequentialId;
+    }
+
     @Override
     public NodeDraftImpl getSource() {
         return source;
@@ -136,7 +152,7 @@ public class EdgeDraftImpl extends ElementDraftImpl implements EdgeDraft {
     public Object getValue(String key) {
         ColumnDraft column = container.getEdgeColumn(key);
         if (column != null) {
-            return getAttributeValue(((ColumnDraftImpl) column).getIndex());
+            return getAttributeValue((ColumnDraftImpl) column);
         }
         return null;
     }
@@ -164,7 +180,7 @@ public class EdgeDraftImpl extends ElementDraftImpl implements EdgeDraft {
         sb.append(target.getId());
 
         sb.append(" (id = ");
-        sb.append(id);
+        sb.append(getId());
 
         if (type != null && !type.toString().isEmpty()) {
             sb.append("; type = ");
@@ -64,7 +64,8 @@ public abstract class ElementDraftImpl implements ElementDraft {
 
     protected final ImportContainerImpl container;
     //Properties
-    protected final String id;
+    private final long numericId;
+    private String id;
     protected String label;
     //Viz
     protected Color color;
@@ -80,6 +81,16 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public ElementDraftImpl(ImportContainerImpl container, String id) {
         this.container = container;
         this.id = id;
+        this.numericId = ElementIdMap.NOT_NUMERIC;
+        this.attributes = new Object[0];
+    }
+
+    public ElementDraftImpl(ImportContainerImpl container, long id) {
+        this.container = container;
+        this.numericId = id;
+        if (id == ElementIdMap.NOT_NUMERIC) {
+            this.id = String.valueOf(id);
+        }
         this.attributes = new Object[0];
     }
 
@@ -92,6 +103,14 @@ public abstract class ElementDraftImpl implements ElementDraft {
 
     abstract ColumnDraft getColumn(String key, Class type);
 
+    /**
+     * Returns this element's position among the elements of the same kind
+     * created by the container's factory.
+     *
+     * @return sequential id
+     */
+    public abstract int getSequentialId();
+
     @Override
     public Double getGraphTimestamp() {
         return container.getTimestamp();
@@ -104,9 +123,33 @@ public abstract class ElementDraftImpl implements ElementDraft {
 
     @Override
     public String getId() {
+        if (id == null) {
+            //Numeric ids are only converted when asked for
+            id = String.valueOf(numericId);
+        }
         return id;
     }
 
+    /**
+     * Returns <code>true</code> if this element was created with a numeric id
+     * that isn't stored as a string.
+     *
+     * @return <code>true</code> if the id is numeric
+     */
+    public boolean hasNumericId() {
+        return numericId != ElementIdMap.NOT_NUMERIC;
+    }
+
+    /**
+     * Returns the numeric id given at creation.
+     *
+     * @return numeric id
+     * @see #hasNumericId()
+     */
+    public long getNumericId() {
+        return numericId;
+    }
+
     @Override
     public String getLabel() {
         return label;
@@ -133,7 +176,8 @@ public abstract class ElementDraftImpl implements ElementDraft {
         if (cl != null) {
             setColor(cl);
         } else {
-            String message = NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_ColorParse", color, id);
+            String message =
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_ColorParse", color, getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.WARNING));
         }
     }
@@ -175,7 +219,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
             setLabelColor(cl);
         } else {
             String message =
-                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_LabelColorParse", color, id);
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_LabelColorParse", color, getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.WARNING));
         }
     }
@@ -184,7 +228,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public Object getValue(String key) {
         ColumnDraft column = getColumn(key);
         if (column != null) {
-            return getAttributeValue(((ColumnDraftImpl) column).getIndex());
+            return getAttributeValue((ColumnDraftImpl) column);
         }
         return null;
     }
@@ -240,7 +284,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
             setAttributeValue(column, value);
         } catch (Exception ex) {
             String message = NbBundle
-                .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueError", value.toString(), id,
+                .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueError", value.toString(), getId(),
                     ex.getMessage());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
         }
@@ -262,13 +306,13 @@ public abstract class ElementDraftImpl implements ElementDraft {
             if (!setAttributeValue(column, value, timestamp)) {
                 String message = NbBundle
                     .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueTimestampDuplicate", value.toString(),
-                        id, timestamp);
+                        getId(), timestamp);
                 container.getReport().logIssue(new Issue(message, Issue.Level.WARNING));
             }
         } catch (Exception ex) {
             String message = NbBundle
                 .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueTimestampError", value.toString(),
-                    id, timestamp, ex.getMessage());
+                    getId(), timestamp, ex.getMessage());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
         }
     }
@@ -307,14 +351,14 @@ public abstract class ElementDraftImpl implements ElementDraft {
                 String interval = "[" + start + "," + end + "]";
                 String message = NbBundle
                     .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueIntervalDuplicate", value.toString(),
-                        id, interval);
+                        getId(), interval);
                 container.getReport().logIssue(new Issue(message, Issue.Level.WARNING));
             }
         } catch (Exception ex) {
             String interval = "[" + start + "," + end + "]";
             String message = NbBundle
-                .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueIntervalError", value.toString(), id,
-                    interval, ex.getMessage());
+                .getMessage(ElementDraftImpl.class, "ElementDraftException_SetValueIntervalError", value.toString(),
+                    getId(), interval, ex.getMessage());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
         }
     }
@@ -393,7 +437,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public void addTimestamp(double timestamp) {
         if (!container.getTimeRepresentation().equals(TimeRepresentation.TIMESTAMP)) {
             String message =
-                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotTimestampRepresentation", id);
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotTimestampRepresentation", getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
             return;
         }
@@ -407,7 +451,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public void addTimestamps(String timestamps) {
         if (!container.getTimeRepresentation().equals(TimeRepresentation.TIMESTAMP)) {
             String message =
-                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotTimestampRepresentation", id);
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotTimestampRepresentation", getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
             return;
         }
@@ -450,7 +494,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public void addIntervals(String intervals) {
         if (!container.getTimeRepresentation().equals(TimeRepresentation.INTERVAL)) {
             String message =
-                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotIntervalRepresentation", id);
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotIntervalRepresentation", getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
             return;
         }
@@ -468,7 +512,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
     public void addInterval(double intervalStart, double intervalEnd) {
         if (!container.getTimeRepresentation().equals(TimeRepresentation.INTERVAL)) {
             String message =
-                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotIntervalRepresentation", id);
+                NbBundle.getMessage(ElementDraftImpl.class, "ElementDraftException_NotIntervalRepresentation", getId());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
             return;
         }
@@ -481,7 +525,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
         } catch (Exception e) {
             String interval = "[" + intervalStart + "," + intervalEnd + "]";
             String message = NbBundle
-                .getMessage(ElementDraftImpl.class, "ElementDraftException_IntervalSetError", interval, id,
+                .getMessage(ElementDraftImpl.class, "ElementDraftException_IntervalSetError", interval, getId(),
                     e.getMessage());
             container.getReport().logIssue(new Issue(message, Issue.Level.SEVERE));
         }
@@ -523,7 +567,7 @@ public abstract class ElementDraftImpl implements ElementDraft {
             attributes = newArray;
         }
 
-        attributes[index] = value;
+        attributes[index] = ((ColumnDraftImpl) column).store(getSequentialId(), value);
     }
 
     protected boolean setAttributeValue(ColumnDraft column, Object value, double timestamp) throws Exception {
@@ -575,9 +619,14 @@ public abstract class ElementDraftImpl implements ElementDraft {
         return m.put(interval, value);
     }
 
-    protected Object getAttributeValue(int index) {
+    protected Object getAttributeValue(ColumnDraftImpl column) {
+        int index = column.getIndex();
         if (index < attributes.length) {
-            return attributes[index];
+            Object value = attributes[index];
+            if (value == ColumnDraftImpl.STORED_VALUE) {
+                return column.getStoredValue(getSequentialId());
+            }
+            return value;
         }
         return null;
     }
@@ -54,6 +54,7 @@ public class ElementFactoryImpl implements ElementDraft.Factory {
     protected final ImportContainerImpl container;
 
     protected AtomicInteger nextSequentialNodeId = new AtomicInteger();
+    protected AtomicInteger nextSequentialEdgeId = new AtomicInteger();
 
     public ElementFactoryImpl(ImportContainerImpl container) {
         this.container = container;
@@ -74,9 +75,15 @@ public class ElementFactoryImpl implements ElementDraft.Factory {
         return new NodeDraftImpl(container, id, nextSequentialNodeId.getAndIncrement());
     }
 
+    @Override
+    public NodeDraftImpl newNodeDraft(long id) {
+        return new NodeDraftImpl(container, id, nextSequentialNodeId.getAndIncrement());
+    }
+
     @Override
     public EdgeDraftImpl newEdgeDraft() {
-        return new EdgeDraftImpl(container, String.valueOf(EDGE_IDS.getAndIncrement()));
+        return new EdgeDraftImpl(container, String.valueOf(EDGE_IDS.getAndIncrement()),
+            nextSequentialEdgeId.getAndIncrement());
     }
 
     @Override
@@ -85,6 +92,11 @@ public class ElementFactoryImpl implements ElementDraft.Factory {
             String message = NbBundle.getMessage(ElementFactoryImpl.class, "ElementFactoryException_NullEdgeId");
             container.getReport().logIssue(new Issue(message, Issue.Level.CRITICAL));
         }
-        return new EdgeDraftImpl(container, id);
+        return new EdgeDraftImpl(container, id, nextSequentialEdgeId.getAndIncrement());
+    }
+
+    @Override
+    public EdgeDraftImpl newEdgeDraft(long id) {
+        return new EdgeDraftImpl(container, id, nextSequentialEdgeId.getAndIncrement());
     }
 }
@@ -0,0 +1,159 @@
+/*
+ Copyright 2008-2026 Gephi
+  Website : http://www.gephi.org
+
+ This file is part of Gephi.
+
+ DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+ Copyright 2026 Gephi Consortium. All rights reserved.
+
+ The contents of this file are subject to the terms of either the GNU
+ General Public License Version 3 only ("GPL") or the Common
+ Development and Distribution License("CDDL") (collectively, the
+ "License"). You may not use this file except in compliance with the
+ License. You can obtain a copy of the License at
+ http://gephi.org/about/legal/license-notice/
+ or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+ specific language governing permissions and limitations under the
+ License.  When distributing the software, include this License Header
+ Notice in each file and include the License files at
+ /cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+ License Header, with the fields enclosed by brackets [] replaced by
+ your own identifying information:
+ "Portions Copyrighted [year] [name of copyright owner]"
+
+ If you wish your version of this file to be governed by only the CDDL
+ or only the GPL Version 3, indicate your decision by adding
+ "[Contributor] elects to include this software in this distribution
+ under the [CDDL or GPL Version 3] license." If you do not indicate a
+ single choice of license, a recipient has the option to distribute
+ your version of this file under either the CDDL, the GPL Version 3 or
+ to extend the choice of license to its licensees as provided above.
+ However, if you add GPL Version 3 code and therefore, elected the GPL
+ Version 3 license, then the option applies only if the new code is
+ made subject to such option by the copyright holder.
+
+ Contributor(s):
+
+ Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+
+/**
+ * Map from element ids to indices in the container's element lists.
+ * <p>
+ * Ids that are the canonical decimal representation of a long (e.g.
+ * <code>42</code> or <code>-7</code> but not <code>007</code> or
+ * <code>+7</code>) are kept as primitive long keys, so that numeric ids are
+ * neither hashed as strings nor duplicated. Other ids are kept in a string
+ * map which is only created when needed.
+ */
+final class ElementIdMap {
+
+    static final long NOT_NUMERIC = Long.MIN_VALUE;
+
+    private final Long2IntOpenHashMap numericIds;
+    private Object2IntOpenHashMap<String> stringIds;
+
+    ElementIdMap() {
+        numericIds = new Long2IntOpenHashMap();
+        numericIds.defaultReturnValue(ImportContainerImpl.NULL_INDEX);
+    }
+
+    /**
+     * Returns the long value of <code>id</code> if it's the canonical
+     * representation of a long, or {@link #NOT_NUMERIC} otherwise.
+     *
+     * @param id element id
+     * @return long value or <code>NOT_NUMERIC</code>
+     */
+    static long parseId(String id) {
+        int length = id.length();
+        if (length == 0 || length > 20) {
+            return NOT_NUMERIC;
+        }
+        boolean negative = id.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        if (start == length || (id.charAt(start) == '0' && (length > start + 1 || negative))) {
+            //Empty, leading zero or -0
+            return NOT_NUMERIC;
+        }
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            int digit = id.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return NOT_NUMERIC;
+            }
+            //Accumulate negatively to reach Long.MIN_VALUE without overflow
+            if (result < (Long.MIN_VALUE + digit) / 10) {
+                return NOT_NUMERIC;
+            }
+            result = result * 10 - digit;
+        }
+        if (negative) {
+            return result;
+        }
+        return result == Long.MIN_VALUE ? NOT_NUMERIC : -result;
+    }
+
+    int getInt(String id) {
+        long numericId = parseId(id);
+        if (numericId != NOT_NUMERIC) {
+            return numericIds.get(numericId);
+        }
+        return stringIds == null ? ImportContainerImpl.NULL_INDEX : stringIds.getInt(id);
+    }
+
+    int getInt(long id) {
+        if (id != NOT_NUMERIC) {
+            return numericIds.get(id);
+        }
+        return getInt(String.valueOf(id));
+    }
+
+    int getInt(ElementDraftImpl element) {
+        return element.hasNumericId() ? getInt(element.getNumericId()) : getInt(element.getId());
+    }
+
+    boolean containsKey(String id) {
+        return getInt(id) != ImportContainerImpl.NULL_INDEX;
+    }
+
+    boolean containsKey(long id) {
+        return getInt(id) != ImportContainerImpl.NULL_INDEX;
+    }
+
+    boolean containsKey(ElementDraftImpl element) {
+        return getInt(element) != ImportContainerImpl.NULL_INDEX;
+    }
+
+    void put(ElementDraftImpl element, int index) {
+        long numericId = element.hasNumericId() ? element.getNumericId() : parseId(element.getId());
+        if (numericId != NOT_NUMERIC) {
+            numericIds.put(numericId, index);
+        } else {
+            if (stringIds == null) {
+                stringIds = new Object2IntOpenHashMap<>();
+                stringIds.defaultReturnValue(ImportContainerImpl.NULL_INDEX);
+            }
+            stringIds.put(element.getId(), index);
+        }
+    }
+
+    int removeInt(ElementDraftImpl element) {
+        long numericId = element.hasNumericId() ? element.getNumericId() : parseId(element.getId());
+        if (numericId != NOT_NUMERIC) {
+            return numericIds.remove(numericId);
+        }
+        return stringIds == null ? ImportContainerImpl.NULL_INDEX : stringIds.removeInt(element.getId());
+    }
+
+    int size() {
+        return numericIds.size() + (stringIds == null ? 0 : stringIds.size());
+    }
+}
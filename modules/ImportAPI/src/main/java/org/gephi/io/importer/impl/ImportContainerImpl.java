@@ -93,8 +93,8 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
     //Maps and Data
     private final ObjectList<NodeDraftImpl> nodeList;
     private final ObjectList<EdgeDraftImpl> edgeList;
-    private final Object2IntMap<String> nodeMap;
-    private final Object2IntMap<String> edgeMap;
+    private final ElementIdMap nodeMap;
+    private final ElementIdMap edgeMap;
     private final Object2IntMap edgeTypeMap;
     private final Object2ObjectMap<String, ColumnDraft> nodeColumns;
     private final Object2ObjectMap<String, ColumnDraft> edgeColumns;
@@ -127,10 +127,8 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
 
     public ImportContainerImpl() {
         parameters = new ImportContainerParameters();
-        nodeMap = new Object2IntOpenHashMap<>();
-        edgeMap = new Object2IntOpenHashMap<>();
-        nodeMap.defaultReturnValue(NULL_INDEX);
-        edgeMap.defaultReturnValue(NULL_INDEX);
+        nodeMap = new ElementIdMap();
+        edgeMap = new ElementIdMap();
         nodeList = new ObjectArrayList<>();
         edgeList = new ObjectArrayList<>();
         edgeTypeMap = new Object2IntOpenHashMap();
@@ -171,7 +169,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         checkElementDraftImpl(nodeDraft);
         NodeDraftImpl nodeDraftImpl = (NodeDraftImpl) nodeDraft;
 
-        if (nodeMap.containsKey(nodeDraftImpl.getId())) {
+        if (nodeMap.containsKey(nodeDraftImpl)) {
             String message = NbBundle
                 .getMessage(ImportContainerImpl.class, "ImportContainerException_nodeExist", nodeDraftImpl.getId());
             report.logIssue(new Issue(message, Level.WARNING));
@@ -180,7 +178,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
 
         int index = nodeList.size();
         nodeList.add(nodeDraftImpl);
-        nodeMap.put(nodeDraftImpl.getId(), index);
+        nodeMap.put(nodeDraftImpl, index);
     }
 
     @Override
@@ -188,36 +186,57 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         checkId(id);
 
         int index = nodeMap.getInt(id);
-        NodeDraftImpl node = null;
-        if (index == NULL_INDEX) {
-            if (parameters.isAutoNode()) {
-                //Creates the missing node
-                node = factory.newNodeDraft(id);
-                addNode(node);
-                node.setCreatedAuto(true);
-                if (!reportedUnknownNode) {
-                    String message =
-                        NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_AutoNodeCreated");
-                    report.logIssue(new Issue(message, Level.INFO));
-                    reportedUnknownNode = true;
-                }
-            } else {
-                String message =
-                    NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_UnknowNodeId", id);
-                report.logIssue(new Issue(message, Level.SEVERE));
-            }
-        } else {
-            node = nodeList.get(index);
+        if (index != NULL_INDEX) {
+            return nodeList.get(index);
+        } else if (parameters.isAutoNode()) {
+            return addAutoNode(factory.newNodeDraft(id));
+        }
+        logUnknownNode(id);
+        return null;
+    }
+
+    @Override
+    public NodeDraftImpl getNode(long id) {
+        int index = nodeMap.getInt(id);
+        if (index != NULL_INDEX) {
+            return nodeList.get(index);
+        } else if (parameters.isAutoNode()) {
+            return addAutoNode(factory.newNodeDraft(id));
+        }
+        logUnknownNode(String.valueOf(id));
+        return null;
+    }
+
+    private NodeDraftImpl addAutoNode(NodeDraftImpl node) {
+        //Creates the missing node
+        addNode(node);
+        node.setCreatedAuto(true);
+        if (!reportedUnknownNode) {
+            String message =
+                NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_AutoNodeCreated");
+            report.logIssue(new Issue(message, Level.INFO));
+            reportedUnknownNode = true;
         }
         return node;
     }
 
+    private void logUnknownNode(String id) {
+        String message =
+            NbBundle.getMessage(ImportContainerImpl.class, "ImportContainerException_UnknowNodeId", id);
+        report.logIssue(new Issue(message, Level.SEVERE));
+    }
+
     @Override
     public boolean nodeExists(String id) {
         checkId(id);
         return nodeMap.containsKey(id);
     }
 
+    @Override
+    public boolean nodeExists(long id) {
+        return nodeMap.containsKey(id);
+    }
+
     @Override
     public boolean edgeExists(String source, String target) {
         checkId(source);
@@ -258,7 +277,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         }
 
         //Check if already exists
-        if (edgeMap.containsKey(edgeDraftImpl.getId())) {
+        if (edgeMap.containsKey(edgeDraftImpl)) {
             String message = NbBundle
                 .getMessage(ImportContainerImpl.class, "ImportContainerException_edgeExist", edgeDraftImpl.getId());
             report.logIssue(new Issue(message, Level.WARNING));
@@ -345,16 +364,15 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
 
         //Adding
         edgeList.add(edgeDraftImpl);
-        edgeMap.put(edgeDraft.getId(), index);
+        edgeMap.put(edgeDraftImpl, index);
     }
 
     private void removeNode(NodeDraftImpl node) {
-        String id = node.getId();
-        if (!nodeMap.containsKey(id)) {
+        if (!nodeMap.containsKey(node)) {
             return;
         }
 
-        int index = nodeMap.removeInt(id);
+        int index = nodeMap.removeInt(node);
         nodeList.set(index, null);
     }
 
@@ -363,9 +381,8 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         checkElementDraftImpl(edgeDraft);
 
         EdgeDraftImpl edgeDraftImpl = (EdgeDraftImpl) edgeDraft;
-        String id = edgeDraftImpl.getId();
 
-        if (!edgeMap.containsKey(id)) {
+        if (!edgeMap.containsKey(edgeDraftImpl)) {
             return;
         }
 
@@ -387,7 +404,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         Long2ObjectMap<int[]> edgeTypeSet = edgeTypeSets[edgeType];
 
         //Get index
-        final int index = edgeMap.removeInt(id);
+        final int index = edgeMap.removeInt(edgeDraftImpl);
 
         //Update edgeType set
         int[] edges = edgeTypeSet.remove(sourceTargetLong);
@@ -509,7 +526,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         typeClass = AttributeUtils.getStandardizedType(typeClass);
         if (column == null) {
             int index = nodeColumns.size();
-            column = new ColumnDraftImpl(key, index, dynamic, typeClass);
+            column = new ColumnDraftImpl(key, index, dynamic, typeClass, isPrimitiveColumnStore());
             nodeColumns.put(key, column);
             if (dynamic) {
                 report.log(NbBundle
@@ -540,6 +557,18 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         }
     }
 
+    /**
+     * Returns <code>true</code> if number columns may keep their values in a
+     * primitive store indexed by the drafts' sequential ids. Containers that
+     * discard their drafts along the import should return <code>false</code>,
+     * as the store only grows.
+     *
+     * @return <code>true</code> if columns may use a primitive store
+     */
+    protected boolean isPrimitiveColumnStore() {
+        return true;
+    }
+
     @Override
     public ColumnDraft addEdgeColumn(String key, Class typeClass, boolean dynamic) {
         key = key.toLowerCase().trim();
@@ -547,7 +576,7 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         typeClass = AttributeUtils.getStandardizedType(typeClass);
         if (column == null) {
             int index = edgeColumns.size();
-            column = new ColumnDraftImpl(key, index, dynamic, typeClass);
+            column = new ColumnDraftImpl(key, index, dynamic, typeClass, isPrimitiveColumnStore());
             edgeColumns.put(key, column);
             if (dynamic) {
                 report.log(NbBundle
@@ -702,19 +731,11 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         //IdType
         if (elementIdType.equals(ElementIdType.INTEGER) || elementIdType.equals(ElementIdType.LONG)) {
             try {
-                for (NodeDraftImpl node : nodeList) {
-                    if (elementIdType.equals(ElementIdType.INTEGER)) {
-                        Integer.parseInt(node.getId());
-                    } else if (elementIdType.equals(ElementIdType.LONG)) {
-                        Long.parseLong(node.getId());
-                    }
+                for (NodeDraftImpl node : new NullFilterIterable<NodeDraftImpl>(nodeList)) {
+                    checkElementIdType(node);
                 }
                 for (EdgeDraftImpl edge : new NullFilterIterable<EdgeDraftImpl>(edgeList)) {
-                    if (elementIdType.equals(ElementIdType.INTEGER)) {
-                        Integer.parseInt(edge.getId());
-                    } else if (elementIdType.equals(ElementIdType.LONG)) {
-                        Long.parseLong(edge.getId());
-                    }
+                    checkElementIdType(edge);
                 }
             } catch (NumberFormatException e) {
                 report.logIssue(new Issue(NbBundle
@@ -818,11 +839,11 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
             //Force undirected
             for (EdgeDraftImpl edge : edgeList.toArray(new EdgeDraftImpl[0])) {
                 final boolean notAlreadyRemoved = edge != null
-                    && edgeMap.containsKey(edge.getId());
+                    && edgeMap.containsKey(edge);
 
                 if (notAlreadyRemoved && !edge.isSelfLoop() && edge.getDirection() != null && edge.getDirection().equals(EdgeDirection.DIRECTED)) {
                     EdgeDraftImpl opposite = getOpposite(edge);
-                    if (opposite != null && edgeMap.containsKey(opposite.getId())) {
+                    if (opposite != null && edgeMap.containsKey(opposite)) {
                         mergeDirectedEdges(opposite, edge);
                         removeEdge(opposite);
                         mutualEdgesRemoved++;
@@ -1158,6 +1179,20 @@ public class ImportContainerImpl implements Container, ContainerLoader, Containe
         }
     }
 
+    private void checkElementIdType(ElementDraftImpl element) {
+        if (element.hasNumericId()) {
+            //Numeric ids don't need to be converted and parsed again
+            long id = element.getNumericId();
+            if (elementIdType.equals(ElementIdType.INTEGER) && (id < Integer.MIN_VALUE || id > Integer.MAX_VALUE)) {
+                throw new NumberFormatException("Value out of range: " + id);
+            }
+        } else if (elementIdType.equals(ElementIdType.INTEGER)) {
+            Integer.parseInt(element.getId());
+        } else if (elementIdType.equals(ElementIdType.LONG)) {
+            Long.parseLong(element.getId());
+        }
+    }
+
     private void checkId(String id) {
         if (id == null) {
             throw new NullPointerException();
@@ -50,7 +50,17 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.gephi.graph.api.GraphController;
+import org.gephi.graph.api.GraphModel;
 import org.gephi.io.importer.api.Container;
 import org.gephi.io.importer.api.ContainerUnloader;
 import org.gephi.io.importer.api.Database;
@@ -84,6 +94,10 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = ImportController.class)
 public class ImportControllerImpl implements ImportController {
 
+    //Estimated heap used while importing, per byte of file
+    private static final int MEMORY_PER_FILE_BYTE = 10;
+    private static final int MEMORY_PER_COMPRESSED_FILE_BYTE = 50;
+
     private final FileImporterBuilder[] fileImporterBuilders;
     private final DatabaseImporterBuilder[] databaseImporterBuilders;
     private final WizardImporterBuilder[] wizardImporterBuilders;
@@ -120,6 +134,14 @@ public class ImportControllerImpl implements ImportController {
     @Override
     public FileImporter getFileImporter(FileObject fileObject) {
         if (fileObject != null) {
+            //Match compressed files on the extension of their content, without extracting them
+            String compressedExtension = ImportUtils.getCompressedFileExtension(fileObject);
+            if (compressedExtension != null) {
+                FileImporterBuilder builder = getMatchingImporter(compressedExtension);
+                if (builder != null) {
+                    return builder.buildImporter();
+                }
+            }
             fileObject = ImportUtils.getArchivedFile(fileObject);   //Unzip and return content file
             FileImporterBuilder builder = getMatchingImporter(fileObject);
             if (fileObject != null && builder != null) {
@@ -144,6 +166,16 @@ public class ImportControllerImpl implements ImportController {
     public Container importFile(File file) throws FileNotFoundException {
         FileObject fileObject = FileUtil.toFileObject(file);
         if (fileObject != null) {
+            String compressedExtension = ImportUtils.getCompressedFileExtension(fileObject);
+            if (compressedExtension != null) {
+                FileImporterBuilder builder = getMatchingImporter(compressedExtension);
+                if (builder != null) {
+                    FileImporter importer = builder.buildImporter();
+                    if (!(importer instanceof FileImporter.FileAware)) {
+                        return importCompressedFile(fileObject, importer);
+                    }
+                }
+            }
             fileObject = ImportUtils.getArchivedFile(fileObject);   //Unzip and return content file
             file = FileUtil.toFile(fileObject);
             FileImporterBuilder builder = getMatchingImporter(fileObject);
@@ -159,6 +191,10 @@ public class ImportControllerImpl implements ImportController {
     public Container importFile(File file, FileImporter importer) throws FileNotFoundException {
         FileObject fileObject = FileUtil.toFileObject(file);
         if (fileObject != null) {
+            if (ImportUtils.getCompressedFileExtension(fileObject) != null
+                && !(importer instanceof FileImporter.FileAware)) {
+                return importCompressedFile(fileObject, importer);
+            }
             fileObject = ImportUtils.getArchivedFile(fileObject);   //Unzip and return content file
             file = FileUtil.toFile(fileObject);
             if (fileObject != null) {
@@ -169,6 +205,90 @@ public class ImportControllerImpl implements ImportController {
         return null;
     }
 
+    @Override
+    public Container[] importFiles(File[] files) throws FileNotFoundException {
+        return importFiles(files, new FileImporter[files.length]);
+    }
+
+    @Override
+    public Container[] importFiles(File[] files, FileImporter[] importers) throws FileNotFoundException {
+        Container[] containers = new Container[files.length];
+        int threads = Math.min(files.length, Runtime.getRuntime().availableProcessors());
+        if (threads <= 1) {
+            for (int i = 0; i < files.length; i++) {
+                containers[i] = importers[i] != null ? importFile(files[i], importers[i]) : importFile(files[i]);
+            }
+            return containers;
+        }
+
+        //Largest files first, so the longest parse starts right away
+        int[] order = IntStream.range(0, files.length).boxed()
+            .sorted(Comparator.comparingLong((Integer i) -> files[i].length()).reversed())
+            .mapToInt(Integer::intValue).toArray();
+
+        //Memory budget in KB, half of the free heap
+        Runtime runtime = Runtime.getRuntime();
+        long freeMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+        final int budget = (int) Math.max(1, Math.min(Integer.MAX_VALUE, freeMemory / 2048));
+        final Semaphore memory = new Semaphore(budget, true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> new Thread(r, "Import Files"));
+        try {
+            List<Future<Container>> futures = new ArrayList<>(files.length);
+            for (final int index : order) {
+                final File file = files[index];
+                final FileImporter importer = importers[index];
+                final int permits = (int) Math.max(1, Math.min(budget, estimateMemory(file) / 1024));
+                futures.add(executor.submit(() -> {
+                    memory.acquire(permits);
+                    try {
+                        return importer != null ? importFile(file, importer) : importFile(file);
+                    } finally {
+                        memory.release(permits);
+                    }
+                }));
+            }
+            for (int i = 0; i < order.length; i++) {
+                containers[order[i]] = futures.get(i).get();
+            }
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof FileNotFoundException) {
+                throw (FileNotFoundException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            executor.shutdownNow();
+        }
+        return containers;
+    }
+
+    private static long estimateMemory(File file) {
+        FileObject fileObject = FileUtil.toFileObject(file);
+        if (fileObject != null && ImportUtils.isArchiveFile(fileObject)) {
+            return file.length() * MEMORY_PER_COMPRESSED_FILE_BYTE;
+        }
+        return file.length() * MEMORY_PER_FILE_BYTE;
+    }
+
+    private Container importCompressedFile(FileObject fileObject, FileImporter importer) throws FileNotFoundException {
+        //Parse while decompressing instead of extracting to a temporary file first
+        InputStream stream;
+        try {
+            stream = ImportUtils.getDecompressedInputStream(fileObject);
+        } catch (FileNotFoundException ex) {
+            throw ex;
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+        return importFile(stream, importer, null);
+    }
+
     @Override
     public Container importFile(Reader reader, FileImporter importer) {
         return importFile(reader, importer, null);
@@ -177,7 +297,23 @@ public class ImportControllerImpl implements ImportController {
     public Container importFile(Reader reader, FileImporter importer, File file) {
         //Create Container
         final Container container = Lookup.getDefault().lookup(Container.Factory.class).newContainer();
+        return execute(reader, importer, file, container) ? container : null;
+    }
+
+    @Override
+    public Container importFileDirect(Reader reader, FileImporter importer, Workspace workspace) {
+        GraphModel graphModel = Lookup.getDefault().lookup(GraphController.class).getGraphModel(workspace);
+        final DirectImportContainer container = new DirectImportContainer(graphModel);
+        //The last batch is written before the report is closed, so its issues are reported
+        return execute(reader, importer, null, container, container::closeLoader) ? container : null;
+    }
 
+    private boolean execute(Reader reader, FileImporter importer, File file, Container container) {
+        return execute(reader, importer, file, container, null);
+    }
+
+    private boolean execute(Reader reader, FileImporter importer, File file, Container container,
+                            Runnable onSuccess) {
         //Report
         Report report = new Report();
         container.setReport(report);
@@ -205,8 +341,11 @@ public class ImportControllerImpl implements ImportController {
                 if (importer.getReport() != null && importer.getReport() != report) {
                     report.append(importer.getReport());
                 }
+                if (onSuccess != null) {
+                    onSuccess.run();
+                }
                 report.close();
-                return container;
+                return true;
             }
         } catch (RuntimeException ex) {
             throw ex;
@@ -220,7 +359,7 @@ public class ImportControllerImpl implements ImportController {
                 //NOOP
             }
         }
-        return null;
+        return false;
     }
 
     @Override
@@ -65,7 +65,13 @@ public class NodeDraftImpl extends ElementDraftImpl implements NodeDraft {
         this.sequentialId = sequentialId;
     }
 
+    public NodeDraftImpl(ImportContainerImpl container, long id, int sequentialId) {
+        super(container, id);
+        this.sequentialId = sequentialId;
+    }
+
     //GETTERS
+    @Override
     public int getSequentialId() {
         return sequentialId;
     }
@@ -147,6 +153,6 @@ public class NodeDraftImpl extends ElementDraftImpl implements NodeDraft {
 
     @Override
     public String toString() {
-        return id;
+        return getId();
     }
 }
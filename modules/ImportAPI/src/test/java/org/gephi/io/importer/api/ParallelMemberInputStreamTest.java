@@ -0,0 +1,112 @@
+package org.gephi.io.importer.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.gephi.io.importer.api.ParallelMemberInputStream.Format;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelMemberInputStreamTest {
+
+    @Test
+    public void testMultiMemberGzip() throws IOException {
+        byte[] data = text(8 << 20);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int offset = 0; offset < data.length; offset += 1 << 16) {
+            out.write(gzip(Arrays.copyOfRange(data, offset, Math.min(data.length, offset + (1 << 16))),
+                Deflater.DEFAULT_COMPRESSION));
+        }
+        Assert.assertArrayEquals(data, decompress(out.toByteArray(), Format.GZIP, 4));
+    }
+
+    @Test
+    public void testSingleMemberGzip() throws IOException {
+        byte[] data = new byte[ParallelMemberInputStream.MAX_SLICE_SIZE + (1 << 20)];
+        new Random(0).nextBytes(data);
+        Assert.assertArrayEquals(data, decompress(gzip(data, Deflater.DEFAULT_COMPRESSION), Format.GZIP, 4));
+    }
+
+    @Test
+    public void testGzipHeaderInMember() throws IOException {
+        //Stored data looking like a member header, past the slice size
+        byte[] data = text(2 * ParallelMemberInputStream.SLICE_SIZE);
+        byte[] header = gzip(new byte[0], Deflater.DEFAULT_COMPRESSION);
+        System.arraycopy(header, 0, data, ParallelMemberInputStream.SLICE_SIZE + 100, header.length);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(gzip(data, Deflater.NO_COMPRESSION));
+        out.write(gzip(data, Deflater.DEFAULT_COMPRESSION));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(data);
+        expected.write(data);
+        Assert.assertArrayEquals(expected.toByteArray(), decompress(out.toByteArray(), Format.GZIP, 4));
+    }
+
+    @Test
+    public void testMultiStreamBzip2() throws IOException {
+        byte[] data = text(3 << 20);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int offset = 0; offset < data.length; offset += 1 << 18) {
+            try (BZip2CompressorOutputStream bzip = new BZip2CompressorOutputStream(out)) {
+                bzip.write(data, offset, Math.min(data.length - offset, 1 << 18));
+            }
+        }
+        Assert.assertArrayEquals(data, decompress(out.toByteArray(), Format.BZIP2, 4));
+    }
+
+    @Test
+    public void testSingleThread() throws IOException {
+        byte[] data = text(1 << 20);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(gzip(Arrays.copyOf(data, 1000), Deflater.DEFAULT_COMPRESSION));
+        out.write(gzip(Arrays.copyOfRange(data, 1000, data.length), Deflater.DEFAULT_COMPRESSION));
+        Assert.assertArrayEquals(data, decompress(out.toByteArray(), Format.GZIP, 1));
+    }
+
+    @Test(expected = IOException.class)
+    public void testCorrupted() throws IOException {
+        byte[] compressed = gzip(text(1 << 20), Deflater.DEFAULT_COMPRESSION);
+        decompress(Arrays.copyOf(compressed, compressed.length / 2), Format.GZIP, 4);
+    }
+
+    private static byte[] decompress(byte[] compressed, Format format, int threads) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (InputStream in = ParallelMemberInputStream.open(new ByteArrayInputStream(compressed), format, threads)) {
+            byte[] buffer = new byte[10000];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] data, int level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(level);
+            }
+        }) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] text(int length) {
+        Random random = new Random(42);
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (random.nextInt(10) == 0 ? ' ' : 'a' + random.nextInt(26));
+        }
+        return data;
+    }
+}
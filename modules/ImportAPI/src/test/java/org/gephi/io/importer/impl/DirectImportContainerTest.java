@@ -0,0 +1,231 @@
+/*
+ Copyright 2008-2026 Gephi
+  Website : http://www.gephi.org
+
+ This file is part of Gephi.
+
+ DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+ Copyright 2026 Gephi Consortium. All rights reserved.
+
+ The contents of this file are subject to the terms of either the GNU
+ General Public License Version 3 only ("GPL") or the Common
+ Development and Distribution License("CDDL") (collectively, the
+ "License"). You may not use this file except in compliance with the
+ License. You can obtain a copy of the License at
+ http://gephi.org/about/legal/license-notice/
+ or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+ specific language governing permissions and limitations under the
+ License.  When distributing the software, include this License Header
+ Notice in each file and include the License files at
+ /cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+ License Header, with the fields enclosed by brackets [] replaced by
+ your own identifying information:
+ "Portions Copyrighted [year] [name of copyright owner]"
+
+ If you wish your version of this file to be governed by only the CDDL
+ or only the GPL Version 3, indicate your decision by adding
+ "[Contributor] elects to include this software in this distribution
+ under the [CDDL or GPL Version 3] license." If you do not indicate a
+ single choice of license, a recipient has the option to distribute
+ your version of this file under either the CDDL, the GPL Version 3 or
+ to extend the choice of license to its licensees as provided above.
+ However, if you add GPL Version 3 code and therefore, elected the GPL
+ Version 3 license, then the option applies only if the new code is
+ made subject to such option by the copyright holder.
+
+ Contributor(s):
+
+ Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.impl;
+
+import java.io.Reader;
+import java.io.StringReader;
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.io.importer.api.Container;
+import org.gephi.io.importer.api.ContainerLoader;
+import org.gephi.io.importer.api.EdgeDirectionDefault;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.EdgeMergeStrategy;
+import org.gephi.io.importer.api.Issue;
+import org.gephi.io.importer.api.NodeDraft;
+import org.gephi.io.importer.api.Report;
+import org.gephi.io.importer.spi.FileImporter;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.impl.WorkspaceImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DirectImportContainerTest {
+
+    @Test
+    public void testBatches() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel, 2);
+        for (int i = 0; i < 5; i++) {
+            NodeDraft node = container.factory().newNodeDraft(String.valueOf(i));
+            node.setLabel("Node " + i);
+            container.addNode(node);
+        }
+        Assert.assertEquals(4, graphModel.getGraph().getNodeCount());
+        Assert.assertEquals(5, container.getNodeCount());
+
+        for (int i = 1; i < 5; i++) {
+            EdgeDraft edge = container.factory().newEdgeDraft();
+            edge.setSource(container.getNode("0"));
+            edge.setTarget(container.getNode(String.valueOf(i)));
+            container.addEdge(edge);
+        }
+        container.closeLoader();
+
+        Graph graph = graphModel.getGraph();
+        Assert.assertEquals(5, graph.getNodeCount());
+        Assert.assertEquals(4, graph.getEdgeCount());
+        Assert.assertEquals("Node 4", graph.getNode("4").getLabel());
+        Assert.assertEquals(4, graph.getDegree(graph.getNode("0")));
+    }
+
+    @Test
+    public void testNodeExists() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel, 1);
+        container.addNode(container.factory().newNodeDraft("1"));
+        Assert.assertTrue(container.nodeExists("1"));
+
+        container.addNode(container.factory().newNodeDraft("1"));
+        container.closeLoader();
+        Assert.assertEquals(1, graphModel.getGraph().getNodeCount());
+        Assert.assertFalse(container.getReport().isEmpty());
+    }
+
+    @Test
+    public void testMergeWeight() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel, 1);
+        container.setEdgesMergeStrategy(EdgeMergeStrategy.SUM);
+        for (int i = 0; i < 3; i++) {
+            EdgeDraft edge = container.factory().newEdgeDraft();
+            edge.setSource(container.getNode("1"));
+            edge.setTarget(container.getNode("2"));
+            edge.setWeight(2.0);
+            container.addEdge(edge);
+        }
+        container.closeLoader();
+
+        Graph graph = graphModel.getGraph();
+        Assert.assertEquals(1, graph.getEdgeCount());
+        Node source = graph.getNode("1");
+        Node target = graph.getNode("2");
+        Edge edge = graph.getEdge(source, target);
+        Assert.assertEquals(6.0, edge.getWeight(), 0.0);
+    }
+
+    @Test
+    public void testMergeWeightInBatch() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel);
+        container.setEdgesMergeStrategy(EdgeMergeStrategy.SUM);
+        for (int i = 0; i < 3; i++) {
+            addEdge(container, "1", "2", 2.0);
+        }
+        Assert.assertTrue(container.edgeExists("1", "2"));
+        Assert.assertFalse(container.edgeExists("2", "1"));
+        container.closeLoader();
+
+        Graph graph = graphModel.getGraph();
+        Assert.assertEquals(1, graph.getEdgeCount());
+        Edge edge = graph.getEdge(graph.getNode("1"), graph.getNode("2"));
+        Assert.assertEquals(6.0, edge.getWeight(), 0.0);
+    }
+
+    @Test
+    public void testParallelEdgeForbiddenInBatch() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel);
+        container.setAllowParallelEdge(false);
+        addEdge(container, "1", "2", 1.0);
+        addEdge(container, "1", "2", 1.0);
+        container.closeLoader();
+
+        Assert.assertEquals(1, graphModel.getGraph().getEdgeCount());
+        Assert.assertFalse(container.getReport().isEmpty());
+    }
+
+    @Test
+    public void testMutualUndirectedEdgesInBatch() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel);
+        container.setEdgeDefault(EdgeDirectionDefault.UNDIRECTED);
+        container.setEdgesMergeStrategy(EdgeMergeStrategy.MAX);
+        addEdge(container, "1", "2", 1.0);
+        addEdge(container, "2", "1", 3.0);
+        container.closeLoader();
+
+        Graph graph = graphModel.getUndirectedGraph();
+        Assert.assertEquals(1, graph.getEdgeCount());
+        Assert.assertEquals(3.0, graph.getEdges().toArray()[0].getWeight(), 0.0);
+    }
+
+    @Test
+    public void testRemovePendingEdge() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        DirectImportContainer container = new DirectImportContainer(graphModel);
+        EdgeDraft edge = addEdge(container, "1", "2", 1.0);
+        container.removeEdge(edge);
+        Assert.assertFalse(container.edgeExists("1", "2"));
+        container.closeLoader();
+
+        Assert.assertEquals(0, graphModel.getGraph().getEdgeCount());
+    }
+
+    @Test
+    public void testImportFileDirectReportsLastBatch() {
+        GraphModel graphModel = GraphModel.Factory.newInstance();
+        Workspace workspace = new WorkspaceImpl(null, 1, "Workspace", graphModel);
+        FileImporter importer = new FileImporter() {
+            private ContainerLoader loader;
+
+            @Override
+            public void setReader(Reader reader) {
+            }
+
+            @Override
+            public boolean execute(ContainerLoader loader) {
+                this.loader = loader;
+                //Still pending when the importer returns
+                addEdge((DirectImportContainer) loader, "1", "2", -1.0);
+                return true;
+            }
+
+            @Override
+            public ContainerLoader getContainer() {
+                return loader;
+            }
+
+            @Override
+            public Report getReport() {
+                return null;
+            }
+        };
+
+        Container container = new ImportControllerImpl().importFileDirect(new StringReader(""), importer, workspace);
+        Assert.assertEquals(1, graphModel.getGraph().getEdgeCount());
+        //The negative weight warning is only logged when the last batch is written
+        Assert.assertTrue(container.getReport().getIssuesList(10).stream()
+            .anyMatch(issue -> issue.getLevel() == Issue.Level.WARNING));
+    }
+
+    private static EdgeDraft addEdge(DirectImportContainer container, String source, String target, double weight) {
+        EdgeDraft edge = container.factory().newEdgeDraft();
+        edge.setSource(container.getNode(source));
+        edge.setTarget(container.getNode(target));
+        edge.setWeight(weight);
+        container.addEdge(edge);
+        return edge;
+    }
+}
@@ -123,4 +123,44 @@ public class ElementDraftTest {
         edge.parseAndSetValue("foo", null);
         Assert.assertNull(edge.getValue("foo"));
     }
+
+    @Test
+    public void testSetValueSharedString() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        NodeDraftImpl node1 = container.factory().newNodeDraft("1");
+        NodeDraftImpl node2 = container.factory().newNodeDraft("2");
+        node1.setValue("country", new String("France"));
+        node2.setValue("country", new String("France"));
+        Assert.assertSame(node1.getValue("country"), node2.getValue("country"));
+    }
+
+    @Test
+    public void testSetValueSharedStringListItems() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        NodeDraftImpl node1 = container.factory().newNodeDraft("1");
+        NodeDraftImpl node2 = container.factory().newNodeDraft("2");
+        node1.setValue("tags", new String[] {new String("a"), new String("b")});
+        node2.setValue("tags", new String[] {new String("b")});
+        Assert.assertSame(((String[]) node1.getValue("tags"))[1], ((String[]) node2.getValue("tags"))[0]);
+    }
+
+    @Test
+    public void testSetValuePrimitiveStore() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        int count = ColumnDraftImpl.MAX_DICTIONARY_SIZE + 10;
+        EdgeDraftImpl[] edges = new EdgeDraftImpl[count];
+        for (int i = 0; i < count; i++) {
+            edges[i] = container.factory().newEdgeDraft();
+            edges[i].setValue("score", -i / 3.0);
+            edges[i].setValue("rank", (float) i);
+            edges[i].setValue("count", Integer.MIN_VALUE + i);
+        }
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(-i / 3.0, edges[i].getValue("score"));
+            Assert.assertEquals((float) i, edges[i].getValue("rank"));
+            Assert.assertEquals(Integer.MIN_VALUE + i, edges[i].getValue("count"));
+        }
+        edges[count - 1].setValue("score", 1.0);
+        Assert.assertEquals(1.0, edges[count - 1].getValue("score"));
+    }
 }
@@ -48,6 +48,7 @@ import org.gephi.io.importer.api.ColumnDraft;
 import org.gephi.io.importer.api.EdgeDirection;
 import org.gephi.io.importer.api.EdgeDirectionDefault;
 import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.ElementIdType;
 import org.gephi.io.importer.api.Issue;
 import org.gephi.io.importer.api.NodeDraft;
 import org.junit.Assert;
@@ -146,6 +147,63 @@ public class ImportContainerImplTest {
         Utils.assertContainerIssues(container.getReport(), Issue.Level.WARNING, "bar ");
     }
 
+    @Test
+    public void testNumericIds() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        NodeDraft node = container.factory().newNodeDraft(42);
+        container.addNode(node);
+
+        Assert.assertTrue(container.nodeExists("42"));
+        Assert.assertTrue(container.nodeExists(42));
+        Assert.assertSame(node, container.getNode("42"));
+        Assert.assertSame(node, container.getNode(42));
+        Assert.assertEquals("42", node.getId());
+
+        container.addNode(container.factory().newNodeDraft("42"));
+        Assert.assertEquals(1, container.getNodeCount());
+        Assert.assertFalse(container.getReport().isEmpty());
+    }
+
+    @Test
+    public void testNonCanonicalNumericIds() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        container.addNode(container.factory().newNodeDraft("7"));
+        container.addNode(container.factory().newNodeDraft("007"));
+        container.addNode(container.factory().newNodeDraft("+7"));
+        container.addNode(container.factory().newNodeDraft(-7));
+        container.addNode(container.factory().newNodeDraft(Long.MIN_VALUE));
+
+        Assert.assertEquals(5, container.getNodeCount());
+        Assert.assertEquals("007", container.getNode("007").getId());
+        Assert.assertTrue(container.nodeExists("-7"));
+        Assert.assertTrue(container.nodeExists(String.valueOf(Long.MIN_VALUE)));
+        Assert.assertFalse(container.nodeExists(8));
+    }
+
+    @Test
+    public void testNumericEdgeIds() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        EdgeDraft edge = container.factory().newEdgeDraft(1);
+        edge.setSource(container.getNode(1));
+        edge.setTarget(container.getNode(2));
+        container.addEdge(edge);
+
+        Assert.assertSame(edge, container.getEdge("1"));
+        Assert.assertTrue(container.edgeExists("1", "2"));
+        container.removeEdge(edge);
+        Assert.assertEquals(0, container.getEdgeCount());
+    }
+
+    @Test
+    public void testNumericIdsOutOfIntegerRange() {
+        ImportContainerImpl container = new ImportContainerImpl();
+        container.setElementIdType(ElementIdType.INTEGER);
+        container.addNode(container.factory().newNodeDraft(1L + Integer.MAX_VALUE));
+        container.verify();
+
+        Assert.assertEquals(ElementIdType.STRING, container.getElementIdType());
+    }
+
     // Utility
 
     private void generateTinyUndirectedGraph(ImportContainerImpl container) {
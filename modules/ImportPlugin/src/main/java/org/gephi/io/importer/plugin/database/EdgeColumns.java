@@ -24,8 +24,10 @@ class EdgeColumns {
 
     EdgeDraft getEdgeDraft(final ElementDraft.Factory factory, final ResultSet rs, final int idColumn)
         throws SQLException {
-        String id = getIdValue(rs, idColumn);
+        return getEdgeDraft(factory, getIdValue(rs, idColumn));
+    }
 
+    EdgeDraft getEdgeDraft(final ElementDraft.Factory factory, final String id) {
         final EdgeDraft edge;
         if (id == null) {
             edge = factory.newEdgeDraft();
@@ -35,7 +37,7 @@ class EdgeColumns {
         return edge;
     }
 
-    private String getIdValue(final ResultSet rs, final int idColumn) throws SQLException {
+    String getIdValue(final ResultSet rs, final int idColumn) throws SQLException {
         if (idColumn == -1) {
             return null;
         }
@@ -51,10 +51,17 @@ import org.gephi.io.importer.api.PropertiesAssociations.NodeProperties;
  */
 public class EdgeListDatabaseImpl extends AbstractDatabase {
 
+    public static final int DEFAULT_FETCH_SIZE = 10000;
+
     private String nodeQuery;
     private String edgeQuery;
     private String nodeAttributesQuery;
     private String edgeAttributesQuery;
+    //Streaming
+    private int fetchSize = DEFAULT_FETCH_SIZE;
+    private boolean parallelQueries = false;
+    private int edgePartitions = 1;
+    private String edgePartitionColumn;
 
     public EdgeListDatabaseImpl() {
 
@@ -114,4 +121,57 @@ public class EdgeListDatabaseImpl extends AbstractDatabase {
     public void setNodeQuery(String nodeQuery) {
         this.nodeQuery = nodeQuery;
     }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Sets the number of rows fetched from the database at a time. Zero lets the driver decide.
+     *
+     * @param fetchSize rows per fetch
+     */
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public boolean isParallelQueries() {
+        return parallelQueries;
+    }
+
+    /**
+     * Sets whether the node and edge queries are executed at the same time on separate connections.
+     *
+     * @param parallelQueries <code>true</code> to run queries concurrently
+     */
+    public void setParallelQueries(boolean parallelQueries) {
+        this.parallelQueries = parallelQueries;
+    }
+
+    public int getEdgePartitions() {
+        return edgePartitions;
+    }
+
+    /**
+     * Sets the number of ranges the edge query is split into when queries run in parallel. Partitioning requires an
+     * integer partition column, see {@link #setEdgePartitionColumn(String)}.
+     *
+     * @param edgePartitions number of edge query partitions
+     */
+    public void setEdgePartitions(int edgePartitions) {
+        this.edgePartitions = edgePartitions;
+    }
+
+    public String getEdgePartitionColumn() {
+        return edgePartitionColumn;
+    }
+
+    /**
+     * Sets the integer column of the edge query used to split it in ranges, typically the edge id.
+     *
+     * @param edgePartitionColumn column name
+     */
+    public void setEdgePartitionColumn(String edgePartitionColumn) {
+        this.edgePartitionColumn = edgePartitionColumn;
+    }
 }
@@ -51,6 +51,14 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.gephi.graph.api.TimeFormat;
 import org.gephi.io.database.drivers.SQLUtils;
 import org.gephi.io.importer.api.ColumnDraft;
@@ -75,6 +83,8 @@ public class ImporterEdgeList implements DatabaseImporter {
     private EdgeListDatabaseImpl database;
     private ContainerLoader container;
     private Connection connection;
+    //Guards the container and temp data when edge queries run in parallel
+    private final Object lock = new Object();
     //TempData
     private String timeIntervalStart;
     private String timeIntervalEnd;
@@ -112,7 +122,7 @@ public class ImporterEdgeList implements DatabaseImporter {
             SQLUtils.getUrl(database.getSQLDriver(), database.getHost(), database.getPort(), database.getDBName());
         try {
             report.log("Try to connect at " + url);
-            connection = database.getSQLDriver().getConnection(url, database.getUsername(), database.getPasswd());
+            connection = connect(url);
             report.log("Database connection established");
         } catch (SQLException ex) {
             if (connection != null) {
@@ -128,8 +138,12 @@ public class ImporterEdgeList implements DatabaseImporter {
         }
 
         report.log(database.getPropertiesAssociations().getInfos());
-        getNodes(connection);
-        getEdges(connection);
+        if (database.isParallelQueries()) {
+            getNodesAndEdgesInParallel(url);
+        } else {
+            getNodes(connection);
+            getEdges(connection, database.getEdgeQuery());
+        }
         getNodesAttributes(connection);
         getEdgesAttributes(connection);
     }
@@ -142,12 +156,13 @@ public class ImporterEdgeList implements DatabaseImporter {
         //Properties
         PropertiesAssociations properties = database.getPropertiesAssociations();
 
-        Statement s = connection.createStatement();
+        Statement s = database.getSQLDriver().createStreamingStatement(connection, database.getFetchSize());
         ResultSet rs = null;
         try {
             rs = s.executeQuery(database.getNodeQuery());
         } catch (SQLException ex) {
             report.logIssue(new Issue("Failed to execute Node query", Issue.Level.SEVERE, ex));
+            database.getSQLDriver().closeStreamingStatement(s);
             return;
         }
 
@@ -175,50 +190,208 @@ public class ImporterEdgeList implements DatabaseImporter {
             container.addNode(node);
         }
         rs.close();
-        s.close();
+        database.getSQLDriver().closeStreamingStatement(s);
     }
 
-    private void getEdges(Connection connection) throws SQLException {
+    private void getEdges(Connection connection, String edgeQuery) throws SQLException {
+        Statement s = database.getSQLDriver().createStreamingStatement(connection, database.getFetchSize());
+        ResultSet rs = executeEdgeQuery(s, edgeQuery);
+        if (rs != null) {
+            readEdges(rs);
+            rs.close();
+        }
+        database.getSQLDriver().closeStreamingStatement(s);
+    }
 
-        //Factory
-        ElementDraft.Factory factory = container.factory();
+    private void getNodesAndEdgesInParallel(final String url) throws Exception {
+        List<String> edgeQueries = getEdgeQueries(connection);
+        ExecutorService executor = Executors.newFixedThreadPool(edgeQueries.size(), r -> {
+            Thread t = new Thread(r, "Database Importer Edges");
+            t.setDaemon(true);
+            return t;
+        });
+
+        //Edge connections are opened right away but the queries only run once all nodes are in the container,
+        //otherwise unknown sources and targets would be created automatically. Streamed results (e.g. MySQL)
+        //also time out on the server when they aren't read, so they can't be executed ahead
+        final CountDownLatch nodesDone = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (final String edgeQuery : edgeQueries) {
+            futures.add(executor.submit(() -> {
+                try (Connection edgeConnection = connect(url)) {
+                    nodesDone.await();
+                    getEdges(edgeConnection, edgeQuery);
+                }
+                return null;
+            }));
+        }
 
-        //Properties
-        PropertiesAssociations properties = database.getPropertiesAssociations();
+        try {
+            getNodes(connection);
+        } catch (Exception e) {
+            executor.shutdownNow();
+            throw e;
+        } finally {
+            nodesDone.countDown();
+        }
 
-        Statement s = connection.createStatement();
-        ResultSet rs = null;
         try {
-            rs = s.executeQuery(database.getEdgeQuery());
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception) {
+                        throw (Exception) e.getCause();
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> getEdgeQueries(Connection connection) {
+        String edgeQuery = database.getEdgeQuery();
+        String column = database.getEdgePartitionColumn();
+        int partitions = database.getEdgePartitions();
+        if (partitions <= 1 || column == null || column.isEmpty()) {
+            return Collections.singletonList(edgeQuery);
+        }
+
+        //Find the range of the partition column
+        String table = "(" + edgeQuery + ") gephi_edges";
+        long min;
+        long max;
+        try (Statement s = connection.createStatement();
+             ResultSet rs = s.executeQuery("SELECT MIN(" + column + "), MAX(" + column + ") FROM " + table)) {
+            if (!rs.next()) {
+                return Collections.singletonList(edgeQuery);
+            }
+            min = rs.getLong(1);
+            if (rs.wasNull()) {
+                return Collections.singletonList(edgeQuery);
+            }
+            max = rs.getLong(2);
+        } catch (SQLException ex) {
+            report.logIssue(new Issue("Failed to find the range of the edge partition column '" + column +
+                "', the edge query isn't partitioned", Issue.Level.WARNING, ex));
+            return Collections.singletonList(edgeQuery);
+        }
+        List<String> queries = getEdgeQueries(edgeQuery, column, partitions, min, max);
+        if (queries.size() > 1) {
+            report.log("Edge query split in " + queries.size() + " partitions on '" + column + "'");
+        }
+        return queries;
+    }
+
+    /**
+     * Splits <code>edgeQuery</code> in queries on consecutive ranges of <code>column</code>, between
+     * <code>min</code> and <code>max</code>. The first range also gets null values and the last one is left open.
+     */
+    static List<String> getEdgeQueries(String edgeQuery, String column, int partitions, long min, long max) {
+        if (max - min < 0) {
+            //Range overflows
+            return Collections.singletonList(edgeQuery);
+        }
+
+        String table = "(" + edgeQuery + ") gephi_edges";
+        long step = (max - min) / partitions + 1;
+        List<String> queries = new ArrayList<>();
+        for (long low = min; ; low += step) {
+            boolean first = low == min;
+            boolean last = step > max - low;
+            String condition;
+            if (first && last) {
+                return Collections.singletonList(edgeQuery);
+            } else if (first) {
+                condition = column + " < " + (low + step) + " OR " + column + " IS NULL";
+            } else if (last) {
+                condition = column + " >= " + low;
+            } else {
+                condition = column + " >= " + low + " AND " + column + " < " + (low + step);
+            }
+            queries.add("SELECT * FROM " + table + " WHERE " + condition);
+            if (last) {
+                break;
+            }
+        }
+        return queries;
+    }
+
+    private ResultSet executeEdgeQuery(Statement s, String edgeQuery) {
+        try {
+            return s.executeQuery(edgeQuery);
         } catch (SQLException ex) {
             report.logIssue(new Issue("Failed to execute Edge query", Issue.Level.SEVERE, ex));
-            return;
+            return null;
         }
-        findEdgeAttributesColumns(rs);
-        ResultSetMetaData metaData = rs.getMetaData();
-        int columnsCount = metaData.getColumnCount();
+    }
 
-        int idColumn = edgeColumns.findIdIndex(metaData, properties);
+    private void readEdges(ResultSet rs) throws SQLException {
 
-        while (rs.next()) {
-            EdgeDraft edge = edgeColumns.getEdgeDraft(factory, rs, idColumn);
+        //Factory
+        ElementDraft.Factory factory = container.factory();
 
+        //Properties
+        PropertiesAssociations properties = database.getPropertiesAssociations();
+
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columnsCount = metaData.getColumnCount();
+        int idColumn;
+        EdgeProperties[] edgeProperties = new EdgeProperties[columnsCount];
+        ColumnDraft[] edgeAttributes = new ColumnDraft[columnsCount];
+        TimeFormat[] timeFormats = new TimeFormat[columnsCount];
+        synchronized (lock) {
+            findEdgeAttributesColumns(rs);
+            idColumn = edgeColumns.findIdIndex(metaData, properties);
             for (int i = 0; i < columnsCount; i++) {
                 String columnName = metaData.getColumnLabel(i + 1);
-                EdgeProperties p = properties.getEdgeProperty(columnName);
-                if (p != null) {
-                    injectEdgeProperty(p, rs, i + 1, edge);
+                edgeProperties[i] = properties.getEdgeProperty(columnName);
+                if (edgeProperties[i] == null) {
+                    edgeAttributes[i] = container.getEdgeColumn(columnName);
                 } else {
-                    //Inject edge attributes
-                    ColumnDraft col = container.getEdgeColumn(columnName);
-                    injectElementAttribute(rs, i + 1, col, edge);
+                    timeFormats[i] = getTimeFormat(rs, i + 1);
                 }
             }
-            injectTimeIntervalProperty(edge);
-            container.addEdge(edge);
         }
-        rs.close();
-        s.close();
+
+        //Rows are decoded outside of the lock, which only guards the container
+        Object[] values = new Object[columnsCount];
+        while (rs.next()) {
+            String id = edgeColumns.getIdValue(rs, idColumn);
+            for (int i = 0; i < columnsCount; i++) {
+                if (edgeProperties[i] != null) {
+                    values[i] = getEdgePropertyValue(edgeProperties[i], rs, i + 1);
+                } else {
+                    try {
+                        values[i] = getAttributeValue(rs, i + 1, edgeAttributes[i].getTypeClass());
+                    } catch (SQLException ex) {
+                        values[i] = ex;
+                    }
+                }
+            }
+
+            synchronized (lock) {
+                EdgeDraft edge = edgeColumns.getEdgeDraft(factory, id);
+                for (int i = 0; i < columnsCount; i++) {
+                    if (edgeProperties[i] != null) {
+                        injectEdgeProperty(edgeProperties[i], values[i], timeFormats[i], edge);
+                    } else if (values[i] instanceof SQLException) {
+                        logAttributeIssue(edgeAttributes[i], edge, (SQLException) values[i]);
+                    } else {
+                        //Inject edge attributes
+                        setElementAttribute(values[i], edgeAttributes[i], edge);
+                    }
+                }
+                injectTimeIntervalProperty(edge);
+                container.addEdge(edge);
+            }
+        }
+    }
+
+    private Connection connect(String url) throws SQLException {
+        return database.getSQLDriver().getConnection(url, database.getUsername(), database.getPasswd());
     }
 
     private void getNodesAttributes(Connection connection) throws SQLException {
@@ -355,37 +528,47 @@ public class ImporterEdgeList implements DatabaseImporter {
         timeIntervalEnd = null;
     }
 
-    private void injectEdgeProperty(EdgeProperties p, ResultSet rs, int column, EdgeDraft edgeDraft)
-        throws SQLException {
+    private Object getEdgePropertyValue(EdgeProperties p, ResultSet rs, int column) throws SQLException {
+        switch (p) {
+            case WEIGHT:
+                return rs.getFloat(column);
+            case START:
+                return getDateData(rs, column);
+            default:
+                return rs.getString(column);
+        }
+    }
+
+    private void injectEdgeProperty(EdgeProperties p, Object value, TimeFormat timeFormat, EdgeDraft edgeDraft) {
         switch (p) {
             case LABEL:
-                String label = rs.getString(column);
+                String label = (String) value;
                 if (label != null) {
                     edgeDraft.setLabel(label);
                 }
                 break;
             case SOURCE:
-                String source = rs.getString(column);
+                String source = (String) value;
                 if (source != null && !source.isEmpty()) {
                     NodeDraft sourceNode = container.getNode(source);
                     edgeDraft.setSource(sourceNode);
                 }
                 break;
             case TARGET:
-                String target = rs.getString(column);
+                String target = (String) value;
                 if (target != null && !target.isEmpty()) {
                     NodeDraft targetNode = container.getNode(target);
                     edgeDraft.setTarget(targetNode);
                 }
                 break;
             case WEIGHT:
-                float weight = rs.getFloat(column);
+                float weight = (Float) value;
                 if (weight != 0) {
                     edgeDraft.setWeight(weight);
                 }
                 break;
             case COLOR:
-                String color = rs.getString(column);
+                String color = (String) value;
                 if (color != null) {
                     String[] rgb = color.split(",");
                     if (rgb.length == 3) {
@@ -396,31 +579,17 @@ public class ImporterEdgeList implements DatabaseImporter {
                 }
                 break;
             case START:
-                container.setTimeFormat(getTimeFormat(rs, column));
-                String start = getDateData(rs, column);
-                if (start != null) {
-                    timeIntervalStart = start;
-                }
-                break;
             case START_OPEN:
-                container.setTimeFormat(getTimeFormat(rs, column));
-                String startOpen = rs.getString(column);
-                if (startOpen != null) {
-                    timeIntervalStart = startOpen;
+                container.setTimeFormat(timeFormat);
+                if (value != null) {
+                    timeIntervalStart = (String) value;
                 }
                 break;
             case END:
-                container.setTimeFormat(getTimeFormat(rs, column));
-                String end = rs.getString(column);
-                if (end != null) {
-                    timeIntervalEnd = end;
-                }
-                break;
             case END_OPEN:
-                container.setTimeFormat(getTimeFormat(rs, column));
-                String endOpen = rs.getString(column);
-                if (endOpen != null) {
-                    timeIntervalEnd = endOpen;
+                container.setTimeFormat(timeFormat);
+                if (value != null) {
+                    timeIntervalEnd = (String) value;
                 }
                 break;
         }
@@ -437,92 +606,69 @@ public class ImporterEdgeList implements DatabaseImporter {
     }
 
     private void injectElementAttribute(ResultSet rs, int columnIndex, ColumnDraft column, ElementDraft draft) {
-        String elementName;
-        if (draft instanceof NodeDraft) {
-            elementName = "node";
-        } else {
-            elementName = "edge";
+        try {
+            setElementAttribute(getAttributeValue(rs, columnIndex, column.getTypeClass()), column, draft);
+        } catch (SQLException ex) {
+            logAttributeIssue(column, draft, ex);
         }
-        Class typeClass = column.getTypeClass();
+    }
+
+    private Object getAttributeValue(ResultSet rs, int columnIndex, Class typeClass) throws SQLException {
         if (typeClass.equals(Boolean.class)) {
-            try {
-                boolean val = rs.getBoolean(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(new Issue(
-                    "Failed to get a BOOLEAN value for " + elementName + " attribute '" + column.getId() + "'",
-                    Issue.Level.SEVERE, ex));
-            }
+            return rs.getBoolean(columnIndex);
         } else if (typeClass.equals(Double.class)) {
-            try {
-                double val = rs.getDouble(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a DOUBLE value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getDouble(columnIndex);
         } else if (typeClass.equals(Float.class)) {
-            try {
-                float val = rs.getFloat(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a FLOAT value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getFloat(columnIndex);
         } else if (typeClass.equals(Integer.class)) {
-            try {
-                int val = rs.getInt(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a INT value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getInt(columnIndex);
         } else if (typeClass.equals(Long.class)) {
-            try {
-                long val = rs.getLong(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a LONG value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getLong(columnIndex);
         } else if (typeClass.equals(Short.class)) {
-            try {
-                short val = rs.getShort(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a SHORT value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getShort(columnIndex);
         } else if (typeClass.equals(Byte.class)) {
-            try {
-                byte val = rs.getByte(columnIndex);
-                draft.setValue(column.getId(), val);
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a BYTE value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            return rs.getByte(columnIndex);
+        }
+        return rs.getString(columnIndex);
+    }
+
+    private void setElementAttribute(Object value, ColumnDraft column, ElementDraft draft) {
+        if (value != null) {
+            draft.setValue(column.getId(), value);
         } else {
-            try {
-                String val = rs.getString(columnIndex);
-                if (val != null) {
-                    draft.setValue(column.getId(), val);
-                } else {
-                    report.logIssue(new Issue(
-                        "Failed to get a STRING value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.WARNING));
-                }
-            } catch (SQLException ex) {
-                report.logIssue(
-                    new Issue("Failed to get a STRING value for " + elementName + " attribute '" + column.getId() + "'",
-                        Issue.Level.SEVERE, ex));
-            }
+            report.logIssue(new Issue(
+                "Failed to get a STRING value for " + getElementName(draft) + " attribute '" + column.getId() + "'",
+                Issue.Level.WARNING));
+        }
+    }
+
+    private void logAttributeIssue(ColumnDraft column, ElementDraft draft, SQLException ex) {
+        report.logIssue(new Issue(
+            "Failed to get a " + getTypeName(column.getTypeClass()) + " value for " + getElementName(draft) +
+                " attribute '" + column.getId() + "'", Issue.Level.SEVERE, ex));
+    }
+
+    private static String getElementName(ElementDraft draft) {
+        return draft instanceof NodeDraft ? "node" : "edge";
+    }
+
+    private static String getTypeName(Class typeClass) {
+        if (typeClass.equals(Boolean.class)) {
+            return "BOOLEAN";
+        } else if (typeClass.equals(Double.class)) {
+            return "DOUBLE";
+        } else if (typeClass.equals(Float.class)) {
+            return "FLOAT";
+        } else if (typeClass.equals(Integer.class)) {
+            return "INT";
+        } else if (typeClass.equals(Long.class)) {
+            return "LONG";
+        } else if (typeClass.equals(Short.class)) {
+            return "SHORT";
+        } else if (typeClass.equals(Byte.class)) {
+            return "BYTE";
         }
+        return "STRING";
     }
 
     private void findNodeAttributesColumns(ResultSet rs) throws SQLException {
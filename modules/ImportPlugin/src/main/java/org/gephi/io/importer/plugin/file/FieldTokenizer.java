@@ -0,0 +1,230 @@
+/*
+ Copyright 2008-2026 Gephi
+  Website : http://www.gephi.org
+
+ This file is part of Gephi.
+
+ DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+ Copyright 2026 Gephi Consortium. All rights reserved.
+
+ The contents of this file are subject to the terms of either the GNU
+ General Public License Version 3 only ("GPL") or the Common
+ Development and Distribution License("CDDL") (collectively, the
+ "License"). You may not use this file except in compliance with the
+ License. You can obtain a copy of the License at
+ http://gephi.org/about/legal/license-notice/
+ or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+ specific language governing permissions and limitations under the
+ License.  When distributing the software, include this License Header
+ Notice in each file and include the License files at
+ /cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+ License Header, with the fields enclosed by brackets [] replaced by
+ your own identifying information:
+ "Portions Copyrighted [year] [name of copyright owner]"
+
+ If you wish your version of this file to be governed by only the CDDL
+ or only the GPL Version 3, indicate your decision by adding
+ "[Contributor] elects to include this software in this distribution
+ under the [CDDL or GPL Version 3] license." If you do not indicate a
+ single choice of license, a recipient has the option to distribute
+ your version of this file under either the CDDL, the GPL Version 3 or
+ to extend the choice of license to its licensees as provided above.
+ However, if you add GPL Version 3 code and therefore, elected the GPL
+ Version 3 license, then the option applies only if the new code is
+ made subject to such option by the copyright holder.
+
+ Contributor(s):
+
+ Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.plugin.file;
+
+import java.util.Arrays;
+
+/**
+ * Splits text lines into fields, reusing the same field bounds arrays from one line to the next.
+ * <p>
+ * No array is allocated per line and strings are only created for the fields which are read, already trimmed.
+ * Two modes are supported:
+ * <ul>
+ *     <li>{@link #quoted(char)}: fields separated by a delimiter, which may be enclosed in double or single quotes
+ *     to contain the delimiter. A quoted field ends at a quote followed by the delimiter (and not preceded by a
+ *     backslash) or by the end of the line, fields with an unclosed quote are skipped. Empty fields are
+ *     kept.</li>
+ *     <li>{@link #separated(String)}: fields separated by runs of separator characters, like
+ *     {@link java.util.StringTokenizer}. Empty fields are skipped.</li>
+ * </ul>
+ */
+final class FieldTokenizer {
+
+    private final char delimiter;
+    private final String separators;
+    private CharSequence line;
+    private int count;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+
+    private FieldTokenizer(char delimiter, String separators) {
+        this.delimiter = delimiter;
+        this.separators = separators;
+    }
+
+    static FieldTokenizer quoted(char delimiter) {
+        return new FieldTokenizer(delimiter, null);
+    }
+
+    static FieldTokenizer separated(String separators) {
+        return new FieldTokenizer('\0', separators);
+    }
+
+    /**
+     * Splits <code>line</code> and returns the number of fields.
+     *
+     * @param line line to split
+     * @return field count
+     */
+    int tokenize(CharSequence line) {
+        this.line = line;
+        this.count = 0;
+        if (separators != null) {
+            tokenizeSeparated();
+        } else if (line.length() > 0) {
+            tokenizeQuoted();
+        }
+        return count;
+    }
+
+    int getFieldCount() {
+        return count;
+    }
+
+    /**
+     * Returns the trimmed field at <code>index</code>.
+     *
+     * @param index field index
+     * @return field value, possibly empty
+     */
+    String getField(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        return start < end ? line.subSequence(start, end).toString() : "";
+    }
+
+    /**
+     * Returns true if the trimmed field at <code>index</code> is empty or is <code>null</code>, ignoring case.
+     *
+     * @param index field index
+     * @return true if empty or null
+     */
+    boolean isEmptyOrNull(int index) {
+        int start = trimmedStart(index);
+        int end = trimmedEnd(index);
+        if (start >= end) {
+            return true;
+        }
+        if (end - start != 4) {
+            return false;
+        }
+        return line.subSequence(start, end).toString().equalsIgnoreCase("null");
+    }
+
+    private int trimmedStart(int index) {
+        checkIndex(index);
+        int start = starts[index];
+        int end = ends[index];
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private int trimmedEnd(int index) {
+        checkIndex(index);
+        int start = starts[index];
+        int end = ends[index];
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Field " + index + " out of " + count);
+        }
+    }
+
+    private void tokenizeSeparated() {
+        int length = line.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && separators.indexOf(line.charAt(i)) >= 0) {
+                i++;
+            }
+            int start = i;
+            while (i < length && separators.indexOf(line.charAt(i)) < 0) {
+                i++;
+            }
+            if (start < i) {
+                add(start, i);
+            }
+        }
+    }
+
+    private void tokenizeQuoted() {
+        int length = line.length();
+        int start = 0;
+        while (true) {
+            boolean unclosed = false;
+            if (start < length && (line.charAt(start) == '"' || line.charAt(start) == '\'')) {
+                int close = findClosingQuote(start, line.charAt(start));
+                if (close >= 0) {
+                    add(start + 1, close);
+                    if (close + 1 >= length) {
+                        return;
+                    }
+                    start = close + 2;
+                    continue;
+                }
+                unclosed = true;
+            }
+            int end = start;
+            while (end < length && line.charAt(end) != delimiter) {
+                end++;
+            }
+            if (!unclosed) {
+                add(start, end);
+            }
+            if (end >= length) {
+                return;
+            }
+            start = end + 1;
+        }
+    }
+
+    private int findClosingQuote(int open, char quote) {
+        int length = line.length();
+        for (int i = open + 1; i < length; i++) {
+            if (line.charAt(i) == quote) {
+                if (i + 1 == length) {
+                    return i;
+                } else if (line.charAt(i + 1) == delimiter && line.charAt(i - 1) != '\\') {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void add(int start, int end) {
+        if (count == starts.length) {
+            starts = Arrays.copyOf(starts, count * 2);
+            ends = Arrays.copyOf(ends, count * 2);
+        }
+        starts[count] = start;
+        ends[count] = end;
+        count++;
+    }
+}
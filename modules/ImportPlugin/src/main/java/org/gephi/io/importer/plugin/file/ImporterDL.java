@@ -45,9 +45,7 @@ package org.gephi.io.importer.plugin.file;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.Reader;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 import org.gephi.io.importer.api.ContainerLoader;
@@ -69,6 +67,7 @@ public class ImporterDL implements FileImporter, LongTask {
 
     //Architecture
     private Reader reader;
+    private LineNumberReader lineReader;
     private ContainerLoader container;
     private Report report;
     private ProgressTicket progressTicket;
@@ -79,6 +78,7 @@ public class ImporterDL implements FileImporter, LongTask {
     private int numNodes;
     private int numMatricies;
     private int dataLineStartDelta = -1;
+    private int lineIndex = -1;
 
     @Override
     public boolean execute(ContainerLoader container) {
@@ -101,59 +101,70 @@ public class ImporterDL implements FileImporter, LongTask {
     private void importData(LineNumberReader reader) throws Exception {
         Progress.start(progressTicket);        //Progress
 
-        List<String> lines = new ArrayList<>();
-        for (; reader.ready(); ) {
-            String line = reader.readLine();
-            if (line != null && !line.isEmpty()) {
-                lines.add(line);
-            }
-        }
-
-        if (lines.isEmpty() || (!lines.get(0).startsWith("DL") && !lines.get(0).startsWith("dl"))) {
+        this.lineReader = reader;
+        String line = nextLine();
+        if (line == null || (!line.startsWith("DL") && !line.startsWith("dl"))) {
             report.logIssue(
                 new Issue(NbBundle.getMessage(ImporterDL.class, "importerDL_error_firstline"), Issue.Level.CRITICAL));
+            if (line == null) {
+                return;
+            }
         }
 
         headerMap = new HashMap<>();
-        readHeaderLine(lines.get(0).substring(2));
+        readHeaderLine(line.substring(2));
 
-        int i = 1;
-        for (; i < lines.size(); i++) {
-            String line = lines.get(i).toLowerCase();
-            if (line.trim().endsWith("data:") || line.trim().endsWith("labels:")) {
+        while ((line = nextLine()) != null) {
+            String header = line.toLowerCase();
+            if (header.trim().endsWith("data:") || header.trim().endsWith("labels:")) {
                 break;
             } else {
-                readHeaderLine(line);
+                readHeaderLine(header);
             }
         }
 
         computeHeaders();
 
-        if (lines.get(i).toLowerCase().trim().endsWith("labels:") && lines.size() > i + 1) {
-            readLabels(lines.get(++i));
+        if (line != null && line.toLowerCase().trim().endsWith("labels:")) {
+            String labels = nextLine();
+            if (labels != null) {
+                readLabels(labels);
+                line = labels;
+            }
         }
 
-        int dataLineStart = -1;
-        for (; i < lines.size(); i++) {
-            String line = lines.get(i).toLowerCase();
-            if (line.trim().endsWith("data:")) {
-                dataLineStart = i + 1;
-                break;
-            }
+        while (line != null && !line.toLowerCase().trim().endsWith("data:")) {
+            line = nextLine();
         }
-        if (dataLineStart == -1) {
+        if (line == null) {
             report.logIssue(
                 new Issue(NbBundle.getMessage(ImporterDL.class, "importerDL_error_nodata"), Issue.Level.SEVERE));
-        } else if (lines.size() > dataLineStart) {
-            dataLineStartDelta = dataLineStart + 1;
-            lines = lines.subList(dataLineStart, lines.size());
+            return;
+        }
 
+        dataLineStartDelta = lineIndex + 2;
+        line = nextLine();
+        if (line != null) {
             if (format.equals(Format.FULLMATRIX)) {
-                readeMatrixBlock(lines);
+                readeMatrixBlock(line);
             } else if (format.equals(Format.EDGELIST1)) {
-                readEdgelistBlock(lines);
+                readEdgelistBlock(line);
+            }
+        }
+    }
+
+    /**
+     * Returns the next non empty line, or <code>null</code> at the end of the file.
+     */
+    private String nextLine() throws IOException {
+        String line;
+        while ((line = lineReader.readLine()) != null) {
+            if (!line.isEmpty()) {
+                lineIndex++;
+                return line;
             }
         }
+        return null;
     }
 
     private void readHeaderLine(String line) {
@@ -219,33 +230,40 @@ public class ImporterDL implements FileImporter, LongTask {
         while (labelkonizer.hasMoreTokens()) {
             String label = labelkonizer.nextToken();
             nodeCount++;
-            NodeDraft nodeDraft = container.factory().newNodeDraft("" + nodeCount);
+            NodeDraft nodeDraft = container.factory().newNodeDraft(nodeCount);
             nodeDraft.setLabel(label);
             container.addNode(nodeDraft);
         }
     }
 
-    private void readeMatrixBlock(List<String> data) {
+    private void readeMatrixBlock(String line) throws IOException {
+        FieldTokenizer tokenizer = FieldTokenizer.separated(" ");
         int startTime = 0;
-        for (int i = 0; i < data.size(); i++) {
-            int rowNum = 0;
-            for (; i < data.size() && !data.get(i).trim().equals("!"); i++) {
-                if (rowNum <= numNodes) {
-                    readMatrixRow(data.get(i), i, rowNum, startTime, startTime + 1);
-                    rowNum++;
-                } else {
-                    report.logIssue(new Issue(
-                        NbBundle.getMessage(ImporterDL.class, "importerDL_error_matrixrowscount", rowNum, numNodes),
-                        Issue.Level.SEVERE));
-                    break;
-                }
+        int pointer = 0;
+        boolean matrixEnded = true;
+        int rowNum = 0;
+        for (; line != null && !cancel; line = nextLine(), pointer++) {
+            if (matrixEnded) {
+                matrixEnded = false;
+                rowNum = 0;
             }
-            if (rowNum < numNodes) {
+            if (line.trim().equals("!")) {
+                matrixEnded = true;
+            } else if (rowNum <= numNodes) {
+                readMatrixRow(tokenizer, line, pointer, rowNum, startTime, startTime + 1);
+                rowNum++;
+            } else {
                 report.logIssue(new Issue(
-                    NbBundle.getMessage(ImporterDL.class, "importerDL_error_matrixrowscount2", rowNum, numNodes),
+                    NbBundle.getMessage(ImporterDL.class, "importerDL_error_matrixrowscount", rowNum, numNodes),
                     Issue.Level.SEVERE));
+                matrixEnded = true;
             }
-            startTime++;
+            if (matrixEnded) {
+                startTime = endMatrix(rowNum, startTime);
+            }
+        }
+        if (!matrixEnded) {
+            startTime = endMatrix(rowNum, startTime);
         }
         if (startTime != numMatricies) {
             report.logIssue(new Issue(
@@ -254,13 +272,23 @@ public class ImporterDL implements FileImporter, LongTask {
         }
     }
 
-    private void readMatrixRow(String line, int pointer, int row, int startTime, int endTime) {
-        StringTokenizer rowkonizer = new StringTokenizer(line, " ");
+    private int endMatrix(int rowNum, int startTime) {
+        if (rowNum < numNodes) {
+            report.logIssue(new Issue(
+                NbBundle.getMessage(ImporterDL.class, "importerDL_error_matrixrowscount2", rowNum, numNodes),
+                Issue.Level.SEVERE));
+        }
+        return startTime + 1;
+    }
+
+    private void readMatrixRow(FieldTokenizer tokenizer, String line, int pointer, int row, int startTime,
+                               int endTime) {
+        int tokens = tokenizer.tokenize(line);
         int from = row + 1;
         int to = 1;
         double weight = 0;
-        while (rowkonizer.hasMoreTokens()) {
-            String toParse = rowkonizer.nextToken();
+        for (int i = 0; i < tokens; i++) {
+            String toParse = tokenizer.getField(i);
             if (to > numNodes) {
                 report.logIssue(new Issue(NbBundle
                     .getMessage(ImporterDL.class, "importerDL_error_matrixentriescount", row, startTime,
@@ -275,8 +303,8 @@ public class ImporterDL implements FileImporter, LongTask {
             }
 
             if (weight != 0) {
-                NodeDraft sourceNode = container.getNode("" + from);
-                NodeDraft targetNode = container.getNode("" + to);
+                NodeDraft sourceNode = container.getNode(from);
+                NodeDraft targetNode = container.getNode(to);
                 EdgeDraft edgeDraft = container.factory().newEdgeDraft();
                 edgeDraft.setSource(sourceNode);
                 edgeDraft.setTarget(targetNode);
@@ -287,13 +315,22 @@ public class ImporterDL implements FileImporter, LongTask {
         }
     }
 
-    private void readEdgelistBlock(List<String> data) {
+    private void readEdgelistBlock(String line) throws IOException {
+        FieldTokenizer tokenizer = FieldTokenizer.separated(" \t\n\r\f");
         int startTime = 0;
-        for (int i = 0; i < data.size(); i++) {
-            for (; i < data.size() && !data.get(i).trim().equals("!"); i++) {
-                readEdgelistRow(data.get(i), i, startTime, startTime + 1);
+        int pointer = 0;
+        boolean setEnded = true;
+        for (; line != null && !cancel; line = nextLine(), pointer++) {
+            setEnded = false;
+            if (line.trim().equals("!")) {
+                // increment the time step before starting next matrix
+                startTime++;
+                setEnded = true;
+            } else {
+                readEdgelistRow(tokenizer, line, pointer, startTime, startTime + 1);
             }
-            // increment the time step before starting next matrix
+        }
+        if (!setEnded) {
             startTime++;
         }
         if (startTime != numMatricies) {
@@ -303,21 +340,19 @@ public class ImporterDL implements FileImporter, LongTask {
         }
     }
 
-    private void readEdgelistRow(String row, int pointer, double startTime, double endTime) {
-        StringTokenizer rowkonizer = new StringTokenizer(row);
-        if (!rowkonizer.hasMoreTokens()) {
-            return;
-        }
+    private void readEdgelistRow(FieldTokenizer tokenizer, String row, int pointer, double startTime,
+                                 double endTime) {
+        int tokens = tokenizer.tokenize(row);
         // should have three entries, int from, int to, weight
-        String from = rowkonizer.nextToken();
-        if (!rowkonizer.hasMoreTokens()) {
+        if (tokens < 2) {
             return;
         }
-        String to = rowkonizer.nextToken();
+        String from = tokenizer.getField(0);
+        String to = tokenizer.getField(1);
         double weight = 1.0;
 
-        if (rowkonizer.hasMoreTokens()) {
-            String weightParse = rowkonizer.nextToken();
+        if (tokens > 2) {
+            String weightParse = tokenizer.getField(2);
             try {
                 weight = Double.parseDouble(weightParse);
             } catch (Exception e) {
@@ -0,0 +1,435 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.plugin.file;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import org.gephi.io.importer.api.ColumnDraft;
+import org.gephi.io.importer.api.ContainerLoader;
+import org.gephi.io.importer.api.EdgeDirection;
+import org.gephi.io.importer.api.EdgeDirectionDefault;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.ElementDraft;
+import org.gephi.io.importer.api.ElementIdType;
+import org.gephi.io.importer.api.Issue;
+import org.gephi.io.importer.api.NodeDraft;
+import org.gephi.io.importer.api.Report;
+import org.gephi.io.importer.spi.FileImporter;
+import org.gephi.utils.longtask.spi.LongTask;
+import org.gephi.utils.progress.Progress;
+import org.gephi.utils.progress.ProgressTicket;
+import org.openide.util.NbBundle;
+
+/**
+ * Imports GBIN files, the columnar binary format written by the GBIN exporter.
+ * <p>
+ * The file is memory-mapped and its id, endpoint and column blocks are copied in primitive arrays, so nothing is
+ * parsed element by element. Drafts are then created from these arrays, edges reference their endpoints by index
+ * instead of looking ids up.
+ */
+public class ImporterGBIN implements FileImporter, FileImporter.FileAware, LongTask {
+
+    //Format
+    private static final int MAGIC = 0x4E494247;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 40;
+    private static final int EDGE_DEFAULT_UNDIRECTED = 1;
+    private static final int EDGE_DEFAULT_MIXED = 2;
+    private static final int ID_STRING = 0;
+    private static final int ID_INTEGER = 1;
+    private static final int KIND_PROPERTY = 1;
+    private static final int TYPE_INT = 0;
+    private static final int TYPE_LONG = 1;
+    private static final int TYPE_FLOAT = 2;
+    private static final int TYPE_DOUBLE = 3;
+    private static final int TYPE_BOOLEAN = 4;
+    private static final int TYPE_STRING = 5;
+    private static final int TYPE_SHORT = 6;
+    private static final int TYPE_BYTE = 7;
+    //Architecture
+    private File file;
+    private ContainerLoader container;
+    private boolean cancel;
+    private Report report;
+    private ProgressTicket progress;
+
+    @Override
+    public boolean execute(ContainerLoader container) {
+        this.container = container;
+        this.report = new Report();
+        Progress.start(progress);
+        try (MappedFileReader reader = new MappedFileReader(file)) {
+            importData(reader);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        Progress.finish(progress);
+        return !cancel;
+    }
+
+    private void importData(MappedFileReader reader) throws IOException {
+        if (reader.size() < HEADER_SIZE || reader.getInt() != MAGIC) {
+            report.logIssue(new Issue(NbBundle.getMessage(ImporterGBIN.class, "importerGBIN_error_format"),
+                Issue.Level.CRITICAL));
+            return;
+        }
+        int version = reader.getInt();
+        if (version != VERSION) {
+            report.logIssue(new Issue(NbBundle.getMessage(ImporterGBIN.class, "importerGBIN_error_version", version),
+                Issue.Level.CRITICAL));
+            return;
+        }
+        int edgeDefault = reader.getInt();
+        int nodeIdType = reader.getInt();
+        int edgeIdType = reader.getInt();
+        int nodeCount = reader.getInt();
+        int edgeCount = reader.getInt();
+        int nodeColumnCount = reader.getInt();
+        int edgeColumnCount = reader.getInt();
+        reader.getInt();
+
+        Progress.switchToDeterminate(progress, nodeColumnCount + edgeColumnCount + 4);
+
+        if (edgeDefault == EDGE_DEFAULT_MIXED) {
+            container.setEdgeDefault(EdgeDirectionDefault.MIXED);
+        } else if (edgeDefault == EDGE_DEFAULT_UNDIRECTED) {
+            container.setEdgeDefault(EdgeDirectionDefault.UNDIRECTED);
+        } else {
+            container.setEdgeDefault(EdgeDirectionDefault.DIRECTED);
+        }
+        boolean numericIds = nodeIdType != ID_STRING && nodeIdType == edgeIdType;
+        if (numericIds) {
+            container.setElementIdType(nodeIdType == ID_INTEGER ? ElementIdType.INTEGER : ElementIdType.LONG);
+        }
+
+        //Nodes
+        NodeDraft[] nodes = new NodeDraft[nodeCount];
+        if (nodeIdType == ID_STRING) {
+            String[] ids = reader.getStrings(nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                nodes[i] = container.factory().newNodeDraft(ids[i]);
+            }
+        } else {
+            long[] ids = new long[nodeCount];
+            reader.get(ids);
+            for (int i = 0; i < nodeCount; i++) {
+                nodes[i] = numericIds ? container.factory().newNodeDraft(ids[i]) :
+                    container.factory().newNodeDraft(String.valueOf(ids[i]));
+            }
+        }
+        Progress.progress(progress);
+        for (int i = 0; i < nodeColumnCount && !cancel; i++) {
+            if (!readColumn(reader, nodes, true)) {
+                return;
+            }
+        }
+        for (NodeDraft node : nodes) {
+            container.addNode(node);
+        }
+        Progress.progress(progress);
+        if (cancel) {
+            return;
+        }
+
+        //Edges
+        EdgeDraft[] edges = new EdgeDraft[edgeCount];
+        if (edgeIdType == ID_STRING) {
+            String[] ids = reader.getStrings(edgeCount);
+            for (int i = 0; i < edgeCount; i++) {
+                edges[i] = container.factory().newEdgeDraft(ids[i]);
+            }
+        } else {
+            long[] ids = new long[edgeCount];
+            reader.get(ids);
+            for (int i = 0; i < edgeCount; i++) {
+                edges[i] = numericIds ? container.factory().newEdgeDraft(ids[i]) :
+                    container.factory().newEdgeDraft(String.valueOf(ids[i]));
+            }
+        }
+        int[] sources = new int[edgeCount];
+        int[] targets = new int[edgeCount];
+        byte[] directions = new byte[edgeCount];
+        double[] weights = new double[edgeCount];
+        reader.get(sources);
+        reader.align();
+        reader.get(targets);
+        reader.align();
+        reader.get(directions, 0, edgeCount);
+        reader.align();
+        reader.get(weights);
+        for (int i = 0; i < edgeCount; i++) {
+            EdgeDraft edge = edges[i];
+            if (sources[i] < 0 || sources[i] >= nodeCount || targets[i] < 0 || targets[i] >= nodeCount) {
+                report.logIssue(new Issue(
+                    NbBundle.getMessage(ImporterGBIN.class, "importerGBIN_error_endpoint", edge.getId()),
+                    Issue.Level.SEVERE));
+                edges[i] = null;
+                continue;
+            }
+            edge.setSource(nodes[sources[i]]);
+            edge.setTarget(nodes[targets[i]]);
+            edge.setWeight(weights[i]);
+            if (edgeDefault == EDGE_DEFAULT_MIXED) {
+                edge.setDirection(directions[i] != 0 ? EdgeDirection.DIRECTED : EdgeDirection.UNDIRECTED);
+            }
+        }
+        Progress.progress(progress);
+        for (int i = 0; i < edgeColumnCount && !cancel; i++) {
+            if (!readColumn(reader, edges, false)) {
+                return;
+            }
+        }
+        for (EdgeDraft edge : edges) {
+            if (edge != null) {
+                container.addEdge(edge);
+            }
+        }
+        Progress.progress(progress);
+    }
+
+    private boolean readColumn(MappedFileReader reader, ElementDraft[] elements, boolean nodeColumn)
+        throws IOException {
+        int kind = reader.getInt();
+        int type = reader.getInt();
+        int idLength = reader.getInt();
+        int titleLength = reader.getInt();
+        String id = reader.getString(idLength);
+        String title = reader.getString(titleLength);
+        reader.align();
+        if (type < TYPE_INT || type > TYPE_BYTE) {
+            report.logIssue(new Issue(NbBundle.getMessage(ImporterGBIN.class, "importerGBIN_error_type", id, type),
+                Issue.Level.CRITICAL));
+            return false;
+        }
+
+        ValueSetter setter;
+        if (kind == KIND_PROPERTY) {
+            setter = getPropertySetter(id);
+        } else {
+            ColumnDraft column = nodeColumn ? container.addNodeColumn(id, getTypeClass(type)) :
+                container.addEdgeColumn(id, getTypeClass(type));
+            column.setTitle(title);
+            String key = column.getId();
+            setter = (element, value) -> element.setValue(key, value);
+        }
+
+        int count = elements.length;
+        byte[] present = new byte[(count + 7) / 8];
+        reader.get(present, 0, present.length);
+        reader.align();
+
+        switch (type) {
+            case TYPE_INT: {
+                int[] array = new int[count];
+                reader.get(array);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_LONG: {
+                long[] array = new long[count];
+                reader.get(array);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_SHORT: {
+                short[] array = new short[count];
+                reader.get(array);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_BYTE: {
+                byte[] array = new byte[count];
+                reader.get(array, 0, count);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_FLOAT: {
+                float[] array = new float[count];
+                reader.get(array);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_DOUBLE: {
+                double[] array = new double[count];
+                reader.get(array);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i]);
+                    }
+                }
+                break;
+            }
+            case TYPE_BOOLEAN: {
+                byte[] array = new byte[count];
+                reader.get(array, 0, count);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && isPresent(present, i)) {
+                        setter.set(elements[i], array[i] != 0);
+                    }
+                }
+                break;
+            }
+            default: {
+                int dictionarySize = reader.getInt();
+                reader.getInt();
+                String[] dictionary = reader.getStrings(dictionarySize);
+                int[] codes = new int[count];
+                reader.get(codes);
+                for (int i = 0; i < count; i++) {
+                    if (elements[i] != null && codes[i] >= 0) {
+                        setter.set(elements[i], dictionary[codes[i]]);
+                    }
+                }
+            }
+        }
+        reader.align();
+        Progress.progress(progress);
+        return true;
+    }
+
+    private static ValueSetter getPropertySetter(String name) {
+        switch (name) {
+            case "label":
+                return (element, value) -> element.setLabel((String) value);
+            case "color":
+                return (element, value) -> element.setColor(new Color((Integer) value, true));
+            case "x":
+                return (element, value) -> ((NodeDraft) element).setX((Float) value);
+            case "y":
+                return (element, value) -> ((NodeDraft) element).setY((Float) value);
+            case "z":
+                return (element, value) -> ((NodeDraft) element).setZ((Float) value);
+            case "size":
+                return (element, value) -> ((NodeDraft) element).setSize((Float) value);
+            case "kind":
+                return (element, value) -> ((EdgeDraft) element).setType(value);
+            default:
+                //Property written by a newer version, skipped
+                return (element, value) -> {
+                };
+        }
+    }
+
+    private static boolean isPresent(byte[] present, int index) {
+        return (present[index >> 3] & (1 << (index & 7))) != 0;
+    }
+
+    private static Class getTypeClass(int type) {
+        switch (type) {
+            case TYPE_INT:
+                return Integer.class;
+            case TYPE_LONG:
+                return Long.class;
+            case TYPE_SHORT:
+                return Short.class;
+            case TYPE_BYTE:
+                return Byte.class;
+            case TYPE_FLOAT:
+                return Float.class;
+            case TYPE_DOUBLE:
+                return Double.class;
+            case TYPE_BOOLEAN:
+                return Boolean.class;
+            default:
+                return String.class;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueSetter {
+
+        void set(ElementDraft element, Object value);
+    }
+
+    @Override
+    public void setReader(Reader reader) {
+        //The file is mapped instead
+    }
+
+    @Override
+    public void setFile(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public ContainerLoader getContainer() {
+        return container;
+    }
+
+    @Override
+    public Report getReport() {
+        return report;
+    }
+
+    @Override
+    public boolean cancel() {
+        cancel = true;
+        return true;
+    }
+
+    @Override
+    public void setProgressTicket(ProgressTicket progressTicket) {
+        this.progress = progressTicket;
+    }
+}
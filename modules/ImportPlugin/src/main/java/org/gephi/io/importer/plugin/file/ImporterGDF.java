@@ -43,14 +43,9 @@
 
 package org.gephi.io.importer.plugin.file;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.LineNumberReader;
 import java.io.Reader;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.gephi.io.importer.api.ColumnDraft;
 import org.gephi.io.importer.api.ContainerLoader;
 import org.gephi.io.importer.api.EdgeDirection;
@@ -80,9 +75,6 @@ public class ImporterGDF implements FileImporter, LongTask {
     private Report report;
     private ProgressTicket progressTicket;
     private boolean cancel = false;
-    //Extract
-    private final List<String> nodeLines = new ArrayList<>();
-    private final List<String> edgeLines = new ArrayList<>();
     //Columns
     private GDFColumn[] nodeColumns;
     private GDFColumn[] edgeColumns;
@@ -115,134 +107,101 @@ public class ImporterGDF implements FileImporter, LongTask {
     private void importData(LineNumberReader reader) throws Exception {
         Progress.start(progressTicket);        //Progress
 
-        //Verify a node line exists and puts nodes and edges lines in arrays
-        walkFile(reader);
-
-        Progress.switchToDeterminate(progressTicket, nodeLines.size() + edgeLines.size());         //Progress
-
-        //Magix regex
-        Pattern pattern = Pattern.compile(
-            "(?<=(?:,|^)\")(.*?)(?=(?<=(?:[^\\\\]))\",|\"$)|(?<=(?:,|^)')(.*?)(?=(?<=(?:[^\\\\]))',|'$)|(?<=(?:,|^))(?=[^'\"])(.*?)(?=(?:,|$))|(?<=,)($)");
+        //Verify a node line exists, then import node and edge lines as they are read
+        String firstLine = reader.readLine();
+        if (firstLine == null || !isNodeFirstLine(firstLine)) {
+            report.logIssue(new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat1"),
+                Issue.Level.CRITICAL));
+            return;
+        }
+        findNodeColumns(firstLine);
 
-        //Nodes
-        for (String nodeLine : nodeLines) {
+        FieldTokenizer tokenizer = FieldTokenizer.quoted(',');
+        boolean edgesWalking = false;
+        String line;
+        while ((line = reader.readLine()) != null) {
             if (cancel) {
                 return;
             }
-
-            //Create Node
-            NodeDraft node = null;
-
-            Matcher m = pattern.matcher(nodeLine);
-            int count = 0;
-            String id = "";
-            while (m.find()) {
-                int start = m.start();
-                int end = m.end();
-                if (start != end) {
-                    String data = nodeLine.substring(start, end);
-                    data = data.trim();
-                    if (!data.isEmpty() && !data.equalsIgnoreCase("null")) {
-                        if (count == 0) {
-                            //Id
-                            id = data;
-                            if (node == null) {
-                                node = container.factory().newNodeDraft(id);
-                            }
-                        } else if (count - 1 < nodeColumns.length) {
-                            if (nodeColumns[count - 1] != null) {
-                                setNodeData(node, nodeColumns[count - 1], data);
-                            }
-                        } else {
-                            report.logIssue(
-                                new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat7", id),
-                                    Issue.Level.SEVERE));
-                        }
-                    }
-                }
-                count++;
+            if (isEdgeFirstLine(line)) {
+                edgesWalking = true;
+                findEdgeColumns(line);
+            } else if (!edgesWalking) {
+                importNode(tokenizer, line);
+            } else {
+                importEdge(tokenizer, line);
             }
-
-            container.addNode(node);
-
             Progress.progress(progressTicket);      //Progress
         }
+    }
 
-        //Edges
-        for (String edgeLine : edgeLines) {
-            if (cancel) {
-                return;
-            }
-            //Create Edge
-            EdgeDraft edge = container.factory().newEdgeDraft();
-
-            //Default to undirected unless stated
-            edge.setDirection(EdgeDirection.UNDIRECTED);
-
-            Matcher m = pattern.matcher(edgeLine);
-            int count = 0;
-            String id = "";
-            while (m.find()) {
-                int start = m.start();
-                int end = m.end();
-                if (start != end) {
-                    String data = edgeLine.substring(start, end);
-                    data = data.trim();
-                    if (!data.isEmpty() && !data.equalsIgnoreCase("null")) {
-                        if (count == 0) {
-                            NodeDraft nodeSource = container.getNode(data);
-                            edge.setSource(nodeSource);
-                            id = data;
-                        } else if (count == 1) {
-                            NodeDraft nodeTarget = container.getNode(data);
-                            edge.setTarget(nodeTarget);
-                            id += "," + data;
-                        } else if (count - 2 < edgeColumns.length) {
-                            if (edgeColumns[count - 2] != null) {
-                                setEdgeData(edge, edgeColumns[count - 2], data);
-                            }
-                        } else {
-                            report.logIssue(
-                                new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat7", id),
-                                    Issue.Level.SEVERE));
-                        }
+    private void importNode(FieldTokenizer tokenizer, String nodeLine) throws Exception {
+        int fieldCount = tokenizer.tokenize(nodeLine);
+
+        //Create Node
+        NodeDraft node = null;
+        String id = "";
+        for (int count = 0; count < fieldCount; count++) {
+            if (!tokenizer.isEmptyOrNull(count)) {
+                String data = tokenizer.getField(count);
+                if (count == 0) {
+                    //Id
+                    id = data;
+                    node = container.factory().newNodeDraft(id);
+                } else if (count - 1 < nodeColumns.length) {
+                    if (nodeColumns[count - 1] != null) {
+                        setNodeData(node, nodeColumns[count - 1], data);
                     }
+                } else {
+                    report.logIssue(
+                        new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat7", id),
+                            Issue.Level.SEVERE));
                 }
-                count++;
             }
+        }
 
-            container.addEdge(edge);
-            Progress.progress(progressTicket);      //Progress
+        if (node != null) {
+            container.addNode(node);
         }
     }
 
-    private void walkFile(BufferedReader reader) throws Exception {
-        if (reader.ready()) {
-            String firstLine = reader.readLine();
-            if (isNodeFirstLine(firstLine)) {
-                findNodeColumns(firstLine);
-                boolean edgesWalking = false;
-                while (reader.ready() && !cancel) {
-                    String line = reader.readLine();
-                    if (isEdgeFirstLine(line)) {
-                        edgesWalking = true;
-                        findEdgeColumns(line);
-                    } else if (!edgesWalking) {
-                        //Nodes
-                        nodeLines.add(line);
-                    } else {
-                        //Edges
-                        edgeLines.add(line);
+    private void importEdge(FieldTokenizer tokenizer, String edgeLine) throws Exception {
+        int fieldCount = tokenizer.tokenize(edgeLine);
+        if (fieldCount == 0) {
+            return;
+        }
+
+        //Create Edge
+        EdgeDraft edge = container.factory().newEdgeDraft();
+
+        //Default to undirected unless stated
+        edge.setDirection(EdgeDirection.UNDIRECTED);
+
+        String id = "";
+        for (int count = 0; count < fieldCount; count++) {
+            if (!tokenizer.isEmptyOrNull(count)) {
+                String data = tokenizer.getField(count);
+                if (count == 0) {
+                    NodeDraft nodeSource = container.getNode(data);
+                    edge.setSource(nodeSource);
+                    id = data;
+                } else if (count == 1) {
+                    NodeDraft nodeTarget = container.getNode(data);
+                    edge.setTarget(nodeTarget);
+                    id += "," + data;
+                } else if (count - 2 < edgeColumns.length) {
+                    if (edgeColumns[count - 2] != null) {
+                        setEdgeData(edge, edgeColumns[count - 2], data);
                     }
+                } else {
+                    report.logIssue(
+                        new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat7", id),
+                            Issue.Level.SEVERE));
                 }
-            } else {
-                report.logIssue(new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat1"),
-                    Issue.Level.CRITICAL));
             }
-        } else {
-            report.logIssue(new Issue(NbBundle.getMessage(ImporterGDF.class, "importerGDF_error_dataformat1"),
-                Issue.Level.CRITICAL));
         }
+
+        container.addEdge(edge);
     }
 
     private void findNodeColumns(String line) throws Exception {
@@ -46,9 +46,9 @@ import java.awt.Color;
 import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import javax.xml.stream.Location;
+import java.util.HashMap;
+import java.util.Map;
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLReporter;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
@@ -131,6 +131,48 @@ public class ImporterGEXF implements FileImporter, LongTask {
     private static final String ATTVALUE_FOR = "for";
     private static final String ATTVALUE_FOR2 = "id"; // GEXF 1.0
     private static final String ATTVALUE_VALUE = "value";
+    //Symbols
+    private static final XMLImportUtils.SymbolTable<ElementName> ELEMENT_NAMES =
+        new XMLImportUtils.SymbolTable<>(ElementName.UNKNOWN)
+            .add(GEXF, ElementName.GEXF)
+            .add(META, ElementName.META)
+            .add(GRAPH, ElementName.GRAPH)
+            .add(NODE, ElementName.NODE)
+            .add(EDGE, ElementName.EDGE)
+            .add(ATTRIBUTES, ElementName.ATTRIBUTES)
+            .add(ATTVALUE, ElementName.ATTVALUE)
+            .add(NODE_POSITION, ElementName.POSITION)
+            .add(NODE_COLOR, ElementName.COLOR)
+            .add(NODE_SIZE, ElementName.SIZE)
+            .add(NODE_SPELL, ElementName.SPELL)
+            .add(NODE_SPELL2, ElementName.SPELL);
+    private static final XMLImportUtils.SymbolTable<AttributeName> ATTRIBUTE_NAMES =
+        new XMLImportUtils.SymbolTable<>(AttributeName.UNKNOWN)
+            .add(NODE_ID, AttributeName.ID)
+            .add(NODE_LABEL, AttributeName.LABEL)
+            .add(NODE_PID, AttributeName.PID)
+            .add(START, AttributeName.START)
+            .add(END, AttributeName.END)
+            .add(START_OPEN, AttributeName.START_OPEN)
+            .add(END_OPEN, AttributeName.END_OPEN)
+            .add(TIMESTAMP, AttributeName.TIMESTAMP)
+            .add(TIMESTAMPS, AttributeName.TIMESTAMPS)
+            .add(INTERVALS, AttributeName.INTERVALS)
+            .add(EDGE_SOURCE, AttributeName.SOURCE)
+            .add(EDGE_TARGET, AttributeName.TARGET)
+            .add(EDGE_TYPE, AttributeName.TYPE)
+            .add(EDGE_WEIGHT, AttributeName.WEIGHT)
+            .add(EGDE_KIND, AttributeName.KIND)
+            .add(ATTVALUE_FOR, AttributeName.FOR)
+            .add(ATTVALUE_VALUE, AttributeName.VALUE)
+            .add("r", AttributeName.R)
+            .add("g", AttributeName.G)
+            .add("b", AttributeName.B)
+            .add("a", AttributeName.A)
+            .add("hex", AttributeName.HEX)
+            .add("x", AttributeName.X)
+            .add("y", AttributeName.Y)
+            .add("z", AttributeName.Z);
     //Architecture
     private Reader reader;
     private ContainerLoader container;
@@ -138,6 +180,9 @@ public class ImporterGEXF implements FileImporter, LongTask {
     private Report report;
     private ProgressTicket progress;
     private XMLStreamReader xmlReader;
+    //Columns by attvalue key
+    private final Map<String, ColumnDraft> nodeColumns = new HashMap<>();
+    private final Map<String, ColumnDraft> edgeColumns = new HashMap<>();
 
     @Override
     public boolean execute(ContainerLoader container) {
@@ -145,40 +190,32 @@ public class ImporterGEXF implements FileImporter, LongTask {
         this.report = new Report();
         Progress.start(progress);
         try {
-
-            XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-            if (inputFactory.isPropertySupported("javax.xml.stream.isValidating")) {
-                inputFactory.setProperty("javax.xml.stream.isValidating", Boolean.FALSE);
-            }
-            inputFactory.setXMLReporter(new XMLReporter() {
-                @Override
-                public void report(String message, String errorType, Object relatedInformation, Location location)
-                    throws XMLStreamException {
-                }
-            });
+            XMLInputFactory inputFactory = XMLImportUtils.newInputFactory();
             xmlReader = inputFactory.createXMLStreamReader(reader);
 
             while (xmlReader.hasNext()) {
 
-                Integer eventType = xmlReader.next();
-                if (eventType.equals(XMLEvent.START_ELEMENT)) {
-                    String name = xmlReader.getLocalName();
-                    if (GEXF.equalsIgnoreCase(name)) {
-                        readGexf(xmlReader);
-                    } else if (META.equalsIgnoreCase(name)) {
-                        readMeta(xmlReader);
-                    } else if (GRAPH.equalsIgnoreCase(name)) {
-                        readGraph(xmlReader);
-                    } else if (NODE.equalsIgnoreCase(name)) {
-                        readNode(xmlReader);
-                    } else if (EDGE.equalsIgnoreCase(name)) {
-                        readEdge(xmlReader);
-                    } else if (ATTRIBUTES.equalsIgnoreCase(name)) {
-                        readAttributes(xmlReader);
-                    }
-                } else if (eventType.equals(XMLStreamReader.END_ELEMENT)) {
-                    String name = xmlReader.getLocalName();
-                    if (NODE.equalsIgnoreCase(name)) {
+                int eventType = xmlReader.next();
+                if (eventType == XMLStreamReader.START_ELEMENT) {
+                    switch (ELEMENT_NAMES.get(xmlReader.getLocalName())) {
+                        case GEXF:
+                            readGexf(xmlReader);
+                            break;
+                        case META:
+                            readMeta(xmlReader);
+                            break;
+                        case GRAPH:
+                            readGraph(xmlReader);
+                            break;
+                        case NODE:
+                            readNode(xmlReader);
+                            break;
+                        case EDGE:
+                            readEdge(xmlReader);
+                            break;
+                        case ATTRIBUTES:
+                            readAttributes(xmlReader);
+                            break;
                     }
                 }
             }
@@ -393,29 +430,39 @@ public class ImporterGEXF implements FileImporter, LongTask {
 
         //Attributes
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (NODE_ID.equalsIgnoreCase(attName)) {
-                id = reader.getAttributeValue(i);
-            } else if (NODE_LABEL.equalsIgnoreCase(attName)) {
-                label = reader.getAttributeValue(i);
-            } else if (START.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-            } else if (START_OPEN.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-                startOpen = true;
-            } else if (END.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-            } else if (END_OPEN.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-                endOpen = true;
-            } else if (NODE_PID.equalsIgnoreCase(attName)) {
-                pid = reader.getAttributeValue(i);
-            } else if (TIMESTAMP.equalsIgnoreCase(attName)) {
-                timestamp = reader.getAttributeValue(i);
-            } else if (TIMESTAMPS.equalsIgnoreCase(attName)) {
-                timestamps = reader.getAttributeValue(i);
-            } else if (INTERVALS.equalsIgnoreCase(attName)) {
-                intervals = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case ID:
+                    id = reader.getAttributeValue(i);
+                    break;
+                case LABEL:
+                    label = reader.getAttributeValue(i);
+                    break;
+                case START:
+                    startDate = reader.getAttributeValue(i);
+                    break;
+                case START_OPEN:
+                    startDate = reader.getAttributeValue(i);
+                    startOpen = true;
+                    break;
+                case END:
+                    endDate = reader.getAttributeValue(i);
+                    break;
+                case END_OPEN:
+                    endDate = reader.getAttributeValue(i);
+                    endOpen = true;
+                    break;
+                case PID:
+                    pid = reader.getAttributeValue(i);
+                    break;
+                case TIMESTAMP:
+                    timestamp = reader.getAttributeValue(i);
+                    break;
+                case TIMESTAMPS:
+                    timestamps = reader.getAttributeValue(i);
+                    break;
+                case INTERVALS:
+                    intervals = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -450,25 +497,31 @@ public class ImporterGEXF implements FileImporter, LongTask {
 
             switch (type) {
                 case XMLStreamReader.START_ELEMENT:
-                    String name = xmlReader.getLocalName();
-                    if (ATTVALUE.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        readElementAttValue(reader, node);
-                    } else if (NODE_POSITION.equalsIgnoreCase(name)) {
-                        readNodePosition(reader, node);
-                    } else if (NODE_COLOR.equalsIgnoreCase(name)) {
-                        readElementColor(reader, node);
-                    } else if (NODE_SIZE.equalsIgnoreCase(name)) {
-                        readNodeSize(reader, node);
-                    } else if (NODE_SPELL.equalsIgnoreCase(name) || NODE_SPELL2.equalsIgnoreCase(name)) {
-                        readElementSpell(reader, node);
-                        spells = true;
-                    } else if (NODE.equalsIgnoreCase(name)) {
-                        readNode(reader);
+                    switch (ELEMENT_NAMES.get(reader.getLocalName())) {
+                        case ATTVALUE:
+                            readElementAttValue(reader, node);
+                            break;
+                        case POSITION:
+                            readNodePosition(reader, node);
+                            break;
+                        case COLOR:
+                            readElementColor(reader, node);
+                            break;
+                        case SIZE:
+                            readNodeSize(reader, node);
+                            break;
+                        case SPELL:
+                            readElementSpell(reader, node);
+                            spells = true;
+                            break;
+                        case NODE:
+                            readNode(reader);
+                            break;
                     }
                     break;
 
                 case XMLStreamReader.END_ELEMENT:
-                    if (NODE.equalsIgnoreCase(xmlReader.getLocalName())) {
+                    if (ELEMENT_NAMES.get(reader.getLocalName()) == ElementName.NODE) {
                         end = true;
                     }
                     break;
@@ -528,23 +581,31 @@ public class ImporterGEXF implements FileImporter, LongTask {
         boolean endOpen = false;
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (ATTVALUE_FOR.equalsIgnoreCase(attName) || ATTVALUE_FOR2.equalsIgnoreCase(attName)) {
-                fore = reader.getAttributeValue(i);
-            } else if (ATTVALUE_VALUE.equalsIgnoreCase(attName)) {
-                value = reader.getAttributeValue(i);
-            } else if (START.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-            } else if (START_OPEN.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-                startOpen = true;
-            } else if (END.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-            } else if (END_OPEN.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-                endOpen = true;
-            } else if (TIMESTAMP.equalsIgnoreCase(attName)) {
-                timestamp = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case FOR:
+                case ID:
+                    fore = reader.getAttributeValue(i);
+                    break;
+                case VALUE:
+                    value = reader.getAttributeValue(i);
+                    break;
+                case START:
+                    startDate = reader.getAttributeValue(i);
+                    break;
+                case START_OPEN:
+                    startDate = reader.getAttributeValue(i);
+                    startOpen = true;
+                    break;
+                case END:
+                    endDate = reader.getAttributeValue(i);
+                    break;
+                case END_OPEN:
+                    endDate = reader.getAttributeValue(i);
+                    endOpen = true;
+                    break;
+                case TIMESTAMP:
+                    timestamp = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -556,8 +617,7 @@ public class ImporterGEXF implements FileImporter, LongTask {
 
         if (!value.isEmpty()) {
             //Data attribute value
-            ColumnDraft column =
-                element instanceof NodeDraft ? container.getNodeColumn(fore) : container.getEdgeColumn(fore);
+            ColumnDraft column = getColumn(element, fore);
             if (column != null) {
                 if (column.isDynamic()) {
                     if ((!startDate.isEmpty() || !endDate.isEmpty()) && checkTimerepresentationIsInterval()) {
@@ -604,7 +664,12 @@ public class ImporterGEXF implements FileImporter, LongTask {
                     }
                 } else {
                     try {
-                        element.parseAndSetValue(column.getId(), value);
+                        Object parsedValue = XMLImportUtils.parseValue(value, column.getTypeClass());
+                        if (parsedValue != null) {
+                            element.setValue(column.getId(), parsedValue);
+                        } else {
+                            element.parseAndSetValue(column.getId(), value);
+                        }
                     } catch (Exception e) {
                         report.logIssue(new Issue(NbBundle
                             .getMessage(ImporterGEXF.class, "importerGEXF_error_datavalue", fore, element,
@@ -615,6 +680,19 @@ public class ImporterGEXF implements FileImporter, LongTask {
         }
     }
 
+    private ColumnDraft getColumn(ElementDraft element, String key) {
+        boolean isNode = element instanceof NodeDraft;
+        Map<String, ColumnDraft> columns = isNode ? nodeColumns : edgeColumns;
+        ColumnDraft column = columns.get(key);
+        if (column == null) {
+            column = isNode ? container.getNodeColumn(key) : container.getEdgeColumn(key);
+            if (column != null) {
+                columns.put(key, column);
+            }
+        }
+        return column;
+    }
+
     private void readElementColor(XMLStreamReader reader, ElementDraft element) throws Exception {
         String rStr = "";
         String gStr = "";
@@ -623,17 +701,22 @@ public class ImporterGEXF implements FileImporter, LongTask {
         String hexStr = "";
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if ("r".equalsIgnoreCase(attName)) {
-                rStr = reader.getAttributeValue(i);
-            } else if ("g".equalsIgnoreCase(attName)) {
-                gStr = reader.getAttributeValue(i);
-            } else if ("b".equalsIgnoreCase(attName)) {
-                bStr = reader.getAttributeValue(i);
-            } else if ("a".equalsIgnoreCase(attName)) {
-                aStr = reader.getAttributeValue(i);
-            } else if ("hex".equalsIgnoreCase(attName)) {
-                hexStr = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case R:
+                    rStr = reader.getAttributeValue(i);
+                    break;
+                case G:
+                    gStr = reader.getAttributeValue(i);
+                    break;
+                case B:
+                    bStr = reader.getAttributeValue(i);
+                    break;
+                case A:
+                    aStr = reader.getAttributeValue(i);
+                    break;
+                case HEX:
+                    hexStr = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -694,13 +777,16 @@ public class ImporterGEXF implements FileImporter, LongTask {
         String zStr = "";
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if ("x".equalsIgnoreCase(attName)) {
-                xStr = reader.getAttributeValue(i);
-            } else if ("y".equalsIgnoreCase(attName)) {
-                yStr = reader.getAttributeValue(i);
-            } else if ("z".equalsIgnoreCase(attName)) {
-                zStr = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case X:
+                    xStr = reader.getAttributeValue(i);
+                    break;
+                case Y:
+                    yStr = reader.getAttributeValue(i);
+                    break;
+                case Z:
+                    zStr = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -737,8 +823,7 @@ public class ImporterGEXF implements FileImporter, LongTask {
     }
 
     private void readNodeSize(XMLStreamReader reader, NodeDraft node) throws Exception {
-        String attName = reader.getAttributeName(0).getLocalPart();
-        if ("value".equalsIgnoreCase(attName)) {
+        if (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(0)) == AttributeName.VALUE) {
             String sizeStr = reader.getAttributeValue(0);
             if (!sizeStr.isEmpty()) {
                 try {
@@ -761,19 +846,24 @@ public class ImporterGEXF implements FileImporter, LongTask {
         boolean endOpen = false;
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (START.equalsIgnoreCase(attName)) {
-                start = reader.getAttributeValue(i);
-            } else if (END.equalsIgnoreCase(attName)) {
-                end = reader.getAttributeValue(i);
-            } else if (START_OPEN.equalsIgnoreCase(attName)) {
-                start = reader.getAttributeValue(i);
-                startOpen = true;
-            } else if (END_OPEN.equalsIgnoreCase(attName)) {
-                end = reader.getAttributeValue(i);
-                endOpen = true;
-            } else if (TIMESTAMP.equalsIgnoreCase(attName)) {
-                timestamp = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case START:
+                    start = reader.getAttributeValue(i);
+                    break;
+                case END:
+                    end = reader.getAttributeValue(i);
+                    break;
+                case START_OPEN:
+                    start = reader.getAttributeValue(i);
+                    startOpen = true;
+                    break;
+                case END_OPEN:
+                    end = reader.getAttributeValue(i);
+                    endOpen = true;
+                    break;
+                case TIMESTAMP:
+                    timestamp = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -819,37 +909,51 @@ public class ImporterGEXF implements FileImporter, LongTask {
 
         //Attributes
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (EDGE_SOURCE.equalsIgnoreCase(attName)) {
-                source = reader.getAttributeValue(i);
-            } else if (EDGE_TARGET.equalsIgnoreCase(attName)) {
-                target = reader.getAttributeValue(i);
-            } else if (EDGE_WEIGHT.equalsIgnoreCase(attName)) {
-                weight = reader.getAttributeValue(i);
-            } else if (EDGE_ID.equalsIgnoreCase(attName)) {
-                id = reader.getAttributeValue(i);
-            } else if (EDGE_TYPE.equalsIgnoreCase(attName)) {
-                edgeType = reader.getAttributeValue(i);
-            } else if (EDGE_LABEL.equalsIgnoreCase(attName)) {
-                label = reader.getAttributeValue(i);
-            } else if (EGDE_KIND.equalsIgnoreCase(attName)) {
-                kind = reader.getAttributeValue(i);
-            } else if (START.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-            } else if (END.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-            } else if (START_OPEN.equalsIgnoreCase(attName)) {
-                startDate = reader.getAttributeValue(i);
-                startOpen = true;
-            } else if (END_OPEN.equalsIgnoreCase(attName)) {
-                endDate = reader.getAttributeValue(i);
-                endOpen = true;
-            } else if (TIMESTAMP.equalsIgnoreCase(attName)) {
-                timestamp = reader.getAttributeValue(i);
-            } else if (TIMESTAMPS.equalsIgnoreCase(attName)) {
-                timestamps = reader.getAttributeValue(i);
-            } else if (INTERVALS.equalsIgnoreCase(attName)) {
-                intervals = reader.getAttributeValue(i);
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case SOURCE:
+                    source = reader.getAttributeValue(i);
+                    break;
+                case TARGET:
+                    target = reader.getAttributeValue(i);
+                    break;
+                case WEIGHT:
+                    weight = reader.getAttributeValue(i);
+                    break;
+                case ID:
+                    id = reader.getAttributeValue(i);
+                    break;
+                case TYPE:
+                    edgeType = reader.getAttributeValue(i);
+                    break;
+                case LABEL:
+                    label = reader.getAttributeValue(i);
+                    break;
+                case KIND:
+                    kind = reader.getAttributeValue(i);
+                    break;
+                case START:
+                    startDate = reader.getAttributeValue(i);
+                    break;
+                case END:
+                    endDate = reader.getAttributeValue(i);
+                    break;
+                case START_OPEN:
+                    startDate = reader.getAttributeValue(i);
+                    startOpen = true;
+                    break;
+                case END_OPEN:
+                    endDate = reader.getAttributeValue(i);
+                    endOpen = true;
+                    break;
+                case TIMESTAMP:
+                    timestamp = reader.getAttributeValue(i);
+                    break;
+                case TIMESTAMPS:
+                    timestamps = reader.getAttributeValue(i);
+                    break;
+                case INTERVALS:
+                    intervals = reader.getAttributeValue(i);
+                    break;
             }
         }
 
@@ -923,19 +1027,22 @@ public class ImporterGEXF implements FileImporter, LongTask {
 
             switch (type) {
                 case XMLStreamReader.START_ELEMENT:
-                    if (ATTVALUE.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        readElementAttValue(reader, edge);
-                    } else if (EDGE_COLOR.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        readElementColor(reader, edge);
-                    } else if (EDGE_SPELL.equalsIgnoreCase(xmlReader.getLocalName())
-                        || EDGE_SPELL2.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        readElementSpell(reader, edge);
-                        spells = true;
+                    switch (ELEMENT_NAMES.get(reader.getLocalName())) {
+                        case ATTVALUE:
+                            readElementAttValue(reader, edge);
+                            break;
+                        case COLOR:
+                            readElementColor(reader, edge);
+                            break;
+                        case SPELL:
+                            readElementSpell(reader, edge);
+                            spells = true;
+                            break;
                     }
                     break;
 
                 case XMLStreamReader.END_ELEMENT:
-                    if (EDGE.equalsIgnoreCase(xmlReader.getLocalName())) {
+                    if (ELEMENT_NAMES.get(reader.getLocalName()) == ElementName.EDGE) {
                         end = true;
                     }
                     break;
@@ -1185,6 +1292,15 @@ public class ImporterGEXF implements FileImporter, LongTask {
         return true;
     }
 
+    private enum ElementName {
+        GEXF, META, GRAPH, NODE, EDGE, ATTRIBUTES, ATTVALUE, POSITION, COLOR, SIZE, SPELL, UNKNOWN
+    }
+
+    private enum AttributeName {
+        ID, LABEL, PID, START, END, START_OPEN, END_OPEN, TIMESTAMP, TIMESTAMPS, INTERVALS, SOURCE, TARGET, TYPE,
+        WEIGHT, KIND, FOR, VALUE, R, G, B, A, HEX, X, Y, Z, UNKNOWN
+    }
+
     @Override
     public void setReader(Reader reader) {
         this.reader = reader;
@@ -46,13 +46,11 @@ import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.HashMap;
-import javax.xml.stream.Location;
+import java.util.Map;
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLReporter;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
-import javax.xml.stream.events.XMLEvent;
 import org.gephi.io.importer.api.ColumnDraft;
 import org.gephi.io.importer.api.ContainerLoader;
 import org.gephi.io.importer.api.EdgeDirection;
@@ -97,6 +95,24 @@ public class ImporterGraphML implements FileImporter, LongTask {
     private static final String ATTVALUE = "data";
     private static final String ATTVALUE_FOR = "key";
     private static final String DESC = "desc";
+    //Symbols
+    private static final XMLImportUtils.SymbolTable<ElementName> ELEMENT_NAMES =
+        new XMLImportUtils.SymbolTable<>(ElementName.UNKNOWN)
+            .add(GRAPHML, ElementName.GRAPHML)
+            .add(GRAPH, ElementName.GRAPH)
+            .add(NODE, ElementName.NODE)
+            .add(EDGE, ElementName.EDGE)
+            .add(ATTRIBUTE, ElementName.KEY)
+            .add(ATTVALUE, ElementName.DATA)
+            .add(DESC, ElementName.DESC);
+    private static final XMLImportUtils.SymbolTable<AttributeName> ATTRIBUTE_NAMES =
+        new XMLImportUtils.SymbolTable<>(AttributeName.UNKNOWN)
+            .add(NODE_ID, AttributeName.ID)
+            .add(EDGE_SOURCE, AttributeName.SOURCE)
+            .add(EDGE_TARGET, AttributeName.TARGET)
+            .add(EDGE_DIRECTED, AttributeName.DIRECTED)
+            .add(EDGE_TYPE, AttributeName.LABEL)
+            .add(ATTVALUE_FOR, AttributeName.KEY);
     private final PropertiesAssociations properties = new PropertiesAssociations();
     private final HashMap<String, NodeProperties> nodePropertiesAttributes = new HashMap<>();
     private final HashMap<String, EdgeProperties> edgePropertiesAttributes = new HashMap<>();
@@ -108,6 +124,10 @@ public class ImporterGraphML implements FileImporter, LongTask {
     private Report report;
     private ProgressTicket progress;
     private XMLStreamReader xmlReader;
+    //Columns by data key
+    private final Map<String, ColumnDraft> nodeColumns = new HashMap<>();
+    private final Map<String, ColumnDraft> edgeColumns = new HashMap<>();
+    private final StringBuilder text = new StringBuilder();
 
     public ImporterGraphML() {
         //Default node associations
@@ -142,37 +162,26 @@ public class ImporterGraphML implements FileImporter, LongTask {
         this.report = new Report();
         Progress.start(progress);
         try {
-
-            XMLInputFactory inputFactory = XMLInputFactory.newInstance();
-            if (inputFactory.isPropertySupported("javax.xml.stream.isValidating")) {
-                inputFactory.setProperty("javax.xml.stream.isValidating", Boolean.FALSE);
-            }
-            inputFactory.setXMLReporter(new XMLReporter() {
-                @Override
-                public void report(String message, String errorType, Object relatedInformation, Location location)
-                    throws XMLStreamException {
-                }
-            });
+            XMLInputFactory inputFactory = XMLImportUtils.newInputFactory();
             xmlReader = inputFactory.createXMLStreamReader(reader);
 
             while (xmlReader.hasNext()) {
 
-                Integer eventType = xmlReader.next();
-                if (eventType.equals(XMLEvent.START_ELEMENT)) {
-                    String name = xmlReader.getLocalName();
-                    if (GRAPHML.equalsIgnoreCase(name)) {
-                    } else if (GRAPH.equalsIgnoreCase(name)) {
-                        readGraph(xmlReader);
-                    } else if (NODE.equalsIgnoreCase(name)) {
-                        readNode(xmlReader, null);
-                    } else if (EDGE.equalsIgnoreCase(name)) {
-                        readEdge(xmlReader);
-                    } else if (ATTRIBUTE.equalsIgnoreCase(name)) {
-                        readAttribute(xmlReader);
-                    }
-                } else if (eventType.equals(XMLStreamReader.END_ELEMENT)) {
-                    String name = xmlReader.getLocalName();
-                    if (NODE.equalsIgnoreCase(name)) {
+                int eventType = xmlReader.next();
+                if (eventType == XMLStreamReader.START_ELEMENT) {
+                    switch (ELEMENT_NAMES.get(xmlReader.getLocalName())) {
+                        case GRAPH:
+                            readGraph(xmlReader);
+                            break;
+                        case NODE:
+                            readNode(xmlReader, null);
+                            break;
+                        case EDGE:
+                            readEdge(xmlReader);
+                            break;
+                        case KEY:
+                            readAttribute(xmlReader);
+                            break;
                     }
                 }
             }
@@ -230,8 +239,7 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
         //Attributes
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (NODE_ID.equalsIgnoreCase(attName)) {
+            if (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i)) == AttributeName.ID) {
                 id = reader.getAttributeValue(i);
             }
         }
@@ -260,18 +268,21 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
             switch (type) {
                 case XMLStreamReader.START_ELEMENT:
-                    String name = xmlReader.getLocalName();
-                    if (ATTVALUE.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        readNodeAttValue(reader, node);
-                    } else if (NODE.equalsIgnoreCase(name)) {
-                        readNode(reader, node);
-                    } else if (DESC.equals(name)) {
-                        readDesc(reader, node);
+                    switch (ELEMENT_NAMES.get(reader.getLocalName())) {
+                        case DATA:
+                            readNodeAttValue(reader, node);
+                            break;
+                        case NODE:
+                            readNode(reader, node);
+                            break;
+                        case DESC:
+                            readDesc(reader, node);
+                            break;
                     }
                     break;
 
                 case XMLStreamReader.END_ELEMENT:
-                    if (NODE.equalsIgnoreCase(xmlReader.getLocalName())) {
+                    if (ELEMENT_NAMES.get(reader.getLocalName()) == ElementName.NODE) {
                         end = true;
                     }
                     break;
@@ -281,11 +292,9 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
     private void readNodeAttValue(XMLStreamReader reader, NodeDraft node) throws Exception {
         String fore = "";
-        String value = "";
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (ATTVALUE_FOR.equalsIgnoreCase(attName)) {
+            if (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i)) == AttributeName.KEY) {
                 fore = reader.getAttributeValue(i).trim();
             }
         }
@@ -296,25 +305,7 @@ public class ImporterGraphML implements FileImporter, LongTask {
             return;
         }
 
-        boolean end = false;
-        while (reader.hasNext() && !end) {
-            int xmltype = reader.next();
-
-            switch (xmltype) {
-                case XMLStreamReader.CDATA:
-                case XMLStreamReader.CHARACTERS:
-                    if (!xmlReader.isWhiteSpace()) {
-                        value += xmlReader.getText();
-                    }
-                    break;
-                case XMLStreamReader.END_ELEMENT:
-                    if (ATTVALUE.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        end = true;
-                    }
-                    break;
-            }
-        }
-
+        String value = readAttValueText(reader);
         if (!value.isEmpty()) {
             //Property
             NodeProperties prop = nodePropertiesAttributes.get(fore);
@@ -372,10 +363,10 @@ public class ImporterGraphML implements FileImporter, LongTask {
             }
 
             //Data attribute value
-            ColumnDraft column = container.getNodeColumn(fore);
+            ColumnDraft column = getColumn(nodeColumns, fore, true);
             if (column != null) {
                 try {
-                    node.parseAndSetValue(column.getId(), value);
+                    setColumnValue(node, column, value);
                 } catch (Exception e) {
                     report.logIssue(new Issue(NbBundle
                         .getMessage(ImporterGraphML.class, "importerGraphML_error_datavalue", fore, node,
@@ -385,6 +376,49 @@ public class ImporterGraphML implements FileImporter, LongTask {
         }
     }
 
+    private String readAttValueText(XMLStreamReader reader) throws XMLStreamException {
+        text.setLength(0);
+        boolean end = false;
+        while (reader.hasNext() && !end) {
+            int xmltype = reader.next();
+
+            switch (xmltype) {
+                case XMLStreamReader.CDATA:
+                case XMLStreamReader.CHARACTERS:
+                    if (!reader.isWhiteSpace()) {
+                        text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamReader.END_ELEMENT:
+                    if (ELEMENT_NAMES.get(reader.getLocalName()) == ElementName.DATA) {
+                        end = true;
+                    }
+                    break;
+            }
+        }
+        return text.toString();
+    }
+
+    private ColumnDraft getColumn(Map<String, ColumnDraft> columns, String key, boolean node) {
+        ColumnDraft column = columns.get(key);
+        if (column == null) {
+            column = node ? container.getNodeColumn(key) : container.getEdgeColumn(key);
+            if (column != null) {
+                columns.put(key, column);
+            }
+        }
+        return column;
+    }
+
+    private void setColumnValue(ElementDraft element, ColumnDraft column, String value) {
+        Object parsedValue = column.isDynamic() ? null : XMLImportUtils.parseValue(value, column.getTypeClass());
+        if (parsedValue != null) {
+            element.setValue(column.getId(), parsedValue);
+        } else {
+            element.parseAndSetValue(column.getId(), value);
+        }
+    }
+
     private void readDesc(XMLStreamReader reader, ElementDraft element) throws Exception {
         StringBuilder value = new StringBuilder();
         boolean end = false;
@@ -420,17 +454,22 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
         //Attributes
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (EDGE_SOURCE.equalsIgnoreCase(attName)) {
-                source = reader.getAttributeValue(i);
-            } else if (EDGE_TARGET.equalsIgnoreCase(attName)) {
-                target = reader.getAttributeValue(i);
-            } else if (EDGE_ID.equalsIgnoreCase(attName)) {
-                id = reader.getAttributeValue(i);
-            } else if (EDGE_DIRECTED.equalsIgnoreCase(attName)) {
-                directed = reader.getAttributeValue(i);
-            } else if (EDGE_TYPE.equalsIgnoreCase(attName)) {
-                type = reader.getAttributeValue(i).trim();
+            switch (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i))) {
+                case SOURCE:
+                    source = reader.getAttributeValue(i);
+                    break;
+                case TARGET:
+                    target = reader.getAttributeValue(i);
+                    break;
+                case ID:
+                    id = reader.getAttributeValue(i);
+                    break;
+                case DIRECTED:
+                    directed = reader.getAttributeValue(i);
+                    break;
+                case LABEL:
+                    type = reader.getAttributeValue(i).trim();
+                    break;
             }
         }
 
@@ -473,16 +512,18 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
             switch (elemType) {
                 case XMLStreamReader.START_ELEMENT:
-                    String name = xmlReader.getLocalName();
-                    if (ATTVALUE.equalsIgnoreCase(name)) {
-                        readEdgeAttValue(reader, edge);
-                    } else if (DESC.equals(name)) {
-                        readDesc(reader, edge);
+                    switch (ELEMENT_NAMES.get(reader.getLocalName())) {
+                        case DATA:
+                            readEdgeAttValue(reader, edge);
+                            break;
+                        case DESC:
+                            readDesc(reader, edge);
+                            break;
                     }
                     break;
 
                 case XMLStreamReader.END_ELEMENT:
-                    if (EDGE.equalsIgnoreCase(xmlReader.getLocalName())) {
+                    if (ELEMENT_NAMES.get(reader.getLocalName()) == ElementName.EDGE) {
                         end = true;
                     }
                     break;
@@ -493,11 +534,9 @@ public class ImporterGraphML implements FileImporter, LongTask {
 
     private void readEdgeAttValue(XMLStreamReader reader, EdgeDraft edge) throws Exception {
         String fore = "";
-        String value = "";
 
         for (int i = 0; i < reader.getAttributeCount(); i++) {
-            String attName = reader.getAttributeName(i).getLocalPart();
-            if (ATTVALUE_FOR.equalsIgnoreCase(attName)) {
+            if (ATTRIBUTE_NAMES.get(reader.getAttributeLocalName(i)) == AttributeName.KEY) {
                 fore = reader.getAttributeValue(i).trim();
             }
         }
@@ -508,25 +547,7 @@ public class ImporterGraphML implements FileImporter, LongTask {
             return;
         }
 
-        boolean end = false;
-        while (reader.hasNext() && !end) {
-            int xmltype = reader.next();
-
-            switch (xmltype) {
-                case XMLStreamReader.CDATA:
-                case XMLStreamReader.CHARACTERS:
-                    if (!xmlReader.isWhiteSpace()) {
-                        value += xmlReader.getText();
-                    }
-                    break;
-                case XMLStreamReader.END_ELEMENT:
-                    if (ATTVALUE.equalsIgnoreCase(xmlReader.getLocalName())) {
-                        end = true;
-                    }
-                    break;
-            }
-        }
-
+        String value = readAttValueText(reader);
         if (!value.isEmpty()) {
             EdgeProperties prop = edgePropertiesAttributes.get(fore);
             if (prop != null) {
@@ -574,10 +595,10 @@ public class ImporterGraphML implements FileImporter, LongTask {
             }
 
             //Data attribute value
-            ColumnDraft column = container.getEdgeColumn(fore);
+            ColumnDraft column = getColumn(edgeColumns, fore, false);
             if (column != null) {
                 try {
-                    edge.parseAndSetValue(column.getId(), value);
+                    setColumnValue(edge, column, value);
                 } catch (Exception e) {
                     report.logIssue(new Issue(NbBundle
                         .getMessage(ImporterGraphML.class, "importerGraphML_error_datavalue", fore, edge,
@@ -785,6 +806,14 @@ public class ImporterGraphML implements FileImporter, LongTask {
         }
     }
 
+    private enum ElementName {
+        GRAPHML, GRAPH, NODE, EDGE, KEY, DATA, DESC, UNKNOWN
+    }
+
+    private enum AttributeName {
+        ID, SOURCE, TARGET, DIRECTED, LABEL, KEY, UNKNOWN
+    }
+
     private float parseFloat(String str) {
         str = str.replace(',', '.');
         return Float.parseFloat(str);
@@ -0,0 +1,225 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.plugin.file;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads little-endian primitives from a memory-mapped file.
+ * <p>
+ * A mapping is limited to 2GB so the file is mapped by windows of {@link #WINDOW_SIZE} bytes, remapped when a
+ * read goes past the current one. The array reads copy whole blocks from the mapping, without decoding values one
+ * by one.
+ */
+final class MappedFileReader implements Closeable {
+
+    static final int WINDOW_SIZE = 1 << 30;
+
+    private final FileChannel channel;
+    private final long size;
+    private MappedByteBuffer window;
+    private long windowStart;
+    private byte[] stringBytes = new byte[256];
+
+    MappedFileReader(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        size = channel.size();
+        map(0);
+    }
+
+    long size() {
+        return size;
+    }
+
+    long position() {
+        return windowStart + window.position();
+    }
+
+    /**
+     * Skips to the next position which is a multiple of 8.
+     *
+     * @throws IOException if the end of file is reached
+     */
+    void align() throws IOException {
+        int padding = (int) (-position() & 7);
+        if (padding > 0) {
+            ensure(padding);
+            window.position(window.position() + padding);
+        }
+    }
+
+    byte get() throws IOException {
+        ensure(1);
+        return window.get();
+    }
+
+    int getInt() throws IOException {
+        ensure(4);
+        return window.getInt();
+    }
+
+    long getLong() throws IOException {
+        ensure(8);
+        return window.getLong();
+    }
+
+    void get(byte[] dst, int offset, int length) throws IOException {
+        while (length > 0) {
+            ensure(1);
+            int count = Math.min(length, window.remaining());
+            window.get(dst, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    void get(short[] dst) throws IOException {
+        int offset = 0;
+        while (offset < dst.length) {
+            ensure(2);
+            int count = Math.min(dst.length - offset, window.remaining() / 2);
+            window.asShortBuffer().get(dst, offset, count);
+            window.position(window.position() + count * 2);
+            offset += count;
+        }
+    }
+
+    void get(int[] dst) throws IOException {
+        int offset = 0;
+        while (offset < dst.length) {
+            ensure(4);
+            int count = Math.min(dst.length - offset, window.remaining() / 4);
+            window.asIntBuffer().get(dst, offset, count);
+            window.position(window.position() + count * 4);
+            offset += count;
+        }
+    }
+
+    void get(long[] dst) throws IOException {
+        int offset = 0;
+        while (offset < dst.length) {
+            ensure(8);
+            int count = Math.min(dst.length - offset, window.remaining() / 8);
+            window.asLongBuffer().get(dst, offset, count);
+            window.position(window.position() + count * 8);
+            offset += count;
+        }
+    }
+
+    void get(float[] dst) throws IOException {
+        int offset = 0;
+        while (offset < dst.length) {
+            ensure(4);
+            int count = Math.min(dst.length - offset, window.remaining() / 4);
+            window.asFloatBuffer().get(dst, offset, count);
+            window.position(window.position() + count * 4);
+            offset += count;
+        }
+    }
+
+    void get(double[] dst) throws IOException {
+        int offset = 0;
+        while (offset < dst.length) {
+            ensure(8);
+            int count = Math.min(dst.length - offset, window.remaining() / 8);
+            window.asDoubleBuffer().get(dst, offset, count);
+            window.position(window.position() + count * 8);
+            offset += count;
+        }
+    }
+
+    String getString(int length) throws IOException {
+        if (length > stringBytes.length) {
+            stringBytes = new byte[Math.max(length, stringBytes.length * 2)];
+        }
+        get(stringBytes, 0, length);
+        return new String(stringBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string block: the <code>count + 1</code> int64 offsets of the strings followed by their UTF-8 bytes.
+     *
+     * @param count number of strings
+     * @return the strings
+     * @throws IOException if the end of file is reached
+     */
+    String[] getStrings(int count) throws IOException {
+        long[] offsets = new long[count + 1];
+        get(offsets);
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            strings[i] = getString((int) (offsets[i + 1] - offsets[i]));
+        }
+        align();
+        return strings;
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (window.remaining() < bytes) {
+            long position = position();
+            if (size - position < bytes) {
+                throw new EOFException();
+            }
+            map(position);
+        }
+    }
+
+    private void map(long start) throws IOException {
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        windowStart = start;
+    }
+}
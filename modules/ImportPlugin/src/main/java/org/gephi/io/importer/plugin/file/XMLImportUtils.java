@@ -0,0 +1,173 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.plugin.file;
+
+import com.ctc.wstx.api.WstxInputProperties;
+import com.ctc.wstx.stax.WstxInputFactory;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+
+/**
+ * Shared StAX plumbing of the GEXF and GraphML importers.
+ * <p>
+ * The factory defaults to Woodstox configured for speed unless a StAX implementation is chosen with the
+ * <code>javax.xml.stream.XMLInputFactory</code> system property. Element and attribute names are resolved with a
+ * {@link SymbolTable} instead of chains of <code>equalsIgnoreCase</code> and values of the common column types are
+ * parsed directly, without going through the generic draft parsing.
+ */
+class XMLImportUtils {
+
+    private static final String FACTORY_PROPERTY = XMLInputFactory.class.getName();
+
+    private XMLImportUtils() {
+    }
+
+    /**
+     * Returns a new non-validating input factory that ignores reported warnings.
+     *
+     * @return input factory
+     */
+    static XMLInputFactory newInputFactory() {
+        XMLInputFactory inputFactory;
+        if (System.getProperty(FACTORY_PROPERTY) != null) {
+            inputFactory = XMLInputFactory.newInstance();
+        } else {
+            try {
+                WstxInputFactory wstxFactory = new WstxInputFactory();
+                wstxFactory.configureForSpeed();
+                //Keep the standard line ending normalization, values and labels must not contain \r\n
+                wstxFactory.setProperty(WstxInputProperties.P_NORMALIZE_LFS, Boolean.TRUE);
+                inputFactory = wstxFactory;
+            } catch (LinkageError e) {
+                inputFactory = XMLInputFactory.newInstance();
+            }
+        }
+        if (inputFactory.isPropertySupported(XMLInputFactory.IS_VALIDATING)) {
+            inputFactory.setProperty(XMLInputFactory.IS_VALIDATING, Boolean.FALSE);
+        }
+        inputFactory.setXMLReporter((message, errorType, relatedInformation, location) -> {
+        });
+        return inputFactory;
+    }
+
+    /**
+     * Parses <code>value</code> for the most common attribute types.
+     * <p>
+     * Returns <code>null</code> when the type isn't handled or the value needs the lenient parsing of
+     * {@link org.gephi.io.importer.api.ElementDraft#parseAndSetValue(String, String)}, in which case the caller should
+     * fall back to it.
+     *
+     * @param value value to parse
+     * @param type  column type
+     * @return parsed value or <code>null</code>
+     */
+    static Object parseValue(String value, Class type) {
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (value.contains("INF")) {
+                //Needs the INF to Infinity conversion of the generic parsing
+                return null;
+            } else if (type == Integer.class) {
+                return Integer.valueOf(value);
+            } else if (type == Double.class) {
+                return Double.valueOf(value);
+            } else if (type == Float.class) {
+                return Float.valueOf(value);
+            } else if (type == Long.class) {
+                return Long.valueOf(value);
+            }
+        } catch (NumberFormatException e) {
+            //Let the generic parsing report it
+        }
+        return null;
+    }
+
+    /**
+     * Maps element and attribute names to symbols, case insensitively.
+     * <p>
+     * Names are registered in lower case. A name seen with another case is lower-cased once and remembered, so
+     * repeated lookups cost a single hash lookup. The table can be shared between concurrent imports.
+     *
+     * @param <E> symbol type
+     */
+    static class SymbolTable<E extends Enum<E>> {
+
+        private static final int MAX_CACHED = 1024;
+        private final Map<String, E> symbols = new HashMap<>();
+        private final Map<String, E> cached = new ConcurrentHashMap<>();
+        private final E unknown;
+
+        SymbolTable(E unknown) {
+            this.unknown = unknown;
+        }
+
+        /**
+         * Registers <code>name</code> for <code>symbol</code>. Should only be called while the table is built.
+         *
+         * @param name   lower case name
+         * @param symbol symbol
+         * @return this table
+         */
+        SymbolTable<E> add(String name, E symbol) {
+            symbols.put(name, symbol);
+            return this;
+        }
+
+        E get(String name) {
+            E symbol = symbols.get(name);
+            if (symbol == null) {
+                symbol = cached.get(name);
+                if (symbol == null) {
+                    symbol = symbols.getOrDefault(name.toLowerCase(Locale.ROOT), unknown);
+                    if (cached.size() < MAX_CACHED) {
+                        cached.put(name, symbol);
+                    }
+                }
+            }
+            return symbol;
+        }
+    }
+}
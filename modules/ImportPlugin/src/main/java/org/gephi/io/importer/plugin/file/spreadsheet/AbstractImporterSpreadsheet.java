@@ -109,7 +109,7 @@ public abstract class AbstractImporterSpreadsheet implements FileImporter, FileI
         this.container.setTimeRepresentation(generalConfig.getTimeRepresentation());
         this.container.setTimeZone(generalConfig.getTimeZone());
 
-        try (SheetParser parser = createParser()) {
+        try (SheetParser parser = createImportParser()) {
             switch (getMode()) {
                 case NODES_TABLE:
                     importer = new ImportNodesProcess(generalConfig, parser, container, progressTicket);
@@ -142,6 +142,16 @@ public abstract class AbstractImporterSpreadsheet implements FileImporter, FileI
 
     public abstract SheetParser createParser() throws IOException;
 
+    /**
+     * Creates the parser used to import the whole sheet, by default the same as {@link #createParser()}.
+     *
+     * @return Sheet parser
+     * @throws IOException if the sheet can't be read
+     */
+    protected SheetParser createImportParser() throws IOException {
+        return createParser();
+    }
+
     public abstract SheetParser createParserWithoutHeaders() throws IOException;
 
     public Map<String, Integer> getHeadersMap() throws IOException {
@@ -49,6 +49,8 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.apache.commons.csv.CSVParser;
 import org.gephi.io.importer.api.ImportUtils;
 import org.gephi.io.importer.plugin.file.spreadsheet.process.SpreadsheetGeneralConfiguration;
@@ -56,6 +58,7 @@ import org.gephi.io.importer.plugin.file.spreadsheet.sheet.EmptySheet;
 import org.gephi.io.importer.plugin.file.spreadsheet.sheet.ErrorSheet;
 import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetParser;
 import org.gephi.io.importer.plugin.file.spreadsheet.sheets.csv.CSVSheetParser;
+import org.gephi.io.importer.plugin.file.spreadsheet.sheets.csv.ParallelCSVSheetParser;
 import org.gephi.utils.CharsetToolkit;
 import org.openide.filesystems.FileObject;
 import org.openide.filesystems.FileUtil;
@@ -67,6 +70,8 @@ public class ImporterSpreadsheetCSV extends AbstractImporterSpreadsheet {
 
     protected char fieldDelimiter = ',';
     protected Charset charset = StandardCharsets.UTF_8;
+    protected int parallelism = Runtime.getRuntime().availableProcessors();
+    protected int parallelChunkSize = ParallelCSVSheetParser.DEFAULT_CHUNK_SIZE;
 
     @Override
     public SheetParser createParserWithoutHeaders() throws IOException {
@@ -82,6 +87,25 @@ public class ImporterSpreadsheetCSV extends AbstractImporterSpreadsheet {
         return createParser(withFirstRecordAsHeader);
     }
 
+    /**
+     * Nodes and edges tables bigger than one chunk are parsed on {@link #getParallelism()} threads. The sequential
+     * parser is used if the parallel one can't be created.
+     */
+    @Override
+    protected SheetParser createImportParser() throws IOException {
+        boolean table = generalConfig.getMode() == SpreadsheetGeneralConfiguration.Mode.NODES_TABLE
+            || generalConfig.getMode() == SpreadsheetGeneralConfiguration.Mode.EDGES_TABLE;
+        if (table && parallelism > 1 && file.length() > parallelChunkSize
+            && ParallelCSVSheetParser.isSupported(charset, fieldDelimiter)) {
+            try {
+                return new ParallelCSVSheetParser(file, charset, fieldDelimiter, parallelism, parallelChunkSize);
+            } catch (Exception ex) {
+                Logger.getLogger("").log(Level.WARNING, "Failed to create the parallel CSV parser", ex);
+            }
+        }
+        return createParser();
+    }
+
     private SheetParser createParser(boolean withFirstRecordAsHeader) throws IOException {
         try {
             CSVParser csvParser =
@@ -179,6 +203,22 @@ public class ImporterSpreadsheetCSV extends AbstractImporterSpreadsheet {
         this.fieldDelimiter = fieldDelimiter;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    public void setParallelChunkSize(int parallelChunkSize) {
+        this.parallelChunkSize = parallelChunkSize;
+    }
+
     public Charset getCharset() {
         return charset;
     }
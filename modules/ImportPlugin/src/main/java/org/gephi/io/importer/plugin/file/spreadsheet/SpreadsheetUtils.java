@@ -108,8 +108,7 @@ public class SpreadsheetUtils {
         }
     }
 
-    public static CSVParser configureCSVParser(File file, Character fieldSeparator, Charset charset,
-                                               boolean withFirstRecordAsHeader) throws IOException {
+    public static CSVFormat createCSVFormat(Character fieldSeparator, boolean withFirstRecordAsHeader) {
         if (fieldSeparator == null) {
             fieldSeparator = ',';
         }
@@ -130,18 +129,25 @@ public class SpreadsheetUtils {
         } else {
             csvFormat = csvFormat.withHeader((String[]) null).withSkipHeaderRecord(false);
         }
+        return csvFormat;
+    }
 
-        boolean hasBOM = false;
+    public static boolean hasBOM(File file) {
         try (FileInputStream is = new FileInputStream(file)) {
             CharsetToolkit charsetToolkit = new CharsetToolkit(is);
-            hasBOM = charsetToolkit.hasUTF8Bom() || charsetToolkit.hasUTF16BEBom() || charsetToolkit.hasUTF16LEBom();
+            return charsetToolkit.hasUTF8Bom() || charsetToolkit.hasUTF16BEBom() || charsetToolkit.hasUTF16LEBom();
         } catch (IOException e) {
-            //NOOP
+            return false;
         }
+    }
+
+    public static CSVParser configureCSVParser(File file, Character fieldSeparator, Charset charset,
+                                               boolean withFirstRecordAsHeader) throws IOException {
+        CSVFormat csvFormat = createCSVFormat(fieldSeparator, withFirstRecordAsHeader);
 
         FileInputStream fileInputStream = new FileInputStream(file);
         InputStreamReader is = new InputStreamReader(fileInputStream, charset);
-        if (hasBOM) {
+        if (hasBOM(file)) {
             try {
                 is.read();
             } catch (IOException e) {
@@ -44,6 +44,7 @@ package org.gephi.io.importer.plugin.file.spreadsheet.process;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -73,6 +74,10 @@ public abstract class AbstractImportProcess implements Closeable {
     protected final Map<String, Integer> specialColumnsIndexMap = new HashMap<>();
     protected final Map<String, Integer> headersIndexMap = new HashMap<>();
     protected final Map<String, Class> headersClassMap = new HashMap<>();
+    //Typed columns, in parsed row order
+    protected String[] columns = new String[0];
+    protected int[] columnIndexes = new int[0];
+    protected Class[] columnClasses = new Class[0];
     protected boolean cancel = false;
 
     public AbstractImportProcess(SpreadsheetGeneralConfiguration generalConfig, ContainerLoader container,
@@ -130,18 +135,47 @@ public abstract class AbstractImportProcess implements Closeable {
             headersIndexMap.put(headerName, currentIndex);
             addColumn(headerName, type);
         }
+
+        columns = headersIndexMap.keySet().toArray(new String[0]);
+        columnIndexes = new int[columns.length];
+        columnClasses = new Class[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnIndexes[i] = headersIndexMap.get(columns[i]);
+            columnClasses[i] = headersClassMap.get(columns[i]);
+        }
     }
 
-    protected Object parseValue(String value, Class type, String column) {
-        try {
-            return AttributeUtils.parse(value, type);
-        } catch (Exception e) {
-            logError(getMessage("AbstractImportProcess.error.parseError", value, type.getSimpleName(), column));
-            return null;
+    /**
+     * Parses the values of the typed columns of <code>row</code>. Errors are kept in the parsed row and logged by
+     * {@link #logParseErrors(ParsedRow)}, so this method can be called from the parser threads.
+     *
+     * @param row sheet row
+     * @return parsed row
+     */
+    protected ParsedRow parseRow(SheetRow row) {
+        if (!row.isConsistent()) {
+            return new ParsedRow(row, null, null);
+        }
+        Object[] values = new Object[columns.length];
+        List<String> errors = null;
+        for (int i = 0; i < columns.length; i++) {
+            String value = row.get(columnIndexes[i]);
+            if (value != null && columnClasses[i] != null) {
+                try {
+                    values[i] = AttributeUtils.parse(value, columnClasses[i]);
+                } catch (Exception e) {
+                    if (errors == null) {
+                        errors = new ArrayList<>();
+                    }
+                    errors.add(getMessage("AbstractImportProcess.error.parseError", value,
+                        columnClasses[i].getSimpleName(), columns[i]));
+                }
+            }
         }
+        return new ParsedRow(row, values, errors);
     }
 
-    protected boolean checkRow(SheetRow row) {
+    protected boolean checkRow(ParsedRow row) {
         boolean consistent = row.isConsistent();
         if (!consistent) {
             logError(getMessage("AbstractImportProcess.error.inconsistentRow"));
@@ -150,6 +184,14 @@ public abstract class AbstractImportProcess implements Closeable {
         return consistent;
     }
 
+    protected void logParseErrors(ParsedRow row) {
+        if (row.errors != null) {
+            for (String error : row.errors) {
+                logError(error);
+            }
+        }
+    }
+
     protected void addEdge(String source, String target) {
         addEdge(source, target, 1);
     }
@@ -214,4 +256,28 @@ public abstract class AbstractImportProcess implements Closeable {
     }
 
     protected abstract void addColumn(String name, Class type);
+
+    /**
+     * Sheet row with the values of the typed columns already parsed.
+     */
+    protected static class ParsedRow {
+
+        protected final SheetRow row;
+        protected final Object[] values;
+        protected final List<String> errors;
+
+        public ParsedRow(SheetRow row, Object[] values, List<String> errors) {
+            this.row = row;
+            this.values = values;
+            this.errors = errors;
+        }
+
+        public boolean isConsistent() {
+            return values != null;
+        }
+
+        public String get(int index) {
+            return row.get(index);
+        }
+    }
 }
@@ -44,13 +44,12 @@ package org.gephi.io.importer.plugin.file.spreadsheet.process;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.Iterator;
 import org.gephi.io.importer.api.ContainerLoader;
 import org.gephi.io.importer.api.EdgeDirection;
 import org.gephi.io.importer.api.EdgeDirectionDefault;
 import org.gephi.io.importer.api.EdgeDraft;
 import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetParser;
-import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetRow;
 import org.gephi.utils.progress.Progress;
 import org.gephi.utils.progress.ProgressTicket;
 
@@ -96,11 +95,13 @@ public class ImportEdgesProcess extends AbstractImportProcess {
         Integer labelColumnIndex = specialColumnsIndexMap.get(EDGE_LABEL);
 
         Progress.start(progressTicket);
-        for (SheetRow row : parser) {
+        Iterator<ParsedRow> rows = parser.iterator(this::parseRow);
+        while (rows.hasNext()) {
             if (cancel) {
                 break;
             }
 
+            ParsedRow row = rows.next();
             if (!checkRow(row)) {
                 continue;
             }
@@ -162,26 +163,17 @@ public class ImportEdgesProcess extends AbstractImportProcess {
                 edge.setType(kind);
             }
 
-            for (Map.Entry<String, Integer> columnEntry : headersIndexMap.entrySet()) {
-                String column = columnEntry.getKey();
-                Integer index = columnEntry.getValue();
-                Class type = headersClassMap.get(column);
+            logParseErrors(row);
+            for (int i = 0; i < columns.length; i++) {
+                String column = columns[i];
+                Object value = row.values[i];
 
-                if (type == null) {
-                    continue;
-                }
-
-                Object value = row.get(index);
                 if (value != null) {
-                    value = parseValue((String) value, type, column);
-
-                    if (value != null) {
-                        //Note: we allow any type on weight column, to support dynamic weights
-                        if (column.equalsIgnoreCase("weight") && value instanceof Number) {
-                            edge.setWeight(((Number) value).doubleValue());
-                        } else {
-                            edge.setValue(column, value);
-                        }
+                    //Note: we allow any type on weight column, to support dynamic weights
+                    if (column.equalsIgnoreCase("weight") && value instanceof Number) {
+                        edge.setWeight(((Number) value).doubleValue());
+                    } else {
+                        edge.setValue(column, value);
                     }
                 }
             }
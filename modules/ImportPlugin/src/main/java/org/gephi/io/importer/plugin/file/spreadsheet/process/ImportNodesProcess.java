@@ -44,11 +44,10 @@ package org.gephi.io.importer.plugin.file.spreadsheet.process;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Map;
+import java.util.Iterator;
 import org.gephi.io.importer.api.ContainerLoader;
 import org.gephi.io.importer.api.NodeDraft;
 import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetParser;
-import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetRow;
 import org.gephi.utils.progress.Progress;
 import org.gephi.utils.progress.ProgressTicket;
 
@@ -74,11 +73,13 @@ public class ImportNodesProcess extends AbstractImportProcess {
         Integer labelColumnIndex = specialColumnsIndexMap.get(NODE_LABEL);
 
         Progress.start(progressTicket);
-        for (SheetRow row : parser) {
+        Iterator<ParsedRow> rows = parser.iterator(this::parseRow);
+        while (rows.hasNext()) {
             if (cancel) {
                 break;
             }
 
+            ParsedRow row = rows.next();
             if (!checkRow(row)) {
                 continue;
             }
@@ -98,22 +99,10 @@ public class ImportNodesProcess extends AbstractImportProcess {
                 node.setLabel(label);
             }
 
-            for (Map.Entry<String, Integer> columnEntry : headersIndexMap.entrySet()) {
-                String column = columnEntry.getKey();
-                Integer index = columnEntry.getValue();
-                Class type = headersClassMap.get(column);
-
-                if (type == null) {
-                    continue;
-                }
-
-                Object value = row.get(index);
-                if (value != null) {
-                    value = parseValue((String) value, type, column);
-
-                    if (value != null) {
-                        node.setValue(column, value);
-                    }
+            logParseErrors(row);
+            for (int i = 0; i < columns.length; i++) {
+                if (row.values[i] != null) {
+                    node.setValue(columns[i], row.values[i]);
                 }
             }
 
@@ -43,7 +43,9 @@ Portions Copyrighted 2016 Gephi Consortium.
 package org.gephi.io.importer.plugin.file.spreadsheet.sheet;
 
 import java.io.Closeable;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Simple sheet abstraction to support CSV, Excel...
@@ -66,4 +68,30 @@ public interface SheetParser extends Closeable, Iterable<SheetRow> {
      * @return
      */
     long getCurrentRecordNumber();
+
+    /**
+     * Returns an iterator over the rows transformed by <code>mapper</code>.
+     * <p>
+     * Implementations may apply the mapper to several rows at once from other threads, so it must not
+     * have side effects. Results are always returned in sheet order and {@link #getCurrentRecordNumber()}
+     * corresponds to the last returned result.
+     *
+     * @param mapper row transformation
+     * @param <T>    result type
+     * @return Iterator over transformed rows
+     */
+    default <T> Iterator<T> iterator(Function<SheetRow, T> mapper) {
+        final Iterator<SheetRow> iterator = iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return mapper.apply(iterator.next());
+            }
+        };
+    }
 }
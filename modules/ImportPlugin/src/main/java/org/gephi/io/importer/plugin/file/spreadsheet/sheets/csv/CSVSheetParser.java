@@ -130,11 +130,11 @@ public class CSVSheetParser implements SheetParser {
         }
     }
 
-    private class ErrorRow implements SheetRow {
+    static class ErrorRow implements SheetRow {
 
         private final String errorMessage;
 
-        public ErrorRow(String errorMessage) {
+        ErrorRow(String errorMessage) {
             this.errorMessage = errorMessage;
         }
 
@@ -0,0 +1,447 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.io.importer.plugin.file.spreadsheet.sheets.csv;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.gephi.io.importer.plugin.file.spreadsheet.SpreadsheetUtils;
+import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetParser;
+import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetRow;
+
+/**
+ * CSV sheet parser which tokenizes the file on several threads.
+ * <p>
+ * The file is read in chunks of about {@link #DEFAULT_CHUNK_SIZE} bytes, cut after the last line break
+ * (<code>\n</code>, <code>\r\n</code> or <code>\r</code>) which is not inside a quoted value, so that each chunk
+ * contains whole records and can be parsed independently. Chunks are parsed, and their rows mapped, on a pool of
+ * threads while the next ones are read. At most two chunks per thread are in flight, and rows are returned in file
+ * order.
+ * <p>
+ * Only charsets where line break characters are always single bytes are supported, see
+ * {@link #isSupported(Charset, char)}.
+ */
+public class ParallelCSVSheetParser implements SheetParser {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    private final InputStream input;
+    private final CSVFormat format;
+    private final Charset charset;
+    private final byte delimiter;
+    private final int parallelism;
+    private final int chunkSize;
+    private final Map<String, Integer> headerMap;
+    private final int headerSize;
+    //Reading state
+    private byte[] buffer;
+    private int bufferLength;
+    private boolean endOfInput;
+    private long recordNumber;
+    private ExecutorService executor;
+
+    public ParallelCSVSheetParser(File file, Charset charset, char fieldDelimiter, int parallelism, int chunkSize)
+        throws IOException {
+        if (!isSupported(charset, fieldDelimiter)) {
+            throw new IllegalArgumentException("Unsupported charset or delimiter");
+        }
+        this.format = SpreadsheetUtils.createCSVFormat(fieldDelimiter, false);
+        this.charset = charset;
+        this.delimiter = (byte) fieldDelimiter;
+        this.parallelism = Math.max(1, parallelism);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.buffer = new byte[this.chunkSize];
+        this.input = new FileInputStream(file);
+
+        try {
+            skipBOM();
+
+            //Header is the first non empty record
+            Map<String, Integer> map = null;
+            byte[] record;
+            while (map == null && (record = nextChunk(true)) != null) {
+                String text = new String(record, charset);
+                if (!text.trim().isEmpty()) {
+                    try (CSVParser headerParser = CSVParser
+                        .parse(text, SpreadsheetUtils.createCSVFormat(fieldDelimiter, true))) {
+                        map = headerParser.getHeaderMap();
+                    }
+                }
+            }
+            this.headerMap = map != null ? map : Collections.emptyMap();
+            this.headerSize = headerMap.size();
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if files in <code>charset</code> delimited by <code>fieldDelimiter</code> can be split in
+     * chunks at their line break bytes.
+     *
+     * @param charset        file charset
+     * @param fieldDelimiter field delimiter
+     * @return true if supported
+     */
+    public static boolean isSupported(Charset charset, char fieldDelimiter) {
+        if (fieldDelimiter >= 0x80 || fieldDelimiter == QUOTE || fieldDelimiter == ESCAPE
+            || fieldDelimiter == '\n' || fieldDelimiter == '\r') {
+            return false;
+        }
+        //UTF-8 never uses ASCII bytes in multi-byte sequences
+        return charset.equals(StandardCharsets.UTF_8) || charset.newEncoder().maxBytesPerChar() == 1f;
+    }
+
+    @Override
+    public Map<String, Integer> getHeaderMap() {
+        Map<String, Integer> map = new LinkedHashMap<>(headerMap);
+        //Ignore columns without header
+        map.remove(null);
+        return map;
+    }
+
+    @Override
+    public long getCurrentRecordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public Iterator<SheetRow> iterator() {
+        return iterator(Function.identity());
+    }
+
+    @Override
+    public <T> Iterator<T> iterator(Function<SheetRow, T> mapper) {
+        if (executor != null) {
+            throw new IllegalStateException("The sheet can only be iterated once");
+        }
+        executor = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "CSV Parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new ChunkIterator<>(mapper);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        input.close();
+    }
+
+    private void skipBOM() throws IOException {
+        fill();
+        if (charset.equals(StandardCharsets.UTF_8) && bufferLength >= 3 && (buffer[0] & 0xFF) == 0xEF
+            && (buffer[1] & 0xFF) == 0xBB && (buffer[2] & 0xFF) == 0xBF) {
+            System.arraycopy(buffer, 3, buffer, 0, bufferLength - 3);
+            bufferLength -= 3;
+        }
+    }
+
+    /**
+     * Reads until the buffer is full or the input is exhausted.
+     */
+    private void fill() throws IOException {
+        while (!endOfInput && bufferLength < buffer.length) {
+            int read = input.read(buffer, bufferLength, buffer.length - bufferLength);
+            if (read < 0) {
+                endOfInput = true;
+            } else {
+                bufferLength += read;
+            }
+        }
+    }
+
+    /**
+     * Returns the next bytes ending with a record boundary, or <code>null</code> at the end of the input.
+     *
+     * @param singleRecord only return the first record
+     * @return chunk bytes or <code>null</code>
+     */
+    private byte[] nextChunk(boolean singleRecord) throws IOException {
+        fill();
+        int end = findRecordBoundary(buffer, bufferLength, delimiter, singleRecord);
+        while (end < 0 && !endOfInput) {
+            //No boundary in the buffer, a record is bigger than the chunk size
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            fill();
+            end = findRecordBoundary(buffer, bufferLength, delimiter, singleRecord);
+        }
+        if (end < 0) {
+            end = bufferLength;
+        }
+        if (end == 0) {
+            return null;
+        }
+        byte[] chunk = Arrays.copyOf(buffer, end);
+        System.arraycopy(buffer, end, buffer, 0, bufferLength - end);
+        bufferLength -= end;
+        if (buffer.length > chunkSize && bufferLength <= chunkSize) {
+            buffer = Arrays.copyOf(buffer, chunkSize);
+        }
+        return chunk;
+    }
+
+    /**
+     * Returns the position after the last (or first) line break of <code>bytes</code> which isn't part of a
+     * quoted value, or -1 if there is none. The bytes must start at a record boundary.
+     *
+     * @param bytes        buffer
+     * @param length       buffer length
+     * @param delimiter    field delimiter
+     * @param firstRecord  stop at the first boundary
+     * @return boundary position or -1
+     */
+    static int findRecordBoundary(byte[] bytes, int length, byte delimiter, boolean firstRecord) {
+        int boundary = -1;
+        boolean quoted = false;
+        boolean fieldStart = true;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (quoted) {
+                if (b == ESCAPE) {
+                    i++;
+                } else if (b == QUOTE) {
+                    if (i + 1 >= length) {
+                        //Can't tell if it's an escaped quote yet
+                        break;
+                    } else if (bytes[i + 1] == QUOTE) {
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                }
+            } else if (b == '\n' || b == '\r') {
+                fieldStart = true;
+                if (b == '\r') {
+                    if (i + 1 >= length) {
+                        //Can't tell if it's followed by \n yet
+                        break;
+                    } else if (bytes[i + 1] == '\n') {
+                        //Cut after the \n of \r\n
+                        continue;
+                    }
+                }
+                boundary = i + 1;
+                if (firstRecord) {
+                    break;
+                }
+            } else if (b == delimiter) {
+                fieldStart = true;
+            } else if (b == QUOTE && fieldStart) {
+                quoted = true;
+                fieldStart = false;
+            } else if (b == ESCAPE) {
+                i++;
+                fieldStart = false;
+            } else if (b != ' ' && b != '\t') {
+                //Surrounding spaces are ignored, so a quote can still open the field after them
+                fieldStart = false;
+            }
+        }
+        return boundary;
+    }
+
+    private static class Chunk<T> {
+
+        private final List<T> rows = new ArrayList<>();
+        private final List<Long> recordNumbers = new ArrayList<>();
+        private long recordCount;
+        private boolean failed;
+    }
+
+    private class ChunkIterator<T> implements Iterator<T> {
+
+        private final Function<SheetRow, T> mapper;
+        private final ArrayDeque<Future<Chunk<T>>> pending = new ArrayDeque<>();
+        private Chunk<T> current;
+        private int position;
+        private long recordOffset;
+        private boolean stopped;
+
+        public ChunkIterator(Function<SheetRow, T> mapper) {
+            this.mapper = mapper;
+            this.recordOffset = recordNumber;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (current == null || position >= current.rows.size()) {
+                if (current != null) {
+                    recordOffset += current.recordCount;
+                    stopped |= current.failed;
+                    current = null;
+                }
+                if (stopped) {
+                    return false;
+                }
+                submitChunks();
+                Future<Chunk<T>> future = pending.poll();
+                if (future == null) {
+                    executor.shutdown();
+                    return false;
+                }
+                current = await(future);
+                position = 0;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            recordNumber = recordOffset + current.recordNumbers.get(position);
+            return current.rows.get(position++);
+        }
+
+        private void submitChunks() {
+            while (pending.size() < 2 * parallelism) {
+                byte[] bytes;
+                try {
+                    bytes = nextChunk(false);
+                } catch (IOException e) {
+                    Chunk<T> error = new Chunk<>();
+                    error.rows.add(mapper.apply(new CSVSheetParser.ErrorRow(e.getMessage())));
+                    error.recordNumbers.add(0L);
+                    error.failed = true;
+                    pending.add(CompletableFuture.completedFuture(error));
+                    return;
+                }
+                if (bytes == null) {
+                    return;
+                }
+                final byte[] chunkBytes = bytes;
+                pending.add(executor.submit(() -> parseChunk(chunkBytes)));
+            }
+        }
+
+        private Chunk<T> parseChunk(byte[] bytes) {
+            Chunk<T> chunk = new Chunk<>();
+            try (CSVParser parser = CSVParser.parse(new String(bytes, charset), format)) {
+                for (CSVRecord record : parser) {
+                    chunk.rows.add(mapper.apply(new ChunkRow(record)));
+                    chunk.recordNumbers.add(record.getRecordNumber());
+                }
+                chunk.recordCount = parser.getRecordNumber();
+            } catch (Exception e) {
+                //In case of malformed CSV or bad delimiter
+                Logger.getLogger("").severe(e.getMessage());
+                int parsed = chunk.recordNumbers.size();
+                long last = parsed == 0 ? 0L : chunk.recordNumbers.get(parsed - 1);
+                chunk.rows.add(mapper.apply(new CSVSheetParser.ErrorRow(e.getMessage())));
+                chunk.recordNumbers.add(last);
+                chunk.failed = true;
+            }
+            return chunk;
+        }
+
+        private Chunk<T> await(Future<Chunk<T>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+
+    private class ChunkRow implements SheetRow {
+
+        private final String[] values;
+
+        public ChunkRow(CSVRecord record) {
+            values = new String[record.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = record.get(i);
+            }
+        }
+
+        @Override
+        public boolean isConsistent() {
+            return values.length == headerSize;
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index > values.length - 1) {
+                return null;
+            }
+            return values[index];
+        }
+    }
+}
@@ -42,6 +42,10 @@
 
 package org.gephi.io.processor.plugin;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -79,6 +83,11 @@ import org.openide.util.lookup.ServiceProvider;
 @ServiceProvider(service = Processor.class, position = 10)
 public class DefaultProcessor extends AbstractProcessor {
 
+    /**
+     * Number of nodes or edges added to the graph at once.
+     */
+    protected static final int BATCH_SIZE = 10000;
+
     @Override
     public String getDisplayName() {
         return NbBundle.getMessage(DefaultProcessor.class, "DefaultProcessor.displayName");
@@ -195,12 +204,17 @@ public class DefaultProcessor extends AbstractProcessor {
         //Counters
         int addedNodes = 0, addedEdges = 0;
 
-        //Create all nodes
+        //When the workspace is empty, the only elements that can be found are the ones added from this container
+        boolean emptyGraph = graph.getNodeCount() == 0 && graph.getEdgeCount() == 0;
+
+        //Create all nodes, new nodes are added in batches
+        List<Node> pendingNodes = new ArrayList<>(Math.min(container.getNodeCount(), BATCH_SIZE));
         ElementIdType elementIdType = container.getElementIdType();
         for (NodeDraft draftNode : container.getNodes()) {
             String idString = draftNode.getId();
             Object id = toElementId(elementIdType, idString);
-            Node node = graph.getNode(id);
+            //Node ids are unique in the container
+            Node node = emptyGraph ? null : graph.getNode(id);
 
             boolean newNode = false;
             if (node == null) {
@@ -211,14 +225,24 @@ public class DefaultProcessor extends AbstractProcessor {
             flushToNode(container, draftNode, node);
 
             if (newNode) {
-                graph.addNode(node);
+                pendingNodes.add(node);
+                if (pendingNodes.size() == BATCH_SIZE) {
+                    graph.addAllNodes(pendingNodes);
+                    pendingNodes.clear();
+                }
             }
 
             Progress.progress(progressTicket);
         }
+        graph.addAllNodes(pendingNodes);
 
         final EdgeMergeStrategy edgesMergeStrategy = containers[0].getEdgesMergeStrategy();
 
+        //Pairs of nodes already linked by an edge of this container, regardless of direction and type.
+        //Edges between other pairs can't be merged or be incompatible with edges waiting to be added
+        LongSet linkedPairs = new LongOpenHashSet(container.getEdgeCount());
+        List<Edge> pendingEdges = new ArrayList<>(Math.min(container.getEdgeCount(), BATCH_SIZE));
+
         //Create all edges and push to data structure
         for (EdgeDraft draftEdge : container.getEdges()) {
             String idString = draftEdge.getId();
@@ -244,7 +268,14 @@ public class DefaultProcessor extends AbstractProcessor {
                     break;
             }
 
-            Edge edge = graph.getEdge(source, target, edgeType);
+            boolean linked = !linkedPairs.add(getPairId(source, target));
+            if (linked && !pendingEdges.isEmpty()) {
+                //The edge to merge with may be waiting to be added
+                graph.addAllEdges(pendingEdges);
+                pendingEdges.clear();
+            }
+
+            Edge edge = emptyGraph && !linked ? null : graph.getEdge(source, target, edgeType);
 
             if (edge != null && edgesMergeStrategy == EdgeMergeStrategy.NO_MERGE) {
                 //Undirected and directed edges are incompatible, check for them or we could get an exception:
@@ -276,7 +307,8 @@ public class DefaultProcessor extends AbstractProcessor {
 
             boolean newEdge = edge == null;
             if (newEdge) {
-                if (!graph.hasEdge(id)) {
+                //Edge ids are unique in the container
+                if (emptyGraph || !graph.hasEdge(id)) {
                     edge = factory.newEdge(id, source, target, edgeType, draftEdge.getWeight(), createDirected);
                 } else {
                     //The id is already in use by a different edge, generate a new id:
@@ -289,11 +321,16 @@ public class DefaultProcessor extends AbstractProcessor {
             flushToEdge(container, draftEdge, edge, newEdge);
 
             if (newEdge) {
-                graph.addEdge(edge);
+                pendingEdges.add(edge);
+                if (pendingEdges.size() == BATCH_SIZE) {
+                    graph.addAllEdges(pendingEdges);
+                    pendingEdges.clear();
+                }
             }
 
             Progress.progress(progressTicket);
         }
+        graph.addAllEdges(pendingEdges);
 
         //Report
         int touchedNodes = container.getNodeCount();
@@ -311,6 +348,12 @@ public class DefaultProcessor extends AbstractProcessor {
         }
     }
 
+    private static long getPairId(Node source, Node target) {
+        int min = Math.min(source.getStoreId(), target.getStoreId());
+        int max = Math.max(source.getStoreId(), target.getStoreId());
+        return ((long) max << 32) | min;
+    }
+
     private Edge findIncompatibleEdge(Graph graph, Node source, Node target, boolean directed, int edgeType) {
         Edge edge = graph.getEdge(source, target, edgeType);
 
@@ -0,0 +1,117 @@
+package org.gephi.io.importer.plugin.database;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.gephi.io.database.drivers.SQLiteDriver;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.impl.ImportContainerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ImporterEdgeListTest {
+
+    private static final String EDGE_QUERY = "SELECT id, source, target, weight FROM edges";
+
+    @Test
+    public void testPartitionBounds() {
+        Assert.assertEquals(Arrays.asList(
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id < 25 OR id IS NULL",
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id >= 25 AND id < 50",
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id >= 50 AND id < 75",
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id >= 75"),
+            ImporterEdgeList.getEdgeQueries(EDGE_QUERY, "id", 4, 0, 99));
+    }
+
+    @Test
+    public void testNegativePartitionBounds() {
+        Assert.assertEquals(Arrays.asList(
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id < 1 OR id IS NULL",
+            "SELECT * FROM (" + EDGE_QUERY + ") gephi_edges WHERE id >= 1"),
+            ImporterEdgeList.getEdgeQueries(EDGE_QUERY, "id", 2, -10, 10));
+    }
+
+    @Test
+    public void testSingleValuePartition() {
+        Assert.assertEquals(Collections.singletonList(EDGE_QUERY),
+            ImporterEdgeList.getEdgeQueries(EDGE_QUERY, "id", 4, 5, 5));
+    }
+
+    @Test
+    public void testOverflowPartition() {
+        Assert.assertEquals(Collections.singletonList(EDGE_QUERY),
+            ImporterEdgeList.getEdgeQueries(EDGE_QUERY, "id", 4, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testParallelPartitionsWithNullValues() throws IOException, SQLException {
+        File file = File.createTempFile("edgelist", ".db");
+        file.deleteOnExit();
+        writeDatabase(file, 100);
+
+        EdgeListDatabaseImpl database = new EdgeListDatabaseImpl();
+        database.setSQLDriver(new SQLiteDriver());
+        database.setHost(file.getAbsolutePath());
+        database.setDBName("");
+        database.setNodeQuery("SELECT id, label FROM nodes");
+        database.setEdgeQuery("SELECT id, source, target, weight, grp FROM edges");
+        database.setParallelQueries(true);
+        database.setEdgePartitions(3);
+        database.setEdgePartitionColumn("grp");
+
+        ImporterEdgeList importer = new ImporterEdgeList();
+        importer.setDatabase(database);
+        ImportContainerImpl container = new ImportContainerImpl();
+        importer.execute(container.getLoader());
+
+        //Every edge is imported once, including those with a null partition value
+        Set<String> ids = new HashSet<>();
+        for (EdgeDraft edge : container.getUnloader().getEdges()) {
+            Assert.assertTrue(ids.add(edge.getId()));
+            Assert.assertEquals(Integer.parseInt(edge.getId()) + 1, edge.getWeight(), 0.0);
+        }
+        Assert.assertEquals(100, ids.size());
+        Assert.assertEquals(200, container.getUnloader().getNodeCount());
+    }
+
+    private static void writeDatabase(File file, int edges) throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath())) {
+            try (Statement s = connection.createStatement()) {
+                s.executeUpdate("CREATE TABLE nodes (id INTEGER PRIMARY KEY, label TEXT)");
+                s.executeUpdate(
+                    "CREATE TABLE edges (id INTEGER PRIMARY KEY, source INTEGER, target INTEGER, weight REAL, " +
+                        "grp INTEGER)");
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO nodes VALUES (?, ?)")) {
+                for (int i = 0; i < 2 * edges; i++) {
+                    ps.setInt(1, i);
+                    ps.setString(2, "node " + i);
+                    ps.executeUpdate();
+                }
+            }
+            try (PreparedStatement ps = connection.prepareStatement("INSERT INTO edges VALUES (?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < edges; i++) {
+                    ps.setInt(1, i);
+                    ps.setInt(2, i);
+                    ps.setInt(3, edges + i);
+                    ps.setDouble(4, i + 1);
+                    if (i % 7 == 0) {
+                        ps.setNull(5, Types.INTEGER);
+                    } else {
+                        ps.setInt(5, i / 10);
+                    }
+                    ps.executeUpdate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.gephi.io.importer.plugin.file;
+
+import org.gephi.io.importer.api.Container;
+import org.gephi.io.importer.impl.ImportContainerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DLTest {
+
+    @Test
+    public void testEdgeList() {
+        ImporterDL importer = new ImporterDL();
+        importer.setReader(Utils.getReader("edgelist.dl"));
+
+        Container container = new ImportContainerImpl();
+        importer.execute(container.getLoader());
+
+        Assert.assertTrue(container.verify());
+        Assert.assertTrue(container.getReport().getIssuesList(100).isEmpty());
+        Assert.assertTrue(importer.getReport().getIssuesList(100).isEmpty());
+        Utils.assertSameLabels(Utils.toNodesArray(container), "A", "B", "C");
+        Utils.assertSameEdges(Utils.toEdgesArray(container), "1 -> 2", "2 -> 3", "1 -> 3");
+        Assert.assertEquals(1.5, Utils.toEdgesArray(container)[0].getWeight(), 0.0);
+    }
+
+    @Test
+    public void testFullMatrix() {
+        ImporterDL importer = new ImporterDL();
+        importer.setReader(Utils.getReader("fullmatrix.dl"));
+
+        Container container = new ImportContainerImpl();
+        importer.execute(container.getLoader());
+
+        Assert.assertTrue(importer.getReport().getIssuesList(100).isEmpty());
+        Utils.assertSameIds(Utils.toNodesArray(container), "1", "2");
+        Utils.assertSameEdges(Utils.toEdgesArray(container), "1 -> 2", "2 -> 1");
+    }
+}
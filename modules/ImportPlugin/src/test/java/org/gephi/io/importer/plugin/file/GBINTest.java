@@ -0,0 +1,104 @@
+package org.gephi.io.importer.plugin.file;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.gephi.graph.GraphGenerator;
+import org.gephi.graph.api.Graph;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.graph.api.Node;
+import org.gephi.io.exporter.plugin.ExporterGBIN;
+import org.gephi.io.importer.api.Container;
+import org.gephi.io.importer.api.EdgeDirection;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.NodeDraft;
+import org.gephi.io.importer.impl.ImportContainerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GBINTest {
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        GraphGenerator graphGenerator =
+            GraphGenerator.build().generateTinyGraphWithPosition().addNodeLabels().addIntNodeColumn()
+                .addStringNodeColumn();
+
+        Container container = exportAndImport(graphGenerator);
+        Assert.assertTrue(container.getReport().isEmpty());
+
+        NodeDraft[] nodes = Utils.toNodesArray(container);
+        Utils.assertSameIds(nodes, GraphGenerator.FIRST_NODE, GraphGenerator.SECOND_NODE);
+        Utils.assertSameLabels(nodes, GraphGenerator.FIRST_NODE, GraphGenerator.SECOND_NODE);
+
+        NodeDraft first = Utils.getNode(container, GraphGenerator.FIRST_NODE);
+        Assert.assertEquals(2.5f, first.getX(), 0f);
+        Assert.assertEquals(4.7f, first.getY(), 0f);
+        Assert.assertEquals(GraphGenerator.INT_COLUMN_MIN_VALUE, first.getValue(GraphGenerator.INT_COLUMN));
+        Assert.assertEquals(GraphGenerator.STRING_COLUMN_VALUES[0], first.getValue(GraphGenerator.STRING_COLUMN));
+
+        EdgeDraft[] edges = Utils.toEdgesArray(container);
+        Utils.assertSameEdges(edges, "1 -> 2");
+        Assert.assertEquals(1.0, edges[0].getWeight(), 0.0);
+    }
+
+    @Test
+    public void testMixedGraph() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyMixedGraph();
+
+        Container container = exportAndImport(graphGenerator);
+        Assert.assertTrue(container.getReport().isEmpty());
+
+        Utils.assertSameIds(Utils.toNodesArray(container), GraphGenerator.FIRST_NODE, GraphGenerator.SECOND_NODE,
+            GraphGenerator.THIRD_NODE);
+        Utils.assertSameEdges(Utils.toEdgesArray(container), "1 -> 2", "1 -> 3");
+        Assert.assertEquals(EdgeDirection.UNDIRECTED,
+            Utils.getEdge(container, GraphGenerator.FIRST_EDGE).getDirection());
+        Assert.assertEquals(EdgeDirection.DIRECTED,
+            Utils.getEdge(container, GraphGenerator.SECOND_EDGE).getDirection());
+    }
+
+    @Test
+    public void testNativeTypes() throws IOException {
+        GraphGenerator graphGenerator = GraphGenerator.build().generateTinyGraph().addTimestampDoubleColumn();
+        GraphModel graphModel = graphGenerator.getGraphModel();
+        Graph graph = graphModel.getGraph();
+        graphModel.getNodeTable().addColumn("short", Short.class);
+        graphModel.getNodeTable().addColumn("byte", Byte.class);
+        Node node = graph.getNode(GraphGenerator.FIRST_NODE);
+        node.setAttribute("short", (short) 300);
+        node.setAttribute("byte", (byte) -5);
+        Node second = graph.getNode(GraphGenerator.SECOND_NODE);
+        graph.addEdge(
+            graphModel.factory().newEdge(GraphGenerator.SECOND_EDGE, second, node, graphModel.addEdgeType(7), 1.0, true));
+
+        Container container = exportAndImport(graphGenerator);
+        Assert.assertTrue(container.getReport().isEmpty());
+
+        NodeDraft first = Utils.getNode(container, GraphGenerator.FIRST_NODE);
+        Assert.assertEquals((short) 300, first.getValue("short"));
+        Assert.assertEquals((byte) -5, first.getValue("byte"));
+        Assert.assertEquals(GraphGenerator.TIMESTAMP_DOUBLE_COLUMN_VALUES[0][0],
+            first.getValue(GraphGenerator.TIMESTAMP_DOUBLE_COLUMN));
+        Assert.assertEquals(7, Utils.getEdge(container, GraphGenerator.SECOND_EDGE).getType());
+    }
+
+    private static Container exportAndImport(GraphGenerator graphGenerator) throws IOException {
+        File file = File.createTempFile("graph", ".gbin");
+        file.deleteOnExit();
+
+        ExporterGBIN exporter = new ExporterGBIN();
+        exporter.setWorkspace(graphGenerator.getWorkspace());
+        try (OutputStream stream = new FileOutputStream(file)) {
+            exporter.setOutputStream(stream);
+            Assert.assertTrue(exporter.execute());
+        }
+
+        ImporterGBIN importer = new ImporterGBIN();
+        importer.setFile(file);
+        Container container = new ImportContainerImpl();
+        Assert.assertTrue(importer.execute(container.getLoader()));
+        return container;
+    }
+}
@@ -0,0 +1,60 @@
+package org.gephi.io.importer.plugin.file;
+
+import org.gephi.io.importer.api.Container;
+import org.gephi.io.importer.api.EdgeDirection;
+import org.gephi.io.importer.api.EdgeDraft;
+import org.gephi.io.importer.api.NodeDraft;
+import org.gephi.io.importer.impl.ImportContainerImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GDFTest {
+
+    @Test
+    public void testQuotedValues() {
+        ImporterGDF importer = new ImporterGDF();
+        importer.setReader(Utils.getReader("quoted.gdf"));
+
+        Container container = new ImportContainerImpl();
+        importer.execute(container.getLoader());
+
+        Assert.assertTrue(container.verify());
+        Utils.assertSameIds(Utils.toNodesArray(container), "a", "b", "c");
+        NodeDraft a = Utils.getNode(container, "a");
+        NodeDraft b = Utils.getNode(container, "b");
+        NodeDraft c = Utils.getNode(container, "c");
+        Assert.assertEquals("Node, A", a.getLabel());
+        Assert.assertEquals("B", b.getLabel());
+        Assert.assertNull(c.getLabel());
+        Assert.assertEquals(1.5, a.getValue("score"));
+        Assert.assertNull(b.getValue("score"));
+        Assert.assertEquals(2.0, c.getValue("score"));
+        Assert.assertEquals(20f, b.getSize(), 0f);
+
+        EdgeDraft[] edges = Utils.toEdgesArray(container);
+        Utils.assertSameEdges(edges, "a -> b", "b -> c");
+        EdgeDraft ab = edges[0].getSource().getId().equals("a") ? edges[0] : edges[1];
+        Assert.assertEquals(2.0, ab.getWeight(), 0.0);
+        Assert.assertEquals(EdgeDirection.DIRECTED, ab.getDirection());
+    }
+
+    @Test
+    public void testTokenizer() {
+        FieldTokenizer tokenizer = FieldTokenizer.quoted(',');
+        Assert.assertEquals(0, tokenizer.tokenize(""));
+        //Quotes only enclose a value when they start the field
+        Assert.assertEquals(4, tokenizer.tokenize("a, \"b,c\" ,"));
+        Assert.assertEquals("a", tokenizer.getField(0));
+        Assert.assertEquals("\"b", tokenizer.getField(1));
+        Assert.assertEquals("c\"", tokenizer.getField(2));
+        Assert.assertTrue(tokenizer.isEmptyOrNull(3));
+        Assert.assertEquals(3, tokenizer.tokenize("'x,y',NULL,\"z\""));
+        Assert.assertEquals("x,y", tokenizer.getField(0));
+        Assert.assertTrue(tokenizer.isEmptyOrNull(1));
+        Assert.assertEquals("z", tokenizer.getField(2));
+
+        tokenizer = FieldTokenizer.separated(" \t");
+        Assert.assertEquals(2, tokenizer.tokenize("  1 \t 2 "));
+        Assert.assertEquals("2", tokenizer.getField(1));
+    }
+}
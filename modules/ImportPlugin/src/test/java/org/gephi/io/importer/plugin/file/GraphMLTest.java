@@ -1,5 +1,6 @@
 package org.gephi.io.importer.plugin.file;
 
+import java.io.StringReader;
 import org.gephi.io.importer.api.Container;
 import org.gephi.io.importer.impl.ImportContainerImpl;
 import org.junit.Assert;
@@ -32,4 +33,26 @@ public class GraphMLTest {
         Utils.assertSameLabels(Utils.toNodesArray(container), "foo", "bar");
         Utils.assertSameLabels(Utils.toEdgesArray(container), "foobar");
     }
+
+    @Test
+    public void testCRLFLineEndings() {
+        String graphml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n"
+            + "<graphml xmlns=\"http://graphml.graphdrawing.org/xmlns\">\r\n"
+            + "<key id=\"d0\" for=\"node\" attr.name=\"text\" attr.type=\"string\"/>\r\n"
+            + "<graph edgedefault=\"directed\">\r\n"
+            + "<node id=\"n0\"><desc>Node\r\nZero</desc><data key=\"d0\">first\r\nsecond\rthird</data></node>\r\n"
+            + "<node id=\"n1\"><data key=\"d0\">INFO</data></node>\r\n"
+            + "</graph>\r\n"
+            + "</graphml>\r\n";
+        ImporterGraphML importer = new ImporterGraphML();
+        importer.setReader(new StringReader(graphml));
+
+        Container container = new ImportContainerImpl();
+        importer.execute(container.getLoader());
+        Assert.assertTrue(container.verify());
+
+        Assert.assertEquals("Node\nZero", Utils.getNode(container, "n0").getLabel());
+        Assert.assertEquals("first\nsecond\nthird", Utils.getNode(container, "n0").getValue("d0"));
+        Assert.assertEquals("INFO", Utils.getNode(container, "n1").getValue("d0"));
+    }
 }
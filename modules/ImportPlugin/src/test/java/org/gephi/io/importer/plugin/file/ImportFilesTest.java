@@ -0,0 +1,92 @@
+package org.gephi.io.importer.plugin.file;
+
+import java.io.File;
+import java.io.IOException;
+import org.gephi.graph.api.GraphController;
+import org.gephi.graph.api.GraphModel;
+import org.gephi.io.importer.api.Container;
+import org.gephi.io.importer.api.ImportController;
+import org.gephi.io.importer.spi.FileImporter;
+import org.gephi.io.processor.plugin.MergeProcessor;
+import org.gephi.project.api.ProjectController;
+import org.gephi.project.api.Workspace;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.openide.filesystems.FileUtil;
+import org.openide.util.Lookup;
+
+public class ImportFilesTest {
+
+    private static final String[] FILES = {"dot/basic.dot", "dot/subgraph.dot", "gexf/basic.gexf", "gexf/data.gexf",
+        "edgelist.dl", "quoted.gdf", "label.gml"};
+
+    private final ProjectController projectController = Lookup.getDefault().lookup(ProjectController.class);
+    private final ImportController importController = Lookup.getDefault().lookup(ImportController.class);
+    private Workspace workspace;
+
+    @Before
+    public void setup() {
+        projectController.newProject();
+        workspace = projectController.getCurrentWorkspace();
+    }
+
+    @After
+    public void teardown() {
+        projectController.closeCurrentProject();
+        workspace = null;
+    }
+
+    @Test
+    public void testImportFiles() throws IOException {
+        File[] files = getFiles();
+        Container[] containers = importController.importFiles(files);
+
+        Assert.assertEquals(files.length, containers.length);
+        for (int i = 0; i < files.length; i++) {
+            Container expected = importController.importFile(files[i]);
+            Assert.assertNotNull(containers[i]);
+            Assert.assertEquals(expected.getUnloader().getNodeCount(), containers[i].getUnloader().getNodeCount());
+            Assert.assertEquals(expected.getUnloader().getEdgeCount(), containers[i].getUnloader().getEdgeCount());
+        }
+    }
+
+    @Test
+    public void testImportFilesWithImporters() throws IOException {
+        File[] files = getFiles();
+        FileImporter[] importers = new FileImporter[files.length];
+        importers[0] = new ImporterDOT();
+        Container[] containers = importController.importFiles(files, importers);
+
+        for (Container container : containers) {
+            Assert.assertNotNull(container);
+        }
+        Assert.assertEquals(importController.importFile(files[0]).getUnloader().getNodeCount(),
+            containers[0].getUnloader().getNodeCount());
+    }
+
+    @Test
+    public void testMerge() throws IOException {
+        File[] files = {getFile("dot/basic.dot"), getFile("dot/labels.dot")};
+        Container[] containers = importController.importFiles(files);
+        importController.process(containers, new MergeProcessor(), workspace);
+
+        GraphModel graphModel = Lookup.getDefault().lookup(GraphController.class).getGraphModel(workspace);
+        Assert.assertEquals(3, graphModel.getGraph().getNodeCount());
+        Assert.assertEquals(2, graphModel.getGraph().getEdgeCount());
+    }
+
+    private static File[] getFiles() {
+        File[] files = new File[FILES.length];
+        for (int i = 0; i < FILES.length; i++) {
+            files[i] = getFile(FILES[i]);
+        }
+        return files;
+    }
+
+    private static File getFile(String path) {
+        return FileUtil.archiveOrDirForURL(
+            ImportFilesTest.class.getResource("/org/gephi/io/importer/plugin/file/" + path));
+    }
+}
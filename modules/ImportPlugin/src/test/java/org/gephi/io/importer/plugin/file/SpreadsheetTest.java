@@ -465,6 +465,46 @@ public class SpreadsheetTest {
         checkNodesSpreadsheet();
     }
 
+    @Test
+    public void testEdgesTableTypesTest_Parallel() throws IOException {
+        File file = FileUtil.archiveOrDirForURL(SpreadsheetTest.class
+            .getResource("/org/gephi/io/importer/plugin/file/spreadsheet/edges_table_types_test.csv"));
+
+        ImporterSpreadsheetCSV importer = new ImporterSpreadsheetCSV();
+        importer.setFile(file);
+        importer.setParallelism(4);
+        importer.setParallelChunkSize(16);
+
+        Container container = importController.importFile(
+            file, importer
+        );
+        Assert.assertNotNull(container);
+
+        importController.process(container, new DefaultProcessor(), workspace);
+
+        checkEdgesSpreadsheet(false);
+    }
+
+    @Test
+    public void testNodesTableTypesTest_Parallel() throws IOException {
+        File file = FileUtil.archiveOrDirForURL(SpreadsheetTest.class
+            .getResource("/org/gephi/io/importer/plugin/file/spreadsheet/nodes_table_types_test.csv"));
+
+        ImporterSpreadsheetCSV importer = new ImporterSpreadsheetCSV();
+        importer.setFile(file);
+        importer.setParallelism(4);
+        importer.setParallelChunkSize(16);
+
+        Container container = importController.importFile(
+            file, importer
+        );
+        Assert.assertNotNull(container);
+
+        importController.process(container, new DefaultProcessor(), workspace);
+
+        checkNodesSpreadsheet();
+    }
+
     @Test
     public void testRepeatedHeaders() throws IOException {
         File file = FileUtil.archiveOrDirForURL(
@@ -596,7 +636,7 @@ public class SpreadsheetTest {
         try {
             expected = new String(Files.readAllBytes(Paths
                 .get(getClass().getResource("/org/gephi/io/importer/plugin/file/spreadsheet/expected/" +
-                    testName.getMethodName().replace("_AutoDetectImporter", "") + "_edges.csv").toURI()))).trim()
+                    getExpectedName() + "_edges.csv").toURI()))).trim()
                 .replace("\r", "");
         } catch (URISyntaxException e) {
             e.printStackTrace();
@@ -623,7 +663,7 @@ public class SpreadsheetTest {
         try {
             expected = new String(Files.readAllBytes(Paths
                 .get(getClass().getResource(
-                    "/org/gephi/io/importer/plugin/file/spreadsheet/expected/" + testName.getMethodName() +
+                    "/org/gephi/io/importer/plugin/file/spreadsheet/expected/" + getExpectedName() +
                         "_nodes.csv").toURI()))).trim().replace("\r", "");
         } catch (URISyntaxException e) {
             e.printStackTrace();
@@ -631,4 +671,8 @@ public class SpreadsheetTest {
 
         Assert.assertEquals(expected, result);
     }
+
+    private String getExpectedName() {
+        return testName.getMethodName().replace("_AutoDetectImporter", "").replace("_Parallel", "");
+    }
 }
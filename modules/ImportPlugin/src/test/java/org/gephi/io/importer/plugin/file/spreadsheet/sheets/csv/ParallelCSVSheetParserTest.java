@@ -0,0 +1,116 @@
+package org.gephi.io.importer.plugin.file.spreadsheet.sheets.csv;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.gephi.io.importer.plugin.file.spreadsheet.SpreadsheetUtils;
+import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetParser;
+import org.gephi.io.importer.plugin.file.spreadsheet.sheet.SheetRow;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ParallelCSVSheetParserTest {
+
+    @Test
+    public void testRecordBoundary() {
+        Assert.assertEquals(8, boundary("a,b\nc,d\n", false));
+        Assert.assertEquals(4, boundary("a,b\nc,d\n", true));
+        Assert.assertEquals(10, boundary("a,\"x\ny\",b\nc", false));
+        Assert.assertEquals(10, boundary("a,\"x\"\"\ny\"\nz", false));
+        Assert.assertEquals(9, boundary(" \"a\nb\",c\nx", false));
+        Assert.assertEquals(-1, boundary("\"a\nb\"", false));
+    }
+
+    @Test
+    public void testRecordBoundaryCarriageReturn() {
+        Assert.assertEquals(9, boundary("a,b\rc,d\r\n", false));
+        Assert.assertEquals(4, boundary("a,b\rc,d\r\n", true));
+        Assert.assertEquals(5, boundary("a,b\r\nc,d", true));
+        Assert.assertEquals(10, boundary("a,\"x\ry\",b\rc", false));
+        //A trailing \r may be followed by \n in the next bytes
+        Assert.assertEquals(4, boundary("a,b\rc,d\r", false));
+        Assert.assertEquals(-1, boundary("a,b\r", false));
+    }
+
+    @Test
+    public void testCarriageReturnLineEndings() throws IOException {
+        StringBuilder sb = new StringBuilder("id,label\r");
+        for (int i = 0; i < 500; i++) {
+            sb.append(i).append(',').append(i % 7 == 0 ? "\"multi\rline\"" : "label " + i).append('\r');
+        }
+        File file = File.createTempFile("parallel", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<List<String>> expected;
+        try (SheetParser parser = new CSVSheetParser(
+            SpreadsheetUtils.configureCSVParser(file, ',', StandardCharsets.UTF_8, true))) {
+            expected = toList(parser, parser.iterator());
+        }
+        Assert.assertEquals(500, expected.size());
+        for (int chunkSize : new int[] {1, 64, 1000}) {
+            try (SheetParser parser = new ParallelCSVSheetParser(file, StandardCharsets.UTF_8, ',', 4, chunkSize)) {
+                Assert.assertEquals(Arrays.asList("id", "label"), new ArrayList<>(parser.getHeaderMap().keySet()));
+                Assert.assertEquals(expected, toList(parser, parser.iterator()));
+            }
+        }
+    }
+
+    @Test
+    public void testSameRowsAsSequential() throws IOException {
+        StringBuilder sb = new StringBuilder("\uFEFFid,label,weight\n");
+        for (int i = 0; i < 500; i++) {
+            sb.append(i).append(',');
+            if (i % 7 == 0) {
+                sb.append("\"multi\nline, \"\"quoted\"\"\"");
+            } else if (i % 11 == 0) {
+                sb.append("inconsistent,row");
+            } else {
+                sb.append("label ").append(i);
+            }
+            sb.append(',').append(i * 0.5).append(i % 13 == 0 ? "\r\n\n" : "\n");
+        }
+        File file = File.createTempFile("parallel", ".csv");
+        file.deleteOnExit();
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<List<String>> expected;
+        try (SheetParser parser = new CSVSheetParser(
+            SpreadsheetUtils.configureCSVParser(file, ',', StandardCharsets.UTF_8, true))) {
+            Assert.assertEquals(Arrays.asList("id", "label", "weight"), new ArrayList<>(parser.getHeaderMap().keySet()));
+            expected = toList(parser, parser.iterator());
+        }
+        for (int chunkSize : new int[] {1, 64, 1000, 1 << 20}) {
+            try (SheetParser parser = new ParallelCSVSheetParser(file, StandardCharsets.UTF_8, ',', 4, chunkSize)) {
+                Assert.assertEquals(Arrays.asList("id", "label", "weight"),
+                    new ArrayList<>(parser.getHeaderMap().keySet()));
+                Assert.assertEquals(expected, toList(parser, parser.iterator()));
+            }
+        }
+    }
+
+    private static int boundary(String text, boolean firstRecord) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return ParallelCSVSheetParser.findRecordBoundary(bytes, bytes.length, (byte) ',', firstRecord);
+    }
+
+    private static List<List<String>> toList(SheetParser parser, Iterator<SheetRow> iterator) {
+        List<List<String>> rows = new ArrayList<>();
+        while (iterator.hasNext()) {
+            SheetRow row = iterator.next();
+            List<String> values = new ArrayList<>();
+            values.add(String.valueOf(parser.getCurrentRecordNumber()));
+            values.add(String.valueOf(row.isConsistent()));
+            for (int i = 0; i < row.size(); i++) {
+                values.add(row.get(i));
+            }
+            rows.add(values);
+        }
+        return rows;
+    }
+}
@@ -1,7 +1,10 @@
 package org.gephi.io.processor.plugin;
 
+import org.gephi.graph.api.Edge;
+import org.gephi.graph.api.Graph;
 import org.gephi.graph.api.GraphModel;
 import org.gephi.graph.api.Node;
+import org.gephi.io.importer.api.EdgeDraft;
 import org.gephi.io.importer.api.MetadataDraft;
 import org.gephi.io.importer.api.NodeDraft;
 import org.gephi.io.importer.impl.ImportContainerImpl;
@@ -47,4 +50,76 @@ public class DefaultProcessorTest {
         Assert.assertEquals("foo", workspaceMetaData.getDescription());
         Assert.assertEquals("bar", workspaceMetaData.getTitle());
     }
+
+    @Test
+    public void testBatches() {
+        ImportContainerImpl importContainer = new ImportContainerImpl();
+        int count = DefaultProcessor.BATCH_SIZE + 1;
+        for (int i = 0; i < count; i++) {
+            importContainer.addNode(importContainer.factory().newNodeDraft(String.valueOf(i)));
+        }
+        for (int i = 1; i < count; i++) {
+            importContainer.addEdge(newEdgeDraft(importContainer, String.valueOf(i - 1), String.valueOf(i), 1.0));
+        }
+
+        Workspace workspace = new WorkspaceImpl(null, 1);
+        process(importContainer, workspace);
+
+        Graph graph = workspace.getLookup().lookup(GraphModel.class).getGraph();
+        Assert.assertEquals(count, graph.getNodeCount());
+        Assert.assertEquals(count - 1, graph.getEdgeCount());
+        Node last = graph.getNode(String.valueOf(count - 1));
+        Assert.assertNotNull(graph.getEdge(graph.getNode(String.valueOf(count - 2)), last));
+    }
+
+    @Test
+    public void testMergeParallelEdges() {
+        ImportContainerImpl importContainer = new ImportContainerImpl();
+        importContainer.addEdge(newEdgeDraft(importContainer, "1", "2", 1.0));
+        importContainer.addEdge(newEdgeDraft(importContainer, "2", "3", 1.0));
+        importContainer.addEdge(newEdgeDraft(importContainer, "1", "2", 2.0));
+
+        Workspace workspace = new WorkspaceImpl(null, 1);
+        process(importContainer, workspace);
+
+        Graph graph = workspace.getLookup().lookup(GraphModel.class).getGraph();
+        Assert.assertEquals(2, graph.getEdgeCount());
+        Edge edge = graph.getEdge(graph.getNode("1"), graph.getNode("2"));
+        Assert.assertEquals(3.0, edge.getWeight(), 0.0);
+    }
+
+    @Test
+    public void testProcessNonEmptyWorkspace() {
+        Workspace workspace = new WorkspaceImpl(null, 1);
+        ImportContainerImpl firstContainer = new ImportContainerImpl();
+        firstContainer.addEdge(newEdgeDraft(firstContainer, "1", "2", 1.0));
+        process(firstContainer, workspace);
+
+        ImportContainerImpl secondContainer = new ImportContainerImpl();
+        secondContainer.addEdge(newEdgeDraft(secondContainer, "1", "2", 2.0));
+        secondContainer.addEdge(newEdgeDraft(secondContainer, "2", "3", 1.0));
+        process(secondContainer, workspace);
+
+        Graph graph = workspace.getLookup().lookup(GraphModel.class).getGraph();
+        Assert.assertEquals(3, graph.getNodeCount());
+        Assert.assertEquals(2, graph.getEdgeCount());
+        Edge edge = graph.getEdge(graph.getNode("1"), graph.getNode("2"));
+        Assert.assertEquals(3.0, edge.getWeight(), 0.0);
+    }
+
+    private static EdgeDraft newEdgeDraft(ImportContainerImpl importContainer, String source, String target,
+                                          double weight) {
+        EdgeDraft edgeDraft = importContainer.factory().newEdgeDraft();
+        edgeDraft.setSource(importContainer.getNode(source));
+        edgeDraft.setTarget(importContainer.getNode(target));
+        edgeDraft.setWeight(weight);
+        return edgeDraft;
+    }
+
+    private static void process(ImportContainerImpl importContainer, Workspace workspace) {
+        DefaultProcessor defaultProcessor = new DefaultProcessor();
+        defaultProcessor.setContainers(new ImportContainerImpl[] {importContainer});
+        defaultProcessor.setWorkspace(workspace);
+        defaultProcessor.process();
+    }
 }
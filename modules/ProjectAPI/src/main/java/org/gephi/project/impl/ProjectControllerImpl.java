@@ -61,7 +61,10 @@ import org.gephi.project.api.Workspace;
 import org.gephi.project.api.WorkspaceListener;
 import org.gephi.project.io.DuplicateTask;
 import org.gephi.project.io.LoadTask;
+import org.gephi.project.io.ProjectJournal;
 import org.gephi.project.io.SaveTask;
+import org.gephi.project.io.WorkspaceLoadTask;
+import org.gephi.project.io.WorkspaceLoader;
 import org.gephi.utils.longtask.api.LongTaskExecutor;
 import org.openide.util.Exceptions;
 import org.openide.util.Lookup;
@@ -140,6 +143,7 @@ public class ProjectControllerImpl implements ProjectController {
                 // Null if cancelled
                 if (project != null) {
                     openProjectInternal(project);
+                    ProjectJournal.open(project);
                     fireProjectEvent((pl) -> pl.opened(project));
                 } else {
                     fireProjectEvent(ProjectListener::unlock);
@@ -183,16 +187,22 @@ public class ProjectControllerImpl implements ProjectController {
     public void saveProject(Project project, File file) {
         synchronized (this) {
             fireProjectEvent(ProjectListener::lock);
+            ProjectJournal.saveStarted(project);
             SaveTask saveTask = new SaveTask(project, file);
             longTaskExecutor.execute(saveTask, () -> {
                 project.getLookup().lookup(ProjectInformationImpl.class).setFile(file);
                 if (saveTask.run()) {
+                    ProjectJournal.reset((ProjectImpl) project);
                     ((ProjectImpl) project).setLastOpened();
                     fireProjectEvent((pl) -> pl.saved(project));
                 } else {
+                    ProjectJournal.saveFailed(project);
                     fireProjectEvent(ProjectListener::unlock);
                 }
-            }, "", t -> handleException(project, t));
+            }, "", t -> {
+                ProjectJournal.saveFailed(project);
+                handleException(project, t);
+            });
         }
     }
 
@@ -214,6 +224,8 @@ public class ProjectControllerImpl implements ProjectController {
                     }
 
                     //Close
+                    WorkspaceLoader.close(project);
+                    ProjectJournal.close(project);
                     projects.closeCurrentProject();
 
                     fireWorkspaceEvent(ProjectControllerImpl.EventType.DISABLE, null);
@@ -349,6 +361,11 @@ public class ProjectControllerImpl implements ProjectController {
 
     @Override
     public void openWorkspace(Workspace workspace) {
+        //Workspaces of lazily loaded projects are read before the current one is closed, so it stays selected
+        //if reading fails
+        if (WorkspaceLoader.isPending(workspace)) {
+            loadWorkspace(workspace);
+        }
         synchronized (this) {
             closeCurrentWorkspace();
             getCurrentProject().setCurrentWorkspace(workspace);
@@ -358,6 +375,15 @@ public class ProjectControllerImpl implements ProjectController {
         }
     }
 
+    private void loadWorkspace(Workspace workspace) {
+        fireProjectEvent(ProjectListener::lock);
+        WorkspaceLoadTask loadTask = new WorkspaceLoadTask(workspace);
+        longTaskExecutor.execute(loadTask, () -> {
+            loadTask.run();
+            fireProjectEvent(ProjectListener::unlock);
+        }, "", t -> handleException(workspace.getProject(), t));
+    }
+
     @Override
     public Workspace openNewWorkspace() {
         synchronized (this) {
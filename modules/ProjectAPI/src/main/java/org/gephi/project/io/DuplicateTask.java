@@ -1,12 +1,19 @@
 package org.gephi.project.io;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.XMLStreamWriter;
 import org.gephi.project.api.Workspace;
@@ -20,8 +27,17 @@ import org.gephi.utils.progress.Progress;
 import org.gephi.utils.progress.ProgressTicket;
 import org.openide.util.NbBundle;
 
+/**
+ * Task that duplicates a workspace.
+ * <p>
+ * Providers first get a chance to copy their model directly with
+ * {@link WorkspacePersistenceProvider#duplicate(Workspace, Workspace)}. The
+ * others are written and read back at the same time through a pipe so the
+ * serialized data is never held in memory as a whole.
+ */
 public class DuplicateTask implements LongTask {
 
+    private static final int PIPE_SIZE = 1 << 16;
     private final Workspace workspace;
 
     private boolean cancel = false;
@@ -37,12 +53,13 @@ public class DuplicateTask implements LongTask {
         Progress.setDisplayName(progressTicket, NbBundle.getMessage(DuplicateTask.class, "DuplicateTask.name"));
 
         try {
+            WorkspaceLoader.load(workspace);
             WorkspaceImpl newWorkspace = duplicateWorkspace(workspace);
 
             Collection<WorkspacePersistenceProvider> providers = PersistenceProviderUtils.getPersistenceProviders();
 
             for (WorkspacePersistenceProvider provider : providers) {
-                if (!cancel) {
+                if (!cancel && !provider.duplicate(workspace, newWorkspace)) {
                     if (provider instanceof WorkspaceXMLPersistenceProvider) {
                         duplicateWorkspaceModel(workspace, newWorkspace, (WorkspaceXMLPersistenceProvider) provider);
                     } else if (provider instanceof WorkspaceBytesPersistenceProvider) {
@@ -61,30 +78,86 @@ public class DuplicateTask implements LongTask {
 
     private void duplicateWorkspaceModel(Workspace workspace, Workspace newWorkspace,
                                          WorkspaceBytesPersistenceProvider persistenceProvider) throws Exception {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        DataOutputStream dos = new DataOutputStream(bos);
-        persistenceProvider.writeBytes(dos, workspace);
-        bos.close();
-
-        ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-        DataInputStream dis = new DataInputStream(bis);
-        persistenceProvider.readBytes(dis, newWorkspace);
-        bis.close();
+        pipe(out -> {
+            DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(out, PIPE_SIZE));
+            persistenceProvider.writeBytes(dos, workspace);
+            dos.flush();
+        }, in -> {
+            //Buffered for providers that mark and reset the stream
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(in, PIPE_SIZE));
+            persistenceProvider.readBytes(dis, newWorkspace);
+        });
     }
 
     private void duplicateWorkspaceModel(Workspace workspace, Workspace newWorkspace,
                                          WorkspaceXMLPersistenceProvider persistenceProvider) throws Exception {
-        ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        XMLStreamWriter writer = SaveTask.newXMLWriter(bos);
-        GephiWriter.writeWorkspaceChildren(writer, workspace, persistenceProvider);
-        writer.close();
-        bos.close();
+        pipe(out -> {
+            XMLStreamWriter writer = SaveTask.newXMLWriter(out);
+            GephiWriter.writeWorkspaceChildren(writer, workspace, persistenceProvider);
+            writer.flush();
+            writer.close();
+        }, in -> {
+            XMLStreamReader reader = LoadTask.newXMLReader(in);
+            GephiReader.readWorkspaceChildren(newWorkspace, reader, persistenceProvider);
+            reader.close();
+        });
+    }
 
-        ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
-        XMLStreamReader reader = LoadTask.newXMLReader(bis);
-        GephiReader.readWorkspaceChildren(newWorkspace, reader, persistenceProvider);
-        reader.close();
-        bis.close();
+    /**
+     * Runs <code>writer</code> on a separate thread and <code>reader</code> on
+     * the calling thread, connected by a pipe. When both sides fail, the error
+     * which happened first is thrown.
+     */
+    private static void pipe(StreamHandler<OutputStream> writer, StreamHandler<InputStream> reader)
+        throws Exception {
+        PipedInputStream in = new PipedInputStream(PIPE_SIZE);
+        PipedOutputStream out = new PipedOutputStream(in);
+
+        AtomicReference<Throwable> writeError = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                writer.handle(out);
+            } catch (Throwable t) {
+                writeError.set(t);
+            } finally {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    //Ignore
+                }
+            }
+        }, "Workspace Duplicate");
+        thread.setDaemon(true);
+        thread.start();
+
+        Throwable readError = null;
+        try {
+            //Readers may close their stream, which should only happen once the rest is consumed
+            reader.handle(new FilterInputStream(in) {
+                @Override
+                public void close() {
+                }
+            });
+
+            //Consume what the reader left over so the writer can finish
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+            }
+        } catch (Throwable t) {
+            //The writer failing first is the likely cause of the read error
+            readError = writeError.get() != null ? writeError.get() : t;
+        } finally {
+            //Unblocks the writer if the reader failed
+            in.close();
+            thread.join();
+        }
+
+        Throwable error = readError != null ? readError : writeError.get();
+        if (error instanceof Exception) {
+            throw (Exception) error;
+        } else if (error instanceof Error) {
+            throw (Error) error;
+        }
     }
 
     private WorkspaceImpl duplicateWorkspace(Workspace workspace) throws Exception {
@@ -112,4 +185,10 @@ public class DuplicateTask implements LongTask {
     public void setProgressTicket(ProgressTicket progressTicket) {
         this.progressTicket = progressTicket;
     }
+
+    @FunctionalInterface
+    private interface StreamHandler<T> {
+
+        void handle(T stream) throws Exception;
+    }
 }
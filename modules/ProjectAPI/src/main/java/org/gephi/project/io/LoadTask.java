@@ -76,18 +76,29 @@ import org.gephi.utils.longtask.spi.LongTask;
 import org.gephi.utils.progress.Progress;
 import org.gephi.utils.progress.ProgressTicket;
 import org.openide.util.NbBundle;
+import org.openide.util.NbPreferences;
 
 /**
+ * Task that reads a project from a <code>.gephi</code> file.
+ * <p>
+ * By default, all workspaces are read before the project is returned. In lazy
+ * mode, only the project and workspace metadata plus the providers of the open
+ * workspace are read. The other workspaces are read by the {@link WorkspaceLoader}
+ * added to the project's lookup when they are first selected.
+ *
  * @author Mathieu Bastian
  */
 public class LoadTask implements LongTask {
 
+    private static final String LAZY_PREFERENCE = "ProjectIO_Load_Lazy";
     private final File file;
     private boolean cancel = false;
     private ProgressTicket progressTicket;
+    private boolean lazy;
 
     public LoadTask(File file) {
         this.file = file;
+        this.lazy = NbPreferences.forModule(LoadTask.class).getBoolean(LAZY_PREFERENCE, false);
     }
 
     public static XMLStreamReader newXMLReader(InputStream is) throws XMLStreamException {
@@ -112,6 +123,7 @@ public class LoadTask implements LongTask {
 
         try {
             ZipFile zip = null;
+            List<Integer> pendingWorkspaces = new ArrayList<>();
             try {
                 if (!file.exists()) {
                     throw new FileNotFoundException("File " + file.getPath() + " not found");
@@ -135,7 +147,8 @@ public class LoadTask implements LongTask {
                         PersistenceProviderUtils.getPersistenceProviders();
 
                     //Setup progress
-                    Progress.switchToDeterminate(progressTicket, (1 + providers.size()) * workspaceEntries.size());
+                    Progress.switchToDeterminate(progressTicket,
+                        (1 + (lazy ? 0 : providers.size())) * workspaceEntries.size());
 
                     // Read workspaces
                     for (String workspaceEntry : workspaceEntries) {
@@ -144,25 +157,15 @@ public class LoadTask implements LongTask {
                         Progress.progress(progressTicket);
 
                         if (workspace != null) {
-                            for (WorkspacePersistenceProvider provider : providers) {
-                                if (provider instanceof WorkspaceXMLPersistenceProvider) {
-                                    try {
-                                        readWorkspaceChildrenXML((WorkspaceXMLPersistenceProvider) provider, workspace,
-                                            zip);
-                                    } catch (Exception e) {
-                                        Logger.getLogger("").log(
-                                            Level.SEVERE,
-                                            "Error while reading XML workspace persistence provider '" +
-                                                provider.getIdentifier() + "'",
-                                            e);
+                            if (lazy) {
+                                pendingWorkspaces.add(workspace.getId());
+                            } else {
+                                for (WorkspacePersistenceProvider provider : providers) {
+                                    readWorkspaceChildren(workspace, zip, provider);
+                                    Progress.progress(progressTicket);
+                                    if (cancel) {
+                                        break;
                                     }
-                                } else if (provider instanceof WorkspaceBytesPersistenceProvider) {
-                                    readWorkspaceChildrenBytes((WorkspaceBytesPersistenceProvider) provider, workspace,
-                                        zip);
-                                }
-                                Progress.progress(progressTicket);
-                                if (cancel) {
-                                    break;
                                 }
                             }
                         }
@@ -184,6 +187,20 @@ public class LoadTask implements LongTask {
                         }
                     }
 
+                    //Read the open workspace now and leave the others to the loader, which owns the zip from now on
+                    if (project.hasCurrentWorkspace() &&
+                        pendingWorkspaces.remove((Integer) project.getCurrentWorkspace().getId())) {
+                        readWorkspaceChildren(project.getCurrentWorkspace(), zip,
+                            PersistenceProviderUtils.getPersistenceProviders());
+                    }
+                    if (!pendingWorkspaces.isEmpty()) {
+                        project.add(new WorkspaceLoader(project, zip, pendingWorkspaces));
+                        zip = null;
+                    }
+
+                    //Recover the changes autosaved before a crash
+                    ProjectJournal.replay(project, file);
+
                     Progress.finish(progressTicket);
                     return project;
                 }
@@ -306,8 +323,31 @@ public class LoadTask implements LongTask {
         return null;
     }
 
-    private void readWorkspaceChildrenXML(WorkspaceXMLPersistenceProvider persistenceProvider, Workspace workspace,
-                                          ZipFile zipFile) throws Exception {
+    static void readWorkspaceChildren(Workspace workspace, ZipFile zipFile,
+                                      Collection<WorkspacePersistenceProvider> providers) throws Exception {
+        for (WorkspacePersistenceProvider provider : providers) {
+            readWorkspaceChildren(workspace, zipFile, provider);
+        }
+    }
+
+    static void readWorkspaceChildren(Workspace workspace, ZipFile zipFile, WorkspacePersistenceProvider provider)
+        throws Exception {
+        if (provider instanceof WorkspaceXMLPersistenceProvider) {
+            try {
+                readWorkspaceChildrenXML((WorkspaceXMLPersistenceProvider) provider, workspace, zipFile);
+            } catch (Exception e) {
+                Logger.getLogger("").log(
+                    Level.SEVERE,
+                    "Error while reading XML workspace persistence provider '" + provider.getIdentifier() + "'",
+                    e);
+            }
+        } else if (provider instanceof WorkspaceBytesPersistenceProvider) {
+            readWorkspaceChildrenBytes((WorkspaceBytesPersistenceProvider) provider, workspace, zipFile);
+        }
+    }
+
+    private static void readWorkspaceChildrenXML(WorkspaceXMLPersistenceProvider persistenceProvider,
+                                                 Workspace workspace, ZipFile zipFile) throws Exception {
         String identifier = persistenceProvider.getIdentifier();
         ZipEntry entry = zipFile.getEntry("Workspace_" + workspace.getId() + "_" + identifier + "_xml");
         if (entry != null) {
@@ -353,8 +393,8 @@ public class LoadTask implements LongTask {
         }
     }
 
-    private void readWorkspaceChildrenBytes(WorkspaceBytesPersistenceProvider persistenceProvider, Workspace workspace,
-                                            ZipFile zipFile) throws Exception {
+    private static void readWorkspaceChildrenBytes(WorkspaceBytesPersistenceProvider persistenceProvider,
+                                                   Workspace workspace, ZipFile zipFile) throws Exception {
         String identifier = persistenceProvider.getIdentifier();
         ZipEntry entry = zipFile.getEntry("Workspace_" + workspace.getId() + "_" + identifier + "_bytes");
         if (entry != null) {
@@ -375,6 +415,20 @@ public class LoadTask implements LongTask {
         }
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * Sets whether workspaces are read on demand. The default is read from the
+     * <code>ProjectIO_Load_Lazy</code> preference and is <code>false</code>.
+     *
+     * @param lazy <code>true</code> to only read the open workspace upfront
+     */
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     @Override
     public boolean cancel() {
         cancel = true;
@@ -0,0 +1,671 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.project.io;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import org.gephi.project.api.Project;
+import org.gephi.project.api.ProjectController;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.impl.ProjectImpl;
+import org.gephi.project.impl.WorkspaceImpl;
+import org.gephi.project.impl.WorkspaceInformationImpl;
+import org.gephi.project.spi.WorkspaceBytesPersistenceProvider;
+import org.gephi.project.spi.WorkspaceJournalPersistenceProvider;
+import org.gephi.project.spi.WorkspacePersistenceProvider;
+import org.gephi.project.spi.WorkspaceXMLPersistenceProvider;
+import org.openide.util.Lookup;
+import org.openide.util.NbPreferences;
+
+/**
+ * Append-only journal of the changes made to a project since it was last
+ * saved.
+ * <p>
+ * The journal is a file next to the project file, with an additional
+ * <code>.journal</code> extension. While the project is open, the autosave
+ * periodically appends the changes recorded by
+ * {@link WorkspaceJournalPersistenceProvider} providers, as well as the
+ * workspaces created since the last save. The cost of an autosave depends on
+ * the providers: the graph provider records element and attribute changes as
+ * they happen, but periodically scans all elements for position, size and
+ * color changes. New workspaces are streamed to the journal in full.
+ * <p>
+ * The records of an autosave are appended together: if one of them can't be
+ * written, the journal is truncated back to its previous length and the
+ * changes are written again by the next autosave.
+ * <p>
+ * The journal is deleted when the project is saved or closed, so it only
+ * outlives a crash. {@link LoadTask} then replays it on top of the project
+ * file the next time the project is opened. When the journal grows over the
+ * compaction size, the project is saved, which starts a new journal.
+ * <p>
+ * The autosave is disabled unless the <code>ProjectIO_Autosave_Interval</code>
+ * preference is set to a number of seconds.
+ */
+public class ProjectJournal {
+
+    private static final String INTERVAL_PREFERENCE = "ProjectIO_Autosave_Interval";
+    private static final String COMPACT_SIZE_PREFERENCE = "ProjectIO_Autosave_CompactSize_MB";
+    private static final int MAGIC = 0x474A524E;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final byte WORKSPACE_RECORD = 1;
+    private static final byte FULL_RECORD = 2;
+    private static final byte DELTA_RECORD = 3;
+    private final ProjectImpl project;
+    private final File projectFile;
+    private final File journalFile;
+    private final long baseLength;
+    private final long baseModified;
+    //Workspaces whose data is in the project file or in the journal
+    private final Set<Integer> savedWorkspaces = new HashSet<>();
+    private final Set<Integer> journaledWorkspaces = new HashSet<>();
+    private ScheduledExecutorService executor;
+    private boolean closed;
+    //Set while the project is saved, a successful save starts a new journal
+    private volatile boolean saving;
+
+    private ProjectJournal(ProjectImpl project) {
+        this.project = project;
+        this.projectFile = project.getFile();
+        this.journalFile = getJournalFile(projectFile);
+        this.baseLength = projectFile.length();
+        this.baseModified = projectFile.lastModified();
+
+        //A journal replayed at load is kept and appended to
+        if (journalFile.exists() && !matchesProjectFile()) {
+            deleteJournalFile(journalFile);
+        }
+    }
+
+    /**
+     * Returns the journal file of <code>projectFile</code>.
+     *
+     * @param projectFile the project file
+     * @return the journal file, which may not exist
+     */
+    public static File getJournalFile(File projectFile) {
+        return new File(projectFile.getParentFile(), projectFile.getName() + ".journal");
+    }
+
+    /**
+     * Starts the autosave of <code>project</code>, whose current state must
+     * be the one of its file. Does nothing if the project has no file or if
+     * the autosave is disabled.
+     *
+     * @param project the project to journal
+     */
+    public static void open(ProjectImpl project) {
+        int interval = NbPreferences.forModule(ProjectJournal.class).getInt(INTERVAL_PREFERENCE, 0);
+        if (!project.hasFile() || !project.getFile().exists() || interval <= 0) {
+            return;
+        }
+        create(project).schedule(interval);
+    }
+
+    static ProjectJournal create(ProjectImpl project) {
+        ProjectJournal journal = new ProjectJournal(project);
+        for (Workspace workspace : project.getWorkspaces()) {
+            journal.savedWorkspaces.add(workspace.getId());
+            if (isLoaded(workspace)) {
+                journal.startWorkspace(workspace);
+            }
+        }
+        project.add(journal);
+        return journal;
+    }
+
+    /**
+     * Stops the autosave of <code>project</code> and deletes its journal.
+     *
+     * @param project the project
+     */
+    public static void close(Project project) {
+        ProjectJournal journal = project.getLookup().lookup(ProjectJournal.class);
+        if (journal != null) {
+            journal.stop();
+            deleteJournalFile(journal.journalFile);
+        }
+        if (project.hasFile()) {
+            deleteJournalFile(getJournalFile(project.getFile()));
+        }
+    }
+
+    /**
+     * Starts a new journal once <code>project</code> has been saved.
+     *
+     * @param project the saved project
+     */
+    public static void reset(ProjectImpl project) {
+        close(project);
+        open(project);
+    }
+
+    /**
+     * Notifies the journal of <code>project</code> that a save started, so
+     * the autosave doesn't queue a compaction until it ends.
+     *
+     * @param project the project being saved
+     */
+    public static void saveStarted(Project project) {
+        ProjectJournal journal = project.getLookup().lookup(ProjectJournal.class);
+        if (journal != null) {
+            journal.saving = true;
+        }
+    }
+
+    /**
+     * Notifies the journal of <code>project</code> that a save failed or was
+     * cancelled, so the journal is still needed.
+     *
+     * @param project the project which wasn't saved
+     */
+    public static void saveFailed(Project project) {
+        ProjectJournal journal = project.getLookup().lookup(ProjectJournal.class);
+        if (journal != null) {
+            journal.saving = false;
+        }
+    }
+
+    /**
+     * Starts journaling a workspace whose data has been read after the
+     * project has been opened.
+     *
+     * @param workspace the loaded workspace
+     */
+    static void start(Workspace workspace) {
+        ProjectJournal journal = workspace.getProject().getLookup().lookup(ProjectJournal.class);
+        if (journal != null) {
+            journal.startWorkspace(workspace);
+        }
+    }
+
+    /**
+     * Applies the journal of <code>projectFile</code>, if any, on the project
+     * just read from it. Records cut by a crash are dropped from the journal.
+     *
+     * @param project     the loaded project
+     * @param projectFile the project file
+     * @return the number of records applied
+     */
+    static int replay(ProjectImpl project, File projectFile) {
+        File journalFile = getJournalFile(projectFile);
+        if (!journalFile.exists()) {
+            return 0;
+        }
+
+        Map<String, WorkspacePersistenceProvider> providers = new HashMap<>();
+        for (WorkspacePersistenceProvider provider : PersistenceProviderUtils.getPersistenceProviders()) {
+            providers.put(provider.getIdentifier(), provider);
+        }
+
+        long validLength = HEADER_SIZE;
+        int records = 0;
+        try {
+            try (RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+                if (!readHeader(raf, projectFile.length(), projectFile.lastModified())) {
+                    Logger.getLogger("").log(Level.WARNING,
+                        "Ignoring the journal of ''{0}'' as the project has been saved since", projectFile.getName());
+                    raf.close();
+                    deleteJournalFile(journalFile);
+                    return 0;
+                }
+                FileChannel channel = raf.getChannel();
+                long fileLength = raf.length();
+                while (true) {
+                    byte type;
+                    int workspaceId;
+                    String identifier;
+                    long length;
+                    try {
+                        raf.seek(validLength);
+                        type = raf.readByte();
+                        workspaceId = raf.readInt();
+                        byte[] identifierBytes = new byte[raf.readUnsignedShort()];
+                        raf.readFully(identifierBytes);
+                        identifier = new String(identifierBytes, StandardCharsets.UTF_8);
+                        length = raf.readLong();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    long payloadPosition = raf.getFilePointer();
+                    long end = payloadPosition + length + 8;
+                    if (length < 0 || end > fileLength) {
+                        break;
+                    }
+                    raf.seek(end - 8);
+                    if (raf.readLong() != checksum(channel, payloadPosition, length)) {
+                        break;
+                    }
+                    validLength = end;
+                    try {
+                        applyRecord(project, type, workspaceId, providers.get(identifier),
+                            new BufferedInputStream(new PayloadInputStream(channel, payloadPosition, length)));
+                    } catch (Exception e) {
+                        Logger.getLogger("").log(Level.SEVERE,
+                            "Error while replaying the journal record of '" + identifier + "'", e);
+                    }
+                    records++;
+                }
+
+                //Drop the record the crash interrupted so new ones can be appended
+                if (validLength < fileLength) {
+                    raf.setLength(validLength);
+                }
+            }
+        } catch (IOException e) {
+            Logger.getLogger("").log(Level.SEVERE, "Error while reading the project journal", e);
+        }
+        if (records > 0) {
+            Logger.getLogger("").log(Level.INFO, "Recovered {0} unsaved changes of ''{1}''",
+                new Object[] {records, projectFile.getName()});
+        }
+        return records;
+    }
+
+    private static void applyRecord(ProjectImpl project, byte type, int workspaceId,
+                                    WorkspacePersistenceProvider provider, InputStream payload) throws Exception {
+        if (type == WORKSPACE_RECORD) {
+            if (project.getWorkspace(workspaceId) == null) {
+                XMLStreamReader reader = LoadTask.newXMLReader(payload);
+                WorkspaceImpl workspace = GephiReader.readWorkspace(reader, project);
+                reader.close();
+                if (workspace != null) {
+                    workspace.getLookup().lookup(WorkspaceInformationImpl.class).close();
+                }
+            }
+            return;
+        }
+        Workspace workspace = project.getWorkspace(workspaceId);
+        if (workspace == null || provider == null) {
+            return;
+        }
+        WorkspaceLoader.load(workspace);
+
+        if (type == DELTA_RECORD && provider instanceof WorkspaceJournalPersistenceProvider) {
+            ((WorkspaceJournalPersistenceProvider) provider)
+                .readJournal(new DataInputStream(payload), workspace);
+        } else if (type == FULL_RECORD && provider instanceof WorkspaceXMLPersistenceProvider) {
+            XMLStreamReader reader = LoadTask.newXMLReader(payload);
+            GephiReader.readWorkspaceChildren(workspace, reader, (WorkspaceXMLPersistenceProvider) provider);
+            reader.close();
+        } else if (type == FULL_RECORD && provider instanceof WorkspaceBytesPersistenceProvider) {
+            ((WorkspaceBytesPersistenceProvider) provider)
+                .readBytes(new DataInputStream(payload), workspace);
+        }
+    }
+
+    private void schedule(int interval) {
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "Project Autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::autosave, interval, interval, TimeUnit.SECONDS);
+    }
+
+    private void autosave() {
+        try {
+            long length = write();
+            long compactSize =
+                NbPreferences.forModule(ProjectJournal.class).getLong(COMPACT_SIZE_PREFERENCE, 512) * 1024 * 1024;
+            ProjectController projectController = Lookup.getDefault().lookup(ProjectController.class);
+            //Outside of the journal lock, saving resets the journal
+            if (length > compactSize && !saving && projectController != null) {
+                saving = true;
+                projectController.saveProject(project);
+            }
+        } catch (Throwable e) {
+            //Also catches errors, which would otherwise cancel the scheduled autosave
+            Logger.getLogger("").log(Level.WARNING, "Error while writing the project journal", e);
+        }
+    }
+
+    /**
+     * Appends the changes made since the previous call to the journal. The
+     * changes are only committed once all records have been appended.
+     *
+     * @return the length of the journal
+     * @throws Exception if an error occurs
+     */
+    synchronized long write() throws Exception {
+        if (closed) {
+            return 0;
+        }
+        Collection<WorkspacePersistenceProvider> providers = PersistenceProviderUtils.getPersistenceProviders();
+        List<Integer> newWorkspaces = new ArrayList<>();
+        Map<Workspace, List<WorkspaceJournalPersistenceProvider>> deltas = new LinkedHashMap<>();
+        boolean existed = journalFile.exists();
+
+        try (RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+            FileChannel channel = raf.getChannel();
+            long start = channel.size();
+            try {
+                channel.position(start);
+                if (start == 0) {
+                    writeFully(channel, ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION)
+                        .putLong(baseLength).putLong(baseModified));
+                }
+                long recordsStart = channel.position();
+
+                for (Workspace workspace : project.getWorkspaces()) {
+                    if (!isLoaded(workspace)) {
+                        continue;
+                    }
+                    startWorkspace(workspace);
+                    if (!savedWorkspaces.contains(workspace.getId())) {
+                        //New workspace, its whole data goes to the journal and only its changes afterwards
+                        writeRecord(channel, WORKSPACE_RECORD, workspace.getId(), "",
+                            out -> writeXML(out, writer -> GephiWriter.writeWorkspace(writer, workspace)));
+                        for (WorkspacePersistenceProvider provider : providers) {
+                            if (provider instanceof WorkspaceXMLPersistenceProvider) {
+                                writeRecord(channel, FULL_RECORD, workspace.getId(), provider.getIdentifier(),
+                                    out -> writeXML(out, writer -> GephiWriter.writeWorkspaceChildren(writer,
+                                        workspace, (WorkspaceXMLPersistenceProvider) provider)));
+                            } else if (provider instanceof WorkspaceBytesPersistenceProvider) {
+                                writeRecord(channel, FULL_RECORD, workspace.getId(), provider.getIdentifier(),
+                                    out -> {
+                                        ((WorkspaceBytesPersistenceProvider) provider).writeBytes(out, workspace);
+                                        return true;
+                                    });
+                            }
+                        }
+                        newWorkspaces.add(workspace.getId());
+                    } else {
+                        for (WorkspacePersistenceProvider provider : providers) {
+                            if (provider instanceof WorkspaceJournalPersistenceProvider) {
+                                WorkspaceJournalPersistenceProvider journalProvider =
+                                    (WorkspaceJournalPersistenceProvider) provider;
+                                if (writeRecord(channel, DELTA_RECORD, workspace.getId(), provider.getIdentifier(),
+                                    out -> journalProvider.writeJournal(out, workspace))) {
+                                    deltas.computeIfAbsent(workspace, w -> new ArrayList<>()).add(journalProvider);
+                                }
+                            }
+                        }
+                    }
+                }
+
+                if (channel.position() > recordsStart) {
+                    channel.force(false);
+                } else {
+                    channel.truncate(start);
+                }
+            } catch (Throwable e) {
+                //Nothing of this autosave is kept, its changes are written again next time
+                try {
+                    channel.truncate(start);
+                } catch (IOException ex) {
+                    e.addSuppressed(ex);
+                }
+                throw e;
+            }
+        } finally {
+            if (!existed && journalFile.length() == 0) {
+                deleteJournalFile(journalFile);
+            }
+        }
+
+        //The records are durable, the changes they hold can be committed
+        savedWorkspaces.addAll(newWorkspaces);
+        for (Map.Entry<Workspace, List<WorkspaceJournalPersistenceProvider>> entry : deltas.entrySet()) {
+            for (WorkspaceJournalPersistenceProvider provider : entry.getValue()) {
+                provider.commitJournal(entry.getKey());
+            }
+        }
+        return journalFile.length();
+    }
+
+    private synchronized void startWorkspace(Workspace workspace) {
+        if (!closed && journaledWorkspaces.add(workspace.getId())) {
+            for (WorkspacePersistenceProvider provider : PersistenceProviderUtils.getPersistenceProviders()) {
+                if (provider instanceof WorkspaceJournalPersistenceProvider) {
+                    ((WorkspaceJournalPersistenceProvider) provider).startJournal(workspace);
+                }
+            }
+        }
+    }
+
+    private synchronized void stop() {
+        closed = true;
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        List<Integer> ids = new ArrayList<>(journaledWorkspaces);
+        journaledWorkspaces.clear();
+        for (Integer id : ids) {
+            Workspace workspace = project.getWorkspace(id);
+            if (workspace != null) {
+                for (WorkspacePersistenceProvider provider : PersistenceProviderUtils.getPersistenceProviders()) {
+                    if (provider instanceof WorkspaceJournalPersistenceProvider) {
+                        ((WorkspaceJournalPersistenceProvider) provider).stopJournal(workspace);
+                    }
+                }
+            }
+        }
+        project.remove(this);
+    }
+
+    private boolean matchesProjectFile() {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(journalFile))) {
+            return readHeader(in, baseLength, baseModified);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean readHeader(DataInput in, long length, long lastModified) throws IOException {
+        try {
+            return in.readInt() == MAGIC && in.readInt() == VERSION && in.readLong() == length &&
+                in.readLong() == lastModified;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+
+    private static boolean isLoaded(Workspace workspace) {
+        WorkspaceLoader loader = workspace.getProject().getLookup().lookup(WorkspaceLoader.class);
+        return loader == null || loader.isLoaded(workspace);
+    }
+
+    /**
+     * Appends a record whose payload is streamed by <code>payloadWriter</code>
+     * to the journal, with a 64-bit payload length and checksum. The record is
+     * dropped if the payload writer returns <code>false</code>.
+     */
+    private static boolean writeRecord(FileChannel channel, byte type, int workspaceId, String identifier,
+                                       PayloadWriter payloadWriter) throws Exception {
+        long start = channel.position();
+        byte[] identifierBytes = identifier.getBytes(StandardCharsets.UTF_8);
+        writeFully(channel, ByteBuffer.allocate(15 + identifierBytes.length).put(type).putInt(workspaceId)
+            .putShort((short) identifierBytes.length).put(identifierBytes).putLong(0));
+        long payloadPosition = channel.position();
+
+        //Providers may close the stream, which mustn't close the channel
+        CRC32 crc = new CRC32();
+        OutputStream channelStream =
+            new CheckedOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)), crc);
+        DataOutputStream stream = new DataOutputStream(new FilterOutputStream(channelStream) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        });
+        boolean written = payloadWriter.write(stream);
+        stream.flush();
+        if (!written) {
+            channel.truncate(start);
+            channel.position(start);
+            return false;
+        }
+
+        long length = channel.position() - payloadPosition;
+        ByteBuffer lengthBuffer = ByteBuffer.allocate(Long.BYTES).putLong(0, length);
+        while (lengthBuffer.hasRemaining()) {
+            channel.write(lengthBuffer, payloadPosition - Long.BYTES + lengthBuffer.position());
+        }
+        writeFully(channel, ByteBuffer.allocate(Long.BYTES).putLong(crc.getValue()));
+        return true;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long checksum(FileChannel channel, long position, long length) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+        long end = position + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            buffer.flip();
+            crc.update(buffer);
+            position += read;
+        }
+        return crc.getValue();
+    }
+
+    private static boolean writeXML(OutputStream out, XMLWriter xmlWriter) throws Exception {
+        XMLStreamWriter writer = SaveTask.newXMLWriter(out);
+        xmlWriter.write(writer);
+        writer.flush();
+        writer.close();
+        return true;
+    }
+
+    private static void deleteJournalFile(File file) {
+        if (file.exists() && !file.delete()) {
+            Logger.getLogger("").log(Level.WARNING, "Can''t delete the project journal ''{0}''", file.getPath());
+        }
+    }
+
+    @FunctionalInterface
+    private interface XMLWriter {
+
+        void write(XMLStreamWriter writer) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+
+        boolean write(DataOutputStream out) throws Exception;
+    }
+
+    /**
+     * Reads the payload of a record, which may be larger than an array.
+     */
+    private static class PayloadInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        PayloadInputStream(FileChannel channel, long position, long length) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int read = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+            if (read > 0) {
+                position += read;
+            }
+            return read;
+        }
+    }
+}
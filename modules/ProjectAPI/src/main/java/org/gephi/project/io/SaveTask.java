@@ -45,15 +45,30 @@ package org.gephi.project.io;
 import java.io.BufferedOutputStream;
 import java.io.DataOutputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveOutputStream;
 import org.gephi.project.api.GephiFormatException;
 import org.gephi.project.api.Project;
 import org.gephi.project.api.Workspace;
@@ -71,19 +86,37 @@ import org.openide.util.NbBundle;
 import org.openide.util.NbPreferences;
 
 /**
+ * Saves a project to a zip file.
+ * <p>
+ * The project, each workspace and each workspace persistence provider are written to their own zip entry. Entries
+ * are serialized and deflated in parallel, each one to a temporary file, and then copied as is into the zip in the
+ * usual order. The result is a standard zip file.
+ * <p>
+ * Persistence providers aren't required to be thread-safe: the entries of a provider are written one after the other
+ * by the same thread, while different providers run in parallel.
+ *
  * @author Mathieu Bastian
  */
 public class SaveTask implements LongTask {
 
     private static final String ZIP_LEVEL_PREFERENCE = "ProjectIO_Save_ZipLevel_0_TO_9";
+    private static final String COMPRESSION_PREFERENCE = "ProjectIO_Save_Compression";
+    private static final String THREADS_PREFERENCE = "ProjectIO_Save_Threads";
+    private static final int BUFFER_SIZE = 1 << 16;
     private final File file;
     private final Project project;
-    private boolean cancel = false;
+    private volatile boolean cancel = false;
+    private volatile boolean abort = false;
     private ProgressTicket progressTicket;
+    private Compression compression;
+    private int threads;
 
     public SaveTask(Project project, File file) {
         this.project = project;
         this.file = file;
+        this.compression = getCompressionPreference();
+        this.threads = NbPreferences.forModule(SaveTask.class)
+            .getInt(THREADS_PREFERENCE, Runtime.getRuntime().availableProcessors());
     }
 
     public static XMLStreamWriter newXMLWriter(OutputStream outputStream) throws XMLStreamException {
@@ -115,85 +148,91 @@ public class SaveTask implements LongTask {
         Progress.setDisplayName(progressTicket, NbBundle.getMessage(SaveTask.class, "SaveTask.name"));
 
         File writeFile = file;
+        ExecutorService executor = null;
+        List<CompletableFuture<DeflatedEntry>> futures = new ArrayList<>();
         try {
+            //Read lazily loaded workspaces and release the project file before it gets replaced. This fails before
+            //anything is written if a workspace can't be read, so its data in the file isn't lost
+            WorkspaceLoader.loadAll(project);
+
             if (file.exists() && file.length() > 0) {
                 String tempFileName = file.getName() + "_temp" + System.currentTimeMillis();
                 writeFile = new File(file.getParent(), tempFileName);
             }
 
-            FileOutputStream outputStream = null;
-            ZipOutputStream zipOut = null;
-            BufferedOutputStream bos = null;
-            DataOutputStream dos = null;
-            try {
-                //Stream
-                int zipLevel = NbPreferences.forModule(SaveTask.class).getInt(ZIP_LEVEL_PREFERENCE, 9);
-                outputStream = new FileOutputStream(writeFile);
-                zipOut = new ZipOutputStream(outputStream);
-                zipOut.setLevel(zipLevel);
-                bos = new BufferedOutputStream(zipOut);
-                dos = new DataOutputStream(bos);
-
+            try (ZipArchiveOutputStream zipOut = new ZipArchiveOutputStream(writeFile)) {
                 //Providers and workspace
                 Collection<WorkspacePersistenceProvider> providers = PersistenceProviderUtils.getPersistenceProviders();
                 Workspace[] workspaces = project.getLookup().lookup(WorkspaceProviderImpl.class).getWorkspaces();
 
-                //Setup progress
-                Progress.switchToDeterminate(progressTicket, 1 + (1 + providers.size()) * workspaces.length);
-
-                //Write Project
-                writeProject(dos, zipOut);
-                Progress.progress(progressTicket);
-
-                //Write Workspace files
+                //Entries, in file order, and the entries of each provider
+                List<String> names = new ArrayList<>();
+                List<EntryWriter> writers = new ArrayList<>();
+                Map<Object, List<Integer>> providerEntries = new LinkedHashMap<>();
+                names.add("Project_xml");
+                writers.add(this::writeProject);
+                providerEntries.computeIfAbsent(this, k -> new ArrayList<>()).add(names.size() - 1);
                 for (Workspace ws : workspaces) {
-                    writeWorkspace(ws, dos, zipOut);
-                    Progress.progress(progressTicket);
+                    names.add("Workspace_" + ws.getId() + "_xml");
+                    writers.add(out -> writeWorkspace(ws, out));
+                    providerEntries.get(this).add(names.size() - 1);
 
                     for (WorkspacePersistenceProvider provider : providers) {
+                        String prefix = "Workspace_" + ws.getId() + "_" + provider.getIdentifier();
                         if (provider instanceof WorkspaceXMLPersistenceProvider) {
-                            writeWorkspaceChildrenXML(ws, (WorkspaceXMLPersistenceProvider) provider, dos, zipOut);
+                            names.add(prefix + "_xml");
+                            writers.add(
+                                out -> writeWorkspaceChildrenXML(ws, (WorkspaceXMLPersistenceProvider) provider, out));
                         } else if (provider instanceof WorkspaceBytesPersistenceProvider) {
-                            writeWorkspaceChildrenBytes(ws, (WorkspaceBytesPersistenceProvider) provider, dos, zipOut);
+                            names.add(prefix + "_bytes");
+                            writers.add(out -> writeWorkspaceChildrenBytes(ws,
+                                (WorkspaceBytesPersistenceProvider) provider, out));
+                        } else {
+                            continue;
                         }
+                        providerEntries.computeIfAbsent(provider, k -> new ArrayList<>()).add(names.size() - 1);
+                    }
+                }
 
-                        Progress.progress(progressTicket);
-                        if (cancel) {
-                            break;
+                //Setup progress
+                Progress.switchToDeterminate(progressTicket, names.size());
+
+                //Serialize and deflate entries in parallel, each provider on a single thread
+                int zipLevel = getZipLevel();
+                int poolSize = Math.max(1, Math.min(providerEntries.size(), threads));
+                executor = Executors.newFixedThreadPool(poolSize, r -> {
+                    Thread thread = new Thread(r, "Project Save");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                for (int i = 0; i < names.size(); i++) {
+                    futures.add(new CompletableFuture<>());
+                }
+                for (List<Integer> entries : providerEntries.values()) {
+                    executor.execute(() -> {
+                        for (int i : entries) {
+                            try {
+                                futures.get(i).complete(deflateEntry(names.get(i), writers.get(i), zipLevel));
+                            } catch (Throwable e) {
+                                futures.get(i).completeExceptionally(e);
+                            }
                         }
-                    }
-                    if (cancel) {
+                    });
+                }
+
+                //Copy entries in order
+                long time = System.currentTimeMillis();
+                for (CompletableFuture<DeflatedEntry> future : futures) {
+                    DeflatedEntry entry = await(future);
+                    if (cancel || entry == null) {
                         break;
                     }
+                    entry.copyTo(zipOut, time);
+                    Progress.progress(progressTicket);
                 }
                 Progress.switchToIndeterminate(progressTicket);
 
                 zipOut.finish();
-            } finally {
-                if (dos != null) {
-                    try {
-                        dos.close();
-                    } catch (IOException ex1) {
-                    }
-                }
-                if (bos != null) {
-                    try {
-                        bos.close();
-                    } catch (IOException ex1) {
-                    }
-                }
-                if (zipOut != null) {
-                    try {
-                        zipOut.close();
-                    } catch (IOException ex1) {
-                    }
-                }
-                if (outputStream != null) {
-                    try {
-                        outputStream.close();
-                    } catch (IOException ex1) {
-                    }
-                }
             }
             Progress.finish(progressTicket);
 
@@ -215,6 +254,7 @@ public class SaveTask implements LongTask {
             }
             throw new GephiFormatException(SaveTask.class, ex);
         } finally {
+            deleteEntries(executor, futures);
             if (writeFile != null && writeFile.exists() && writeFile != file) {
                 FileObject tempFileObject = FileUtil.toFileObject(writeFile);
                 if (tempFileObject != null) {
@@ -230,11 +270,78 @@ public class SaveTask implements LongTask {
         return !cancel;
     }
 
-    private void writeProject(OutputStream outputStream, ZipOutputStream zipOut) throws Exception {
+    private static Compression getCompressionPreference() {
+        String name =
+            NbPreferences.forModule(SaveTask.class).get(COMPRESSION_PREFERENCE, Compression.DEFAULT.name());
+        for (Compression c : Compression.values()) {
+            if (c.name().equalsIgnoreCase(name)) {
+                return c;
+            }
+        }
+        return Compression.DEFAULT;
+    }
+
+    private int getZipLevel() {
+        if (compression == Compression.FAST) {
+            return Deflater.BEST_SPEED;
+        }
+        return NbPreferences.forModule(SaveTask.class).getInt(ZIP_LEVEL_PREFERENCE, 9);
+    }
+
+    private DeflatedEntry deflateEntry(String name, EntryWriter writer, int zipLevel) throws Exception {
+        if (cancel || abort) {
+            return null;
+        }
+        File tempFile = File.createTempFile("gephi_save", ".tmp");
+        boolean success = false;
+        Deflater deflater = new Deflater(zipLevel, true);
+        try {
+            CRC32 crc = new CRC32();
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+                new CheckedOutputStream(new DeflaterOutputStream(new FileOutputStream(tempFile), deflater, BUFFER_SIZE),
+                    crc), BUFFER_SIZE))) {
+                writer.write(outputStream);
+            }
+            success = true;
+            return new DeflatedEntry(name, tempFile, crc.getValue(), deflater.getBytesRead());
+        } finally {
+            deflater.end();
+            if (!success) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    private static DeflatedEntry await(CompletableFuture<DeflatedEntry> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void deleteEntries(ExecutorService executor, List<CompletableFuture<DeflatedEntry>> futures) {
+        //Entries not started are skipped, the files of running ones are deleted once they are done
+        abort = true;
+        if (executor != null) {
+            executor.shutdown();
+        }
+        for (CompletableFuture<DeflatedEntry> future : futures) {
+            future.whenComplete((entry, error) -> {
+                if (entry != null) {
+                    entry.file.delete();
+                }
+            });
+        }
+    }
+
+    private void writeProject(OutputStream outputStream) throws Exception {
         XMLStreamWriter writer = null;
 
         //Write Project file
-        zipOut.putNextEntry(new ZipEntry("Project_xml"));
         try {
             writer = newXMLWriter(outputStream);
             GephiWriter.writeProject(writer, project);
@@ -243,16 +350,9 @@ public class SaveTask implements LongTask {
                 writer.close();
             }
         }
-
-        //Close Project file
-        zipOut.closeEntry();
     }
 
-    private void writeWorkspace(Workspace workspace, OutputStream outputStream, ZipOutputStream zipOut)
-        throws Exception {
-        //Write Project file
-        zipOut.putNextEntry(new ZipEntry("Workspace_" + workspace.getId() + "_xml"));
-
+    private void writeWorkspace(Workspace workspace, OutputStream outputStream) throws Exception {
         XMLStreamWriter writer = null;
         try {
             //Create Writer and write project
@@ -263,18 +363,10 @@ public class SaveTask implements LongTask {
                 writer.close();
             }
         }
-
-        //Close Project file
-        zipOut.closeEntry();
     }
 
     private void writeWorkspaceChildrenXML(Workspace workspace, WorkspaceXMLPersistenceProvider persistenceProvider,
-                                           OutputStream outputStream, ZipOutputStream zipOut) throws Exception {
-        String identifier = persistenceProvider.getIdentifier();
-
-        //Write Project file
-        zipOut.putNextEntry(new ZipEntry("Workspace_" + workspace.getId() + "_" + identifier + "_xml"));
-
+                                           OutputStream outputStream) throws Exception {
         XMLStreamWriter writer = null;
         try {
             //Create Writer and write project
@@ -285,24 +377,40 @@ public class SaveTask implements LongTask {
                 writer.close();
             }
         }
-
-        //Close Project file
-        zipOut.closeEntry();
     }
 
     private void writeWorkspaceChildrenBytes(Workspace workspace, WorkspaceBytesPersistenceProvider persistenceProvider,
-                                             DataOutputStream outputStream, ZipOutputStream zipOut) throws Exception {
-        String identifier = persistenceProvider.getIdentifier();
-
-        //Write Project file
-        zipOut.putNextEntry(new ZipEntry("Workspace_" + workspace.getId() + "_" + identifier + "_bytes"));
-
+                                             DataOutputStream outputStream) throws Exception {
         persistenceProvider.writeBytes(outputStream, workspace);
 
         outputStream.flush();
+    }
+
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the compression preset. The default is read from the <code>ProjectIO_Save_Compression</code> preference.
+     *
+     * @param compression the compression preset
+     */
+    public void setCompression(Compression compression) {
+        this.compression = compression;
+    }
 
-        //Close Project file
-        zipOut.closeEntry();
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Sets the number of threads writing entries. The default is read from the <code>ProjectIO_Save_Threads</code>
+     * preference, or is the number of processors.
+     *
+     * @param threads the number of threads
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
     }
 
     @Override
@@ -315,4 +423,53 @@ public class SaveTask implements LongTask {
     public void setProgressTicket(ProgressTicket progressTicket) {
         this.progressTicket = progressTicket;
     }
+
+    /**
+     * Compression presets of the saved file.
+     */
+    public enum Compression {
+        /**
+         * Deflate level set by the <code>ProjectIO_Save_ZipLevel_0_TO_9</code> preference, the best compression
+         * unless changed.
+         */
+        DEFAULT,
+        /**
+         * Fastest deflate level. Files are larger, but large projects are saved several times faster.
+         */
+        FAST
+    }
+
+    @FunctionalInterface
+    private interface EntryWriter {
+
+        void write(DataOutputStream outputStream) throws Exception;
+    }
+
+    private static class DeflatedEntry {
+
+        private final String name;
+        private final File file;
+        private final long crc;
+        private final long size;
+
+        DeflatedEntry(String name, File file, long crc, long size) {
+            this.name = name;
+            this.file = file;
+            this.crc = crc;
+            this.size = size;
+        }
+
+        void copyTo(ZipArchiveOutputStream zipOut, long time) throws IOException {
+            ZipArchiveEntry entry = new ZipArchiveEntry(name);
+            entry.setMethod(ZipEntry.DEFLATED);
+            entry.setTime(time);
+            entry.setCrc(crc);
+            entry.setSize(size);
+            entry.setCompressedSize(file.length());
+            try (InputStream inputStream = new FileInputStream(file)) {
+                zipOut.addRawArchiveEntry(entry, inputStream);
+            }
+            file.delete();
+        }
+    }
 }
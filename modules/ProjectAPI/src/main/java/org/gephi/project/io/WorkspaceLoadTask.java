@@ -0,0 +1,50 @@
+package org.gephi.project.io;
+
+import org.gephi.project.api.Workspace;
+import org.gephi.utils.longtask.spi.LongTask;
+import org.gephi.utils.progress.Progress;
+import org.gephi.utils.progress.ProgressTicket;
+import org.openide.util.NbBundle;
+
+/**
+ * Task that reads the provider entries of a workspace whose project was loaded
+ * lazily, with progress.
+ * <p>
+ * Reading can't be cancelled, as a partially read workspace can't be restored.
+ *
+ * @see WorkspaceLoader
+ */
+public class WorkspaceLoadTask implements LongTask {
+
+    private final Workspace workspace;
+    private ProgressTicket progressTicket;
+
+    public WorkspaceLoadTask(Workspace workspace) {
+        this.workspace = workspace;
+    }
+
+    public void run() {
+        Progress.start(progressTicket);
+        Progress.setDisplayName(progressTicket, NbBundle.getMessage(WorkspaceLoadTask.class, "WorkspaceLoadTask.name"));
+
+        try {
+            WorkspaceLoader loader = workspace.getProject().getLookup().lookup(WorkspaceLoader.class);
+            if (loader != null) {
+                loader.loadWorkspace(workspace, progressTicket);
+                ProjectJournal.start(workspace);
+            }
+        } finally {
+            Progress.finish(progressTicket);
+        }
+    }
+
+    @Override
+    public boolean cancel() {
+        return false;
+    }
+
+    @Override
+    public void setProgressTicket(ProgressTicket progressTicket) {
+        this.progressTicket = progressTicket;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.project.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.ZipFile;
+import org.gephi.project.api.GephiFormatException;
+import org.gephi.project.api.Project;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.spi.WorkspacePersistenceProvider;
+import org.gephi.utils.progress.Progress;
+import org.gephi.utils.progress.ProgressTicket;
+
+/**
+ * Reads the persistence provider entries of workspaces on demand.
+ * <p>
+ * When a project is loaded lazily, {@link LoadTask} only reads the project and
+ * workspace metadata and adds this loader to the project's lookup. The
+ * provider entries of a workspace, including its graph, are then read from the
+ * zip the first time the workspace is selected. The project file stays open
+ * until all workspaces have been read or the project is closed.
+ * <p>
+ * A workspace stays pending until its entries have been read successfully, so
+ * a failed read is attempted again the next time the workspace is selected.
+ * Saving reads all pending workspaces first and fails if one of them can't be
+ * read, so that their data in the project file is never replaced by a partially
+ * read workspace.
+ *
+ * @see LoadTask#setLazy(boolean)
+ */
+public class WorkspaceLoader {
+
+    private final Project project;
+    private final Set<Integer> pendingWorkspaces;
+    private ZipFile zipFile;
+
+    WorkspaceLoader(Project project, ZipFile zipFile, Collection<Integer> pendingWorkspaces) {
+        this.project = project;
+        this.zipFile = zipFile;
+        this.pendingWorkspaces = new LinkedHashSet<>(pendingWorkspaces);
+    }
+
+    /**
+     * Reads the provider entries of <code>workspace</code> if its project was
+     * loaded lazily and they haven't been read yet. Does nothing otherwise.
+     *
+     * @param workspace the workspace to load
+     */
+    public static void load(Workspace workspace) {
+        WorkspaceLoader loader = workspace.getProject().getLookup().lookup(WorkspaceLoader.class);
+        if (loader != null) {
+            loader.loadWorkspace(workspace);
+            ProjectJournal.start(workspace);
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if <code>workspace</code> belongs to a project
+     * loaded lazily and its provider entries haven't been read yet.
+     *
+     * @param workspace the workspace
+     * @return <code>true</code> if the workspace still has to be loaded
+     */
+    public static boolean isPending(Workspace workspace) {
+        WorkspaceLoader loader = workspace.getProject().getLookup().lookup(WorkspaceLoader.class);
+        return loader != null && !loader.isLoaded(workspace);
+    }
+
+    /**
+     * Reads the provider entries of every workspace of <code>project</code>
+     * that hasn't been loaded yet and closes the project file. If a workspace
+     * can't be read, it and the workspaces after it stay pending and the
+     * project file stays open.
+     *
+     * @param project the project to load
+     * @throws GephiFormatException if a workspace can't be read
+     */
+    public static void loadAll(Project project) {
+        WorkspaceLoader loader = project.getLookup().lookup(WorkspaceLoader.class);
+        if (loader != null) {
+            loader.loadAllWorkspaces();
+            project.getWorkspaces().forEach(ProjectJournal::start);
+        }
+    }
+
+    /**
+     * Closes the project file without reading the pending workspaces.
+     *
+     * @param project the project to release
+     */
+    public static void close(Project project) {
+        WorkspaceLoader loader = project.getLookup().lookup(WorkspaceLoader.class);
+        if (loader != null) {
+            loader.close();
+        }
+    }
+
+    public synchronized boolean isLoaded(Workspace workspace) {
+        return !pendingWorkspaces.contains(workspace.getId());
+    }
+
+    public void loadWorkspace(Workspace workspace) {
+        loadWorkspace(workspace, null);
+    }
+
+    synchronized void loadWorkspace(Workspace workspace, ProgressTicket progressTicket) {
+        if (zipFile != null && pendingWorkspaces.contains(workspace.getId())) {
+            try {
+                Collection<WorkspacePersistenceProvider> providers = PersistenceProviderUtils.getPersistenceProviders();
+                Progress.switchToDeterminate(progressTicket, providers.size());
+                for (WorkspacePersistenceProvider provider : providers) {
+                    LoadTask.readWorkspaceChildren(workspace, zipFile, provider);
+                    Progress.progress(progressTicket);
+                }
+            } catch (Exception e) {
+                throw new GephiFormatException(LoadTask.class, e);
+            }
+            loaded(workspace.getId());
+        }
+    }
+
+    public synchronized void loadAllWorkspaces() {
+        Collection<WorkspacePersistenceProvider> providers = PersistenceProviderUtils.getPersistenceProviders();
+        List<Integer> ids = new ArrayList<>(pendingWorkspaces);
+        for (Integer id : ids) {
+            Workspace workspace = project.getWorkspace(id);
+            //Deleted workspaces are skipped
+            if (workspace != null && zipFile != null) {
+                try {
+                    LoadTask.readWorkspaceChildren(workspace, zipFile, providers);
+                } catch (Exception e) {
+                    throw new GephiFormatException(LoadTask.class, e);
+                }
+            }
+            loaded(id);
+        }
+        close();
+    }
+
+    private void loaded(Integer id) {
+        pendingWorkspaces.remove(id);
+        if (pendingWorkspaces.isEmpty()) {
+            close();
+        }
+    }
+
+    public synchronized void close() {
+        pendingWorkspaces.clear();
+        if (zipFile != null) {
+            try {
+                zipFile.close();
+            } catch (IOException e) {
+                Logger.getLogger("").log(Level.WARNING, "Error while closing the project file", e);
+            }
+            zipFile = null;
+            project.remove(this);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+Copyright 2008-2026 Gephi
+Website : http://www.gephi.org
+
+This file is part of Gephi.
+
+DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS HEADER.
+
+Copyright 2026 Gephi Consortium. All rights reserved.
+
+The contents of this file are subject to the terms of either the GNU
+General Public License Version 3 only ("GPL") or the Common
+Development and Distribution License("CDDL") (collectively, the
+"License"). You may not use this file except in compliance with the
+License. You can obtain a copy of the License at
+http://gephi.org/about/legal/license-notice/
+or /cddl-1.0.txt and /gpl-3.0.txt. See the License for the
+specific language governing permissions and limitations under the
+License.  When distributing the software, include this License Header
+Notice in each file and include the License files at
+/cddl-1.0.txt and /gpl-3.0.txt. If applicable, add the following below the
+License Header, with the fields enclosed by brackets [] replaced by
+your own identifying information:
+"Portions Copyrighted [year] [name of copyright owner]"
+
+If you wish your version of this file to be governed by only the CDDL
+or only the GPL Version 3, indicate your decision by adding
+"[Contributor] elects to include this software in this distribution
+under the [CDDL or GPL Version 3] license." If you do not indicate a
+single choice of license, a recipient has the option to distribute
+your version of this file under either the CDDL, the GPL Version 3 or
+to extend the choice of license to its licensees as provided above.
+However, if you add GPL Version 3 code and therefore, elected the GPL
+Version 3 license, then the option applies only if the new code is
+made subject to such option by the copyright holder.
+
+Contributor(s):
+
+Portions Copyrighted 2026 Gephi Consortium.
+ */
+
+package org.gephi.project.spi;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import org.gephi.project.api.Workspace;
+
+/**
+ * Workspace persistence provider which records the changes made to its data,
+ * so they can be autosaved without rewriting the whole project file.
+ * <p>
+ * Journaling of a workspace starts once its data matches the project file,
+ * after the project has been loaded or saved. The autosave then periodically
+ * asks for the changes made since its previous call and appends them to the
+ * project journal. When a project is opened after a crash, the recorded
+ * changes are read back in order on top of the data loaded from the file.
+ * <p>
+ * Changes only count as recorded once {@link #commitJournal(Workspace)} has
+ * been called, after they have been appended to the journal. If appending
+ * fails, the next call to {@link #writeJournal(DataOutputStream, Workspace)}
+ * must write them again, so implementations keep them until committed.
+ * <p>
+ * Changes are collected on the autosave thread while the user keeps working.
+ * Implementations shouldn't hold write locks and should only hold read locks
+ * while collecting the changes.
+ */
+public interface WorkspaceJournalPersistenceProvider extends WorkspacePersistenceProvider {
+
+    /**
+     * Starts recording the changes made to the data of <code>workspace</code>.
+     * The current data is the baseline of the next call to
+     * {@link #writeJournal(DataOutputStream, Workspace)}.
+     *
+     * @param workspace the workspace to record
+     */
+    void startJournal(Workspace workspace);
+
+    /**
+     * Stops recording the changes made to the data of <code>workspace</code>.
+     *
+     * @param workspace the recorded workspace
+     */
+    void stopJournal(Workspace workspace);
+
+    /**
+     * Writes the changes made since the journal has been started or since the
+     * last committed call.
+     *
+     * @param stream    DataOutputStream stream to write to
+     * @param workspace the recorded workspace
+     * @return <code>true</code> if changes have been written,
+     * <code>false</code> if nothing changed
+     */
+    boolean writeJournal(DataOutputStream stream, Workspace workspace);
+
+    /**
+     * Notifies that the changes written by the previous call to
+     * {@link #writeJournal(DataOutputStream, Workspace)} have been appended
+     * to the journal, so they don't have to be written again.
+     *
+     * @param workspace the recorded workspace
+     */
+    void commitJournal(Workspace workspace);
+
+    /**
+     * Applies changes written by {@link #writeJournal(DataOutputStream, Workspace)}.
+     *
+     * @param stream    DataInputStream stream to read from
+     * @param workspace the workspace being recovered
+     */
+    void readJournal(DataInputStream stream, Workspace workspace);
+}
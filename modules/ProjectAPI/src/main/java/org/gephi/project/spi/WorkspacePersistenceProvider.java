@@ -54,6 +54,9 @@ import org.gephi.project.api.Workspace;
  * <code>getIdentifier()</code>.
  * <li>All of these elements are written in the .gephi project file.
  * </ol>
+ * <p>
+ * Providers may be called from a background thread, but a provider is never
+ * called by several threads at the same time.
  * <h3>How loading a project works</h3>
  * <ol><li>The loading task is looking for all implementations of this interface
  * and asks for the identifier returned by <code>getIdentifier()</code>.
@@ -82,4 +85,19 @@ public interface WorkspacePersistenceProvider {
      * @return Unique identifier describing your data
      */
     String getIdentifier();
+
+    /**
+     * Copies the data of <code>workspace</code> into <code>newWorkspace</code>
+     * when a workspace is duplicated. Providers which can copy their model
+     * directly should do so and return <code>true</code>. Otherwise, the data
+     * is written and read back through the provider's persistence methods.
+     *
+     * @param workspace    the workspace being duplicated
+     * @param newWorkspace the duplicated workspace
+     * @return <code>true</code> if the data has been copied, <code>false</code>
+     * to fall back on serialization
+     */
+    default boolean duplicate(Workspace workspace, Workspace newWorkspace) {
+        return false;
+    }
 }
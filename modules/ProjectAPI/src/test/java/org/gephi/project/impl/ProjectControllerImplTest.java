@@ -3,10 +3,16 @@ package org.gephi.project.impl;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.util.prefs.Preferences;
+import org.gephi.project.api.GephiFormatException;
 import org.gephi.project.api.Project;
 import org.gephi.project.api.ProjectListener;
 import org.gephi.project.api.Workspace;
 import org.gephi.project.api.WorkspaceListener;
+import org.gephi.project.io.LoadTask;
+import org.gephi.project.io.WorkspaceLoader;
+import org.gephi.project.io.utils.MockBytesPersistenceProvider;
 import org.gephi.project.spi.Controller;
 import org.gephi.project.spi.Model;
 import org.junit.Assert;
@@ -19,6 +25,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.netbeans.junit.MockServices;
+import org.openide.util.NbPreferences;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ProjectControllerImplTest {
@@ -321,6 +328,120 @@ public class ProjectControllerImplTest {
 
     }
 
+    @Test
+    public void testOpenLazyWorkspace() throws IOException {
+        ProjectControllerImpl pc = new ProjectControllerImpl();
+        Project project = openLazily(pc);
+        pc.addWorkspaceListener(workspaceListener);
+        Workspace workspace = getOtherWorkspace(pc, project);
+        Assert.assertTrue(WorkspaceLoader.isPending(workspace));
+
+        pc.openWorkspace(workspace);
+        Assert.assertFalse(WorkspaceLoader.isPending(workspace));
+        Assert.assertSame(workspace, pc.getCurrentWorkspace());
+        Mockito.verify(workspaceListener).select(workspace);
+    }
+
+    @Test
+    public void testOpenLazyWorkspaceFailure() throws IOException {
+        ProjectControllerImpl pc = new ProjectControllerImpl();
+        Project project = openLazily(pc);
+        pc.addWorkspaceListener(workspaceListener);
+        pc.addProjectListener(projectListener);
+        Workspace currentWorkspace = pc.getCurrentWorkspace();
+        Workspace workspace = getOtherWorkspace(pc, project);
+
+        MockBytesPersistenceProvider.failRead = true;
+        try {
+            pc.openWorkspace(workspace);
+            Assert.fail("Exception expected");
+        } catch (GephiFormatException e) {
+            //Expected
+        } finally {
+            MockBytesPersistenceProvider.failRead = false;
+        }
+
+        //The current workspace stays selected
+        Assert.assertSame(currentWorkspace, pc.getCurrentWorkspace());
+        Assert.assertTrue(currentWorkspace.isOpen());
+        Mockito.verify(workspaceListener, Mockito.never()).unselect(currentWorkspace);
+        Mockito.verify(projectListener).error(Mockito.eq(project), Mockito.any(GephiFormatException.class));
+    }
+
+    @Test
+    public void testOpenLazyWorkspaceRetry() throws IOException {
+        ProjectControllerImpl pc = new ProjectControllerImpl();
+        Project project = openLazily(pc);
+        Workspace workspace = getOtherWorkspace(pc, project);
+
+        MockBytesPersistenceProvider.failRead = true;
+        try {
+            pc.openWorkspace(workspace);
+            Assert.fail("Exception expected");
+        } catch (GephiFormatException e) {
+            //Expected
+        } finally {
+            MockBytesPersistenceProvider.failRead = false;
+        }
+        Assert.assertTrue(WorkspaceLoader.isPending(workspace));
+
+        pc.openWorkspace(workspace);
+        Assert.assertFalse(WorkspaceLoader.isPending(workspace));
+        Assert.assertSame(workspace, pc.getCurrentWorkspace());
+
+        pc.saveProject(project);
+        Assert.assertNull(project.getLookup().lookup(WorkspaceLoader.class));
+    }
+
+    @Test
+    public void testSaveWithUnreadableLazyWorkspace() throws IOException {
+        ProjectControllerImpl pc = new ProjectControllerImpl();
+        Project project = openLazily(pc);
+        Workspace workspace = getOtherWorkspace(pc, project);
+        File file = project.getLookup().lookup(ProjectInformationImpl.class).getFile();
+        byte[] content = Files.readAllBytes(file.toPath());
+
+        MockBytesPersistenceProvider.failRead = true;
+        try {
+            pc.saveProject(project);
+            Assert.fail("Exception expected");
+        } catch (GephiFormatException e) {
+            //Expected
+        } finally {
+            MockBytesPersistenceProvider.failRead = false;
+        }
+
+        //The project file is untouched and the workspace can still be read from it
+        Assert.assertArrayEquals(content, Files.readAllBytes(file.toPath()));
+        Assert.assertTrue(WorkspaceLoader.isPending(workspace));
+
+        pc.saveProject(project);
+        Assert.assertFalse(WorkspaceLoader.isPending(workspace));
+    }
+
+    private Project openLazily(ProjectControllerImpl pc) throws IOException {
+        MockServices.setServices(MockBytesPersistenceProvider.class);
+
+        //Saved from another controller, so the project is read anew
+        ProjectControllerImpl savingController = new ProjectControllerImpl();
+        Project project = savingController.newProject();
+        savingController.newWorkspace(project);
+        File file = tempFolder.newFile("lazy.gephi");
+        savingController.saveProject(project, file);
+
+        Preferences preferences = NbPreferences.forModule(LoadTask.class);
+        preferences.putBoolean("ProjectIO_Load_Lazy", true);
+        try {
+            return pc.openProject(file);
+        } finally {
+            preferences.remove("ProjectIO_Load_Lazy");
+        }
+    }
+
+    private static Workspace getOtherWorkspace(ProjectControllerImpl pc, Project project) {
+        return project.getWorkspaces().stream().filter(w -> w != pc.getCurrentWorkspace()).findFirst().get();
+    }
+
     public static class MockModel implements Model {
 
         private final Workspace workspace;
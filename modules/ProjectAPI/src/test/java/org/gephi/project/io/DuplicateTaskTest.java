@@ -0,0 +1,35 @@
+package org.gephi.project.io;
+
+import org.gephi.project.impl.WorkspaceImpl;
+import org.gephi.project.io.utils.MockXMLPersistenceProvider;
+import org.gephi.project.io.utils.Utils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.netbeans.junit.MockServices;
+import org.openide.util.Lookup;
+
+public class DuplicateTaskTest {
+
+    @Test
+    public void testEmptyWorkspace() {
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        workspace.getWorkspaceMetadata().setTitle("Test");
+
+        WorkspaceImpl newWorkspace = new DuplicateTask(workspace).run();
+        Assert.assertNotNull(newWorkspace);
+        Assert.assertNotEquals(workspace.getId(), newWorkspace.getId());
+        Assert.assertEquals("Test", newWorkspace.getWorkspaceMetadata().getTitle());
+        Assert.assertEquals(3, workspace.getProject().getWorkspaces().size());
+    }
+
+    @Test
+    public void testPersistenceProvider() {
+        MockServices.setServices(MockXMLPersistenceProvider.class);
+
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        Assert.assertNotNull(new DuplicateTask(workspace).run());
+
+        Assert.assertEquals(MockXMLPersistenceProvider.TXT,
+            Lookup.getDefault().lookup(MockXMLPersistenceProvider.class).getReadText());
+    }
+}
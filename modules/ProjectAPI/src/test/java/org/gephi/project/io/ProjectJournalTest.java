@@ -0,0 +1,171 @@
+package org.gephi.project.io;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.impl.ProjectImpl;
+import org.gephi.project.impl.WorkspaceImpl;
+import org.gephi.project.io.utils.MockJournalPersistenceProvider;
+import org.gephi.project.io.utils.Utils;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.netbeans.junit.MockServices;
+
+public class ProjectJournalTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReplayDelta() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        Workspace workspace = project.getCurrentWorkspace();
+        ProjectJournal journal = ProjectJournal.create(project);
+        Assert.assertEquals(0, journal.write());
+
+        MockJournalPersistenceProvider.getEntries(workspace).add("b");
+        Assert.assertTrue(journal.write() > 0);
+        MockJournalPersistenceProvider.getEntries(workspace).add("c");
+        journal.write();
+
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"),
+            MockJournalPersistenceProvider.getEntries(readProject.getWorkspace(workspace.getId())));
+    }
+
+    @Test
+    public void testReplayNewWorkspace() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        ProjectJournal journal = ProjectJournal.create(project);
+        WorkspaceImpl workspace = project.newWorkspace();
+        workspace.getWorkspaceMetadata().setTitle("New");
+        MockJournalPersistenceProvider.getEntries(workspace).add("d");
+        journal.write();
+
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Workspace readWorkspace = readProject.getWorkspace(workspace.getId());
+        Assert.assertNotNull(readWorkspace);
+        Assert.assertEquals("New", readWorkspace.getWorkspaceMetadata().getTitle());
+        Assert.assertEquals(Collections.singletonList("d"), MockJournalPersistenceProvider.getEntries(readWorkspace));
+    }
+
+    @Test
+    public void testIncompleteRecord() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        Workspace workspace = project.getCurrentWorkspace();
+        ProjectJournal journal = ProjectJournal.create(project);
+        MockJournalPersistenceProvider.getEntries(workspace).add("b");
+        long length = journal.write();
+
+        File journalFile = ProjectJournal.getJournalFile(project.getFile());
+        try (FileOutputStream fos = new FileOutputStream(journalFile, true)) {
+            fos.write(new byte[] {3, 0, 0});
+        }
+
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Assert.assertEquals(Arrays.asList("a", "b"),
+            MockJournalPersistenceProvider.getEntries(readProject.getWorkspace(workspace.getId())));
+        Assert.assertEquals(length, journalFile.length());
+    }
+
+    @Test
+    public void testFailedWrite() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        Workspace workspace = project.getCurrentWorkspace();
+        ProjectJournal journal = ProjectJournal.create(project);
+        MockJournalPersistenceProvider.getEntries(workspace).add("b");
+        long length = journal.write();
+
+        MockJournalPersistenceProvider.getEntries(workspace).add("c");
+        MockJournalPersistenceProvider.failWrite = true;
+        try {
+            journal.write();
+            Assert.fail("Exception expected");
+        } catch (RuntimeException e) {
+            //Expected
+        } finally {
+            MockJournalPersistenceProvider.failWrite = false;
+        }
+        File journalFile = ProjectJournal.getJournalFile(project.getFile());
+        Assert.assertEquals(length, journalFile.length());
+
+        //The change of the failed write is written again
+        MockJournalPersistenceProvider.getEntries(workspace).add("d");
+        journal.write();
+
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d"),
+            MockJournalPersistenceProvider.getEntries(readProject.getWorkspace(workspace.getId())));
+    }
+
+    @Test
+    public void testFailedNewWorkspace() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        ProjectJournal journal = ProjectJournal.create(project);
+        WorkspaceImpl workspace = project.newWorkspace();
+        MockJournalPersistenceProvider.getEntries(workspace).add("d");
+        MockJournalPersistenceProvider.failWrite = true;
+        try {
+            //Fails on the delta of the existing workspace, after the new one has been written
+            MockJournalPersistenceProvider.getEntries(project.getCurrentWorkspace()).add("b");
+            journal.write();
+            Assert.fail("Exception expected");
+        } catch (RuntimeException e) {
+            //Expected
+        } finally {
+            MockJournalPersistenceProvider.failWrite = false;
+        }
+        Assert.assertFalse(ProjectJournal.getJournalFile(project.getFile()).exists());
+
+        journal.write();
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Assert.assertEquals(Collections.singletonList("d"),
+            MockJournalPersistenceProvider.getEntries(readProject.getWorkspace(workspace.getId())));
+        Assert.assertEquals(Arrays.asList("a", "b"),
+            MockJournalPersistenceProvider.getEntries(readProject.getWorkspace(project.getCurrentWorkspace().getId())));
+    }
+
+    @Test
+    public void testSavedProject() throws Exception {
+        MockServices.setServices(MockJournalPersistenceProvider.class);
+
+        ProjectImpl project = saveAndLoad();
+        Workspace workspace = project.getCurrentWorkspace();
+        ProjectJournal journal = ProjectJournal.create(project);
+        MockJournalPersistenceProvider.getEntries(workspace).add("b");
+        journal.write();
+
+        //The project file changed since, so the journal no longer applies
+        Assert.assertTrue(new SaveTask(Utils.newWorkspace().getProject(), project.getFile()).run());
+
+        File journalFile = ProjectJournal.getJournalFile(project.getFile());
+        ProjectImpl readProject = new LoadTask(project.getFile()).execute(null);
+        Assert.assertNotNull(readProject);
+        Assert.assertFalse(journalFile.exists());
+    }
+
+    private ProjectImpl saveAndLoad() {
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        MockJournalPersistenceProvider.getEntries(workspace.getProject().getCurrentWorkspace()).add("a");
+        File file = new File(tempFolder.getRoot(), "tmp.gephi");
+        Assert.assertTrue(new SaveTask(workspace.getProject(), file).run());
+
+        ProjectImpl project = new LoadTask(file).execute(null);
+        Assert.assertNotNull(project.getFile());
+        return project;
+    }
+}
@@ -3,9 +3,11 @@ package org.gephi.project.io;
 import java.io.File;
 import java.io.IOException;
 import java.util.Objects;
+import org.gephi.project.api.Workspace;
 import org.gephi.project.impl.ProjectImpl;
 import org.gephi.project.impl.WorkspaceImpl;
 import org.gephi.project.io.utils.MockXMLPersistenceProvider;
+import org.gephi.project.io.utils.MockXMLPersistenceProviderConcurrency;
 import org.gephi.project.io.utils.MockXMLPersistenceProviderFailRead;
 import org.gephi.project.io.utils.MockXMLPersistenceProviderFailWrite;
 import org.gephi.project.io.utils.Utils;
@@ -66,6 +68,78 @@ public class SaveAndLoadTaskTest {
             Lookup.getDefault().lookup(MockXMLPersistenceProvider.class).getReadText());
     }
 
+    @Test
+    public void testFastCompression() throws Exception {
+        MockServices.setServices(MockXMLPersistenceProvider.class);
+
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        final File tempFile = new File(tempFolder.getRoot(), "tmp.gephi");
+        saveAndLoad(workspace.getProject(), tempFile, SaveTask.Compression.FAST);
+
+        Assert.assertEquals(MockXMLPersistenceProvider.TXT,
+            Lookup.getDefault().lookup(MockXMLPersistenceProvider.class).getReadText());
+    }
+
+    @Test
+    public void testPersistenceProviderSingleThread() throws Exception {
+        MockServices.setServices(MockXMLPersistenceProvider.class, MockXMLPersistenceProviderConcurrency.class);
+
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        for (int i = 0; i < 8; i++) {
+            workspace.getProject().newWorkspace();
+        }
+        File file = new File(tempFolder.getRoot(), "tmp.gephi");
+        SaveTask saveTask = new SaveTask(workspace.getProject(), file);
+        saveTask.setThreads(4);
+        Assert.assertTrue(saveTask.run());
+        Assert.assertNotNull(new LoadTask(file).execute(null));
+
+        Assert.assertFalse(
+            Lookup.getDefault().lookup(MockXMLPersistenceProviderConcurrency.class).isConcurrentWrite());
+        Assert.assertEquals(MockXMLPersistenceProvider.TXT,
+            Lookup.getDefault().lookup(MockXMLPersistenceProvider.class).getReadText());
+    }
+
+    @Test
+    public void testLazyLoad() throws Exception {
+        MockServices.setServices(MockXMLPersistenceProvider.class);
+
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        File file = new File(tempFolder.getRoot(), "tmp.gephi");
+        Assert.assertTrue(new SaveTask(workspace.getProject(), file).run());
+
+        LoadTask loadTask = new LoadTask(file);
+        loadTask.setLazy(true);
+        ProjectImpl readProject = loadTask.execute(null);
+        WorkspaceLoader loader = readProject.getLookup().lookup(WorkspaceLoader.class);
+        Assert.assertNotNull(loader);
+        Assert.assertTrue(loader.isLoaded(readProject.getCurrentWorkspace()));
+
+        Workspace readWorkspace = readProject.getWorkspace(workspace.getId());
+        Assert.assertFalse(loader.isLoaded(readWorkspace));
+        WorkspaceLoader.load(readWorkspace);
+        Assert.assertTrue(loader.isLoaded(readWorkspace));
+        Assert.assertNull(readProject.getLookup().lookup(WorkspaceLoader.class));
+        Assert.assertEquals(MockXMLPersistenceProvider.TXT,
+            Lookup.getDefault().lookup(MockXMLPersistenceProvider.class).getReadText());
+    }
+
+    @Test
+    public void testLazyLoadSave() throws Exception {
+        WorkspaceImpl workspace = Utils.newWorkspace();
+        File file = new File(tempFolder.getRoot(), "tmp.gephi");
+        Assert.assertTrue(new SaveTask(workspace.getProject(), file).run());
+
+        LoadTask loadTask = new LoadTask(file);
+        loadTask.setLazy(true);
+        ProjectImpl readProject = loadTask.execute(null);
+        Assert.assertNotNull(readProject.getLookup().lookup(WorkspaceLoader.class));
+
+        ProjectImpl savedProject = saveAndLoad(readProject, file);
+        Assert.assertNull(readProject.getLookup().lookup(WorkspaceLoader.class));
+        Assert.assertEquals(3, savedProject.getWorkspaces().size());
+    }
+
     @Test
     public void testPersistenceProviderFailWrite() throws Exception {
         MockServices.setServices(MockXMLPersistenceProviderFailWrite.class);
@@ -95,6 +169,10 @@ public class SaveAndLoadTaskTest {
     }
 
     private ProjectImpl saveAndLoad(ProjectImpl project, File file) {
+        return saveAndLoad(project, file, SaveTask.Compression.DEFAULT);
+    }
+
+    private ProjectImpl saveAndLoad(ProjectImpl project, File file, SaveTask.Compression compression) {
         int countWorkspaces = project.getWorkspaces().size();
         WorkspaceImpl w = project.newWorkspace();
         w.getWorkspaceMetadata().setTitle("Test");
@@ -102,6 +180,7 @@ public class SaveAndLoadTaskTest {
 
         project.getProjectMetadata().setTitle("Test");
         SaveTask saveTask = new SaveTask(project, file);
+        saveTask.setCompression(compression);
         saveTask.run();
         Assert.assertTrue(file.exists());
         Assert.assertTrue(file.length() > 0);
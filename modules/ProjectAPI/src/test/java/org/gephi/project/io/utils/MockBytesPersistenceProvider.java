@@ -0,0 +1,33 @@
+package org.gephi.project.io.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.spi.WorkspaceBytesPersistenceProvider;
+
+public class MockBytesPersistenceProvider implements WorkspaceBytesPersistenceProvider {
+
+    public static volatile boolean failRead;
+
+    @Override
+    public String getIdentifier() {
+        return "mockbytes";
+    }
+
+    @Override
+    public void writeBytes(DataOutputStream stream, Workspace workspace) {
+        try {
+            stream.writeInt(workspace.getId());
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    @Override
+    public void readBytes(DataInputStream stream, Workspace workspace) {
+        if (failRead) {
+            throw new RuntimeException("Failed to read");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.gephi.project.io.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.spi.WorkspaceBytesPersistenceProvider;
+import org.gephi.project.spi.WorkspaceJournalPersistenceProvider;
+
+public class MockJournalPersistenceProvider
+    implements WorkspaceBytesPersistenceProvider, WorkspaceJournalPersistenceProvider {
+
+    public static volatile boolean failWrite;
+
+    public static List<String> getEntries(Workspace workspace) {
+        return entries(workspace).list;
+    }
+
+    private static Entries entries(Workspace workspace) {
+        Entries entries = workspace.getLookup().lookup(Entries.class);
+        if (entries == null) {
+            entries = new Entries();
+            workspace.add(entries);
+        }
+        return entries;
+    }
+
+    @Override
+    public String getIdentifier() {
+        return "mockjournal";
+    }
+
+    @Override
+    public void writeBytes(DataOutputStream stream, Workspace workspace) {
+        write(stream, getEntries(workspace), 0);
+    }
+
+    @Override
+    public void readBytes(DataInputStream stream, Workspace workspace) {
+        read(stream, getEntries(workspace));
+    }
+
+    @Override
+    public void startJournal(Workspace workspace) {
+        Entries entries = entries(workspace);
+        entries.journaled = entries.list.size();
+        entries.written = entries.journaled;
+    }
+
+    @Override
+    public void stopJournal(Workspace workspace) {
+    }
+
+    @Override
+    public boolean writeJournal(DataOutputStream stream, Workspace workspace) {
+        Entries entries = entries(workspace);
+        if (entries.journaled == entries.list.size()) {
+            return false;
+        }
+        write(stream, entries.list, entries.journaled);
+        if (failWrite) {
+            throw new RuntimeException("Failed to write");
+        }
+        entries.written = entries.list.size();
+        return true;
+    }
+
+    @Override
+    public void commitJournal(Workspace workspace) {
+        Entries entries = entries(workspace);
+        entries.journaled = entries.written;
+    }
+
+    @Override
+    public void readJournal(DataInputStream stream, Workspace workspace) {
+        read(stream, getEntries(workspace));
+    }
+
+    private static void write(DataOutputStream stream, List<String> list, int from) {
+        try {
+            stream.writeInt(list.size() - from);
+            for (String entry : list.subList(from, list.size())) {
+                stream.writeUTF(entry);
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static void read(DataInputStream stream, List<String> list) {
+        try {
+            for (int i = stream.readInt(); i > 0; i--) {
+                list.add(stream.readUTF());
+            }
+        } catch (IOException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static class Entries {
+
+        private final List<String> list = new ArrayList<>();
+        private int journaled;
+        private int written;
+    }
+}
@@ -0,0 +1,49 @@
+package org.gephi.project.io.utils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import org.gephi.project.api.Workspace;
+import org.gephi.project.spi.WorkspaceXMLPersistenceProvider;
+
+public class MockXMLPersistenceProviderConcurrency implements WorkspaceXMLPersistenceProvider {
+
+    private final AtomicInteger writing = new AtomicInteger();
+    private volatile boolean concurrentWrite;
+
+    @Override
+    public String getIdentifier() {
+        return "mockconcurrency";
+    }
+
+    @Override
+    public void writeXML(XMLStreamWriter writer, Workspace workspace) {
+        if (writing.incrementAndGet() > 1) {
+            concurrentWrite = true;
+        }
+        try {
+            Thread.sleep(20);
+            writer.writeCharacters(String.valueOf(workspace.getId()));
+        } catch (XMLStreamException | InterruptedException ex) {
+            throw new RuntimeException(ex);
+        } finally {
+            writing.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void readXML(XMLStreamReader reader, Workspace workspace) {
+        try {
+            while (reader.hasNext()) {
+                reader.next();
+            }
+        } catch (XMLStreamException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    public boolean isConcurrentWrite() {
+        return concurrentWrite;
+    }
+}